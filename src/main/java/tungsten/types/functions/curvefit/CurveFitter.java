@@ -100,7 +100,8 @@ public class CurveFitter {
         if (characteristic == CurveType.CURVE_2D) {
             // check that there are no duplicate X values
             TreeSet<RealType> values = new TreeSet<>();
-            return coordinates.parallelStream().map(Coordinates2D.class::cast)
+            // sequential, since TreeSet is not thread-safe
+            return coordinates.stream().map(Coordinates2D.class::cast)
                     .map(Coordinates2D::getX).allMatch(values::add);
         } else if (characteristic == CurveType.CURVE_3D) {
             // we need to ensure that there are no duplicate (X, Y) pairs
@@ -161,6 +162,21 @@ public class CurveFitter {
         return strategy.fitToCoordinates(coordinates);
     }
 
+    /**
+     * Obtain an {@link IncrementalCurveFitter} for the named strategy, seeded
+     * with the data held by this {@code CurveFitter}.  Further data may then be
+     * added to (or removed from) the returned fitter without refitting from scratch.
+     * @param strategyName the full name of an {@link IncrementalFittingStrategy}
+     * @param windowSize   the maximum number of data to retain, or 0 for an unbounded window
+     * @return an incremental fitter containing the data of this {@code CurveFitter}
+     * @since 1.5
+     */
+    public IncrementalCurveFitter toIncremental(String strategyName, int windowSize) {
+        IncrementalCurveFitter fitter = new IncrementalCurveFitter(strategyName, windowSize);
+        fitter.addAll(coordinates);
+        return fitter;
+    }
+
     /**
      * Sort the coordinate data held by this {@code CurveFitter} by the given ordinate.
      * @param ordinate the 0-based index of the ordinate by which to sort the data
@@ -0,0 +1,220 @@
+/*
+ * The MIT License
+ *
+ * Copyright © 2025 Robert Poole <Tarquin.AZ@gmail.com>.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ */
+
+package tungsten.types.functions.curvefit;
+
+import tungsten.types.annotations.StrategySupports;
+import tungsten.types.exceptions.StrategyNotFoundException;
+import tungsten.types.functions.NumericFunction;
+import tungsten.types.functions.support.Coordinates;
+import tungsten.types.numerics.RealType;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.*;
+
+/**
+ * A curve fitter for data that arrive continuously.  Rather than holding
+ * every datum in memory, this fitter keeps the sufficient statistics for its
+ * {@link IncrementalFittingStrategy strategy} (the Gram matrix and moment vector
+ * of the normal equations), so that each datum is incorporated in O(k<sup>2</sup>)
+ * time and a fitted function can be obtained at any point in O(k<sup>3</sup>) time,
+ * independent of the number of data.
+ * <br>
+ * If a window size is given, only the most recent data are retained, and the
+ * oldest datum is removed from the running sums whenever a new datum would
+ * overflow the window; this is useful for time series.  Since the running sums
+ * are accumulated exactly, removal introduces no drift.
+ * <br>
+ * Fits are rounded to the smallest precision among the data currently represented,
+ * so that once a low-precision datum is removed or slides out of the window,
+ * later fits regain the precision of the remaining data.
+ * <br>
+ * All methods of this class are synchronized, so that data may be ingested from
+ * one thread while fits are obtained from another.
+ * @author Robert Poole, <a href="mailto:tarquin@alum.mit.edu">MIT alumni e-mail</a>
+ *   or <a href="mailto:Tarquin.AZ@gmail.com">Gmail</a>
+ * @since 1.5
+ */
+public class IncrementalCurveFitter {
+    private final IncrementalFittingStrategy strategy;
+    private final int windowSize;
+    private final Deque<Coordinates> window;
+    private NormalEquations system;
+    private long arity = -1L;
+    /**
+     * The number of data currently represented at each finite precision, so that
+     * the smallest precision can be restored as data are removed.
+     */
+    private final NavigableMap<Integer, Long> precisionCounts = new TreeMap<>();
+    private final Map<Integer, RoundingMode> roundingModes = new HashMap<>();
+
+    /**
+     * Construct an incremental fitter with an unbounded window.  No data are
+     * retained by this fitter, only the running sums.
+     * @param strategy the strategy to use for fitting
+     */
+    public IncrementalCurveFitter(IncrementalFittingStrategy strategy) {
+        this(strategy, 0);
+    }
+
+    /**
+     * Construct an incremental fitter with a sliding window.
+     * @param strategy   the strategy to use for fitting
+     * @param windowSize the maximum number of data to fit, or 0 for an unbounded window
+     */
+    public IncrementalCurveFitter(IncrementalFittingStrategy strategy, int windowSize) {
+        if (windowSize < 0) throw new IllegalArgumentException("Window size must be non-negative");
+        this.strategy = strategy;
+        this.windowSize = windowSize;
+        this.window = windowSize > 0 ? new ArrayDeque<>(windowSize) : null;
+    }
+
+    /**
+     * Construct an incremental fitter with a sliding window, using the
+     * named strategy.
+     * @param strategyName the name of the strategy as given by {@link StrategySupports#name()}
+     * @param windowSize   the maximum number of data to fit, or 0 for an unbounded window
+     * @throws StrategyNotFoundException if there is no incremental strategy with the given name
+     */
+    public IncrementalCurveFitter(String strategyName, int windowSize) {
+        this(findStrategy(strategyName), windowSize);
+    }
+
+    private static IncrementalFittingStrategy findStrategy(String strategyName) {
+        return ServiceLoader.load(CurveFittingStrategy.class).stream()
+                .filter(s -> IncrementalFittingStrategy.class.isAssignableFrom(s.type()))
+                .filter(s -> s.type().isAnnotationPresent(StrategySupports.class)
+                        && s.type().getAnnotation(StrategySupports.class).name().equals(strategyName))
+                .findFirst().map(ServiceLoader.Provider::get).map(IncrementalFittingStrategy.class::cast)
+                .orElseThrow(() -> new StrategyNotFoundException("No incremental strategy named " + strategyName));
+    }
+
+    /**
+     * Add a datum to this fitter.  If this fitter has a sliding window which is full,
+     * the oldest datum is removed.  A datum which is rejected leaves this fitter unchanged.
+     * @param datum the datum to add
+     * @throws IllegalArgumentException if the arity of {@code datum} differs from that of
+     *   previously added data
+     * @throws ArithmeticException if the strategy is weighted and {@code datum} has
+     *   no usable standard deviation
+     */
+    public synchronized void add(Coordinates datum) {
+        if (system != null && datum.arity() != arity) {
+            throw new IllegalArgumentException("Expected a datum of arity " + arity + " but received " + datum.arity());
+        }
+        // compute everything that can fail before touching the window or the running sums
+        final BigDecimal[] row = strategy.regressors(datum);
+        final BigDecimal y = datum.getValue().asBigDecimal();
+        final BigDecimal weight = weightFor(datum);
+        if (system == null) {
+            arity = datum.arity();
+            system = new NormalEquations(strategy.parameterCount(arity));
+        }
+        if (window != null) {
+            if (window.size() == windowSize) evict(window.removeFirst());
+            window.addLast(datum);
+        }
+        system.accumulate(row, y, weight);
+        final MathContext ctx = RegressionHelper.contextFor(datum);
+        if (ctx.getPrecision() > 0) {
+            precisionCounts.merge(ctx.getPrecision(), 1L, Long::sum);
+            roundingModes.put(ctx.getPrecision(), ctx.getRoundingMode());
+        }
+    }
+
+    /**
+     * Add a batch of data to this fitter, in iteration order.
+     * @param data the data to add
+     */
+    public synchronized void addAll(Collection<? extends Coordinates> data) {
+        data.forEach(this::add);
+    }
+
+    /**
+     * Remove a datum from this fitter.  For a fitter without a sliding window,
+     * the caller is responsible for ensuring that {@code datum} was previously added,
+     * since the data themselves are not retained.
+     * @param datum the datum to remove
+     * @return true if the datum was removed, false if this fitter has a sliding
+     *   window that does not contain {@code datum}
+     */
+    public synchronized boolean remove(Coordinates datum) {
+        if (system == null || system.count() == 0L) return false;
+        if (window != null && !window.remove(datum)) return false;
+        evict(datum);
+        return true;
+    }
+
+    private void evict(Coordinates datum) {
+        system.remove(strategy.regressors(datum), datum.getValue().asBigDecimal(), weightFor(datum));
+        final int precision = RegressionHelper.contextFor(datum).getPrecision();
+        if (precisionCounts.containsKey(precision)) {
+            // a count which drops to zero is removed, restoring the next higher precision
+            precisionCounts.computeIfPresent(precision, (k, count) -> count > 1L ? count - 1L : null);
+        }
+    }
+
+    private BigDecimal weightFor(Coordinates datum) {
+        return strategy.isWeighted() ? RegressionHelper.weightFor(datum) : null;
+    }
+
+    /**
+     * Obtain the number of data currently represented by this fitter.
+     * @return the number of data added, less those removed
+     */
+    public synchronized long size() {
+        return system == null ? 0L : system.count();
+    }
+
+    /**
+     * Discard all data.  The arity of subsequent data need not match that of the
+     * data previously added.
+     */
+    public synchronized void clear() {
+        system = null;
+        arity = -1L;
+        precisionCounts.clear();
+        roundingModes.clear();
+        if (window != null) window.clear();
+    }
+
+    /**
+     * Fit the data currently held by this fitter.  The cost of this operation
+     * depends only upon the number of coefficients of the model, not upon the
+     * number of data.  The result is computed with the smallest precision among
+     * the data currently represented by this fitter.
+     * @return a function which best fits the current data according to the strategy
+     * @throws IllegalStateException if no data have been added
+     * @throws ArithmeticException if the current data do not determine the model
+     */
+    public synchronized NumericFunction<RealType, RealType> fit() {
+        if (system == null || system.count() == 0L) throw new IllegalStateException("No data to fit");
+        final MathContext ctx = precisionCounts.isEmpty() ? MathContext.UNLIMITED :
+                new MathContext(precisionCounts.firstKey(), roundingModes.get(precisionCounts.firstKey()));
+        return strategy.fromCoefficients(system.solve(ctx));
+    }
+}
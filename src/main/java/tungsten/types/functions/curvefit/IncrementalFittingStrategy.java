@@ -0,0 +1,74 @@
+/*
+ * The MIT License
+ *
+ * Copyright © 2025 Robert Poole <Tarquin.AZ@gmail.com>.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ */
+
+package tungsten.types.functions.curvefit;
+
+import tungsten.types.functions.NumericFunction;
+import tungsten.types.functions.support.Coordinates;
+import tungsten.types.numerics.RealType;
+import tungsten.types.vector.ColumnVector;
+
+import java.math.BigDecimal;
+
+/**
+ * A curve fitting strategy whose model is linear in its coefficients, and which
+ * can therefore be fitted from running sums of the data rather than from the
+ * data themselves.  Such strategies may be used with an {@link IncrementalCurveFitter}.
+ * @author Robert Poole, <a href="mailto:tarquin@alum.mit.edu">MIT alumni e-mail</a>
+ *   or <a href="mailto:Tarquin.AZ@gmail.com">Gmail</a>
+ * @since 1.5
+ */
+public interface IncrementalFittingStrategy extends CurveFittingStrategy {
+    /**
+     * Obtain the number of coefficients in this strategy's model.
+     * @param arity the number of independent variables in the data
+     * @return the number of coefficients, which is the length of {@link #regressors(Coordinates)}
+     */
+    int parameterCount(long arity);
+
+    /**
+     * Compute the regressors for a single datum, i.e., the row of the design matrix
+     * that corresponds to {@code datum}.
+     * @param datum a single observation
+     * @return the regressors for {@code datum}
+     */
+    BigDecimal[] regressors(Coordinates datum);
+
+    /**
+     * Determine whether this strategy weights each datum by 1/&sigma;<sup>2</sup>.
+     * @return true if this is a weighted least-squares strategy, false otherwise
+     */
+    default boolean isWeighted() {
+        return false;
+    }
+
+    /**
+     * Construct the fitted function from the coefficients obtained by solving
+     * the normal equations.
+     * @param beta the coefficients, in the same order as {@link #regressors(Coordinates)}
+     * @return the fitted function
+     */
+    NumericFunction<RealType, RealType> fromCoefficients(ColumnVector<RealType> beta);
+}
@@ -0,0 +1,202 @@
+/*
+ * The MIT License
+ *
+ * Copyright © 2025 Robert Poole <Tarquin.AZ@gmail.com>.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ */
+
+package tungsten.types.functions.curvefit;
+
+import tungsten.types.numerics.RealType;
+import tungsten.types.numerics.impl.RealImpl;
+import tungsten.types.vector.ColumnVector;
+import tungsten.types.vector.impl.ArrayColumnVector;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.Arrays;
+
+/**
+ * Running sufficient statistics for a linear least-squares problem.  Each observation
+ * contributes a row <strong>x</strong> of regressors, an observed value y, and a weight w;
+ * this class accumulates the Gram matrix X<sup>T</sup>WX and the moment vector X<sup>T</sup>Wy
+ * directly, so the n&times;k design matrix is never materialized and the memory used is
+ * O(k<sup>2</sup>) regardless of the number of observations.
+ * <br>
+ * Products and sums are accumulated exactly (only the weights, which are typically
+ * 1/&sigma;<sup>2</sup>, are rounded), which means that {@link #remove(BigDecimal[], BigDecimal, BigDecimal) removing}
+ * an observation that was previously {@link #accumulate(BigDecimal[], BigDecimal, BigDecimal) accumulated}
+ * restores the previous state exactly.  The normal equations are solved by an
+ * LDL<sup>T</sup> (square root free Cholesky) factorization of the Gram matrix, carried
+ * out at roughly twice the requested precision to offset the squaring of the condition
+ * number inherent in the normal equations.
+ * @author Robert Poole, <a href="mailto:tarquin@alum.mit.edu">MIT alumni e-mail</a>
+ *   or <a href="mailto:Tarquin.AZ@gmail.com">Gmail</a>
+ * @since 1.5
+ */
+public class NormalEquations {
+    private static final int GUARD_DIGITS = 8;
+
+    private final int dimension;
+    /**
+     * The upper triangle of X<sup>T</sup>WX, stored row by row.
+     */
+    private final BigDecimal[][] gram;
+    private final BigDecimal[] moments;
+    private long count;
+
+    /**
+     * Construct a new, empty set of normal equations.
+     * @param dimension the number of regressors (columns of the design matrix), k
+     */
+    public NormalEquations(int dimension) {
+        if (dimension < 1) throw new IllegalArgumentException("There must be at least one regressor");
+        this.dimension = dimension;
+        this.gram = new BigDecimal[dimension][];
+        for (int i = 0; i < dimension; i++) {
+            gram[i] = new BigDecimal[dimension - i];
+        }
+        this.moments = new BigDecimal[dimension];
+        clear();
+    }
+
+    /**
+     * Obtain the number of regressors that this system was built for.
+     * @return the dimension k of the Gram matrix
+     */
+    public int dimension() {
+        return dimension;
+    }
+
+    /**
+     * Obtain the number of observations currently represented by these sums.
+     * @return the count of observations accumulated, less those removed
+     */
+    public long count() {
+        return count;
+    }
+
+    /**
+     * Discard all accumulated observations.
+     */
+    public void clear() {
+        for (BigDecimal[] row : gram) Arrays.fill(row, BigDecimal.ZERO);
+        Arrays.fill(moments, BigDecimal.ZERO);
+        count = 0L;
+    }
+
+    /**
+     * Add a single observation to the running sums.
+     * @param row    the regressors for this observation, of length {@link #dimension()}
+     * @param y      the observed value
+     * @param weight the weight of this observation, or {@code null} for unit weight
+     */
+    public void accumulate(BigDecimal[] row, BigDecimal y, BigDecimal weight) {
+        update(row, y, weight, false);
+        count++;
+    }
+
+    /**
+     * Remove a single observation from the running sums.  This is the exact inverse
+     * of {@link #accumulate(BigDecimal[], BigDecimal, BigDecimal)} when called with
+     * the same arguments, and is intended for sliding-window fits.
+     * @param row    the regressors for this observation, of length {@link #dimension()}
+     * @param y      the observed value
+     * @param weight the weight of this observation, or {@code null} for unit weight
+     * @throws IllegalStateException if there are no observations to remove
+     */
+    public void remove(BigDecimal[] row, BigDecimal y, BigDecimal weight) {
+        if (count == 0L) throw new IllegalStateException("No observations to remove");
+        update(row, y, weight, true);
+        count--;
+    }
+
+    private void update(BigDecimal[] row, BigDecimal y, BigDecimal weight, boolean subtract) {
+        if (row.length != dimension) {
+            throw new IllegalArgumentException("Expected " + dimension + " regressors but received " + row.length);
+        }
+        for (int i = 0; i < dimension; i++) {
+            final BigDecimal wxi = weight == null ? row[i] : weight.multiply(row[i]);
+            final BigDecimal[] gramRow = gram[i];
+            for (int j = i; j < dimension; j++) {
+                final BigDecimal term = wxi.multiply(row[j]);
+                gramRow[j - i] = subtract ? gramRow[j - i].subtract(term) : gramRow[j - i].add(term);
+            }
+            final BigDecimal term = wxi.multiply(y);
+            moments[i] = subtract ? moments[i].subtract(term) : moments[i].add(term);
+        }
+    }
+
+    /**
+     * Solve the normal equations X<sup>T</sup>WX&beta;&nbsp;=&nbsp;X<sup>T</sup>Wy for the
+     * coefficients &beta;.  This is O(k<sup>3</sup>) and independent of the number of
+     * observations.
+     * @param mctx the {@link MathContext} of the result; if this has unlimited precision,
+     *   {@link MathContext#DECIMAL128} is used instead
+     * @return a column vector of k coefficients
+     * @throws ArithmeticException if the Gram matrix is singular at the requested precision,
+     *   i.e., the observations do not determine the model
+     */
+    public ColumnVector<RealType> solve(MathContext mctx) {
+        final MathContext ctx = mctx.getPrecision() == 0 ? MathContext.DECIMAL128 : mctx;
+        final MathContext work = new MathContext(2 * ctx.getPrecision() + GUARD_DIGITS, ctx.getRoundingMode());
+        final BigDecimal tolerance = BigDecimal.ONE.movePointLeft(ctx.getPrecision());
+        // LDL^T factorization; L is unit lower triangular, D is diagonal
+        final BigDecimal[][] L = new BigDecimal[dimension][dimension];
+        final BigDecimal[] D = new BigDecimal[dimension];
+        for (int j = 0; j < dimension; j++) {
+            BigDecimal pivot = gram[j][0];
+            for (int m = 0; m < j; m++) {
+                pivot = pivot.subtract(L[j][m].multiply(L[j][m], work).multiply(D[m], work), work);
+            }
+            if (pivot.signum() <= 0 || pivot.compareTo(gram[j][0].multiply(tolerance, work)) <= 0) {
+                throw new ArithmeticException("Gram matrix is singular; " + count +
+                        " observations do not determine a model with " + dimension + " coefficients");
+            }
+            D[j] = pivot;
+            for (int i = j + 1; i < dimension; i++) {
+                BigDecimal sum = gram[j][i - j];
+                for (int m = 0; m < j; m++) {
+                    sum = sum.subtract(L[i][m].multiply(L[j][m], work).multiply(D[m], work), work);
+                }
+                L[i][j] = sum.divide(pivot, work);
+            }
+        }
+        // forward substitution Lz = b, then scale by D^-1
+        final BigDecimal[] z = new BigDecimal[dimension];
+        for (int i = 0; i < dimension; i++) {
+            BigDecimal sum = moments[i];
+            for (int m = 0; m < i; m++) sum = sum.subtract(L[i][m].multiply(z[m], work), work);
+            z[i] = sum;
+        }
+        for (int i = 0; i < dimension; i++) z[i] = z[i].divide(D[i], work);
+        // back substitution L^T beta = z
+        final RealType[] beta = new RealType[dimension];
+        final BigDecimal[] b = new BigDecimal[dimension];
+        for (int i = dimension - 1; i >= 0; i--) {
+            BigDecimal sum = z[i];
+            for (int m = i + 1; m < dimension; m++) sum = sum.subtract(L[m][i].multiply(b[m], work), work);
+            b[i] = sum;
+            beta[i] = new RealImpl(sum.round(ctx), ctx);
+        }
+        return new ArrayColumnVector<>(beta);
+    }
+}
@@ -31,8 +31,10 @@ import tungsten.types.functions.support.Coordinates2D;
 import tungsten.types.functions.support.Coordinates3D;
 import tungsten.types.matrix.impl.ColumnarMatrix;
 import tungsten.types.matrix.impl.DiagonalMatrix;
+import tungsten.types.matrix.impl.DoubleMatrix;
 import tungsten.types.numerics.IntegerType;
 import tungsten.types.numerics.RealType;
+import tungsten.types.numerics.Sign;
 import tungsten.types.numerics.impl.IntegerImpl;
 import tungsten.types.numerics.impl.RealImpl;
 import tungsten.types.util.MathUtils;
@@ -42,9 +44,11 @@ import tungsten.types.vector.impl.ArrayColumnVector;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.math.MathContext;
+import java.math.RoundingMode;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -65,9 +69,28 @@ public final class RegressionHelper {
      * @param order the order of the polynomial we wish to model
      * @return a design matrix with <em>n</em> columns and <em>m</em> rows, where
      *   <em>n</em>&nbsp;=&nbsp;{@code order + 1} and <em>m</em>&nbsp;=&nbsp;{@code data.size()}
+     * @apiNote If every X value is inexact and fits within {@link MathContext#DECIMAL64},
+     *   and the powers of X needed by the normal equations stay within the range of
+     *   a {@code double}, the returned matrix is a {@link DoubleMatrix}, and subsequent
+     *   operations such as {@link #realPseudoInverse(Matrix)} are carried out in
+     *   primitive arithmetic.
      */
     public static Matrix<RealType> designMatrixFor(List<Coordinates2D> data, int order) {
         if (order < 1) throw new IllegalArgumentException("Order of model must be at least 1 (linear)");
+        final List<RealType> xValues = data.stream().map(Coordinates2D::getX).collect(Collectors.toList());
+        if (powersFitInDouble(xValues, order)) {
+            final MathContext ctx = MathUtils.inferMathContext(xValues);
+            DoubleMatrix D = new DoubleMatrix(data.size(), order + 1L, ctx);
+            for (int i = 0; i < data.size(); i++) {
+                final double x = data.get(i).getX().asBigDecimal().doubleValue();
+                double power = 1.0;
+                for (int k = 0; k <= order; k++) {
+                    D.setDouble(power, i, k);
+                    power *= x;
+                }
+            }
+            return D;
+        }
         ColumnarMatrix<RealType> X = new ColumnarMatrix<>();
 
         for (long k = 0L; k <= (long) order; k++) {
@@ -81,6 +104,30 @@ public final class RegressionHelper {
         return X;
     }
 
+    /**
+     * Determine whether a design matrix for the given X values can be held in
+     * a {@link DoubleMatrix}.  Every value must be inexact and fit within
+     * {@link MathContext#DECIMAL64}, and X<sup>T</sup>X, whose elements are sums
+     * of powers of x up to 2&times;{@code order}, must not overflow or underflow.
+     * @param xValues the X values of the data set
+     * @param order   the order of the polynomial model
+     * @return true if primitive arithmetic is safe for this data set
+     */
+    private static boolean powersFitInDouble(List<RealType> xValues, int order) {
+        double min = Double.MAX_VALUE;
+        double max = 0d;
+        for (RealType x : xValues) {
+            if (x.isExact() || !MathUtils.fitsInDecimal64(x)) return false;
+            final double magnitude = Math.abs(x.asBigDecimal().doubleValue());
+            if (magnitude == 0d) continue;
+            min = Math.min(min, magnitude);
+            max = Math.max(max, magnitude);
+        }
+        final int degree = 2 * order;
+        return Math.pow(min, degree) >= Double.MIN_NORMAL &&
+                Math.pow(max, degree) * xValues.size() <= Double.MAX_VALUE;
+    }
+
     /**
      * Generate a design matrix from a set of X, Y, Z data.
      * This simple design matrix represents the expression
@@ -206,4 +253,150 @@ public final class RegressionHelper {
         Matrix<RealType> intermediate = (Matrix<RealType>) transpose.multiply(weights).multiply(design).inverse();
         return intermediate.multiply(transpose).multiply(weights);
     }
+
+    /**
+     * Fit a polynomial of the given order to a set of X, Y data by least squares.
+     * This makes a single pass over {@code data}, accumulating X<sup>T</sup>WX and
+     * X<sup>T</sup>Wy without constructing the design matrix, and then solves the
+     * normal equations by a Cholesky factorization.
+     * @param data     the {@link Coordinates2D} values in this data set
+     * @param order    the order of the polynomial we wish to model
+     * @param weighted if {@code true}, each datum is weighted by 1/&sigma;<sup>2</sup>
+     * @return a column vector of {@code order + 1} coefficients, in ascending order of power
+     * @since 1.5
+     */
+    public static ColumnVector<RealType> polynomialLeastSquares(List<Coordinates2D> data, int order, boolean weighted) {
+        if (order < 1) throw new IllegalArgumentException("Order of model must be at least 1 (linear)");
+        return leastSquares(data, order + 1, c -> polynomialRegressors(c, order), weighted);
+    }
+
+    /**
+     * Fit a set of X, Y, Z data to the expression
+     * &beta;<sub>0</sub> + &beta;<sub>1</sub>x + &beta;<sub>2</sub>y + &beta;<sub>3</sub>xy =&nbsp;z
+     * by least squares, without constructing the design matrix.
+     * @param data the {@link Coordinates3D} values in this data set
+     * @return a column vector containing &beta;<sub>0</sub>&hellip;&beta;<sub>3</sub>
+     * @since 1.5
+     */
+    public static ColumnVector<RealType> surfaceLeastSquares(List<Coordinates3D> data) {
+        return leastSquares(data, 4, RegressionHelper::surfaceRegressors, false);
+    }
+
+    /**
+     * Fit a set of multidimensional data to an expression that is linear in each
+     * of the independent variables by least squares, without constructing the design matrix.
+     * @param data the {@link Coordinates} values in this data set of arbitrary arity
+     * @return a column vector with n + 1 coefficients, where n is the arity of the data;
+     *   the first element is the intercept
+     * @since 1.5
+     */
+    public static ColumnVector<RealType> multiLeastSquares(List<? extends Coordinates> data) {
+        final int arity = (int) data.get(0).arity();
+        return leastSquares(data, arity + 1, RegressionHelper::linearRegressors, false);
+    }
+
+    /**
+     * Compute a row of the polynomial design matrix for a single datum, i.e.,
+     * 1, x, x<sup>2</sup>, &hellip;, x<sup>order</sup>.
+     * @param datum a datum whose first ordinate is the independent variable
+     * @param order the order of the polynomial model
+     * @return the regressors for {@code datum}
+     * @since 1.5
+     */
+    public static BigDecimal[] polynomialRegressors(Coordinates datum, int order) {
+        final BigDecimal x = datum.getOrdinate(0).asBigDecimal();
+        BigDecimal[] row = new BigDecimal[order + 1];
+        row[0] = BigDecimal.ONE;
+        for (int k = 1; k <= order; k++) row[k] = row[k - 1].multiply(x);
+        return row;
+    }
+
+    /**
+     * Compute a row of the design matrix used by {@link #designMatrixFor3D(List)}
+     * for a single datum, i.e., 1, x, y, xy.
+     * @param datum a datum with at least two ordinates
+     * @return the regressors for {@code datum}
+     * @since 1.5
+     */
+    public static BigDecimal[] surfaceRegressors(Coordinates datum) {
+        final BigDecimal x = datum.getOrdinate(0).asBigDecimal();
+        final BigDecimal y = datum.getOrdinate(1).asBigDecimal();
+        return new BigDecimal[] {BigDecimal.ONE, x, y, x.multiply(y)};
+    }
+
+    /**
+     * Compute a row of the design matrix used by {@link #designMatrixForMulti(List)}
+     * for a single datum, i.e., 1, x<sub>0</sub>, x<sub>1</sub>, &hellip;
+     * @param datum a datum of arbitrary arity
+     * @return the regressors for {@code datum}
+     * @since 1.5
+     */
+    public static BigDecimal[] linearRegressors(Coordinates datum) {
+        final int arity = (int) datum.arity();
+        BigDecimal[] row = new BigDecimal[arity + 1];
+        row[0] = BigDecimal.ONE;
+        for (int k = 0; k < arity; k++) row[k + 1] = datum.getOrdinate(k).asBigDecimal();
+        return row;
+    }
+
+    /**
+     * Compute the least-squares weight 1/&sigma;<sup>2</sup> for a single datum.
+     * The weight is computed at twice the precision of &sigma;, since it is
+     * subsequently used to accumulate the normal equations.
+     * @param datum a datum with a symmetric error
+     * @return the inverse of the variance of {@code datum}
+     * @throws ArithmeticException if &sigma;&nbsp;=&nbsp;0 for this datum
+     * @since 1.5
+     */
+    public static BigDecimal weightFor(Coordinates datum) {
+        final RealType sigma = datum.getSigma();
+        if (sigma.sign() == Sign.ZERO) {
+            throw new ArithmeticException("Cannot compute a weight for a datum with \uD835\uDF0E = 0: " + datum);
+        }
+        final MathContext ctx = sigma.getMathContext().getPrecision() == 0 ? MathContext.DECIMAL128 : sigma.getMathContext();
+        final BigDecimal s = sigma.asBigDecimal();
+        return BigDecimal.ONE.divide(s.multiply(s), new MathContext(2 * ctx.getPrecision(), ctx.getRoundingMode()));
+    }
+
+    /**
+     * Determine the {@link MathContext} of a single datum, i.e., the context with the
+     * lowest finite precision of any of its ordinates or its value.
+     * @param datum the datum to inspect
+     * @return the inferred {@link MathContext}, or {@link MathContext#UNLIMITED} if none
+     *   of the components of {@code datum} has a finite precision
+     */
+    static MathContext contextFor(Coordinates datum) {
+        MathContext result = datum.getValue().getMathContext();
+        for (int k = 0; k < datum.arity(); k++) {
+            final MathContext ctx = datum.getOrdinate(k).getMathContext();
+            if (ctx.getPrecision() > 0 && (result.getPrecision() == 0 || ctx.getPrecision() < result.getPrecision())) {
+                result = ctx;
+            }
+        }
+        return result;
+    }
+
+    private static ColumnVector<RealType> leastSquares(List<? extends Coordinates> data, int dimension,
+                                                       Function<Coordinates, BigDecimal[]> regressors,
+                                                       boolean weighted) {
+        final NormalEquations system = new NormalEquations(dimension);
+        int precision = Integer.MAX_VALUE;
+        RoundingMode mode = RoundingMode.HALF_UP;
+        RealType lastSigma = null;
+        BigDecimal weight = null;
+        for (Coordinates datum : data) {
+            if (weighted && !datum.getSigma().equals(lastSigma)) {
+                // data sets frequently share a common sigma, so avoid recomputing the weight
+                lastSigma = datum.getSigma();
+                weight = weightFor(datum);
+            }
+            system.accumulate(regressors.apply(datum), datum.getValue().asBigDecimal(), weight);
+            final MathContext ctx = contextFor(datum);
+            if (ctx.getPrecision() > 0 && ctx.getPrecision() < precision) {
+                precision = ctx.getPrecision();
+                mode = ctx.getRoundingMode();
+            }
+        }
+        return system.solve(precision == Integer.MAX_VALUE ? MathContext.UNLIMITED : new MathContext(precision, mode));
+    }
 }
@@ -23,29 +23,22 @@ package tungsten.types.functions.curvefit.strategies;
  * THE SOFTWARE.
  */
 
-import tungsten.types.Range;
 import tungsten.types.annotations.StrategySupports;
 import tungsten.types.functions.UnaryFunction;
 import tungsten.types.functions.curvefit.CurveFittingStrategy;
 import tungsten.types.functions.curvefit.CurveType;
-import tungsten.types.functions.impl.CubicSpline2D;
-import tungsten.types.functions.impl.PiecewiseFunction;
+import tungsten.types.functions.impl.CubicSpline;
 import tungsten.types.functions.support.Coordinates;
-import tungsten.types.functions.support.Coordinates2D;
 import tungsten.types.numerics.RealType;
-import tungsten.types.numerics.impl.RealImpl;
 
-import java.math.BigDecimal;
-import java.math.MathContext;
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
- * A curve-fitting strategy which generates a series of {@link CubicSpline2D spline functions}
+ * A curve-fitting strategy which generates a natural {@link CubicSpline cubic spline}
  * to approximate a curve that passes through a set of data points or &ldquo;control points.&rdquo;
- * These splines are wrapped inside a {@link PiecewiseFunction} that offers no smoothing since
- * the splines are guaranteed to be both continuous and smooth (to a certain order) at their
- * transition points.
+ * The spline offers no smoothing since it is guaranteed to be both continuous and
+ * smooth (to a certain order) at its knots.  For other boundary conditions, construct
+ * a {@link CubicSpline} directly.
  * @author Robert Poole, <a href="mailto:Tarquin.AZ@gmail.com">Gmail</a>
  *  or <a href="mailto:tarquin@alum.mit.edu">MIT alumni e-mail</a>
  * @see <a href="https://en.wikipedia.org/w/index.php?title=Spline_(mathematics)&oldid=1232938504#Algorithm_for_computing_natural_cubic_splines">the
@@ -58,61 +51,7 @@ public class CubicSplineStrategy implements CurveFittingStrategy {
         if (dataPoints == null || dataPoints.get(0).arity() != 1L) {
             throw new IllegalArgumentException("Incorrect dimension for data");
         }
-        final MathContext ctx = dataPoints.get(0).getValue().getMathContext();
-        final RealType THREE = new RealImpl(BigDecimal.valueOf(3L), ctx);
-        final RealType TWO   = new RealImpl(BigDecimal.valueOf(2L), ctx);
-        List<Coordinates2D> C = toSupportedCoordinates(dataPoints);
-        RealType[] a = new RealType[dataPoints.size()];
-        for (int i = 0; i < a.length; i++) a[i] = C.get(i).getY();
-        RealType[] b = new RealType[dataPoints.size() - 1];
-        RealType[] d = new RealType[dataPoints.size() - 1];
-        RealType[] h = new RealType[dataPoints.size() - 1];
-        for (int i = 0; i < h.length; i++) h[i] = (RealType) C.get(i + 1).getX().subtract(C.get(i).getX());
-        RealType[] alpha = new RealType[dataPoints.size() - 1];
-        for (int i = 1; i < alpha.length; i++) {
-            alpha[i] = (RealType) THREE.divide(h[i]).multiply(a[i + 1].subtract(a[i]))
-                    .subtract(THREE.divide(h[i - 1]).multiply(a[i].subtract(a[i - 1])));
-        }
-        RealType[] c = new RealType[dataPoints.size()];
-        RealType[] l = new RealType[dataPoints.size()];
-        RealType[] mu = new RealType[dataPoints.size()];
-        RealType[] z  = new RealType[dataPoints.size()];
-        l[0] = new RealImpl(BigDecimal.ONE, ctx);
-        mu[0] = new RealImpl(BigDecimal.ZERO, ctx);
-        z[0] = mu[0];
-        for (int i = 1; i < dataPoints.size() - 1; i++) {
-            l[i] = (RealType) TWO.multiply(C.get(i + 1).getX().subtract(C.get(i - 1).getX()))
-                    .subtract(h[i - 1].multiply(mu[i - 1]));
-            mu[i] = (RealType) h[i].divide(l[i]);
-            z[i] = (RealType) alpha[i].subtract(h[i - 1].multiply(z[i - 1])).divide(l[i]);
-        }
-        l[l.length - 1] = new RealImpl(BigDecimal.ONE, ctx);
-        z[z.length - 1] = new RealImpl(BigDecimal.ZERO, ctx);
-        c[c.length - 1] = z[z.length - 1];
-        for (int j = dataPoints.size() - 2; j >= 0; j--) {
-            c[j] = (RealType) z[j].subtract(mu[j].multiply(c[j + 1]));
-            b[j] = (RealType) a[j + 1].subtract(a[j]).divide(h[j])
-                    .subtract(h[j].multiply(c[j + 1].add(TWO.multiply(c[j]))).divide(THREE));
-            d[j] = (RealType) c[j + 1].subtract(c[j]).divide(THREE.multiply(h[j]));
-        }
-        // we don't need smoothing, so we don't need a RealPiecewiseFunction
-        PiecewiseFunction<RealType, RealType> result = new PiecewiseFunction<>(RealType.class);
-        for (int i = 0; i < dataPoints.size() - 2; i++) {
-            // final range for series is inclusive at terminus
-            Range<RealType> pieceRange = new Range<>(C.get(i).getX(), Range.BoundType.INCLUSIVE,
-                    C.get(i + 1).getX(), i == dataPoints.size() - 3 ? Range.BoundType.INCLUSIVE : Range.BoundType.EXCLUSIVE);
-            result.addFunctionForRange(pieceRange, new CubicSpline2D(a[i], b[i], c[i], d[i], pieceRange));
-        }
-        if (!result.checkAggregateBounds()) {
-            throw new IllegalStateException("Constructed piecewise function has inconsistent bounds");
-        }
-        return result;
-    }
-
-    private List<Coordinates2D> toSupportedCoordinates(List<? extends Coordinates> coords) {
-        if (coords.stream().allMatch(Coordinates2D.class::isInstance)) return (List<Coordinates2D>) coords;
-        return coords.stream().map(C -> new Coordinates2D(C.getOrdinate(0), C.getValue()))
-                .collect(Collectors.toList());
+        return new CubicSpline(dataPoints, CubicSpline.BoundaryCondition.NATURAL);
     }
 
     @Override
@@ -25,10 +25,9 @@
 
 package tungsten.types.functions.curvefit.strategies;
 
-import tungsten.types.Matrix;
 import tungsten.types.annotations.StrategySupports;
 import tungsten.types.functions.NumericFunction;
-import tungsten.types.functions.curvefit.CurveFittingStrategy;
+import tungsten.types.functions.curvefit.IncrementalFittingStrategy;
 import tungsten.types.functions.curvefit.CurveType;
 import tungsten.types.functions.curvefit.RegressionHelper;
 import tungsten.types.functions.impl.ConstantTerm;
@@ -38,9 +37,8 @@ import tungsten.types.functions.support.Coordinates;
 import tungsten.types.numerics.RealType;
 import tungsten.types.vector.ColumnVector;
 
+import java.math.BigDecimal;
 import java.util.List;
-import java.util.logging.Level;
-import java.util.logging.Logger;
 
 /**
  * A basic strategy for computing an approximate hypersurface that best fits
@@ -49,22 +47,28 @@ import java.util.logging.Logger;
  * @author Robert Poole, <a href="mailto:Tarquin.AZ@gmail.com">Gmail</a>
  */
 @StrategySupports(name = "multidimensional fit", type = CurveType.MULTI)
-public class MultiDimensionalStrategy implements CurveFittingStrategy {
+public class MultiDimensionalStrategy implements IncrementalFittingStrategy {
     @Override
     public NumericFunction<RealType, RealType> fitToCoordinates(List<? extends Coordinates> dataPoints) {
-        final List<Coordinates> data = (List<Coordinates>) dataPoints;
-        Matrix<RealType> X = RegressionHelper.designMatrixForMulti(data);
-        ColumnVector<RealType> Y = RegressionHelper.observedValuesForMulti(data);
-        Matrix<RealType> beta = RegressionHelper.realPseudoInverse(X).multiply(Y);
-        if (beta.columns() != 1L) {
-            Logger.getLogger(MultiDimensionalStrategy.class.getName()).log(Level.WARNING,
-                    "Expected a {0}\u00D71 matrix, but received a {1}\u00D7{2} matrix instead.",
-                    new Object[] {X.columns(), beta.rows(), beta.columns()});
-        }
-        Polynomial<RealType, RealType> result = new Polynomial<>(new ConstantTerm<>(beta.valueAt(0L, 0L)));
-        for (long k = 1L; k < beta.rows(); k++) {
+        return fromCoefficients(RegressionHelper.multiLeastSquares(dataPoints));
+    }
+
+    @Override
+    public int parameterCount(long arity) {
+        return (int) arity + 1;
+    }
+
+    @Override
+    public BigDecimal[] regressors(Coordinates datum) {
+        return RegressionHelper.linearRegressors(datum);
+    }
+
+    @Override
+    public NumericFunction<RealType, RealType> fromCoefficients(ColumnVector<RealType> beta) {
+        Polynomial<RealType, RealType> result = new Polynomial<>(new ConstantTerm<>(beta.elementAt(0L)));
+        for (long k = 1L; k < beta.length(); k++) {
             String varName = "x" + (k - 1L);  // start naming at x0
-            result.add(new PolyTerm<>(varName, beta.valueAt(k, 0L), 1L));
+            result.add(new PolyTerm<>(varName, beta.elementAt(k), 1L));
         }
         return result;
     }
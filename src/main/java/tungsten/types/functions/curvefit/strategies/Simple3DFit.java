@@ -25,11 +25,10 @@
 
 package tungsten.types.functions.curvefit.strategies;
 
-import tungsten.types.Matrix;
 import tungsten.types.annotations.StrategySupports;
 import tungsten.types.functions.NumericFunction;
 import tungsten.types.functions.Term;
-import tungsten.types.functions.curvefit.CurveFittingStrategy;
+import tungsten.types.functions.curvefit.IncrementalFittingStrategy;
 import tungsten.types.functions.curvefit.CurveType;
 import tungsten.types.functions.curvefit.RegressionHelper;
 import tungsten.types.functions.impl.ConstantTerm;
@@ -40,6 +39,7 @@ import tungsten.types.functions.support.Coordinates3D;
 import tungsten.types.numerics.RealType;
 import tungsten.types.vector.ColumnVector;
 
+import java.math.BigDecimal;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -50,20 +50,32 @@ import java.util.stream.Collectors;
  * @author Robert Poole, <a href="mailto:Tarquin.AZ@gmail.com">Gmail</a>
  */
 @StrategySupports(name = "simple 3D fit", type = CurveType.CURVE_3D)
-public class Simple3DFit implements CurveFittingStrategy {
+public class Simple3DFit implements IncrementalFittingStrategy {
     @Override
     public NumericFunction<RealType, RealType> fitToCoordinates(List<? extends Coordinates> dataPoints) {
         if (dataPoints == null || dataPoints.get(0).arity() != 2L) {
             throw new IllegalArgumentException("Incorrect dimension for data");
         }
         List<Coordinates3D> coords = toSupportedCoordinates(dataPoints);
-        Matrix<RealType> X = RegressionHelper.designMatrixFor3D(coords);  // A + Bx + Cy + Dxy
-        ColumnVector<RealType> Y = RegressionHelper.observedValuesFor3D(coords);
-        Matrix<RealType> beta = RegressionHelper.realPseudoInverse(X).multiply(Y);
-        Term<RealType, RealType> A = new ConstantTerm<>(beta.valueAt(0, 0));
-        Term<RealType, RealType> B = new PolyTerm<>("x", beta.valueAt(1, 0), 1L);
-        Term<RealType, RealType> C = new PolyTerm<>("y", beta.valueAt(2, 0), 1L);
-        Term<RealType, RealType> D = new PolyTerm<>(beta.valueAt(3, 0),
+        return fromCoefficients(RegressionHelper.surfaceLeastSquares(coords));  // A + Bx + Cy + Dxy
+    }
+
+    @Override
+    public int parameterCount(long arity) {
+        return 4;
+    }
+
+    @Override
+    public BigDecimal[] regressors(Coordinates datum) {
+        return RegressionHelper.surfaceRegressors(datum);
+    }
+
+    @Override
+    public NumericFunction<RealType, RealType> fromCoefficients(ColumnVector<RealType> beta) {
+        Term<RealType, RealType> A = new ConstantTerm<>(beta.elementAt(0L));
+        Term<RealType, RealType> B = new PolyTerm<>("x", beta.elementAt(1L), 1L);
+        Term<RealType, RealType> C = new PolyTerm<>("y", beta.elementAt(2L), 1L);
+        Term<RealType, RealType> D = new PolyTerm<>(beta.elementAt(3L),
                 List.of("x", "y"), List.of(1L, 1L));
         return new Polynomial<>(A, B, C, D);
     }
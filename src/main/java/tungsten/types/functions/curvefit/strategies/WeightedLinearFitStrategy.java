@@ -25,10 +25,9 @@
 
 package tungsten.types.functions.curvefit.strategies;
 
-import tungsten.types.Matrix;
 import tungsten.types.annotations.StrategySupports;
 import tungsten.types.functions.NumericFunction;
-import tungsten.types.functions.curvefit.CurveFittingStrategy;
+import tungsten.types.functions.curvefit.IncrementalFittingStrategy;
 import tungsten.types.functions.curvefit.CurveType;
 import tungsten.types.functions.curvefit.RegressionHelper;
 import tungsten.types.functions.impl.Polynomial;
@@ -37,10 +36,9 @@ import tungsten.types.functions.support.Coordinates2D;
 import tungsten.types.numerics.RealType;
 import tungsten.types.vector.ColumnVector;
 
+import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.logging.Level;
-import java.util.logging.Logger;
 
 /**
  * A weighted least-squares strategy for fitting a set of data to a linear function.
@@ -48,24 +46,34 @@ import java.util.logging.Logger;
  * @author Robert Poole, <a href="mailto:Tarquin.AZ@gmail.com">Gmail</a>
  */
 @StrategySupports(name = "weighted linear fit", type = CurveType.CURVE_2D)
-public class WeightedLinearFitStrategy implements CurveFittingStrategy {
+public class WeightedLinearFitStrategy implements IncrementalFittingStrategy {
     @Override
     public NumericFunction<RealType, RealType> fitToCoordinates(List<? extends Coordinates> dataPoints) {
         if (dataPoints == null || dataPoints.get(0).arity() != 1L) {
             throw new IllegalArgumentException("Incorrect dimension for data");
         }
         List<Coordinates2D> C = toSupportedCoordinates(dataPoints);
-        Matrix<RealType> X = RegressionHelper.designMatrixFor(C, 1);
-        ColumnVector<RealType> Y = RegressionHelper.observedValuesFor(C);
-        Matrix<RealType> W = RegressionHelper.weightMatrixFor(C);
-        Matrix<RealType> beta = RegressionHelper.weightedPseudoInverse(X, W).multiply(Y);
-        if (beta.columns() != 1L || beta.rows() != 2L) {
-            Logger.getLogger(WeightedLinearFitStrategy.class.getName()).log(Level.WARNING,
-                    "Expected a 2\u00D71 result, but received {0}\u00D7{1} instead.",
-                    new Object[] {beta.rows(), beta.columns()});
-        }
-        return new Polynomial<>("x",
-                beta.valueAt(0L, 0L), beta.valueAt(1L, 0L));
+        return fromCoefficients(RegressionHelper.polynomialLeastSquares(C, 1, true));
+    }
+
+    @Override
+    public int parameterCount(long arity) {
+        return 2;
+    }
+
+    @Override
+    public BigDecimal[] regressors(Coordinates datum) {
+        return RegressionHelper.polynomialRegressors(datum, 1);
+    }
+
+    @Override
+    public boolean isWeighted() {
+        return true;
+    }
+
+    @Override
+    public NumericFunction<RealType, RealType> fromCoefficients(ColumnVector<RealType> beta) {
+        return new Polynomial<>("x", beta.elementAt(0L), beta.elementAt(1L));
     }
 
     private List<Coordinates2D> toSupportedCoordinates(List<? extends Coordinates> coords) {
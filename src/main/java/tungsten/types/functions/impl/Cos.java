@@ -196,7 +196,9 @@ public class Cos extends UnaryFunction<RealType, RealType> implements Proxable<R
         if (internalRange.contains(input)) return input;
 
         final RealType period = period();
-        RealType temp = input;
+        // shift by a whole number of periods in one step; the loops below only correct for rounding
+        final IntegerType periods = ((RealType) input.subtract(internalRange.getLowerBound()).divide(period)).floor();
+        RealType temp = (RealType) input.subtract(period.multiply(periods));
         while (internalRange.isBelow(temp)) {
             temp = (RealType) temp.add(period);
         }
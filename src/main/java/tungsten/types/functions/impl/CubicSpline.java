@@ -0,0 +1,492 @@
+package tungsten.types.functions.impl;
+/*
+ * The MIT License
+ *
+ * Copyright © 2025 Robert Poole <Tarquin.AZ@gmail.com>.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+import tungsten.types.Range;
+import tungsten.types.SteppedRange;
+import tungsten.types.functions.ArgVector;
+import tungsten.types.functions.UnaryFunction;
+import tungsten.types.functions.support.Coordinates;
+import tungsten.types.numerics.RealType;
+import tungsten.types.numerics.impl.RealImpl;
+import tungsten.types.util.MathUtils;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A cubic spline interpolating a set of 2D data, represented by sorted arrays of knots
+ * and per-interval coefficients rather than as a {@link PiecewiseFunction} of
+ * {@link CubicSpline2D} pieces.  Locating the interval for an argument is a binary
+ * search, O(log&nbsp;n), and the batch methods {@link #evaluate(List)} and
+ * {@link #evaluate(SteppedRange)} walk the knots monotonically for ascending arguments.
+ * <br>
+ * The coefficients are obtained by solving the tridiagonal system for the spline
+ * in O(n) time with the Thomas algorithm, subject to one of the supported
+ * {@link BoundaryCondition boundary conditions}.  If every datum fits within
+ * {@link MathContext#DECIMAL64}, evaluation is carried out in primitive
+ * {@code double} arithmetic.
+ * <br>
+ * On the i<sup>th</sup> interval, the spline has the form
+ * S<sub>i</sub>(x) = a<sub>i</sub> + b<sub>i</sub>(x&minus;x<sub>i</sub>) + c<sub>i</sub>(x&minus;x<sub>i</sub>)<sup>2</sup> + d<sub>i</sub>(x&minus;x<sub>i</sub>)<sup>3</sup>
+ * @author Robert Poole, <a href="mailto:tarquin@alum.mit.edu">MIT alumni e-mail</a>
+ *   or <a href="mailto:Tarquin.AZ@gmail.com">Gmail</a>
+ * @see <a href="https://en.wikipedia.org/wiki/Tridiagonal_matrix_algorithm">the Wikipedia article
+ *   on the tridiagonal matrix algorithm</a>
+ * @since 1.5
+ */
+public class CubicSpline extends UnaryFunction<RealType, RealType> {
+    /**
+     * The conditions imposed at the ends of a cubic spline.
+     */
+    public enum BoundaryCondition {
+        /**
+         * The second derivative vanishes at both ends.
+         */
+        NATURAL,
+        /**
+         * The first derivative takes given values at both ends.
+         */
+        CLAMPED,
+        /**
+         * The third derivative is continuous at the second and penultimate knots,
+         * i.e., the first two and last two pieces are each a single cubic.
+         */
+        NOT_A_KNOT
+    }
+
+    private static final int GUARD_DIGITS = 6;
+
+    private final BoundaryCondition condition;
+    private final MathContext mctx;
+    private final Range<RealType> scope;
+    private final int knotCount;
+    // exact representation, used unless every datum fits in DECIMAL64
+    private BigDecimal[] knots;
+    private BigDecimal[] a, b, c, d;
+    // primitive representation, used if every datum fits in DECIMAL64
+    private double[] knotsD;
+    private double[] aD, bD, cD, dD;
+
+    /**
+     * Construct a natural or not-a-knot cubic spline through the given data.
+     * The data need not be sorted, but no two data may share the same x value.
+     * @param data      the control points, of arity 1
+     * @param condition the boundary condition, either {@link BoundaryCondition#NATURAL}
+     *                  or {@link BoundaryCondition#NOT_A_KNOT}
+     * @throws IllegalArgumentException if {@code condition} is {@link BoundaryCondition#CLAMPED},
+     *   which requires the end slopes to be specified, or if there are too few data
+     */
+    public CubicSpline(List<? extends Coordinates> data, BoundaryCondition condition) {
+        this(data, condition, null, null);
+    }
+
+    /**
+     * Construct a clamped cubic spline through the given data.
+     * The data need not be sorted, but no two data may share the same x value.
+     * @param data       the control points, of arity 1
+     * @param startSlope the first derivative of the spline at its lowest knot
+     * @param endSlope   the first derivative of the spline at its highest knot
+     */
+    public CubicSpline(List<? extends Coordinates> data, RealType startSlope, RealType endSlope) {
+        this(data, BoundaryCondition.CLAMPED, startSlope, endSlope);
+    }
+
+    private CubicSpline(List<? extends Coordinates> data, BoundaryCondition condition,
+                        RealType startSlope, RealType endSlope) {
+        super("x", RealType.class);
+        final int n = data.size();
+        if (n < (condition == BoundaryCondition.NOT_A_KNOT ? 4 : 2)) {
+            throw new IllegalArgumentException("Too few data for a " + condition + " cubic spline");
+        }
+        if (data.get(0).arity() != 1L) throw new IllegalArgumentException("Incorrect dimension for data");
+        if (condition == BoundaryCondition.CLAMPED && (startSlope == null || endSlope == null)) {
+            throw new IllegalArgumentException("A clamped spline requires slopes at both ends");
+        }
+        this.condition = condition;
+        this.knotCount = n;
+        List<? extends Coordinates> sorted = data;
+        for (int i = 1; i < n; i++) {
+            if (data.get(i).getOrdinate(0).compareTo(data.get(i - 1).getOrdinate(0)) < 0) {
+                sorted = data.stream().sorted(Coordinates.sortableBy(0)).toList();
+                break;
+            }
+        }
+        int precision = Integer.MAX_VALUE;
+        boolean fitsInDouble = true;
+        MathContext ctx = MathContext.DECIMAL128;
+        for (int i = 0; i < n; i++) {
+            final RealType x = sorted.get(i).getOrdinate(0);
+            final RealType value = sorted.get(i).getValue();
+            if (i > 0 && x.compareTo(sorted.get(i - 1).getOrdinate(0)) == 0) {
+                throw new IllegalArgumentException("Duplicate knot at x = " + x);
+            }
+            for (MathContext candidate : List.of(x.getMathContext(), value.getMathContext())) {
+                if (candidate.getPrecision() > 0 && candidate.getPrecision() < precision) {
+                    precision = candidate.getPrecision();
+                    ctx = candidate;
+                }
+            }
+            fitsInDouble = fitsInDouble && MathUtils.fitsInDecimal64(x) && MathUtils.fitsInDecimal64(value);
+        }
+        this.mctx = ctx;
+        this.scope = new Range<>(sorted.get(0).getOrdinate(0), Range.BoundType.INCLUSIVE,
+                sorted.get(n - 1).getOrdinate(0), Range.BoundType.INCLUSIVE);
+        if (fitsInDouble) {
+            knotsD = new double[n];
+            double[] y = new double[n];
+            for (int i = 0; i < n; i++) {
+                knotsD[i] = sorted.get(i).getOrdinate(0).asBigDecimal().doubleValue();
+                y[i] = sorted.get(i).getValue().asBigDecimal().doubleValue();
+            }
+            computeCoefficients(y, condition == BoundaryCondition.CLAMPED ? startSlope.asBigDecimal().doubleValue() : 0d,
+                    condition == BoundaryCondition.CLAMPED ? endSlope.asBigDecimal().doubleValue() : 0d);
+        } else {
+            knots = new BigDecimal[n];
+            BigDecimal[] y = new BigDecimal[n];
+            for (int i = 0; i < n; i++) {
+                knots[i] = sorted.get(i).getOrdinate(0).asBigDecimal();
+                y[i] = sorted.get(i).getValue().asBigDecimal();
+            }
+            computeCoefficients(y, condition == BoundaryCondition.CLAMPED ? startSlope.asBigDecimal() : null,
+                    condition == BoundaryCondition.CLAMPED ? endSlope.asBigDecimal() : null,
+                    new MathContext(ctx.getPrecision() + GUARD_DIGITS, ctx.getRoundingMode()));
+        }
+    }
+
+    /**
+     * Compute the spline coefficients from the knots and values.  The quadratic
+     * coefficients c<sub>i</sub> satisfy a tridiagonal system whose first and last
+     * rows depend upon the boundary condition; the remaining coefficients follow directly.
+     */
+    private void computeCoefficients(BigDecimal[] y, BigDecimal startSlope, BigDecimal endSlope, MathContext work) {
+        final int n = knotCount;
+        final BigDecimal two = BigDecimal.valueOf(2L);
+        final BigDecimal three = BigDecimal.valueOf(3L);
+        // interval widths and secant slopes
+        final BigDecimal[] h = new BigDecimal[n - 1];
+        final BigDecimal[] s = new BigDecimal[n - 1];
+        for (int i = 0; i < n - 1; i++) {
+            h[i] = knots[i + 1].subtract(knots[i]);
+            s[i] = y[i + 1].subtract(y[i]).divide(h[i], work);
+        }
+        final BigDecimal[] sub = new BigDecimal[n];
+        final BigDecimal[] diag = new BigDecimal[n];
+        final BigDecimal[] sup = new BigDecimal[n];
+        final BigDecimal[] rhs = new BigDecimal[n];
+        for (int i = 1; i < n - 1; i++) {
+            sub[i] = h[i - 1];
+            diag[i] = h[i - 1].add(h[i]).multiply(two);
+            sup[i] = h[i];
+            rhs[i] = s[i].subtract(s[i - 1]).multiply(three, work);
+        }
+        int lo = 0;
+        int hi = n - 1;
+        switch (condition) {
+            case NATURAL -> {
+                diag[0] = BigDecimal.ONE;
+                sup[0] = BigDecimal.ZERO;
+                rhs[0] = BigDecimal.ZERO;
+                sub[n - 1] = BigDecimal.ZERO;
+                diag[n - 1] = BigDecimal.ONE;
+                rhs[n - 1] = BigDecimal.ZERO;
+            }
+            case CLAMPED -> {
+                diag[0] = h[0].multiply(two);
+                sup[0] = h[0];
+                rhs[0] = s[0].subtract(startSlope).multiply(three, work);
+                sub[n - 1] = h[n - 2];
+                diag[n - 1] = h[n - 2].multiply(two);
+                rhs[n - 1] = endSlope.subtract(s[n - 2]).multiply(three, work);
+            }
+            case NOT_A_KNOT -> {
+                // eliminate c[0] and c[n - 1] using continuity of the third derivative,
+                // which leaves a tridiagonal system in c[1]..c[n - 2]
+                lo = 1;
+                hi = n - 2;
+                rhs[1] = rhs[1].multiply(h[1]).divide(h[0].add(h[1]), work);
+                diag[1] = h[0].add(h[1].multiply(two));
+                sup[1] = h[1].subtract(h[0]);
+                rhs[n - 2] = rhs[n - 2].multiply(h[n - 3]).divide(h[n - 3].add(h[n - 2]), work);
+                diag[n - 2] = h[n - 3].multiply(two).add(h[n - 2]);
+                sub[n - 2] = h[n - 3].subtract(h[n - 2]);
+            }
+        }
+        c = new BigDecimal[n];
+        // Thomas algorithm: forward elimination, then back substitution
+        for (int i = lo + 1; i <= hi; i++) {
+            final BigDecimal w = sub[i].divide(diag[i - 1], work);
+            diag[i] = diag[i].subtract(w.multiply(sup[i - 1], work), work);
+            rhs[i] = rhs[i].subtract(w.multiply(rhs[i - 1], work), work);
+        }
+        c[hi] = rhs[hi].divide(diag[hi], work);
+        for (int i = hi - 1; i >= lo; i--) {
+            c[i] = rhs[i].subtract(sup[i].multiply(c[i + 1], work), work).divide(diag[i], work);
+        }
+        if (condition == BoundaryCondition.NOT_A_KNOT) {
+            c[0] = h[0].add(h[1]).multiply(c[1]).subtract(h[0].multiply(c[2])).divide(h[1], work);
+            c[n - 1] = h[n - 3].add(h[n - 2]).multiply(c[n - 2])
+                    .subtract(h[n - 2].multiply(c[n - 3])).divide(h[n - 3], work);
+        }
+        a = new BigDecimal[n - 1];
+        b = new BigDecimal[n - 1];
+        d = new BigDecimal[n - 1];
+        for (int i = 0; i < n - 1; i++) {
+            a[i] = y[i];
+            b[i] = s[i].subtract(h[i].multiply(c[i].multiply(two).add(c[i + 1])).divide(three, work), work);
+            d[i] = c[i + 1].subtract(c[i]).divide(h[i].multiply(three), work);
+        }
+    }
+
+    /**
+     * The primitive counterpart of {@link #computeCoefficients(BigDecimal[], BigDecimal, BigDecimal, MathContext)}.
+     */
+    private void computeCoefficients(double[] y, double startSlope, double endSlope) {
+        final int n = knotCount;
+        final double[] h = new double[n - 1];
+        final double[] s = new double[n - 1];
+        for (int i = 0; i < n - 1; i++) {
+            h[i] = knotsD[i + 1] - knotsD[i];
+            s[i] = (y[i + 1] - y[i]) / h[i];
+        }
+        final double[] sub = new double[n];
+        final double[] diag = new double[n];
+        final double[] sup = new double[n];
+        final double[] rhs = new double[n];
+        for (int i = 1; i < n - 1; i++) {
+            sub[i] = h[i - 1];
+            diag[i] = 2d * (h[i - 1] + h[i]);
+            sup[i] = h[i];
+            rhs[i] = 3d * (s[i] - s[i - 1]);
+        }
+        int lo = 0;
+        int hi = n - 1;
+        switch (condition) {
+            case NATURAL -> {
+                diag[0] = 1d;
+                diag[n - 1] = 1d;
+            }
+            case CLAMPED -> {
+                diag[0] = 2d * h[0];
+                sup[0] = h[0];
+                rhs[0] = 3d * (s[0] - startSlope);
+                sub[n - 1] = h[n - 2];
+                diag[n - 1] = 2d * h[n - 2];
+                rhs[n - 1] = 3d * (endSlope - s[n - 2]);
+            }
+            case NOT_A_KNOT -> {
+                lo = 1;
+                hi = n - 2;
+                rhs[1] = rhs[1] * h[1] / (h[0] + h[1]);
+                diag[1] = h[0] + 2d * h[1];
+                sup[1] = h[1] - h[0];
+                rhs[n - 2] = rhs[n - 2] * h[n - 3] / (h[n - 3] + h[n - 2]);
+                diag[n - 2] = 2d * h[n - 3] + h[n - 2];
+                sub[n - 2] = h[n - 3] - h[n - 2];
+            }
+        }
+        cD = new double[n];
+        for (int i = lo + 1; i <= hi; i++) {
+            final double w = sub[i] / diag[i - 1];
+            diag[i] -= w * sup[i - 1];
+            rhs[i] -= w * rhs[i - 1];
+        }
+        cD[hi] = rhs[hi] / diag[hi];
+        for (int i = hi - 1; i >= lo; i--) {
+            cD[i] = (rhs[i] - sup[i] * cD[i + 1]) / diag[i];
+        }
+        if (condition == BoundaryCondition.NOT_A_KNOT) {
+            cD[0] = ((h[0] + h[1]) * cD[1] - h[0] * cD[2]) / h[1];
+            cD[n - 1] = ((h[n - 3] + h[n - 2]) * cD[n - 2] - h[n - 2] * cD[n - 3]) / h[n - 3];
+        }
+        aD = new double[n - 1];
+        bD = new double[n - 1];
+        dD = new double[n - 1];
+        for (int i = 0; i < n - 1; i++) {
+            aD[i] = y[i];
+            bD[i] = s[i] - h[i] * (2d * cD[i] + cD[i + 1]) / 3d;
+            dD[i] = (cD[i + 1] - cD[i]) / (3d * h[i]);
+        }
+    }
+
+    /**
+     * Obtain the boundary condition this spline was constructed with.
+     * @return the boundary condition
+     */
+    public BoundaryCondition getBoundaryCondition() {
+        return condition;
+    }
+
+    /**
+     * Obtain the number of knots (control points) of this spline.
+     * @return the number of knots
+     */
+    public int knotCount() {
+        return knotCount;
+    }
+
+    @Override
+    public RealType apply(ArgVector<RealType> arguments) {
+        RealType x = arguments.hasVariableName(getArgumentName()) ?
+                arguments.forVariableName(getArgumentName()) : arguments.elementAt(0L);
+        return apply(x);
+    }
+
+    @Override
+    public RealType apply(RealType argument) {
+        checkBounds(argument);
+        if (knotsD != null) {
+            final double x = argument.asBigDecimal().doubleValue();
+            return evaluate(locate(x, 0, knotCount - 1), x);
+        }
+        final BigDecimal x = argument.asBigDecimal();
+        return evaluate(locate(x, 0, knotCount - 1), x);
+    }
+
+    /**
+     * Evaluate this spline for a batch of arguments.  Each argument is located
+     * starting from the interval of the previous one, so that ascending arguments
+     * are handled by a single monotonic walk over the knots; arguments in any
+     * other order are located by binary search.
+     * @param arguments the arguments at which to evaluate this spline
+     * @return the values of this spline, in the same order as {@code arguments}
+     * @throws IllegalArgumentException if any argument lies outside the knots
+     */
+    public List<RealType> evaluate(List<RealType> arguments) {
+        return evaluate((Iterable<RealType>) arguments, arguments.size());
+    }
+
+    /**
+     * Evaluate this spline over a stepped range, walking the knots monotonically.
+     * @param range the range of arguments, which must lie within the knots of this spline
+     * @return the values of this spline for each argument in {@code range}, in ascending order
+     * @throws IllegalArgumentException if any argument lies outside the knots
+     */
+    public List<RealType> evaluate(SteppedRange range) {
+        return evaluate(range, 16);
+    }
+
+    private List<RealType> evaluate(Iterable<RealType> arguments, int expectedSize) {
+        List<RealType> results = new ArrayList<>(expectedSize);
+        int interval = 0;
+        for (RealType argument : arguments) {
+            checkBounds(argument);
+            if (knotsD != null) {
+                final double x = argument.asBigDecimal().doubleValue();
+                interval = seek(x, interval);
+                results.add(evaluate(interval, x));
+            } else {
+                final BigDecimal x = argument.asBigDecimal();
+                interval = seek(x, interval);
+                results.add(evaluate(interval, x));
+            }
+        }
+        return results;
+    }
+
+    private void checkBounds(RealType argument) {
+        if (!scope.contains(argument)) {
+            throw new IllegalArgumentException("Argument " + argument + " is not within " + scope);
+        }
+    }
+
+    /**
+     * Find the interval for {@code x}, checking the interval {@code hint} and its
+     * successor before falling back to a binary search.  Intervals are half-open,
+     * except for the last, consistent with {@link #locate(BigDecimal, int, int)}.
+     */
+    private int seek(BigDecimal x, int hint) {
+        final int last = knotCount - 1;
+        if (x.compareTo(knots[hint]) >= 0) {
+            if (hint + 1 == last || x.compareTo(knots[hint + 1]) < 0) return hint;
+            if (hint + 2 == last || x.compareTo(knots[hint + 2]) < 0) return hint + 1;
+            return locate(x, hint + 1, last);
+        }
+        return locate(x, 0, hint);
+    }
+
+    private int seek(double x, int hint) {
+        final int last = knotCount - 1;
+        if (x >= knotsD[hint]) {
+            if (hint + 1 == last || x < knotsD[hint + 1]) return hint;
+            if (hint + 2 == last || x < knotsD[hint + 2]) return hint + 1;
+            return locate(x, hint + 1, last);
+        }
+        return locate(x, 0, hint);
+    }
+
+    /**
+     * Binary search for the largest i in [lo, hi) with knots[i] &le; x.
+     */
+    private int locate(BigDecimal x, int lo, int hi) {
+        while (hi - lo > 1) {
+            final int mid = (lo + hi) >>> 1;
+            if (knots[mid].compareTo(x) <= 0) lo = mid;
+            else hi = mid;
+        }
+        return lo;
+    }
+
+    private int locate(double x, int lo, int hi) {
+        while (hi - lo > 1) {
+            final int mid = (lo + hi) >>> 1;
+            if (knotsD[mid] <= x) lo = mid;
+            else hi = mid;
+        }
+        return lo;
+    }
+
+    private RealType evaluate(int i, BigDecimal x) {
+        final BigDecimal t = x.subtract(knots[i]);
+        // Horner's scheme
+        BigDecimal result = d[i].multiply(t, mctx).add(c[i], mctx);
+        result = result.multiply(t, mctx).add(b[i], mctx);
+        result = result.multiply(t, mctx).add(a[i], mctx);
+        return new RealImpl(result, mctx);
+    }
+
+    private RealType evaluate(int i, double x) {
+        final double t = x - knotsD[i];
+        final double result = ((dD[i] * t + cD[i]) * t + bD[i]) * t + aD[i];
+        return new RealImpl(new BigDecimal(result, mctx), mctx);
+    }
+
+    @Override
+    public Range<RealType> inputRange(String argName) {
+        if (getArgumentName().equals(argName)) return scope;
+        return null;
+    }
+
+    @Override
+    public Class<RealType> getArgumentType() {
+        return RealType.class;
+    }
+
+    @Override
+    public String toString() {
+        return "CubicSpline{" + condition + ", " + knotCount + " knots over " + scope + '}';
+    }
+}
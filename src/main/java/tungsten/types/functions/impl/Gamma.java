@@ -35,10 +35,13 @@ import tungsten.types.numerics.RealType;
 import tungsten.types.numerics.impl.Euler;
 import tungsten.types.numerics.impl.One;
 import tungsten.types.numerics.impl.Pi;
+import tungsten.types.numerics.impl.RealImpl;
 import tungsten.types.numerics.impl.Zero;
+import tungsten.types.util.ElementaryFunctions;
 import tungsten.types.util.MathUtils;
 import tungsten.types.util.RangeUtils;
 
+import java.math.BigDecimal;
 import java.math.MathContext;
 
 import static tungsten.types.util.MathUtils.*;
@@ -49,6 +52,8 @@ import static tungsten.types.util.MathUtils.*;
  * ln&#x1D6AA;(z) and exponentiate the result. Rare corner
  * cases may be handled using Weierstrass' formula, which is
  * both slower and less accurate.
+ * Real arguments bypass type dispatch entirely and are computed
+ * directly by the {@link java.math.BigDecimal} kernels in {@link ElementaryFunctions}.
  * Since Stirling's approximation is only valid for Re(z)&nbsp;&gt;&nbsp;0,
  * other values must be computed using the relationship:<br>
  * &#x1D6AA;(z)&sdot;&#x1D6AA;(1&nbsp;&minus;&nbsp;z) = &pi;/sin(&pi;z)
@@ -87,6 +92,9 @@ public class Gamma extends UnaryFunction<Numeric, Numeric> {
         Numeric z = arguments.hasVariableName(this.getArgumentName()) ?
                 arguments.forVariableName(this.getArgumentName()) :
                 arguments.elementAt(0L);
+        if (!(z instanceof ComplexType)) {
+            return gammaOfReal(Re(z), z.getMathContext());
+        }
         if (!argRange.contains(Arg(z))) {
             // can't use Stirling's approximation, so fall back to Weierstrass
             return MathUtils.gamma(z);
@@ -114,6 +122,33 @@ public class Gamma extends UnaryFunction<Numeric, Numeric> {
         throw new ArithmeticException("Unable to compute \uD835\uDEAA(" + z + ")");
     }
 
+    /**
+     * Compute &#x1D6AA;(x) for a real argument.  Positive arguments are computed
+     * as &#x212f;<sup>ln&#x1D6AA;(x)</sup>, with ln&#x1D6AA;(x) evaluated by Stirling's series
+     * to as many extra digits as the exponent requires; the cost of this grows with
+     * the precision of x, but not with its magnitude.  Negative arguments use
+     * the reflection formula.
+     * @param x the argument
+     * @return the value of &#x1D6AA;(x)
+     * @throws ArithmeticException if x is zero or a negative integer
+     */
+    public RealType apply(RealType x) {
+        return gammaOfReal(x, x.getMathContext());
+    }
+
+    private RealType gammaOfReal(RealType x, MathContext mctx) {
+        final MathContext ctx = mctx.getPrecision() < 8 ? MathContext.DECIMAL32 : mctx;
+        final BigDecimal value = x.asBigDecimal();
+        if (value.signum() <= 0) {
+            // ElementaryFunctions.gamma() rejects the poles and applies the reflection formula
+            return new RealImpl(ElementaryFunctions.gamma(value, ctx), ctx, false);
+        }
+        // the absolute error of ln𝚪(x) becomes the relative error of 𝚪(x)
+        final int magnitude = Math.max(0, value.precision() - value.scale());
+        final MathContext logCtx = new MathContext(ctx.getPrecision() + magnitude + 4, ctx.getRoundingMode());
+        return new RealImpl(ElementaryFunctions.exp(ElementaryFunctions.lnGamma(value, logCtx), ctx), ctx, false);
+    }
+
     private Numeric computeForNegativeReal(Numeric z) {
         final MathContext ctx = z.getMathContext().getPrecision() < 8 ? MathContext.DECIMAL32 : z.getMathContext();
         final Euler e = Euler.getInstance(ctx);
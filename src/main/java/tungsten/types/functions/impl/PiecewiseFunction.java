@@ -6,6 +6,7 @@ import tungsten.types.exceptions.CoercionException;
 import tungsten.types.functions.ArgVector;
 import tungsten.types.functions.UnaryFunction;
 import tungsten.types.numerics.RealType;
+import tungsten.types.util.LRUCache;
 
 import java.util.*;
 import java.util.function.Supplier;
@@ -26,6 +27,16 @@ import java.util.logging.Logger;
 public class PiecewiseFunction<T extends Numeric & Comparable<? super T>, R extends Numeric> extends UnaryFunction<T, R> {
     private final Map<Range<T>, UnaryFunction<T, R>> internalMap = new HashMap<>();
     private boolean boundsChecked = false;
+    /**
+     * An immutable index of the ranges, sorted by lower bound, and their functions.
+     * This is built by {@link #checkAggregateBounds()} and discarded whenever the
+     * mappings change.
+     */
+    private volatile Index<T, R> index;
+    private volatile Map<T, R> memo;
+
+    private record Index<T extends Numeric & Comparable<? super T>, R extends Numeric>(List<Range<T>> ranges,
+                                                                                    List<UnaryFunction<T, R>> functions) {}
 
     /**
      * Default constructor.  This will create an empty piecewise function
@@ -62,6 +73,35 @@ public class PiecewiseFunction<T extends Numeric & Comparable<? super T>, R exte
         }
         internalMap.put(range, func);
         boundsChecked = false;  // mappings have changed, so force a re-check before using this function again
+        index = null;
+        clearMemo();
+    }
+
+    /**
+     * Enable memoization of this function's results, which is worthwhile when
+     * the same arguments are evaluated repeatedly and the constituent functions
+     * are expensive.  The most recently used results are retained.
+     * @param cacheSize the maximum number of results to retain
+     */
+    public void enableMemoization(int cacheSize) {
+        if (cacheSize < 1) throw new IllegalArgumentException("Cache size must be positive");
+        memo = Collections.synchronizedMap(new LRUCache<>(cacheSize));
+    }
+
+    /**
+     * Disable memoization of this function's results, discarding any retained results.
+     */
+    public void disableMemoization() {
+        memo = null;
+    }
+
+    /**
+     * Discard any memoized results.  Subclasses must call this whenever a change
+     * in their state would alter the value of this function.
+     */
+    protected void clearMemo() {
+        final Map<T, R> cache = memo;
+        if (cache != null) cache.clear();
     }
 
 
@@ -73,8 +113,122 @@ public class PiecewiseFunction<T extends Numeric & Comparable<? super T>, R exte
         if (!boundsChecked) throw new IllegalStateException("checkAggregateBounds() must be called before applying this function");
         final String argName = getArgumentName();
         T arg = arguments.hasVariableName(argName) ? arguments.forVariableName(argName) : arguments.elementAt(0L);
-        Range<T> key = internalMap.keySet().parallelStream().filter(r -> r.contains(arg)).findAny().orElseThrow(outOfBounds);
-        return internalMap.get(key).apply(arg);
+        final Map<T, R> cache = memo;
+        if (cache == null) return evaluateAt(arg);
+        R value = cache.get(arg);
+        if (value == null) {
+            // evaluate outside the cache, since evaluateAt() may itself clear the memo
+            value = evaluateAt(arg);
+            cache.put(arg, value);
+        }
+        return value;
+    }
+
+    /**
+     * Evaluate this function for a single argument, bypassing any memoization.
+     * @param arg the argument
+     * @return the value of this function at {@code arg}
+     */
+    protected R evaluateAt(T arg) {
+        final int i = indexOf(arg);
+        if (i < 0) throw outOfBounds.get();
+        return index.functions().get(i).apply(arg);
+    }
+
+    /**
+     * Evaluate this function for a batch of arguments.  Each argument is located
+     * starting from the range of the previous one, so that ascending arguments are
+     * handled by a single monotonic walk over the ranges; arguments in any other
+     * order are located by binary search.
+     * @param arguments the arguments at which to evaluate this function
+     * @return the values of this function, in the same order as {@code arguments}
+     * @throws IllegalArgumentException if any argument is not within any range
+     * @since 1.5
+     */
+    public List<R> evaluate(List<? extends T> arguments) {
+        if (!boundsChecked) throw new IllegalStateException("checkAggregateBounds() must be called before applying this function");
+        final Map<T, R> cache = memo;
+        final List<UnaryFunction<T, R>> functions = index.functions();
+        List<R> results = new ArrayList<>(arguments.size());
+        int hint = 0;
+        for (T arg : arguments) {
+            R value = cache == null ? null : cache.get(arg);
+            if (value == null) {
+                hint = seek(arg, hint);
+                if (hint < 0) throw outOfBounds.get();
+                value = functions.get(hint).apply(arg);
+                if (cache != null) cache.put(arg, value);
+            }
+            results.add(value);
+        }
+        return results;
+    }
+
+    /**
+     * Find the index of the range containing {@code arg} within the sorted ranges
+     * of this function, using binary search.
+     * @param arg the argument to locate
+     * @return the index of the containing range, or -1 if no range contains {@code arg}
+     * @see #sortedRanges()
+     */
+    protected int indexOf(T arg) {
+        final List<Range<T>> ranges = index.ranges();
+        return containing(ranges, arg, floor(ranges, arg, 0, ranges.size() - 1));
+    }
+
+    private int seek(T arg, int hint) {
+        final List<Range<T>> ranges = index.ranges();
+        if (hint >= 0 && ranges.get(hint).contains(arg)) return hint;
+        if (hint + 1 < ranges.size() && ranges.get(hint + 1).contains(arg)) return hint + 1;
+        return indexOf(arg);
+    }
+
+    /**
+     * Obtain the largest index in [lo, hi] whose range has a lower bound &le; {@code arg},
+     * or {@code lo - 1} if there is none.
+     */
+    private int floor(List<Range<T>> ranges, T arg, int lo, int hi) {
+        int result = lo - 1;
+        while (lo <= hi) {
+            final int mid = (lo + hi) >>> 1;
+            if (ranges.get(mid).getLowerBound().compareTo(arg) <= 0) {
+                result = mid;
+                lo = mid + 1;
+            } else {
+                hi = mid - 1;
+            }
+        }
+        return result;
+    }
+
+    private int containing(List<Range<T>> ranges, T arg, int candidate) {
+        if (candidate < 0) return -1;
+        if (ranges.get(candidate).contains(arg)) return candidate;
+        // arg may coincide with an open lower bound, in which case the preceding range may be closed there
+        if (candidate > 0 && ranges.get(candidate - 1).contains(arg)) return candidate - 1;
+        return -1;
+    }
+
+    /**
+     * Obtain the ranges of this function, sorted by their lower bounds.
+     * @return an unmodifiable list of ranges
+     * @throws IllegalStateException if {@link #checkAggregateBounds()} has not been called
+     * @since 1.5
+     */
+    protected List<Range<T>> sortedRanges() {
+        if (!boundsChecked) throw new IllegalStateException("checkAggregateBounds() must be called first");
+        return index.ranges();
+    }
+
+    /**
+     * Obtain the function for the i<sup>th</sup> range, in the order given by {@link #sortedRanges()}.
+     * @param i the index of the range
+     * @return the function that applies over the i<sup>th</sup> range
+     * @since 1.5
+     */
+    protected UnaryFunction<T, R> functionAt(int i) {
+        if (!boundsChecked) throw new IllegalStateException("checkAggregateBounds() must be called first");
+        return index.functions().get(i);
     }
 
     /**
@@ -89,12 +243,17 @@ public class PiecewiseFunction<T extends Numeric & Comparable<? super T>, R exte
      * @return true if no problems are found, false otherwise
      */
     public boolean checkAggregateBounds() {
-        if (internalMap.size() < 2) return true;  // no chance of conflicts, so bail out quickly
         List<Range<T>> sortedRanges = internalMap.keySet().stream().sorted(Comparator.comparing(Range::getLowerBound))
                 .toList();
+        if (internalMap.size() < 2) {
+            // no chance of conflicts, so bail out quickly
+            buildIndex(sortedRanges);
+            return true;
+        }
         // ensure that none of the ranges overlap
         for (int index = 1; index < sortedRanges.size(); index++) {
-            if (sortedRanges.get(index).contains(sortedRanges.get(index - 1).getUpperBound())) {
+            // touching bounds are dealt with below
+            if (sortedRanges.get(index).getLowerBound().compareTo(sortedRanges.get(index - 1).getUpperBound()) < 0) {
                 return false;
             }
         }
@@ -111,10 +270,15 @@ public class PiecewiseFunction<T extends Numeric & Comparable<? super T>, R exte
                 }
             }
         }
-        boundsChecked = true;
+        buildIndex(sortedRanges);
         return true; // if we passed the gantlet, return success
     }
 
+    private void buildIndex(List<Range<T>> sortedRanges) {
+        index = new Index<>(sortedRanges, sortedRanges.stream().map(internalMap::get).toList());
+        boundsChecked = true;
+    }
+
     private final Supplier<IllegalStateException> noBoundsFound =
             () -> new IllegalStateException("Piecewise function has no ranges, or the ranges have improperly specified bounds");
 
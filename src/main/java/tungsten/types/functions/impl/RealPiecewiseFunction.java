@@ -25,7 +25,6 @@ package tungsten.types.functions.impl;
 
 import tungsten.types.Range;
 import tungsten.types.annotations.Differentiable;
-import tungsten.types.functions.ArgVector;
 import tungsten.types.functions.UnaryFunction;
 import tungsten.types.numerics.RealType;
 import tungsten.types.numerics.Sign;
@@ -51,6 +50,11 @@ public class RealPiecewiseFunction extends PiecewiseFunction<RealType, RealType>
     SmoothingType smoothing = SmoothingType.NONE;
     List<Range<RealType>> transitionZones = Collections.emptyList();
     List<Sigmoid> sigmoids = Collections.emptyList();
+    /**
+     * True if the transition zones are pairwise disjoint and in ascending order,
+     * in which case they can be searched by bisection.
+     */
+    private boolean zonesDisjoint;
 
     /**
      * Given a variable name and an &#x1D700; value, create an unpopulated
@@ -100,7 +104,7 @@ public class RealPiecewiseFunction extends PiecewiseFunction<RealType, RealType>
         RealType alpha0 = alpha == null ? (RealType) TWO.multiply(epsilon) : alpha;
         List<Range<RealType>> zones = new ArrayList<>();
         Map<Range<RealType>, UnaryFunction<RealType, RealType>> fnMap = viewOfFunctionMap();
-        List<Range<RealType>> ranges = fnMap.keySet().stream().sorted().toList();
+        List<Range<RealType>> ranges = fnMap.keySet().stream().sorted(Comparator.comparing(Range::getLowerBound)).toList();
         List<Sigmoid> sigFunctions = new ArrayList<>();
         for (int i = 0; i < ranges.size() - 1; i++) {
             // taking the average between these values will help if there's a gap
@@ -122,8 +126,42 @@ public class RealPiecewiseFunction extends PiecewiseFunction<RealType, RealType>
                     new Object[] { sigFunctions.size(),
                             sigFunctions.stream().map(Sigmoid::getCentroid).collect(Collectors.toList()) });
         }
+        boolean disjoint = true;
+        for (int i = 1; i < zones.size() && disjoint; i++) {
+            disjoint = zones.get(i - 1).getUpperBound().compareTo(zones.get(i).getLowerBound()) < 0;
+        }
+        zonesDisjoint = disjoint;
         transitionZones = zones;
         sigmoids = sigFunctions;
+        clearMemo();
+    }
+
+    /**
+     * Find the first transition zone containing {@code arg}.
+     * @param arg the argument
+     * @return the index of the transition zone, or -1 if {@code arg} is not in any transition zone
+     */
+    private int transitionZoneFor(RealType arg) {
+        final List<Range<RealType>> zones = transitionZones;
+        if (!zonesDisjoint) {
+            for (int i = 0; i < zones.size(); i++) {
+                if (zones.get(i).contains(arg)) return i;
+            }
+            return -1;
+        }
+        int lo = 0;
+        int hi = zones.size() - 1;
+        int candidate = -1;
+        while (lo <= hi) {
+            final int mid = (lo + hi) >>> 1;
+            if (zones.get(mid).getLowerBound().compareTo(arg) <= 0) {
+                candidate = mid;
+                lo = mid + 1;
+            } else {
+                hi = mid - 1;
+            }
+        }
+        return candidate >= 0 && zones.get(candidate).contains(arg) ? candidate : -1;
     }
 
     /**
@@ -150,6 +188,7 @@ public class RealPiecewiseFunction extends PiecewiseFunction<RealType, RealType>
             throw new IllegalArgumentException("Alpha must be a positive value.");
         }
         this.alpha = alpha;
+        clearMemo();
         if (viewOfFunctionMap().size() > 1) {
             computeTransitionZones();
         }
@@ -172,6 +211,7 @@ public class RealPiecewiseFunction extends PiecewiseFunction<RealType, RealType>
         }
         boolean hasChanged = smoothing != this.smoothing;
         this.smoothing = smoothing;
+        if (hasChanged) clearMemo();
         if (alpha != null && smoothing == SmoothingType.SIGMOID) {
             Logger.getLogger(RealPiecewiseFunction.class.getName()).log(Level.WARNING,
                     "Potential stale \uD835\uDEFC value: {0}", alpha);
@@ -184,42 +224,41 @@ public class RealPiecewiseFunction extends PiecewiseFunction<RealType, RealType>
     }
 
     @Override
-    public RealType apply(ArgVector<RealType> arguments) {
+    protected RealType evaluateAt(RealType arg) {
         if ((smoothing != SmoothingType.NONE && transitionZones.size() != viewOfFunctionMap().size() - 1) ||
                 (smoothing == SmoothingType.SIGMOID && sigmoids.size() != transitionZones.size())) {
             computeTransitionZones();
         }
-
-        RealType arg = arguments.hasVariableName(getArgumentName()) ? arguments.forVariableName(getArgumentName()) : arguments.elementAt(0);
-
-        Optional<Range<RealType>> rangeForTransition = smoothing == SmoothingType.NONE ? Optional.empty() :
-                transitionZones.stream().filter(range -> range.contains(arg)).findFirst();
+        final int zone = smoothing == SmoothingType.NONE ? -1 : transitionZoneFor(arg);
+        if (zone < 0) return super.evaluateAt(arg);
         switch (smoothing) {
-            case NONE:
-                return super.apply(arguments);
             case LINEAR:
-                if (rangeForTransition.isEmpty()) {
-                    return super.apply(arguments);
-                } else {
-                    Range<RealType> rr = rangeForTransition.get();
-                    return linearInterpolate(arg, rr.getLowerBound(), super.apply(rr.getLowerBound()),
-                            rr.getUpperBound(), super.apply(rr.getUpperBound()));
-                }
+                Range<RealType> rr = transitionZones.get(zone);
+                return linearInterpolate(arg, rr.getLowerBound(), super.evaluateAt(rr.getLowerBound()),
+                        rr.getUpperBound(), super.evaluateAt(rr.getUpperBound()));
             case SIGMOID:
-                if (rangeForTransition.isEmpty()) {
-                    return super.apply(arguments);
-                }
-                int index = transitionZones.indexOf(rangeForTransition.get());
-                Sigmoid sig = sigmoids.get(index);
-                List<Range<RealType>> orderedRanges = viewOfFunctionMap().keySet().stream().sorted().toList();
-                UnaryFunction<RealType, RealType> f1 = viewOfFunctionMap().get(orderedRanges.get(index));
-                UnaryFunction<RealType, RealType> f2 = viewOfFunctionMap().get(orderedRanges.get(index + 1));
-                return sigmoidInterpolate(arg, sig, f1, f2);
+                return sigmoidInterpolate(arg, sigmoids.get(zone), functionAt(zone), functionAt(zone + 1));
             default:
                 throw new IllegalStateException("No strategy for smoothing type " + smoothing);
         }
     }
 
+    /**
+     * Evaluate this function for a batch of arguments.  Without smoothing, this
+     * walks the ranges monotonically for ascending arguments; otherwise, each argument
+     * is located by binary search.
+     * @param arguments the arguments at which to evaluate this function
+     * @return the values of this function, in the same order as {@code arguments}
+     * @since 1.5
+     */
+    @Override
+    public List<RealType> evaluate(List<? extends RealType> arguments) {
+        if (smoothing == SmoothingType.NONE) return super.evaluate(arguments);
+        List<RealType> results = new ArrayList<>(arguments.size());
+        for (RealType arg : arguments) results.add(apply(arg));
+        return results;
+    }
+
     private RealType linearInterpolate(RealType x, RealType x1, RealType y1, RealType x2, RealType y2) {
         assert x.compareTo(x1) >= 0 && x.compareTo(x2) <= 0;
         RealType rise = (RealType) y2.subtract(y1);
@@ -239,7 +278,8 @@ public class RealPiecewiseFunction extends PiecewiseFunction<RealType, RealType>
     public UnaryFunction<RealType, RealType> diff() {
         final SimpleDerivative<RealType> diffMachine = new SimpleDerivative<>(epsilon);
         RealPiecewiseFunction result = new RealPiecewiseFunction(getArgumentName(), epsilon);
-        viewOfFunctionMap().entrySet().parallelStream().forEach(entry -> {
+        // sequential, since addFunctionForRange() mutates a HashMap
+        viewOfFunctionMap().entrySet().forEach(entry -> {
             UnaryFunction<RealType, RealType> f = entry.getValue();
             String f_argName = f.expectedArguments()[0];
             UnaryFunction<RealType, RealType> f_diff = diffMachine.apply(f);
@@ -30,16 +30,25 @@ import tungsten.types.annotations.Columnar;
 import tungsten.types.exceptions.CoercionException;
 import tungsten.types.numerics.NumericHierarchy;
 import tungsten.types.numerics.impl.ExactZero;
+import tungsten.types.numerics.impl.IntegerImpl;
 import tungsten.types.numerics.impl.One;
+import tungsten.types.numerics.impl.RealImpl;
 import tungsten.types.numerics.impl.Zero;
 import tungsten.types.util.ClassTools;
+import tungsten.types.util.EliminationEngine;
+import tungsten.types.util.MathUtils;
 import tungsten.types.vector.ColumnVector;
 import tungsten.types.vector.RowVector;
 import tungsten.types.vector.impl.ArrayColumnVector;
 import tungsten.types.vector.impl.ArrayRowVector;
 
 import java.lang.reflect.Array;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
@@ -54,6 +63,16 @@ public class BasicMatrix<T extends Numeric> implements Matrix<T> {
     private List<RowVector<T>> rows = new ArrayList<>();
     private final Map<Long, ColumnVector<T>> columnCache = new HashMap<>();
 
+    /**
+     * The number of rows and columns in each tile computed by {@link #multiply(Matrix)}.
+     */
+    private static final int TILE_SIZE = 32;
+    /**
+     * The number of scalar multiplications below which {@link #multiply(Matrix)}
+     * does not bother to compute in parallel.
+     */
+    private static final long PARALLEL_THRESHOLD = 1L << 15;
+
     /**
      * Default constructor.  Initial append operations will skip
      * the dimension check.
@@ -155,6 +174,9 @@ public class BasicMatrix<T extends Numeric> implements Matrix<T> {
                 }
                 return (T) accum.coerceTo(clazz);
             }
+            else if (EliminationEngine.useElimination(rows())) {
+                return EliminationEngine.determinant(this);
+            }
             else {
                 RowVector<T> firstRow = this.getRow(0L);
                 BasicMatrix<T> intermediate = this.removeRow(0L);
@@ -196,6 +218,21 @@ public class BasicMatrix<T extends Numeric> implements Matrix<T> {
         return result;
     }
 
+    /**
+     * Multiply this matrix by another using the classical algorithm.
+     * The columns of {@code multiplier} are extracted exactly once, and
+     * the product is computed in tiles of {@value #TILE_SIZE} rows and
+     * columns.  Large products are split into blocks of rows which are
+     * computed in parallel on the common {@link ForkJoinPool}.
+     * <br>
+     * If every element of both matrices is a {@link RealImpl} or every
+     * element is an {@link IntegerImpl}, each dot product is accumulated
+     * directly in {@link BigDecimal} or {@link BigInteger} arithmetic and rounded
+     * only once, rather than creating an intermediate {@link Numeric} for
+     * every product and partial sum.
+     * @param multiplier the matrix to multiply by
+     * @return the product of {@code this} and {@code multiplier}
+     */
     @Override
     public Matrix<T> multiply(Matrix<T> multiplier) {
         if (rows.isEmpty()) throw new IllegalStateException("Cannot multiply an empty matrix");
@@ -203,15 +240,193 @@ public class BasicMatrix<T extends Numeric> implements Matrix<T> {
             throw new ArithmeticException("Multiplier must have the same number of rows as this matrix has columns");
         }
         final Class<T> clazz = (Class<T>) ClassTools.getInterfaceTypeFor(this.valueAt(0L, 0L).getClass());
-        T[][] temp = (T[][]) Array.newInstance(clazz, (int) this.rows(), (int) multiplier.columns());
-        for (long row = 0L; row < rows(); row++) {
-            RowVector<T> rowvec = this.getRow(row);
-            for (long column = 0L; column < multiplier.columns(); column++) {
-                temp[(int) row][(int) column] = rowvec.dotProduct(multiplier.getColumn(column));
-            }
+        final T[][] temp = (T[][]) Array.newInstance(clazz, (int) this.rows(), (int) multiplier.columns());
+        final List<ColumnVector<T>> columns = new ArrayList<>((int) multiplier.columns());
+        for (long column = 0L; column < multiplier.columns(); column++) {
+            columns.add(multiplier.getColumn(column));
+        }
+        final MultiplicationKernel kernel = new MultiplicationKernel(columns, temp);
+        final long work = rows() * columns() * multiplier.columns();
+        if (work < PARALLEL_THRESHOLD) {
+            kernel.compute(0, temp.length);
+        } else {
+            ForkJoinPool.commonPool().invoke(kernel.new RowBlockTask(0, temp.length));
         }
         return new BasicMatrix<>(temp);
     }
+
+    /**
+     * The inner loops of {@link #multiply(Matrix)}.  The operands are unpacked
+     * once, with the right-hand operand stored by column so that each dot product
+     * walks two contiguous arrays.  If every element is a {@link RealImpl}, or every
+     * element is an {@link IntegerImpl}, each row (or column) is held as unscaled
+     * integer values sharing a single scale.  When all of those values fit in
+     * a {@code long}, dot products are accumulated exactly in 128-bit fixed point;
+     * otherwise {@link BigInteger} arithmetic is used.  Elements of any other type
+     * fall back to {@link RowVector#dotProduct(Vector)}.
+     */
+    private class MultiplicationKernel {
+        /**
+         * The largest spread of scales within a row or column for which alignment
+         * to a common scale is worthwhile.
+         */
+        private static final int MAX_SCALE_SPREAD = 64;
+
+        private final T[][] result;
+        private final List<ColumnVector<T>> columns;
+        private final int n;
+        private boolean real;
+        private BigInteger[][] left, right;
+        private long[][] compactLeft, compactRight;
+        private int[] rowScale, columnScale;
+        private boolean[] rowExact, columnExact, rowIrrational, columnIrrational;
+        private MathContext[] rowMathContext;
+
+        private MultiplicationKernel(List<ColumnVector<T>> columns, T[][] result) {
+            this.columns = columns;
+            this.result = result;
+            this.n = (int) columns();
+            real = unpack(RealImpl.class);
+            if (!real && !unpack(IntegerImpl.class)) return;
+            compactLeft = compact(left);
+            compactRight = compactLeft == null ? null : compact(right);
+        }
+
+        private boolean unpack(Class<? extends Numeric> type) {
+            final int m = result.length;
+            final int p = columns.size();
+            BigInteger[][] lhs = new BigInteger[m][];
+            BigInteger[][] rhs = new BigInteger[p][];
+            rowScale = new int[m];
+            rowExact = new boolean[m];
+            rowIrrational = new boolean[m];
+            rowMathContext = new MathContext[m];
+            columnScale = new int[p];
+            columnExact = new boolean[p];
+            columnIrrational = new boolean[p];
+            Numeric[] elements = new Numeric[n];
+            for (int i = 0; i < m; i++) {
+                final RowVector<T> row = getRow(i);
+                for (int k = 0; k < n; k++) {
+                    elements[k] = row.elementAt(k);
+                    if (!type.isInstance(elements[k])) return false;
+                }
+                lhs[i] = align(elements, i, rowScale, rowExact, rowIrrational);
+                if (lhs[i] == null) return false;
+                rowMathContext[i] = elements[0].getMathContext();
+            }
+            for (int j = 0; j < p; j++) {
+                final ColumnVector<T> column = columns.get(j);
+                for (int k = 0; k < n; k++) {
+                    elements[k] = column.elementAt(k);
+                    if (!type.isInstance(elements[k])) return false;
+                }
+                rhs[j] = align(elements, j, columnScale, columnExact, columnIrrational);
+                if (rhs[j] == null) return false;
+            }
+            left = lhs;
+            right = rhs;
+            return true;
+        }
+
+        /**
+         * Convert a row or column of elements to unscaled values which
+         * all share the largest scale found among those elements.
+         * @return the unscaled values, or {@code null} if the scales are too disparate
+         */
+        private BigInteger[] align(Numeric[] elements, int index, int[] scales, boolean[] exact, boolean[] irrational) {
+            BigInteger[] unscaled = new BigInteger[elements.length];
+            exact[index] = true;
+            if (elements[0] instanceof IntegerImpl) {
+                for (int k = 0; k < elements.length; k++) {
+                    unscaled[k] = ((IntegerImpl) elements[k]).asBigInteger();
+                    exact[index] &= elements[k].isExact();
+                }
+                return unscaled;
+            }
+            BigDecimal[] values = new BigDecimal[elements.length];
+            int minScale = Integer.MAX_VALUE;
+            int maxScale = Integer.MIN_VALUE;
+            for (int k = 0; k < elements.length; k++) {
+                final RealImpl element = (RealImpl) elements[k];
+                values[k] = element.asBigDecimal();
+                if (values[k].signum() != 0) minScale = Math.min(minScale, values[k].scale());
+                maxScale = Math.max(maxScale, values[k].scale());
+                exact[index] &= element.isExact();
+                irrational[index] |= element.isIrrational();
+            }
+            if (minScale != Integer.MAX_VALUE && maxScale - minScale > MAX_SCALE_SPREAD) return null;
+            for (int k = 0; k < elements.length; k++) {
+                // increasing the scale never requires rounding
+                unscaled[k] = values[k].setScale(maxScale).unscaledValue();
+            }
+            scales[index] = maxScale;
+            return unscaled;
+        }
+
+        private long[][] compact(BigInteger[][] values) {
+            long[][] compacted = new long[values.length][n];
+            for (int i = 0; i < values.length; i++) {
+                for (int k = 0; k < n; k++) {
+                    if (values[i][k].bitLength() >= Long.SIZE) return null;
+                    compacted[i][k] = values[i][k].longValue();
+                }
+            }
+            return compacted;
+        }
+
+        private void compute(int rowStart, int rowEnd) {
+            final int p = columns.size();
+            for (int jj = 0; jj < p; jj += TILE_SIZE) {
+                final int jEnd = Math.min(jj + TILE_SIZE, p);
+                for (int i = rowStart; i < rowEnd; i++) {
+                    for (int j = jj; j < jEnd; j++) {
+                        result[i][j] = dotProduct(i, j);
+                    }
+                }
+            }
+        }
+
+        private T dotProduct(int i, int j) {
+            if (left == null) return getRow(i).dotProduct(columns.get(j));
+            final boolean exact = rowExact[i] && columnExact[j];
+            BigInteger sum;
+            if (compactRight != null) {
+                sum = MathUtils.exactDotProduct(compactLeft[i], 0, compactRight[j], 0, n);
+            } else {
+                final BigInteger[] a = left[i];
+                final BigInteger[] b = right[j];
+                sum = BigInteger.ZERO;
+                for (int k = 0; k < n; k++) {
+                    sum = sum.add(a[k].multiply(b[k]));
+                }
+            }
+            if (!real) return (T) new IntegerImpl(sum, exact);
+            final MathContext mctx = rowMathContext[i];
+            RealImpl value = new RealImpl(new BigDecimal(sum, rowScale[i] + columnScale[j]).round(mctx), mctx, exact);
+            value.setIrrational(rowIrrational[i] || columnIrrational[j]);
+            return (T) value;
+        }
+
+        private class RowBlockTask extends RecursiveAction {
+            private final int rowStart, rowEnd;
+
+            private RowBlockTask(int rowStart, int rowEnd) {
+                this.rowStart = rowStart;
+                this.rowEnd = rowEnd;
+            }
+
+            @Override
+            protected void compute() {
+                if (rowEnd - rowStart <= TILE_SIZE) {
+                    MultiplicationKernel.this.compute(rowStart, rowEnd);
+                    return;
+                }
+                final int middle = (rowStart + rowEnd) >>> 1;
+                invokeAll(new RowBlockTask(rowStart, middle), new RowBlockTask(middle, rowEnd));
+            }
+        }
+    }
     
     @Override
     public RowVector<T> getRow(long row) {
@@ -305,6 +520,10 @@ public class BasicMatrix<T extends Numeric> implements Matrix<T> {
         if (rows() != columns()) {
             throw new ArithmeticException("Cannot invert a non-square matrix");
         }
+        if (EliminationEngine.useElimination(rows())) {
+            // Gauss-Jordan elimination is O(n³), whereas the adjoint requires n² determinants
+            return EliminationEngine.inverse(this);
+        }
         final T det = this.determinant();
         if (Zero.isZero(det)) {
             throw new ArithmeticException("Matrix is singular");
@@ -34,6 +34,7 @@ import tungsten.types.numerics.impl.ExactZero;
 import tungsten.types.numerics.impl.One;
 import tungsten.types.numerics.impl.Zero;
 import tungsten.types.util.ClassTools;
+import tungsten.types.util.EliminationEngine;
 import tungsten.types.util.MathUtils;
 import tungsten.types.vector.ColumnVector;
 import tungsten.types.vector.RowVector;
@@ -149,6 +150,9 @@ public class ColumnarMatrix<T extends Numeric> implements Matrix<T> {
                 }
                 return (T) accum.coerceTo(clazz);
             }
+            else if (EliminationEngine.useElimination(columns())) {
+                return EliminationEngine.determinant(this);
+            }
             else {
                 // A column-friendly version of the recursive algorithm.
                 ColumnVector<T> firstColumn = columns.get(0);
@@ -173,6 +177,9 @@ public class ColumnarMatrix<T extends Numeric> implements Matrix<T> {
         if (rows() != columns()) {
             throw new ArithmeticException("Cannot invert a non-square matrix");
         }
+        if (EliminationEngine.useElimination(columns())) {
+            return EliminationEngine.inverse(this);
+        }
         final T det = this.determinant();
         if (Zero.isZero(det)) {
             throw new ArithmeticException("Matrix is singular");
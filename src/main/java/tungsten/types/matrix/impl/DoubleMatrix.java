@@ -0,0 +1,482 @@
+/*
+ * The MIT License
+ *
+ * Copyright © 2026 Robert Poole <Tarquin.AZ@gmail.com>.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tungsten.types.matrix.impl;
+
+import tungsten.types.Matrix;
+import tungsten.types.Numeric;
+import tungsten.types.exceptions.CoercionException;
+import tungsten.types.numerics.RealType;
+import tungsten.types.numerics.Sign;
+import tungsten.types.numerics.impl.RealImpl;
+import tungsten.types.numerics.impl.RealInfinity;
+import tungsten.types.vector.ColumnVector;
+import tungsten.types.vector.RowVector;
+import tungsten.types.vector.impl.ArrayColumnVector;
+import tungsten.types.vector.impl.ArrayRowVector;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+/**
+ * A real-valued {@link Matrix} backed by a flat array of primitive {@code double}
+ * values stored in row-major order.  This is intended as a fast path for
+ * computations that do not require more precision than {@link MathContext#DECIMAL64}
+ * provides, where boxing every element as a {@link RealType} backed by a
+ * {@link BigDecimal} would be massive overkill.
+ * <br>
+ * Elements are only materialized as {@link RealType} instances when requested
+ * through {@link #valueAt(long, long)} or one of the vector accessors; arithmetic
+ * between two {@code DoubleMatrix} instances never leaves primitive storage.
+ * Multiplication and transposition use cache-tiled kernels, and large products are
+ * computed in parallel by row blocks.  Since {@code double} values are approximations,
+ * all materialized elements are inexact.
+ *
+ * @author Robert Poole, <a href="mailto:tarquin@alum.mit.edu">MIT alumni e-mail</a>
+ *   or <a href="mailto:Tarquin.AZ@gmail.com">Gmail</a>
+ * @since 1.5
+ */
+public class DoubleMatrix implements Matrix<RealType> {
+    /**
+     * The edge length of the square tiles used by the blocked kernels.
+     * A 64&times;64 tile of {@code double} values occupies 32&nbsp;KiB,
+     * which fits comfortably in a typical L1 or L2 data cache.
+     */
+    private static final int TILE = 64;
+    /**
+     * The number of multiply-add operations below which a product
+     * is computed on the calling thread.
+     */
+    private static final long PARALLEL_THRESHOLD = 1L << 18;
+
+    private final int rows;
+    private final int columns;
+    private final double[] elements;
+    private final MathContext mctx;
+
+    /**
+     * Construct a zero-filled matrix with the given dimensions.
+     * @param rows    the number of rows
+     * @param columns the number of columns
+     * @param mctx    the {@link MathContext} for elements obtained from this matrix
+     */
+    public DoubleMatrix(long rows, long columns, MathContext mctx) {
+        if (rows < 1L || columns < 1L) throw new IllegalArgumentException("Matrix dimensions must be positive");
+        if (rows * columns > (long) Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("A " + rows + MULT_SIGN + columns + " matrix will not fit into a Java array");
+        }
+        this.rows = (int) rows;
+        this.columns = (int) columns;
+        this.elements = new double[this.rows * this.columns];
+        this.mctx = mctx;
+    }
+
+    /**
+     * Construct a matrix from a 2D array.  The first array index is the
+     * row, and the second array index is the column.
+     * @param source a rectangular two-dimensional array
+     * @param mctx   the {@link MathContext} for elements obtained from this matrix
+     */
+    public DoubleMatrix(double[][] source, MathContext mctx) {
+        this(source.length, source[0].length, mctx);
+        for (int row = 0; row < rows; row++) {
+            if (source[row].length != columns) {
+                throw new IllegalArgumentException("Row " + row + " has " + source[row].length +
+                        " elements, but " + columns + " were expected");
+            }
+            System.arraycopy(source[row], 0, elements, row * columns, columns);
+        }
+    }
+
+    /**
+     * Construct a matrix from a 2D array using {@link MathContext#DECIMAL64}.
+     * @param source a rectangular two-dimensional array
+     */
+    public DoubleMatrix(double[][] source) {
+        this(source, MathContext.DECIMAL64);
+    }
+
+    /**
+     * Copy constructor which converts any {@link Matrix} into
+     * primitive storage.  Each element of {@code source} must be
+     * coercible to {@link RealType}.
+     * @param source the matrix to copy
+     */
+    public DoubleMatrix(Matrix<? extends Numeric> source) {
+        this(source.rows(), source.columns(), source.valueAt(0L, 0L).getMathContext());
+        if (source instanceof DoubleMatrix that) {
+            System.arraycopy(that.elements, 0, elements, 0, elements.length);
+            return;
+        }
+        try {
+            for (int row = 0; row < rows; row++) {
+                for (int column = 0; column < columns; column++) {
+                    final Numeric value = source.valueAt(row, column);
+                    final RealType real = value instanceof RealType r ? r : (RealType) value.coerceTo(RealType.class);
+                    elements[row * columns + column] = real.asBigDecimal().doubleValue();
+                }
+            }
+        } catch (CoercionException e) {
+            throw new IllegalArgumentException("Source matrix contains non-real elements", e);
+        }
+    }
+
+    private DoubleMatrix(int rows, int columns, double[] elements, MathContext mctx) {
+        this.rows = rows;
+        this.columns = columns;
+        this.elements = elements;
+        this.mctx = mctx;
+    }
+
+    @Override
+    public long columns() {
+        return columns;
+    }
+
+    @Override
+    public long rows() {
+        return rows;
+    }
+
+    /**
+     * Obtain the {@link MathContext} used for elements materialized from this matrix.
+     * @return the {@link MathContext} of this matrix
+     */
+    public MathContext getMathContext() {
+        return mctx;
+    }
+
+    private int indexOf(long row, long column) {
+        if (row < 0L || row >= rows || column < 0L || column >= columns) {
+            throw new IndexOutOfBoundsException("row:" + row + ", column:" + column +
+                    " is out of bounds for a " + rows + MULT_SIGN + columns + " matrix");
+        }
+        return (int) row * columns + (int) column;
+    }
+
+    /**
+     * Obtain the primitive value at a given row and column.
+     * @param row    the row index
+     * @param column the column index
+     * @return the value at {@code row}, {@code column}
+     */
+    public double getDouble(long row, long column) {
+        return elements[indexOf(row, column)];
+    }
+
+    /**
+     * Set the primitive value at a given row and column.
+     * @param value  the new value
+     * @param row    the row index
+     * @param column the column index
+     */
+    public void setDouble(double value, long row, long column) {
+        elements[indexOf(row, column)] = value;
+    }
+
+    /**
+     * Given a row and column, set the element at that location
+     * to the given value.  The value is converted to a {@code double},
+     * so any precision beyond that of a {@code double} is lost.
+     * @param value  the value to set
+     * @param row    the row index &ge;&nbsp;0
+     * @param column the column index &ge;&nbsp;0
+     */
+    public void setValueAt(RealType value, long row, long column) {
+        elements[indexOf(row, column)] = value.asBigDecimal().doubleValue();
+    }
+
+    @Override
+    public RealType valueAt(long row, long column) {
+        return materialize(elements[indexOf(row, column)]);
+    }
+
+    private RealType materialize(double value) {
+        if (Double.isNaN(value)) throw new ArithmeticException("Matrix element is not a number");
+        if (Double.isInfinite(value)) return RealInfinity.getInstance(value > 0d ? Sign.POSITIVE : Sign.NEGATIVE, mctx);
+        return new RealImpl(BigDecimal.valueOf(value).round(mctx), mctx, false);
+    }
+
+    @Override
+    public RealType determinant() {
+        if (rows != columns) throw new ArithmeticException("Can only compute determinant for a square matrix");
+        final int n = rows;
+        final double[] lu = elements.clone();
+        double det = 1d;
+        for (int k = 0; k < n; k++) {
+            final int pivot = findPivot(lu, n, n, k);
+            if (lu[pivot * n + k] == 0d) return materialize(0d);
+            if (pivot != k) {
+                swapRows(lu, n, k, pivot);
+                det = -det;
+            }
+            final double diag = lu[k * n + k];
+            det *= diag;
+            for (int i = k + 1; i < n; i++) {
+                final double factor = lu[i * n + k] / diag;
+                if (factor == 0d) continue;
+                for (int j = k + 1; j < n; j++) lu[i * n + j] -= factor * lu[k * n + j];
+            }
+        }
+        return materialize(det);
+    }
+
+    @Override
+    public DoubleMatrix inverse() {
+        if (rows != columns) throw new ArithmeticException("Cannot invert a non-square matrix");
+        final int n = rows;
+        final int width = 2 * n;
+        // Gauss-Jordan elimination over the augmented matrix [A | I]
+        final double[] aug = new double[n * width];
+        for (int i = 0; i < n; i++) {
+            System.arraycopy(elements, i * n, aug, i * width, n);
+            aug[i * width + n + i] = 1d;
+        }
+        for (int k = 0; k < n; k++) {
+            final int pivot = findPivot(aug, n, width, k);
+            if (aug[pivot * width + k] == 0d) throw new ArithmeticException("Matrix is singular");
+            if (pivot != k) swapRows(aug, width, k, pivot);
+            final double scale = 1d / aug[k * width + k];
+            for (int j = k; j < width; j++) aug[k * width + j] *= scale;
+            for (int i = 0; i < n; i++) {
+                if (i == k) continue;
+                final double factor = aug[i * width + k];
+                if (factor == 0d) continue;
+                for (int j = k; j < width; j++) aug[i * width + j] -= factor * aug[k * width + j];
+            }
+        }
+        final double[] result = new double[n * n];
+        for (int i = 0; i < n; i++) System.arraycopy(aug, i * width + n, result, i * n, n);
+        return new DoubleMatrix(n, n, result, mctx);
+    }
+
+    private static int findPivot(double[] M, int n, int width, int k) {
+        int pivot = k;
+        double best = Math.abs(M[k * width + k]);
+        for (int i = k + 1; i < n; i++) {
+            final double candidate = Math.abs(M[i * width + k]);
+            if (candidate > best) {
+                best = candidate;
+                pivot = i;
+            }
+        }
+        return pivot;
+    }
+
+    private static void swapRows(double[] M, int width, int row1, int row2) {
+        final double[] temp = new double[width];
+        System.arraycopy(M, row1 * width, temp, 0, width);
+        System.arraycopy(M, row2 * width, M, row1 * width, width);
+        System.arraycopy(temp, 0, M, row2 * width, width);
+    }
+
+    @Override
+    public RealType trace() {
+        if (rows != columns) throw new ArithmeticException("Trace is only defined for square matrices");
+        double accum = 0d;
+        for (int i = 0; i < rows; i++) accum += elements[i * columns + i];
+        return materialize(accum);
+    }
+
+    @Override
+    public RealType norm() {
+        if (useFrobeniusNorm()) {
+            double sumOfSquares = 0d;
+            for (double element : elements) sumOfSquares += element * element;
+            return materialize(Math.sqrt(sumOfSquares));
+        }
+        double max = 0d;
+        for (double element : elements) max = Math.max(max, Math.abs(element));
+        return materialize(max);
+    }
+
+    @Override
+    public DoubleMatrix transpose() {
+        final double[] result = new double[elements.length];
+        // tiling keeps both the reads and the strided writes within cache
+        for (int ii = 0; ii < rows; ii += TILE) {
+            final int iMax = Math.min(ii + TILE, rows);
+            for (int jj = 0; jj < columns; jj += TILE) {
+                final int jMax = Math.min(jj + TILE, columns);
+                for (int i = ii; i < iMax; i++) {
+                    for (int j = jj; j < jMax; j++) {
+                        result[j * rows + i] = elements[i * columns + j];
+                    }
+                }
+            }
+        }
+        return new DoubleMatrix(columns, rows, result, mctx);
+    }
+
+    @Override
+    public DoubleMatrix add(Matrix<RealType> addend) {
+        if (addend.rows() != rows || addend.columns() != columns) {
+            throw new ArithmeticException("Addend must match dimensions of matrix");
+        }
+        final double[] other = asDoubleMatrix(addend).elements;
+        final double[] result = new double[elements.length];
+        for (int i = 0; i < result.length; i++) result[i] = elements[i] + other[i];
+        return new DoubleMatrix(rows, columns, result, mctx);
+    }
+
+    @Override
+    public DoubleMatrix subtract(Matrix<RealType> subtrahend) {
+        if (subtrahend.rows() != rows || subtrahend.columns() != columns) {
+            throw new IllegalArgumentException("Matrix dimensions are mismatched");
+        }
+        final double[] other = asDoubleMatrix(subtrahend).elements;
+        final double[] result = new double[elements.length];
+        for (int i = 0; i < result.length; i++) result[i] = elements[i] - other[i];
+        return new DoubleMatrix(rows, columns, result, mctx);
+    }
+
+    @Override
+    public DoubleMatrix multiply(Matrix<RealType> multiplier) {
+        if (columns != multiplier.rows()) {
+            throw new ArithmeticException("Multiplier must have the same number of rows as this matrix has columns");
+        }
+        if (multiplier instanceof DiagonalMatrix<RealType> diag) {
+            // scale columns instead of materializing a dense diagonal matrix
+            final double[] scales = new double[columns];
+            for (int j = 0; j < columns; j++) scales[j] = diag.valueAt(j, j).asBigDecimal().doubleValue();
+            final double[] result = new double[elements.length];
+            for (int i = 0; i < rows; i++) {
+                for (int j = 0; j < columns; j++) result[i * columns + j] = elements[i * columns + j] * scales[j];
+            }
+            return new DoubleMatrix(rows, columns, result, mctx);
+        }
+        final DoubleMatrix other = asDoubleMatrix(multiplier);
+        final int p = columns;
+        final int n = other.columns;
+        final double[] result = new double[rows * n];
+        final int rowBlocks = (rows + TILE - 1) / TILE;
+        if ((long) rows * (long) p * (long) n < PARALLEL_THRESHOLD || rowBlocks == 1) {
+            multiplyKernel(elements, other.elements, result, p, n, 0, rows);
+        } else {
+            // each block of rows writes to a disjoint region of the result
+            IntStream.range(0, rowBlocks).parallel().forEach(block ->
+                    multiplyKernel(elements, other.elements, result, p, n,
+                            block * TILE, Math.min((block + 1) * TILE, rows)));
+        }
+        return new DoubleMatrix(rows, n, result, mctx);
+    }
+
+    /**
+     * Compute rows [{@code rowStart}, {@code rowEnd}) of C&nbsp;+=&nbsp;AB, where A is
+     * m&times;p and B is p&times;n, all in row-major order.  The k and j loops are
+     * tiled so that a tile of B is reused across every row of the block
+     * while it is still resident in cache; the innermost loop walks
+     * contiguous memory in both B and C.
+     */
+    private static void multiplyKernel(double[] a, double[] b, double[] c, int p, int n, int rowStart, int rowEnd) {
+        for (int kk = 0; kk < p; kk += TILE) {
+            final int kMax = Math.min(kk + TILE, p);
+            for (int jj = 0; jj < n; jj += TILE) {
+                final int jMax = Math.min(jj + TILE, n);
+                for (int i = rowStart; i < rowEnd; i++) {
+                    final int aRow = i * p;
+                    final int cRow = i * n;
+                    for (int k = kk; k < kMax; k++) {
+                        final double aik = a[aRow + k];
+                        if (aik == 0d) continue;
+                        final int bRow = k * n;
+                        for (int j = jj; j < jMax; j++) {
+                            c[cRow + j] += aik * b[bRow + j];
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private DoubleMatrix asDoubleMatrix(Matrix<RealType> M) {
+        if (M instanceof DoubleMatrix that) return that;
+        return new DoubleMatrix(M);
+    }
+
+    @Override
+    public DoubleMatrix scale(RealType scaleFactor) {
+        final double factor = scaleFactor.asBigDecimal().doubleValue();
+        final double[] result = new double[elements.length];
+        for (int i = 0; i < result.length; i++) result[i] = elements[i] * factor;
+        return new DoubleMatrix(rows, columns, result, mctx);
+    }
+
+    @Override
+    public RowVector<RealType> getRow(long row) {
+        if (row < 0L || row >= rows) {
+            throw new IndexOutOfBoundsException("Row index is out of range 0\u2013" + (rows - 1));
+        }
+        RealType[] result = new RealType[columns];
+        final int offset = (int) row * columns;
+        for (int j = 0; j < columns; j++) result[j] = materialize(elements[offset + j]);
+        return new ArrayRowVector<>(result);
+    }
+
+    @Override
+    public ColumnVector<RealType> getColumn(long column) {
+        if (column < 0L || column >= columns) {
+            throw new IndexOutOfBoundsException("Column index is out of range 0\u2013" + (columns - 1));
+        }
+        RealType[] result = new RealType[rows];
+        for (int i = 0; i < rows; i++) result[i] = materialize(elements[i * columns + (int) column]);
+        return new ArrayColumnVector<>(result);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o instanceof DoubleMatrix that) {
+            return rows == that.rows && columns == that.columns && Arrays.equals(elements, that.elements);
+        }
+        if (o instanceof Matrix<? extends Numeric> that) {
+            if (rows() != that.rows() || columns() != that.columns()) return false;
+            for (long row = 0L; row < rows(); row++) {
+                if (!getRow(row).equals(that.getRow(row))) return false;
+            }
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 5;
+        hash = 67 * hash + rows;
+        hash = 67 * hash + columns;
+        hash = 67 * hash + Arrays.hashCode(elements);
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder buf = new StringBuilder();
+        buf.append("[\n");
+        for (int row = 0; row < rows; row++) {
+            buf.append("\u00A0\u00A0").append(getRow(row)).append('\n');
+        }
+        buf.append("\u00A0]");
+        return buf.toString();
+    }
+}
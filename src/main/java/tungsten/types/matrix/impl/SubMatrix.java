@@ -31,6 +31,7 @@ import tungsten.types.numerics.RationalType;
 import tungsten.types.numerics.impl.ExactZero;
 import tungsten.types.numerics.impl.RationalImpl;
 import tungsten.types.numerics.impl.Zero;
+import tungsten.types.util.EliminationEngine;
 import tungsten.types.util.OptionalOperations;
 import tungsten.types.vector.ColumnVector;
 import tungsten.types.vector.RowVector;
@@ -265,6 +266,9 @@ public class SubMatrix<T extends Numeric> implements Matrix<T> {
             }
             return (T) accum;
         }
+        if (EliminationEngine.useElimination(rows())) {
+            return EliminationEngine.determinant(this);
+        }
         
         RowVector<T> firstRow = this.getRow(0L);
         final Class<T> clazz = firstRow.getElementType();
@@ -287,6 +291,11 @@ public class SubMatrix<T extends Numeric> implements Matrix<T> {
 
     @Override
     public Matrix<? extends Numeric> inverse() {
+        if (rows() != columns()) throw new ArithmeticException("Cannot invert a non-square matrix");
+        if (EliminationEngine.useElimination(rows())) {
+            // elimination avoids computing n² cofactors
+            return EliminationEngine.inverse(this);
+        }
         final T det = this.determinant();
         if (Zero.isZero(det)) throw new ArithmeticException("This submatrix is singular");
         
@@ -246,6 +246,9 @@ public class ComplexPolarImpl implements ComplexType {
             return argument;
         } else {
             final RealType twopi = (RealType) Pi.getInstance(mctx).multiply(TWO);
+            // shift by a whole number of turns in one step; the loops below only correct for rounding
+            final IntegerType turns = ((RealType) realVal.subtract(atan2range.getLowerBound()).divide(twopi)).floor();
+            realVal = (RealType) realVal.subtract(twopi.multiply(turns));
             // reduce values > 𝞹
             while (atan2range.isAbove(realVal)) {
                 realVal = (RealType) realVal.subtract(twopi);
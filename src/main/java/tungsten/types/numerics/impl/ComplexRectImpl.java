@@ -27,6 +27,7 @@ import tungsten.types.Numeric;
 import tungsten.types.Set;
 import tungsten.types.exceptions.CoercionException;
 import tungsten.types.numerics.*;
+import tungsten.types.util.ElementaryFunctions;
 import tungsten.types.util.MathUtils;
 import tungsten.types.util.OptionalOperations;
 import tungsten.types.util.UnicodeTextEffects;
@@ -206,7 +207,7 @@ public class ComplexRectImpl implements ComplexType {
         final BigDecimal im = imag.asBigDecimal();
         BigDecimal resq = re.multiply(re, mctx);
         BigDecimal imsq = im.multiply(im, mctx);
-        BigDecimal root = resq.add(imsq).sqrt(mctx);
+        BigDecimal root = ElementaryFunctions.sqrt(resq.add(imsq), mctx);
         // this is a kludge -- anything not an integer is considered inexact
         return new RealImpl(root, mctx, this.isExact() && root.stripTrailingZeros().scale() <= 0);
     }
@@ -29,6 +29,9 @@ import tungsten.types.annotations.Constant;
 import tungsten.types.annotations.ConstantFactory;
 import tungsten.types.exceptions.CoercionException;
 import tungsten.types.numerics.*;
+import tungsten.types.util.BinarySplitting;
+import tungsten.types.util.ConstantCache;
+import tungsten.types.util.ElementaryFunctions;
 import tungsten.types.util.MathUtils;
 
 import java.math.BigDecimal;
@@ -41,9 +44,6 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
-import java.util.logging.Level;
-import java.util.logging.Logger;
-import java.util.stream.IntStream;
 
 /**
  * This class provides a representation of the mathematical constant &#x212f; &mdash;
@@ -54,8 +54,9 @@ import java.util.stream.IntStream;
  * of &#x212f; only needs to be calculated once for a given precision and
  * {@link RoundingMode}.
  * <br>
- * Internally, this class uses Brothers' formula for deriving &#x212f; to an
- * arbitrary precision.
+ * Internally, this class sums the series &sum;&nbsp;1/k! by
+ * {@link BinarySplitting binary splitting}, which requires only exact integer
+ * arithmetic and a single division to derive &#x212f; to an arbitrary precision.
  *
  * @author Robert Poole, <a href="mailto:Tarquin.AZ@gmail.com">Tarquin.AZ@gmail.com</a> or
  *   <a href="mailto:tarquin@alum.mit.edu">MIT alumni e-mail</a>
@@ -256,23 +257,10 @@ public class Euler implements RealType {
     }
     
     private void calculate() {
-        // compute a few extra digits so we can round off later
-        final MathContext compctx = new MathContext(mctx.getPrecision() + 4, mctx.getRoundingMode());
-        BigDecimal value = IntStream.range(0, mctx.getPrecision() / 2).parallel()
-                .mapToObj(k -> computeKthTerm(k, compctx))
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-        this.value = value.round(mctx);
+        this.value = ConstantCache.obtain("euler", mctx, BinarySplitting::e);
     }
     
     private static final BigDecimal TWO = BigDecimal.valueOf(2L);
-
-    private BigDecimal computeKthTerm(int k, MathContext ctx) {
-        BigDecimal numerator = TWO.multiply(BigDecimal.valueOf(k), ctx).add(TWO, ctx);
-        BigInteger innerDenom = BigInteger.TWO.multiply(BigInteger.valueOf(k)).add(BigInteger.ONE);
-        IntegerType denominator = MathUtils.factorial(new IntegerImpl(innerDenom));
-        
-        return numerator.divide(new BigDecimal(denominator.asBigInteger(), ctx), ctx);
-    }
     
     /**
      * Compute &#x212f;<sup>x</sup> for real-valued x.
@@ -292,11 +280,7 @@ public class Euler implements RealType {
         else if (x.asBigDecimal().compareTo(BigDecimal.ONE) == 0) return this;
         else if (x.asBigDecimal().compareTo(BigDecimal.ONE.negate()) == 0) return this.inverse();
 
-        // otherwise compute the series
-        final MathContext compctx = new MathContext(mctx.getPrecision() + 4, mctx.getRoundingMode());
-        BigDecimal sum = IntStream.range(0, mctx.getPrecision()).parallel()
-                .mapToObj(n -> computeNthTerm(n, x, compctx)).reduce(BigDecimal.ZERO, BigDecimal::add);
-        RealImpl result = new RealImpl(sum.round(mctx), mctx, false);
+        RealImpl result = new RealImpl(ElementaryFunctions.exp(x.asBigDecimal(), mctx), mctx, false);
         result.setIrrational(true);
         return result;
     }
@@ -318,18 +302,6 @@ public class Euler implements RealType {
         return polarval;
     }
     
-    private BigDecimal computeNthTerm(int n, RealType x, MathContext ctx) {
-        RealType numerator = MathUtils.computeIntegerExponent(x, n, ctx);
-        IntegerType denominator = MathUtils.factorial(new IntegerImpl(BigInteger.valueOf(n)));
-        try {
-            // a little clunky, but this is not publicly visible...
-            return ((RealType) numerator.divide(denominator).coerceTo(RealType.class)).asBigDecimal();
-        } catch (CoercionException ex) {
-            Logger.getLogger(Euler.class.getName()).log(Level.SEVERE, "Failed to compute term " + n + " of exp series.", ex);
-            throw new ArithmeticException("Fatal error while computing exp()");
-        }
-    }
-
     @Override
     public MathContext getMathContext() {
         return mctx;
@@ -28,10 +28,10 @@ import tungsten.types.Set;
 import tungsten.types.annotations.Constant;
 import tungsten.types.annotations.ConstantFactory;
 import tungsten.types.exceptions.CoercionException;
-import tungsten.types.functions.indexed.IndexRange;
 import tungsten.types.numerics.*;
+import tungsten.types.util.BinarySplitting;
+import tungsten.types.util.ConstantCache;
 import tungsten.types.util.MathUtils;
-import tungsten.types.util.OptionalOperations;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
@@ -41,8 +41,6 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
-import java.util.logging.Level;
-import java.util.logging.Logger;
 
 /**
  * The Euler-Mascheroni constant, denoted &#x1D6FE; (the lower-case Greek letter gamma).
@@ -52,9 +50,10 @@ import java.util.logging.Logger;
  * Gourdon and Sebah.  It is very efficient, requiring relatively few iterations to
  * converge to a desired value, while also avoiding a bunch of esoteric operations.
  * Note: Gourdon and Sebah also describe a refined version of this series, but this
- * version is simpler and &ldquo;good enough.&rdquo; Note also that the intermediate
- * calculations only require twice the precision of the desired result to allow for
- * correction terms.
+ * version is simpler and &ldquo;good enough.&rdquo; The terms of the series alternate
+ * in sign and grow very large before they converge, but since the series is summed
+ * exactly by {@link tungsten.types.util.BinarySplitting binary splitting}, no
+ * precision is lost to cancellation.
  * @author Robert Poole, <a href="mailto:tarquin@alum.mit.edu">MIT alumni e-mail</a>
  *   or <a href="mailto:Tarquin.AZ@gmail.com">Gmail</a>
  * @see tungsten.types.util.MathUtils#gamma(Numeric) the Gamma function
@@ -90,39 +89,8 @@ public class EulerMascheroni implements RealType {
         }
     }
 
-    private static final RealType TEN = new RealImpl(BigDecimal.TEN);
-    private static final IntegerType ONE = new IntegerImpl(BigInteger.ONE, true);
-
     private void calculate() {
-        // explicit advice from Gourdon and Sebah is that we should calculate with 2d digits of precision to get d digits
-        final MathContext compCtx = new MathContext(mctx.getPrecision() * 2, mctx.getRoundingMode());
-        // This is an approximation of alpha.  The value satisfies the relationship
-        // 𝛼(ln(𝛼) - 1) = 1 and is approximately 3.5911
-        // It can be calculated as 1/W(1/e) (the relationship was pointed out by Steven Stadnicki)
-        final RealType alpha = (RealType) MathUtils.lambertW(Euler.getInstance(compCtx).inverse()).inverse();
-        final RealType log10 = MathUtils.ln(TEN, compCtx);
-        RealType n = (RealType) new RealImpl(BigDecimal.valueOf(mctx.getPrecision() + 1L), compCtx).multiply(log10);
-        IntegerType iterLimit = ((RealType) alpha.multiply(n)).ceil();  // 𝛼⋅n gives us the number of terms to compute
-        IndexRange range = new IndexRange(ONE, iterLimit, false);
-
-        Numeric sum = range.parallelStream()
-                .map(k -> computeTerm(k, n))
-                .map(Numeric.class::cast)
-                .reduce(ExactZero.getInstance(compCtx), Numeric::add);
-        value = OptionalOperations.asBigDecimal(sum.subtract(MathUtils.ln(n, compCtx))).round(mctx);
-    }
-
-    private RealType computeTerm(IntegerType k, RealType n) {
-        try {
-            RealType denom = (RealType) MathUtils.factorial(k).multiply(k).coerceTo(RealType.class); // k⋅k!
-            RealType intermediate = (RealType) MathUtils.computeIntegerExponent(n, k).divide(denom);
-            if (k.isEven()) intermediate = intermediate.negate();  // originally tested for k - 1 isOdd
-            return intermediate;
-        } catch (CoercionException fatal) {
-            Logger.getLogger(EulerMascheroni.class.getName()).log(Level.SEVERE,
-                    "Failed to coerce k\u22C5k! to a real value; k = {0}", k);
-            throw new IllegalStateException("While computing the " + k + "th term of \uD835\uDEFE", fatal);
-        }
+        value = ConstantCache.obtain("euler-gamma", mctx, BinarySplitting::eulerGamma);
     }
 
     /**
@@ -29,6 +29,7 @@ import tungsten.types.annotations.Constant;
 import tungsten.types.annotations.ConstantFactory;
 import tungsten.types.exceptions.CoercionException;
 import tungsten.types.numerics.*;
+import tungsten.types.util.BinarySplitting;
 import tungsten.types.util.MathUtils;
 import tungsten.types.util.OptionalOperations;
 
@@ -57,9 +58,7 @@ public class Phi implements RealType {
 
     private Phi(MathContext mctx) {
         this.mctx = mctx;
-        BigDecimal two = BigDecimal.valueOf(2L);
-        BigDecimal five = BigDecimal.valueOf(5L);
-        this.value = BigDecimal.ONE.add(five.sqrt(mctx), mctx).divide(two, mctx);
+        this.value = BinarySplitting.phi(mctx);
     }
 
     @ConstantFactory(returnType = Phi.class)
@@ -29,6 +29,9 @@ import tungsten.types.annotations.Constant;
 import tungsten.types.annotations.ConstantFactory;
 import tungsten.types.exceptions.CoercionException;
 import tungsten.types.numerics.*;
+import tungsten.types.util.BinarySplitting;
+import tungsten.types.util.ConstantCache;
+import tungsten.types.util.ConstantStore;
 import tungsten.types.util.MathUtils;
 
 import java.math.BigDecimal;
@@ -36,10 +39,10 @@ import java.math.BigInteger;
 import java.math.MathContext;
 import java.math.RoundingMode;
 import java.util.*;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
-import java.util.logging.Level;
-import java.util.logging.Logger;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * This class provides a representation of the mathematical constant pi (&pi;).
@@ -49,18 +52,22 @@ import java.util.logging.Logger;
  * of pi only needs to be calculated once for a given precision and
  * {@link RoundingMode}.
  * <br>
- * Internally, this class uses the BBP formula for deriving Pi to an
- * arbitrary precision.
+ * Internally, this class uses the Chudnovsky series for deriving Pi to an
+ * arbitrary precision.  The series, which yields slightly more than 14 digits
+ * per term, is summed exactly by {@link BinarySplitting binary splitting},
+ * so that only a single division and square root are computed at the
+ * requested precision.  Partial sums of the series are retained, so
+ * a request for a higher precision extends the terms already summed rather
+ * than starting over, and a request for a lower precision is served by
+ * rounding a more precise instance wherever that is safe.
  * <br>
- * Currently, intermediate terms are cached as {@link RationalType} objects;
- * coercion to real (via {@link BigDecimal} division with {@link MathContext}-specified rounding)
- * is only done once the correct number of terms have been summed. This saves a
- * tremendous amount of recalculation.
+ * Instances for different {@link MathContext}s may be computed concurrently;
+ * only callers requesting the same {@code MathContext} wait for one another.
  *
  * @author Robert Poole, <a href="mailto:tarquin@alum.mit.edu">MIT alumni e-mail</a>
  *   or <a href="mailto:Tarquin.AZ@gmail.com">Gmail</a>
- * @see <a href="https://en.wikipedia.org/wiki/Bailey%E2%80%93Borwein%E2%80%93Plouffe_formula">the Wikipedia
- *   article on BBP</a>
+ * @see <a href="https://en.wikipedia.org/wiki/Chudnovsky_algorithm">the Wikipedia
+ *   article on the Chudnovsky algorithm</a>
  */
 @Constant(name = "pi", representation = "\uD835\uDF0B")
 public class Pi implements RealType {
@@ -72,8 +79,9 @@ public class Pi implements RealType {
         calculate();
     }
     
-    private static final Lock instanceLock = new ReentrantLock();
-    private static final Map<MathContext, Pi> instanceMap = new HashMap<>();
+    private static final ConcurrentMap<MathContext, CompletableFuture<Pi>> instanceMap = new ConcurrentHashMap<>();
+    private static final BinarySplitting.PartialSums chudnovskySums =
+            new BinarySplitting.PartialSums(BinarySplitting.CHUDNOVSKY);
     
     /**
      * Factory method for obtaining an instance of &pi; at a given precision.
@@ -82,16 +90,27 @@ public class Pi implements RealType {
      */
     @ConstantFactory(returnType = Pi.class)  // could also use RealType.class
     public static Pi getInstance(MathContext mctx) {
-        instanceLock.lock();
-        try {
-            Pi instance = instanceMap.get(mctx);
-            if (instance == null) {
-                instance = new Pi(mctx);
-                instanceMap.put(mctx, instance);
+        CompletableFuture<Pi> future = instanceMap.get(mctx);
+        if (future == null) {
+            final CompletableFuture<Pi> created = new CompletableFuture<>();
+            future = instanceMap.putIfAbsent(mctx, created);
+            if (future == null) {
+                // this thread is responsible for the computation
+                try {
+                    created.complete(new Pi(mctx));
+                } catch (RuntimeException | Error e) {
+                    instanceMap.remove(mctx, created);
+                    created.completeExceptionally(e);
+                    throw e;
+                }
+                future = created;
             }
-            return instance;
-        } finally {
-            instanceLock.unlock();
+        }
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            throw e;
         }
     }
 
@@ -265,78 +284,26 @@ public class Pi implements RealType {
         return mctx.getPrecision();
     }
 
-    private static final IntegerType SIXTEEN = new IntegerImpl(BigInteger.valueOf(16L));
-
-    private static RationalType safeReduce(RationalType A, RationalType B) {
-        Numeric sum = A.add(B);
-        try {
-            return (RationalType) sum.coerceTo(RationalType.class);
-        } catch (CoercionException e) {
-            throw new IllegalStateException(e);
-        }
-    }
-    
     /*
-     Computes the value of pi using the BBP formula.
+     Computes the value of pi using the Chudnovsky series.
     */
     private void calculate() {
-        // compute a few extra digits so that we can round off later
-        MathContext compctx = new MathContext(mctx.getPrecision() + 4, mctx.getRoundingMode());
-        for (long k = termsInCache(); k < mctx.getPrecision() - 1; k++) {
-            boolean success = cacheTerm(computeKthTerm(k), k);
-            if (!success) {
-                Logger.getLogger(Pi.class.getName()).log(Level.WARNING,
-                        "Unable to cache term for k = {0}, continuing. Pi value may not match desired precision.", k);
-            }
-        }
-        // now reduce this
-        RationalType sum = termCache.stream().limit(mctx.getPrecision() - 1).reduce(Pi::safeReduce).orElseThrow();
-        RealType converted = new RealImpl(sum, compctx);
-
-        this.value = converted.asBigDecimal().round(mctx);
-    }
-    
-    private static final List<RationalType> termCache = new LinkedList<>();
-
-    private RationalType getFromCache(long k) {
-        return termCache.stream().skip(k).findFirst().orElse(null);
+        this.value = ConstantCache.obtain("pi", mctx, Pi::compute);
     }
 
-    private boolean cacheTerm(RationalType term, long k) {
-        if (getFromCache(k) != null || termsInCache() > k) return false;
-        return termCache.add(term);
-    }
-
-    private long termsInCache() {
-        return termCache.stream().count();
-    }
-
-    private RationalType computeKthTerm(long k) {
-        RationalType cached = getFromCache(k);
-        if (cached != null) {
-            return cached;
+    private static BigDecimal compute(MathContext mctx) {
+        for (CompletableFuture<Pi> future : instanceMap.values()) {
+            if (!future.isDone() || future.isCompletedExceptionally()) continue;
+            final Pi other = future.join();
+            if (other.mctx.getPrecision() > mctx.getPrecision()) {
+                Optional<BigDecimal> rounded = ConstantStore.roundFrom(other.value, other.mctx, mctx);
+                if (rounded.isPresent()) return rounded.get();
+            }
         }
-        final IntegerType one = new IntegerImpl(BigInteger.ONE);
-        final IntegerType four = new IntegerImpl(BigInteger.valueOf(4L));
-        final IntegerType two = new IntegerImpl(BigInteger.TWO);
-        final IntegerType five = (IntegerType) four.add(one);
-        final IntegerType six  = (IntegerType) five.add(one);
-
-        IntegerType kval = new IntegerImpl(BigInteger.valueOf(k));
-        RationalType scale = new RationalImpl(one, (IntegerType) SIXTEEN.pow(kval), mctx);
-        RationalType interm1 = new RationalImpl(four, computeSubterm(kval, one), mctx);
-        RationalType interm2 = new RationalImpl(two, computeSubterm(kval, four), mctx);
-        RationalType interm3 = new RationalImpl(one, computeSubterm(kval, five), mctx);
-        RationalType interm4 = new RationalImpl(one, computeSubterm(kval, six), mctx);
-        return (RationalType) interm1.subtract(interm2).subtract(interm3).subtract(interm4).multiply(scale);
+        final long terms = BinarySplitting.chudnovskyTerms(mctx);
+        return BinarySplitting.chudnovskyPi(chudnovskySums.upTo(terms), mctx);
     }
 
-    private IntegerType computeSubterm(IntegerType k, IntegerType val) {
-        final IntegerType eight = new IntegerImpl(BigInteger.valueOf(8L));
-
-        return (IntegerType) eight.multiply(k).add(val);
-    }
-    
     @Override
     public boolean equals(Object o) {
         if (o instanceof Pi that) {
@@ -29,6 +29,7 @@ import tungsten.types.exceptions.CoercionException;
 import tungsten.types.numerics.*;
 import tungsten.types.set.impl.NumericSet;
 import tungsten.types.util.ClassTools;
+import tungsten.types.util.ElementaryFunctions;
 import tungsten.types.util.MathUtils;
 import tungsten.types.util.UnicodeTextEffects;
 
@@ -393,8 +394,8 @@ public class RealImpl implements RealType {
             }
         }
 
-        // otherwise, use the built-in square root
-        BigDecimal principalRoot = val.sqrt(mctx);
+        // otherwise, use the shared square root kernel
+        BigDecimal principalRoot = ElementaryFunctions.sqrt(val, mctx);
         principalRoot = principalRoot.stripTrailingZeros(); // ensure this representation is as compact as possible
         final boolean atLimit = fractionalLengthDifference(principalRoot) == 0;
         RealImpl result = new RealImpl(principalRoot, mctx, exact && !atLimit);
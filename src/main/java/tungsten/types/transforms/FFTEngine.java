@@ -0,0 +1,771 @@
+/*
+ * The MIT License
+ *
+ * Copyright © 2026 Robert Poole <Tarquin.AZ@gmail.com>.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tungsten.types.transforms;
+
+import tungsten.types.numerics.impl.Pi;
+import tungsten.types.numerics.impl.RealImpl;
+import tungsten.types.util.LRUCache;
+import tungsten.types.util.MathUtils;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * An iterative, in-place Fast Fourier Transform engine which operates
+ * on parallel arrays of real and imaginary components, and which accepts
+ * input of any length.
+ * <br>
+ * If the length N factors completely into 2, 3, and 5, the transform is computed
+ * by the mixed-radix Cooley-Tukey algorithm: the input is first permuted into
+ * digit-reversed order, after which successive radix-2, radix-3, and radix-5
+ * butterfly stages are applied in place.  For any other length, Bluestein's
+ * chirp-z algorithm re-expresses the DFT as a convolution, which is computed
+ * with radix-2 transforms of at least 2N&minus;1 points.  Either way, the result
+ * is the exact DFT of the N input points; no zero-padding of the input is required.
+ * <br>
+ * Two data paths are provided: one over {@code double[]} arrays, suitable for
+ * computations at {@link MathContext#DECIMAL64} precision or lower, and one over
+ * {@code BigDecimal[]} arrays for arbitrary precision.  The twiddle factors for
+ * a given transform size and {@link MathContext} are computed once and cached,
+ * as are the digit-reversal permutation and the chirp used by Bluestein's algorithm.
+ * <br>
+ * Transforms of no more than {@link #SEQUENTIAL_CUTOFF} points are computed
+ * sequentially.  For larger transforms, the first stages are computed as
+ * independent sub-transforms no larger than the cutoff size, and later stages are
+ * divided into ranges of butterflies; in both cases, the work is distributed using
+ * the common {@link ForkJoinPool}.
+ * <br>
+ * All transforms are unnormalized; the caller is responsible for scaling
+ * the result of an inverse transform by 1/N.
+ *
+ * @author Robert Poole, <a href="mailto:tarquin@alum.mit.edu">MIT alumni e-mail</a>
+ *   or <a href="mailto:Tarquin.AZ@gmail.com">Gmail</a>
+ * @since 1.5
+ * @see <a href="https://en.wikipedia.org/wiki/Cooley%E2%80%93Tukey_FFT_algorithm">the Wikipedia article on the Cooley-Tukey algorithm</a>
+ * @see <a href="https://en.wikipedia.org/wiki/Chirp_Z-transform#Bluestein's_algorithm">the Wikipedia article on Bluestein's algorithm</a>
+ */
+public final class FFTEngine {
+    /**
+     * The {@link String} representing the System property which sets the size
+     * of the largest transform (or sub-transform) to be computed sequentially.
+     */
+    public static final String SEQUENTIAL_CUTOFF = "tungsten.types.transforms.FFTEngine.sequentialCutoff";
+    private static final int CUTOFF = Math.max(2, Integer.getInteger(SEQUENTIAL_CUTOFF, 1024));
+    private static final int[] SUPPORTED_RADICES = {2, 3, 5};
+    private static final int CACHE_SIZE = 32;
+    private static final Map<TableKey, TwiddleTable> twiddleCache =
+            Collections.synchronizedMap(new LRUCache<>(CACHE_SIZE));
+    private static final Map<Integer, Schedule> scheduleCache =
+            Collections.synchronizedMap(new LRUCache<>(CACHE_SIZE));
+    private static final Map<TableKey, Chirp> chirpCache =
+            Collections.synchronizedMap(new LRUCache<>(CACHE_SIZE));
+
+    private FFTEngine() {
+        // static methods only
+    }
+
+    /**
+     * Compute the FFT of the given data in place using {@code double} arithmetic.
+     * @param re      the real components of the data
+     * @param im      the imaginary components of the data
+     * @param inverse if true, compute the (unnormalized) inverse transform
+     * @throws IllegalArgumentException if the arrays differ in length
+     */
+    public static void transform(double[] re, double[] im, boolean inverse) {
+        checkLength(re.length, im.length);
+        final int n = re.length;
+        if (n < 2) return;
+        if (isSmooth(n)) {
+            mixedRadix(re, im, schedule(n), twiddles(n, null), inverse);
+        } else {
+            final Chirp chirp = chirp(n, null);
+            bluestein(re, im, chirp, new double[chirp.m()], new double[chirp.m()], inverse);
+        }
+    }
+
+    /**
+     * Compute the FFT of the given data in place using {@link BigDecimal} arithmetic.
+     * @param re      the real components of the data
+     * @param im      the imaginary components of the data
+     * @param mctx    the {@link MathContext} governing all arithmetic
+     * @param inverse if true, compute the (unnormalized) inverse transform
+     * @throws IllegalArgumentException if the arrays differ in length,
+     *   or if {@code mctx} has unlimited precision
+     */
+    public static void transform(BigDecimal[] re, BigDecimal[] im, MathContext mctx, boolean inverse) {
+        checkLength(re.length, im.length);
+        if (mctx.getPrecision() == 0) {
+            throw new IllegalArgumentException("FFT requires a MathContext with finite precision");
+        }
+        final int n = re.length;
+        if (n < 2) return;
+        if (isSmooth(n)) {
+            mixedRadix(re, im, schedule(n), twiddles(n, mctx), mctx, inverse);
+        } else {
+            final Chirp chirp = chirp(n, bluesteinContext(mctx));
+            bluestein(re, im, chirp, new BigDecimal[chirp.m()], new BigDecimal[chirp.m()], mctx, inverse);
+        }
+    }
+
+    /**
+     * Determine whether a transform of the given length can be computed
+     * directly by the mixed-radix algorithm, i.e., without resorting to
+     * Bluestein's algorithm.
+     * @param length the number of points in the transform
+     * @return true if {@code length} is positive and has no prime factors other than 2, 3, and 5
+     */
+    public static boolean isSmooth(int length) {
+        if (length <= 0) return false;
+        for (int radix : SUPPORTED_RADICES) {
+            while (length % radix == 0) length /= radix;
+        }
+        return length == 1;
+    }
+
+    /**
+     * Find the smallest length no less than the given length for which
+     * a transform can be computed by the mixed-radix algorithm.
+     * This is useful for choosing the size of zero-padded transforms,
+     * e.g., for convolution.
+     * @param minimum the minimum length
+     * @return the smallest integer &ge;&nbsp;{@code minimum} with no prime factors other than 2, 3, and 5
+     */
+    public static int nextSmoothLength(int minimum) {
+        int candidate = Math.max(1, minimum);
+        while (!isSmooth(candidate)) candidate++;
+        return candidate;
+    }
+
+    private static void checkLength(int reLength, int imLength) {
+        if (reLength != imLength) {
+            throw new IllegalArgumentException("Real and imaginary arrays must have the same length");
+        }
+    }
+
+    /**
+     * The order of the radix stages for a transform of a given length, together with
+     * the digit-reversal permutation that must precede them.  The permutation is stored
+     * as its cycles, so that it can be applied in place.
+     * @param radices the radix of each stage, in order of application
+     * @param perm    for each index, the index of the element which is moved there
+     * @param leaders the least index of each cycle of {@code perm} having length &gt;&nbsp;1
+     */
+    record Schedule(int[] radices, int[] perm, int[] leaders) {}
+
+    static Schedule schedule(int n) {
+        return scheduleCache.computeIfAbsent(n, FFTEngine::computeSchedule);
+    }
+
+    private static Schedule computeSchedule(int n) {
+        int[] radices = new int[32];
+        int count = 0;
+        int remaining = n;
+        for (int radix : SUPPORTED_RADICES) {
+            while (remaining % radix == 0) {
+                radices[count++] = radix;
+                remaining /= radix;
+            }
+        }
+        radices = Arrays.copyOf(radices, count);
+        // the sub-transforms of each stage are interleaved with a stride of that stage's radix,
+        // so the permutation for L = m*r points is built from the permutation for m points
+        int[] perm = new int[n];
+        int size = 1;
+        for (int radix : radices) {
+            for (int q = radix - 1; q >= 0; q--) {
+                for (int i = 0; i < size; i++) {
+                    perm[q * size + i] = q + radix * perm[i];
+                }
+            }
+            size *= radix;
+        }
+        boolean[] visited = new boolean[n];
+        int[] leaders = new int[n];
+        int cycles = 0;
+        for (int i = 0; i < n; i++) {
+            if (visited[i] || perm[i] == i) continue;
+            leaders[cycles++] = i;
+            for (int p = i; !visited[p]; p = perm[p]) visited[p] = true;
+        }
+        return new Schedule(radices, perm, Arrays.copyOf(leaders, cycles));
+    }
+
+    /**
+     * The key for a cached table.  A {@code null} {@link MathContext}
+     * denotes a table of {@code double} values.
+     */
+    private record TableKey(int size, MathContext mctx) {}
+
+    /**
+     * The factors w<sub>k</sub>&nbsp;=&nbsp;e<sup>&minus;2&pi;ik/N</sup>,
+     * stored as cos(2&pi;k/N) and sin(2&pi;k/N).  A stage of length L uses
+     * every (N/L)<sup>th</sup> entry.  If N is a power of 2, only the entries
+     * for 0&nbsp;&le;&nbsp;k&nbsp;&lt;&nbsp;N/2 are needed; otherwise there are N entries.
+     * Only one of the pairs of arrays is populated, depending on the data path.
+     */
+    record TwiddleTable(double[] cos, double[] sin, BigDecimal[] decCos, BigDecimal[] decSin) {}
+
+    static TwiddleTable twiddles(int n, MathContext mctx) {
+        return twiddleCache.computeIfAbsent(new TableKey(n, mctx),
+                key -> mctx == null ? computeTwiddles(n) : computeTwiddles(n, mctx));
+    }
+
+    private static int twiddleCount(int n) {
+        return Integer.bitCount(n) == 1 ? n >>> 1 : n;
+    }
+
+    private static TwiddleTable computeTwiddles(int n) {
+        final int count = twiddleCount(n);
+        double[] cos = new double[count];
+        double[] sin = new double[count];
+        for (int k = 0; k < count; k++) {
+            final double theta = 2.0 * Math.PI * k / n;
+            cos[k] = Math.cos(theta);
+            sin[k] = Math.sin(theta);
+        }
+        return new TwiddleTable(cos, sin, null, null);
+    }
+
+    private static TwiddleTable computeTwiddles(int n, MathContext mctx) {
+        final int count = twiddleCount(n);
+        BigDecimal[] cos = new BigDecimal[count];
+        BigDecimal[] sin = new BigDecimal[count];
+        final MathContext guardCtx = new MathContext(mctx.getPrecision() + 4, mctx.getRoundingMode());
+        final BigDecimal twoPi = Pi.getInstance(guardCtx).asBigDecimal().multiply(BigDecimal.valueOf(2L));
+        // with 8 | N, only the first octant need be computed directly; the rest follow by symmetry
+        final int direct = n % 8 == 0 ? n >>> 3 : n >>> 1;
+        for (int k = 0; k <= direct && k < count; k++) {
+            RealImpl theta = new RealImpl(twoPi.multiply(BigDecimal.valueOf(k))
+                    .divide(BigDecimal.valueOf(n), guardCtx), guardCtx, false);
+            cos[k] = MathUtils.cos(theta).asBigDecimal().round(mctx);
+            sin[k] = MathUtils.sin(theta).asBigDecimal().round(mctx);
+        }
+        final int half = n >>> 1;
+        final int quarter = n >>> 2;
+        for (int k = direct + 1; k < count; k++) {
+            if (k <= quarter && n % 4 == 0) {
+                cos[k] = sin[quarter - k];
+                sin[k] = cos[quarter - k];
+            } else if (k <= half) {
+                cos[k] = cos[half - k].negate();
+                sin[k] = sin[half - k];
+            } else {
+                cos[k] = cos[n - k];
+                sin[k] = sin[n - k].negate();
+            }
+        }
+        return new TwiddleTable(null, null, cos, sin);
+    }
+
+    /**
+     * The data for Bluestein's algorithm for N points: the chirp
+     * c<sub>k</sub>&nbsp;=&nbsp;e<sup>&minus;&pi;ik&sup2;/N</sup> for
+     * 0&nbsp;&le;&nbsp;k&nbsp;&lt;&nbsp;N, and the transform of the
+     * convolution kernel formed from its conjugate, of length M.  The schedule
+     * and twiddle factors of the M-point transforms are retained as well.
+     * As with {@link TwiddleTable}, only one set of arrays is populated.
+     */
+    record Chirp(int m, Schedule schedule, TwiddleTable twiddles,
+                 double[] re, double[] im, double[] kernelRe, double[] kernelIm,
+                 BigDecimal[] decRe, BigDecimal[] decIm, BigDecimal[] decKernelRe, BigDecimal[] decKernelIm) {}
+
+    private static int convolutionLength(int n) {
+        return Integer.highestOneBit(2 * n - 1) << 1;
+    }
+
+    /**
+     * Since the convolution in Bluestein's algorithm accumulates rounding error
+     * over M points, it is computed with guard digits.
+     * @param mctx the {@link MathContext} of the transform
+     * @return the {@link MathContext} for the chirp and the convolution
+     */
+    static MathContext bluesteinContext(MathContext mctx) {
+        return new MathContext(mctx.getPrecision() + 4, mctx.getRoundingMode());
+    }
+
+    static Chirp chirp(int n, MathContext mctx) {
+        return chirpCache.computeIfAbsent(new TableKey(n, mctx),
+                key -> mctx == null ? computeChirp(n) : computeChirp(n, mctx));
+    }
+
+    private static Chirp computeChirp(int n) {
+        final int m = convolutionLength(n);
+        // c_k = w^(k² mod 2N) for the 2N-point twiddle factors w
+        final TwiddleTable table = twiddles(2 * n, null);
+        double[] re = new double[n];
+        double[] im = new double[n];
+        double[] kernelRe = new double[m];
+        double[] kernelIm = new double[m];
+        for (int k = 0; k < n; k++) {
+            final int index = (int) ((long) k * k % (2L * n));
+            re[k] = table.cos()[index];
+            im[k] = -table.sin()[index];
+            kernelRe[k] = re[k];
+            kernelIm[k] = -im[k];
+            if (k > 0) {
+                kernelRe[m - k] = re[k];
+                kernelIm[m - k] = -im[k];
+            }
+        }
+        final Schedule schedule = schedule(m);
+        final TwiddleTable twiddles = twiddles(m, null);
+        mixedRadix(kernelRe, kernelIm, schedule, twiddles, false);
+        return new Chirp(m, schedule, twiddles, re, im, kernelRe, kernelIm, null, null, null, null);
+    }
+
+    private static Chirp computeChirp(int n, MathContext mctx) {
+        final int m = convolutionLength(n);
+        final TwiddleTable table = twiddles(2 * n, mctx);
+        BigDecimal[] re = new BigDecimal[n];
+        BigDecimal[] im = new BigDecimal[n];
+        BigDecimal[] kernelRe = new BigDecimal[m];
+        BigDecimal[] kernelIm = new BigDecimal[m];
+        Arrays.fill(kernelRe, BigDecimal.ZERO);
+        Arrays.fill(kernelIm, BigDecimal.ZERO);
+        for (int k = 0; k < n; k++) {
+            final int index = (int) ((long) k * k % (2L * n));
+            re[k] = table.decCos()[index];
+            im[k] = table.decSin()[index].negate();
+            kernelRe[k] = re[k];
+            kernelIm[k] = table.decSin()[index];
+            if (k > 0) {
+                kernelRe[m - k] = re[k];
+                kernelIm[m - k] = table.decSin()[index];
+            }
+        }
+        final Schedule schedule = schedule(m);
+        final TwiddleTable twiddles = twiddles(m, mctx);
+        mixedRadix(kernelRe, kernelIm, schedule, twiddles, mctx, false);
+        return new Chirp(m, schedule, twiddles, null, null, null, null, re, im, kernelRe, kernelIm);
+    }
+
+    /**
+     * Compute a DFT of arbitrary length N using Bluestein's algorithm.  Since
+     * jk&nbsp;=&nbsp;(j&sup2;&nbsp;+&nbsp;k&sup2;&nbsp;&minus;&nbsp;(k&minus;j)&sup2;)/2,
+     * X<sub>k</sub>&nbsp;=&nbsp;c<sub>k</sub>&nbsp;&sum;<sub>j</sub>&nbsp;(x<sub>j</sub>c<sub>j</sub>)&nbsp;c&#x0304;<sub>k&minus;j</sub>,
+     * a convolution which is computed with radix-2 transforms.  The inverse
+     * transform is obtained by conjugating the input and output.
+     * @param re      the real components of the data
+     * @param im      the imaginary components of the data
+     * @param chirp   the chirp for N points
+     * @param aRe     scratch space of length M
+     * @param aIm     scratch space of length M
+     * @param inverse if true, compute the inverse transform
+     */
+    static void bluestein(double[] re, double[] im, Chirp chirp, double[] aRe, double[] aIm, boolean inverse) {
+        final int n = re.length;
+        final int m = chirp.m();
+        Arrays.fill(aRe, n, m, 0.0);
+        Arrays.fill(aIm, n, m, 0.0);
+        final double sign = inverse ? -1.0 : 1.0;
+        for (int k = 0; k < n; k++) {
+            final double xIm = sign * im[k];
+            aRe[k] = re[k] * chirp.re()[k] - xIm * chirp.im()[k];
+            aIm[k] = re[k] * chirp.im()[k] + xIm * chirp.re()[k];
+        }
+        mixedRadix(aRe, aIm, chirp.schedule(), chirp.twiddles(), false);
+        for (int k = 0; k < m; k++) {
+            final double pRe = aRe[k] * chirp.kernelRe()[k] - aIm[k] * chirp.kernelIm()[k];
+            final double pIm = aRe[k] * chirp.kernelIm()[k] + aIm[k] * chirp.kernelRe()[k];
+            aRe[k] = pRe;
+            aIm[k] = pIm;
+        }
+        mixedRadix(aRe, aIm, chirp.schedule(), chirp.twiddles(), true);
+        for (int k = 0; k < n; k++) {
+            final double cRe = aRe[k] / m;
+            final double cIm = aIm[k] / m;
+            re[k] = cRe * chirp.re()[k] - cIm * chirp.im()[k];
+            im[k] = sign * (cRe * chirp.im()[k] + cIm * chirp.re()[k]);
+        }
+    }
+
+    static void bluestein(BigDecimal[] re, BigDecimal[] im, Chirp chirp, BigDecimal[] aRe, BigDecimal[] aIm,
+                          MathContext mctx, boolean inverse) {
+        final int n = re.length;
+        final MathContext guardCtx = bluesteinContext(mctx);
+        final int m = chirp.m();
+        Arrays.fill(aRe, n, m, BigDecimal.ZERO);
+        Arrays.fill(aIm, n, m, BigDecimal.ZERO);
+        for (int k = 0; k < n; k++) {
+            final BigDecimal xIm = inverse ? im[k].negate() : im[k];
+            aRe[k] = re[k].multiply(chirp.decRe()[k]).subtract(xIm.multiply(chirp.decIm()[k]), guardCtx);
+            aIm[k] = re[k].multiply(chirp.decIm()[k]).add(xIm.multiply(chirp.decRe()[k]), guardCtx);
+        }
+        mixedRadix(aRe, aIm, chirp.schedule(), chirp.twiddles(), guardCtx, false);
+        for (int k = 0; k < m; k++) {
+            final BigDecimal pRe = aRe[k].multiply(chirp.decKernelRe()[k])
+                    .subtract(aIm[k].multiply(chirp.decKernelIm()[k]), guardCtx);
+            final BigDecimal pIm = aRe[k].multiply(chirp.decKernelIm()[k])
+                    .add(aIm[k].multiply(chirp.decKernelRe()[k]), guardCtx);
+            aRe[k] = pRe;
+            aIm[k] = pIm;
+        }
+        mixedRadix(aRe, aIm, chirp.schedule(), chirp.twiddles(), guardCtx, true);
+        final BigDecimal scale = BigDecimal.valueOf(m);
+        for (int k = 0; k < n; k++) {
+            final BigDecimal cRe = aRe[k].divide(scale, guardCtx);
+            final BigDecimal cIm = aIm[k].divide(scale, guardCtx);
+            re[k] = cRe.multiply(chirp.decRe()[k]).subtract(cIm.multiply(chirp.decIm()[k]), mctx);
+            final BigDecimal yIm = cRe.multiply(chirp.decIm()[k]).add(cIm.multiply(chirp.decRe()[k]), mctx);
+            im[k] = inverse ? yIm.negate() : yIm;
+        }
+    }
+
+    static void mixedRadix(double[] re, double[] im, Schedule schedule, TwiddleTable twiddles, boolean inverse) {
+        new DoubleKernel(re, im, schedule, twiddles, inverse).run();
+    }
+
+    static void mixedRadix(BigDecimal[] re, BigDecimal[] im, Schedule schedule, TwiddleTable twiddles,
+                           MathContext mctx, boolean inverse) {
+        new DecimalKernel(re, im, schedule, twiddles, mctx, inverse).run();
+    }
+
+    /**
+     * The schedule of a mixed-radix FFT, independent of the data representation.
+     */
+    private abstract static class Kernel {
+        protected final int n;
+        protected final Schedule schedule;
+
+        protected Kernel(int n, Schedule schedule) {
+            this.n = n;
+            this.schedule = schedule;
+        }
+
+        /**
+         * Move the element at one index to another.
+         * @param to   the destination index
+         * @param from the source index
+         */
+        protected abstract void move(int to, int from);
+
+        /**
+         * Save the element at the given index for a later {@link #restore(int)}.
+         * @param index the index of the element to save
+         */
+        protected abstract void save(int index);
+
+        /**
+         * Store the element last saved with {@link #save(int)} at the given index.
+         * @param index the destination index
+         */
+        protected abstract void restore(int index);
+
+        /**
+         * Compute a range of the N/r butterflies making up one radix-r stage of the transform.
+         * Butterfly b of a stage which produces sub-transforms of length L&nbsp;=&nbsp;mr combines
+         * the r elements spaced m apart starting at index (b&nbsp;div&nbsp;m)&middot;L&nbsp;+&nbsp;(b&nbsp;mod&nbsp;m).
+         * @param radix the radix r of this stage
+         * @param len   the length L of the sub-transforms produced by this stage
+         * @param from  the index of the first butterfly, inclusive
+         * @param to    the index of the last butterfly, exclusive
+         */
+        protected abstract void butterflies(int radix, int len, int from, int to);
+
+        void run() {
+            final int[] perm = schedule.perm();
+            for (int leader : schedule.leaders()) {
+                save(leader);
+                int p = leader;
+                while (perm[p] != leader) {
+                    move(p, perm[p]);
+                    p = perm[p];
+                }
+                restore(p);
+            }
+            final int[] radices = schedule.radices();
+            if (n <= CUTOFF) {
+                int len = 1;
+                for (int radix : radices) {
+                    len *= radix;
+                    butterflies(radix, len, 0, n / radix);
+                }
+                return;
+            }
+            // the leading stages whose sub-transforms fit within the cutoff are independent by block
+            int blockStages = 0;
+            int blockSize = 1;
+            while (blockSize * radices[blockStages] <= CUTOFF) {
+                blockSize *= radices[blockStages++];
+            }
+            final ForkJoinPool pool = ForkJoinPool.commonPool();
+            if (blockStages > 0) pool.invoke(new BlockTask(this, blockStages, blockSize, 0, n / blockSize));
+            int len = blockSize;
+            for (int stage = blockStages; stage < radices.length; stage++) {
+                final int radix = radices[stage];
+                len *= radix;
+                pool.invoke(new StageTask(this, radix, len, 0, n / radix));
+            }
+        }
+    }
+
+    /**
+     * Computes the leading stages of a transform, during which each
+     * block of {@code blockSize} elements is an independent sub-transform.
+     */
+    private static class BlockTask extends RecursiveAction {
+        private final Kernel kernel;
+        private final int stages, blockSize;
+        private final int fromBlock, toBlock;
+
+        BlockTask(Kernel kernel, int stages, int blockSize, int fromBlock, int toBlock) {
+            this.kernel = kernel;
+            this.stages = stages;
+            this.blockSize = blockSize;
+            this.fromBlock = fromBlock;
+            this.toBlock = toBlock;
+        }
+
+        @Override
+        protected void compute() {
+            if (toBlock - fromBlock == 1) {
+                int len = 1;
+                for (int stage = 0; stage < stages; stage++) {
+                    final int radix = kernel.schedule.radices()[stage];
+                    final int units = blockSize / radix;
+                    len *= radix;
+                    kernel.butterflies(radix, len, fromBlock * units, (fromBlock + 1) * units);
+                }
+                return;
+            }
+            final int mid = (fromBlock + toBlock) >>> 1;
+            invokeAll(new BlockTask(kernel, stages, blockSize, fromBlock, mid),
+                    new BlockTask(kernel, stages, blockSize, mid, toBlock));
+        }
+    }
+
+    /**
+     * Computes a range of butterflies within a single stage above the cutoff size.
+     */
+    private static class StageTask extends RecursiveAction {
+        private final Kernel kernel;
+        private final int radix, len;
+        private final int from, to;
+
+        StageTask(Kernel kernel, int radix, int len, int from, int to) {
+            this.kernel = kernel;
+            this.radix = radix;
+            this.len = len;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if ((to - from) * radix <= CUTOFF) {
+                kernel.butterflies(radix, len, from, to);
+                return;
+            }
+            final int mid = (from + to) >>> 1;
+            invokeAll(new StageTask(kernel, radix, len, from, mid), new StageTask(kernel, radix, len, mid, to));
+        }
+    }
+
+    private static final class DoubleKernel extends Kernel {
+        private final double[] re, im;
+        private final double[] cos, sin;
+        private final double sign;
+        private double savedRe, savedIm;
+
+        DoubleKernel(double[] re, double[] im, Schedule schedule, TwiddleTable twiddles, boolean inverse) {
+            super(re.length, schedule);
+            this.re = re;
+            this.im = im;
+            this.cos = twiddles.cos();
+            this.sin = twiddles.sin();
+            this.sign = inverse ? 1.0 : -1.0;
+        }
+
+        @Override
+        protected void move(int to, int from) {
+            re[to] = re[from];
+            im[to] = im[from];
+        }
+
+        @Override
+        protected void save(int index) {
+            savedRe = re[index];
+            savedIm = im[index];
+        }
+
+        @Override
+        protected void restore(int index) {
+            re[index] = savedRe;
+            im[index] = savedIm;
+        }
+
+        @Override
+        protected void butterflies(int radix, int len, int from, int to) {
+            final int m = len / radix;
+            final int stride = n / len;
+            final double[] tRe = radix == 2 ? null : new double[radix];
+            final double[] tIm = radix == 2 ? null : new double[radix];
+            int group = from / m;
+            int j = from - group * m;
+            for (int b = from; b < to; b++) {
+                final int i = group * len + j;
+                if (radix == 2) {
+                    final int k = i + m;
+                    final double wr = cos[j * stride];
+                    final double wi = sign * sin[j * stride];
+                    final double tr = wr * re[k] - wi * im[k];
+                    final double ti = wr * im[k] + wi * re[k];
+                    re[k] = re[i] - tr;
+                    im[k] = im[i] - ti;
+                    re[i] += tr;
+                    im[i] += ti;
+                } else {
+                    tRe[0] = re[i];
+                    tIm[0] = im[i];
+                    for (int q = 1; q < radix; q++) {
+                        final int k = i + q * m;
+                        final int w = q * j * stride;
+                        final double wr = cos[w];
+                        final double wi = sign * sin[w];
+                        tRe[q] = wr * re[k] - wi * im[k];
+                        tIm[q] = wr * im[k] + wi * re[k];
+                    }
+                    // a direct DFT of the r twiddled values, using the r-th roots of unity
+                    for (int p = 0; p < radix; p++) {
+                        double sumRe = tRe[0];
+                        double sumIm = tIm[0];
+                        for (int q = 1; q < radix; q++) {
+                            final int w = (p * q % radix) * (n / radix);
+                            final double wr = cos[w];
+                            final double wi = sign * sin[w];
+                            sumRe += wr * tRe[q] - wi * tIm[q];
+                            sumIm += wr * tIm[q] + wi * tRe[q];
+                        }
+                        re[i + p * m] = sumRe;
+                        im[i + p * m] = sumIm;
+                    }
+                }
+                if (++j == m) {
+                    j = 0;
+                    group++;
+                }
+            }
+        }
+    }
+
+    private static final class DecimalKernel extends Kernel {
+        private final BigDecimal[] re, im;
+        private final BigDecimal[] cos, sin;
+        private final MathContext mctx;
+        private final boolean inverse;
+        private BigDecimal savedRe, savedIm;
+
+        DecimalKernel(BigDecimal[] re, BigDecimal[] im, Schedule schedule, TwiddleTable twiddles,
+                      MathContext mctx, boolean inverse) {
+            super(re.length, schedule);
+            this.re = re;
+            this.im = im;
+            this.cos = twiddles.decCos();
+            this.sin = twiddles.decSin();
+            this.mctx = mctx;
+            this.inverse = inverse;
+        }
+
+        @Override
+        protected void move(int to, int from) {
+            re[to] = re[from];
+            im[to] = im[from];
+        }
+
+        @Override
+        protected void save(int index) {
+            savedRe = re[index];
+            savedIm = im[index];
+        }
+
+        @Override
+        protected void restore(int index) {
+            re[index] = savedRe;
+            im[index] = savedIm;
+        }
+
+        private BigDecimal twiddleIm(int index) {
+            return inverse ? sin[index] : sin[index].negate();
+        }
+
+        @Override
+        protected void butterflies(int radix, int len, int from, int to) {
+            final int m = len / radix;
+            final int stride = n / len;
+            final BigDecimal[] tRe = radix == 2 ? null : new BigDecimal[radix];
+            final BigDecimal[] tIm = radix == 2 ? null : new BigDecimal[radix];
+            int group = from / m;
+            int j = from - group * m;
+            for (int b = from; b < to; b++) {
+                final int i = group * len + j;
+                if (radix == 2) {
+                    final int k = i + m;
+                    final BigDecimal wr = cos[j * stride];
+                    final BigDecimal wi = twiddleIm(j * stride);
+                    // the products are exact, so each component of w·x[k] is rounded only once
+                    final BigDecimal tr = wr.multiply(re[k]).subtract(wi.multiply(im[k]), mctx);
+                    final BigDecimal ti = wr.multiply(im[k]).add(wi.multiply(re[k]), mctx);
+                    re[k] = re[i].subtract(tr, mctx);
+                    im[k] = im[i].subtract(ti, mctx);
+                    re[i] = re[i].add(tr, mctx);
+                    im[i] = im[i].add(ti, mctx);
+                } else {
+                    tRe[0] = re[i];
+                    tIm[0] = im[i];
+                    for (int q = 1; q < radix; q++) {
+                        final int k = i + q * m;
+                        final int w = q * j * stride;
+                        final BigDecimal wr = cos[w];
+                        final BigDecimal wi = twiddleIm(w);
+                        tRe[q] = wr.multiply(re[k]).subtract(wi.multiply(im[k]), mctx);
+                        tIm[q] = wr.multiply(im[k]).add(wi.multiply(re[k]), mctx);
+                    }
+                    for (int p = 0; p < radix; p++) {
+                        BigDecimal sumRe = tRe[0];
+                        BigDecimal sumIm = tIm[0];
+                        for (int q = 1; q < radix; q++) {
+                            final int w = (p * q % radix) * (n / radix);
+                            final BigDecimal wr = cos[w];
+                            final BigDecimal wi = twiddleIm(w);
+                            // accumulate exactly, rounding each output once
+                            sumRe = sumRe.add(wr.multiply(tRe[q])).subtract(wi.multiply(tIm[q]));
+                            sumIm = sumIm.add(wr.multiply(tIm[q])).add(wi.multiply(tRe[q]));
+                        }
+                        re[i + p * m] = sumRe.round(mctx);
+                        im[i + p * m] = sumIm.round(mctx);
+                    }
+                }
+                if (++j == m) {
+                    j = 0;
+                    group++;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,390 @@
+/*
+ * The MIT License
+ *
+ * Copyright © 2026 Robert Poole <Tarquin.AZ@gmail.com>.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tungsten.types.transforms;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.Arrays;
+
+/**
+ * A reusable plan for computing Fast Fourier Transforms of a fixed length.
+ * Constructing a plan looks up (or computes) the digit-reversal permutation,
+ * the twiddle factors, and, if needed, the chirp for Bluestein's algorithm, and
+ * allocates any scratch space required; thereafter, repeated transforms of
+ * same-sized windows of data allocate no further arrays.
+ * <br>
+ * In addition to complex-to-complex transforms, a plan can compute the
+ * transform of real-valued input.  Since the DFT of real data is Hermitian,
+ * i.e., X<sub>N&minus;k</sub>&nbsp;=&nbsp;X&#x0305;<sub>k</sub>, only the
+ * N/2&nbsp;+&nbsp;1 values X<sub>0</sub>&hellip;X<sub>N/2</sub> are produced.
+ * For even N, the N real values are packed into N/2 complex values, transformed
+ * with a half-length FFT, and separated using the symmetry, which halves both
+ * memory and work compared to promoting the input to complex values.
+ * <br>
+ * A plan constructed without a {@link MathContext} operates on {@code double[]}
+ * arrays; a plan constructed with one operates on {@code BigDecimal[]} arrays.
+ * As with {@link FFTEngine}, all transforms are unnormalized.
+ * Because a plan owns its scratch space, it is not safe for use by multiple
+ * threads concurrently; each thread should construct its own plan.
+ *
+ * @author Robert Poole, <a href="mailto:tarquin@alum.mit.edu">MIT alumni e-mail</a>
+ *   or <a href="mailto:Tarquin.AZ@gmail.com">Gmail</a>
+ * @since 1.5
+ */
+public final class FFTPlan {
+    private static final BigDecimal HALF = BigDecimal.valueOf(5L, 1);
+    private final int length;
+    private final MathContext mctx;
+    private final FFTEngine.Schedule schedule;
+    private final FFTEngine.TwiddleTable twiddles;
+    private final FFTEngine.Chirp chirp;
+    private double[] scratchRe, scratchIm;
+    private BigDecimal[] decScratchRe, decScratchIm;
+    // state for real-valued transforms, created on first use
+    private FFTPlan halfPlan;
+    private FFTEngine.TwiddleTable realTwiddles;
+    private double[] packedRe, packedIm;
+    private BigDecimal[] decPackedRe, decPackedIm;
+
+    /**
+     * Construct a plan for transforms of {@code double} values.
+     * @param length the number of points in the transform
+     * @throws IllegalArgumentException if {@code length} is not positive
+     */
+    public FFTPlan(int length) {
+        this(length, null);
+    }
+
+    /**
+     * Construct a plan for transforms of {@link BigDecimal} values.
+     * @param length the number of points in the transform
+     * @param mctx   the {@link MathContext} governing all arithmetic, or
+     *               {@code null} for transforms of {@code double} values
+     * @throws IllegalArgumentException if {@code length} is not positive,
+     *   or if {@code mctx} has unlimited precision
+     */
+    public FFTPlan(int length, MathContext mctx) {
+        if (length <= 0) throw new IllegalArgumentException("Transform length must be positive");
+        if (mctx != null && mctx.getPrecision() == 0) {
+            throw new IllegalArgumentException("FFT requires a MathContext with finite precision");
+        }
+        this.length = length;
+        this.mctx = mctx;
+        if (length < 2) {
+            schedule = null;
+            twiddles = null;
+            chirp = null;
+        } else if (FFTEngine.isSmooth(length)) {
+            schedule = FFTEngine.schedule(length);
+            twiddles = FFTEngine.twiddles(length, mctx);
+            chirp = null;
+        } else {
+            schedule = null;
+            twiddles = null;
+            chirp = FFTEngine.chirp(length, mctx == null ? null : FFTEngine.bluesteinContext(mctx));
+            if (mctx == null) {
+                scratchRe = new double[chirp.m()];
+                scratchIm = new double[chirp.m()];
+            } else {
+                decScratchRe = new BigDecimal[chirp.m()];
+                decScratchIm = new BigDecimal[chirp.m()];
+            }
+        }
+    }
+
+    /**
+     * Obtain the length of the transforms computed by this plan.
+     * @return the number of points N
+     */
+    public int length() {
+        return length;
+    }
+
+    /**
+     * Obtain the {@link MathContext} of this plan.
+     * @return the {@link MathContext} governing arithmetic, or {@code null}
+     *   if this plan operates on {@code double} values
+     */
+    public MathContext getMathContext() {
+        return mctx;
+    }
+
+    /**
+     * Obtain the number of complex values produced by {@link #realTransform(double[], double[], double[])}.
+     * @return N/2&nbsp;+&nbsp;1, rounded down
+     */
+    public int halfLength() {
+        return length / 2 + 1;
+    }
+
+    /**
+     * Compute the FFT of the given data in place.
+     * @param re      the real components of the data
+     * @param im      the imaginary components of the data
+     * @param inverse if true, compute the (unnormalized) inverse transform
+     */
+    public void transform(double[] re, double[] im, boolean inverse) {
+        requireDouble();
+        checkLength(re.length, length);
+        checkLength(im.length, length);
+        if (length < 2) return;
+        if (chirp == null) {
+            FFTEngine.mixedRadix(re, im, schedule, twiddles, inverse);
+        } else {
+            FFTEngine.bluestein(re, im, chirp, scratchRe, scratchIm, inverse);
+        }
+    }
+
+    /**
+     * Compute the FFT of the given data in place.
+     * @param re      the real components of the data
+     * @param im      the imaginary components of the data
+     * @param inverse if true, compute the (unnormalized) inverse transform
+     */
+    public void transform(BigDecimal[] re, BigDecimal[] im, boolean inverse) {
+        requireDecimal();
+        checkLength(re.length, length);
+        checkLength(im.length, length);
+        if (length < 2) return;
+        if (chirp == null) {
+            FFTEngine.mixedRadix(re, im, schedule, twiddles, mctx, inverse);
+        } else {
+            FFTEngine.bluestein(re, im, chirp, decScratchRe, decScratchIm, mctx, inverse);
+        }
+    }
+
+    /**
+     * Compute the FFT of real-valued data, producing the non-redundant half of the spectrum.
+     * @param x  the N real data values
+     * @param re an array of length {@link #halfLength()} to receive the real components of the result
+     * @param im an array of length {@link #halfLength()} to receive the imaginary components of the result
+     */
+    public void realTransform(double[] x, double[] re, double[] im) {
+        requireDouble();
+        checkLength(x.length, length);
+        checkLength(re.length, halfLength());
+        checkLength(im.length, halfLength());
+        prepareReal();
+        if (halfPlan == null) {
+            // odd N (or N = 1) cannot be packed, so transform the full complex sequence
+            System.arraycopy(x, 0, packedRe, 0, length);
+            Arrays.fill(packedIm, 0.0);
+            transform(packedRe, packedIm, false);
+            System.arraycopy(packedRe, 0, re, 0, halfLength());
+            System.arraycopy(packedIm, 0, im, 0, halfLength());
+            return;
+        }
+        final int h = length >>> 1;
+        for (int k = 0; k < h; k++) {
+            packedRe[k] = x[2 * k];
+            packedIm[k] = x[2 * k + 1];
+        }
+        halfPlan.transform(packedRe, packedIm, false);
+        for (int k = 0; k <= h; k++) {
+            final int index = k == h ? 0 : k;
+            final int mirror = k == 0 ? 0 : h - k;
+            // E = (Z[k] + conj(Z[h-k]))/2 and O = (Z[k] - conj(Z[h-k]))/2i
+            final double eRe = 0.5 * (packedRe[index] + packedRe[mirror]);
+            final double eIm = 0.5 * (packedIm[index] - packedIm[mirror]);
+            final double oRe = 0.5 * (packedIm[index] + packedIm[mirror]);
+            final double oIm = -0.5 * (packedRe[index] - packedRe[mirror]);
+            // X[k] = E + w^k O
+            final double wr = k == h ? -1.0 : realTwiddles.cos()[k];
+            final double wi = k == h ? 0.0 : -realTwiddles.sin()[k];
+            re[k] = eRe + wr * oRe - wi * oIm;
+            im[k] = eIm + wr * oIm + wi * oRe;
+        }
+    }
+
+    /**
+     * Compute the (unnormalized) inverse FFT of the non-redundant half of a Hermitian
+     * spectrum, such as that produced by {@link #realTransform(double[], double[], double[])}.
+     * The imaginary components of X<sub>0</sub> and, for even N, X<sub>N/2</sub> are ignored.
+     * @param re the {@link #halfLength()} real components of the spectrum
+     * @param im the {@link #halfLength()} imaginary components of the spectrum
+     * @param x  an array of length N to receive the real-valued result
+     */
+    public void inverseRealTransform(double[] re, double[] im, double[] x) {
+        requireDouble();
+        checkLength(re.length, halfLength());
+        checkLength(im.length, halfLength());
+        checkLength(x.length, length);
+        prepareReal();
+        if (halfPlan == null) {
+            for (int k = 0; k < length; k++) {
+                final boolean mirrored = k >= halfLength();
+                packedRe[k] = re[mirrored ? length - k : k];
+                packedIm[k] = k == 0 ? 0.0 : (mirrored ? -im[length - k] : im[k]);
+            }
+            transform(packedRe, packedIm, true);
+            System.arraycopy(packedRe, 0, x, 0, length);
+            return;
+        }
+        final int h = length >>> 1;
+        for (int k = 0; k < h; k++) {
+            // with a = X[k] and b = conj(X[h-k]), 2E = a + b and 2O = (a - b)w^-k
+            final double aIm = k == 0 ? 0.0 : im[k];
+            final double bIm = k == 0 ? 0.0 : -im[h - k];
+            final double eRe = re[k] + re[h - k];
+            final double eIm = aIm + bIm;
+            final double dRe = re[k] - re[h - k];
+            final double dIm = aIm - bIm;
+            final double wr = realTwiddles.cos()[k];
+            final double wi = realTwiddles.sin()[k];
+            final double oRe = dRe * wr - dIm * wi;
+            final double oIm = dRe * wi + dIm * wr;
+            // Z = 2E + 2iO, which yields N·x under an unnormalized inverse of length N/2
+            packedRe[k] = eRe - oIm;
+            packedIm[k] = eIm + oRe;
+        }
+        halfPlan.transform(packedRe, packedIm, true);
+        for (int k = 0; k < h; k++) {
+            x[2 * k] = packedRe[k];
+            x[2 * k + 1] = packedIm[k];
+        }
+    }
+
+    /**
+     * Compute the FFT of real-valued data, producing the non-redundant half of the spectrum.
+     * @param x  the N real data values
+     * @param re an array of length {@link #halfLength()} to receive the real components of the result
+     * @param im an array of length {@link #halfLength()} to receive the imaginary components of the result
+     */
+    public void realTransform(BigDecimal[] x, BigDecimal[] re, BigDecimal[] im) {
+        requireDecimal();
+        checkLength(x.length, length);
+        checkLength(re.length, halfLength());
+        checkLength(im.length, halfLength());
+        prepareReal();
+        if (halfPlan == null) {
+            System.arraycopy(x, 0, decPackedRe, 0, length);
+            Arrays.fill(decPackedIm, BigDecimal.ZERO);
+            transform(decPackedRe, decPackedIm, false);
+            System.arraycopy(decPackedRe, 0, re, 0, halfLength());
+            System.arraycopy(decPackedIm, 0, im, 0, halfLength());
+            return;
+        }
+        final int h = length >>> 1;
+        for (int k = 0; k < h; k++) {
+            decPackedRe[k] = x[2 * k];
+            decPackedIm[k] = x[2 * k + 1];
+        }
+        halfPlan.transform(decPackedRe, decPackedIm, false);
+        for (int k = 0; k <= h; k++) {
+            final int index = k == h ? 0 : k;
+            final int mirror = k == 0 ? 0 : h - k;
+            final BigDecimal eRe = decPackedRe[index].add(decPackedRe[mirror]).multiply(HALF);
+            final BigDecimal eIm = decPackedIm[index].subtract(decPackedIm[mirror]).multiply(HALF);
+            final BigDecimal oRe = decPackedIm[index].add(decPackedIm[mirror]).multiply(HALF);
+            final BigDecimal oIm = decPackedRe[mirror].subtract(decPackedRe[index]).multiply(HALF);
+            if (k == h) {
+                re[k] = eRe.subtract(oRe, mctx);
+                im[k] = eIm.subtract(oIm, mctx);
+                continue;
+            }
+            final BigDecimal wr = realTwiddles.decCos()[k];
+            final BigDecimal wi = realTwiddles.decSin()[k].negate();
+            // the products are exact, so each component is rounded only once
+            re[k] = eRe.add(wr.multiply(oRe)).subtract(wi.multiply(oIm), mctx);
+            im[k] = eIm.add(wr.multiply(oIm)).add(wi.multiply(oRe), mctx);
+        }
+    }
+
+    /**
+     * Compute the (unnormalized) inverse FFT of the non-redundant half of a Hermitian
+     * spectrum, such as that produced by {@link #realTransform(BigDecimal[], BigDecimal[], BigDecimal[])}.
+     * The imaginary components of X<sub>0</sub> and, for even N, X<sub>N/2</sub> are ignored.
+     * @param re the {@link #halfLength()} real components of the spectrum
+     * @param im the {@link #halfLength()} imaginary components of the spectrum
+     * @param x  an array of length N to receive the real-valued result
+     */
+    public void inverseRealTransform(BigDecimal[] re, BigDecimal[] im, BigDecimal[] x) {
+        requireDecimal();
+        checkLength(re.length, halfLength());
+        checkLength(im.length, halfLength());
+        checkLength(x.length, length);
+        prepareReal();
+        if (halfPlan == null) {
+            for (int k = 0; k < length; k++) {
+                final boolean mirrored = k >= halfLength();
+                decPackedRe[k] = re[mirrored ? length - k : k];
+                decPackedIm[k] = k == 0 ? BigDecimal.ZERO : (mirrored ? im[length - k].negate() : im[k]);
+            }
+            transform(decPackedRe, decPackedIm, true);
+            System.arraycopy(decPackedRe, 0, x, 0, length);
+            return;
+        }
+        final int h = length >>> 1;
+        for (int k = 0; k < h; k++) {
+            final BigDecimal aIm = k == 0 ? BigDecimal.ZERO : im[k];
+            final BigDecimal bIm = k == 0 ? BigDecimal.ZERO : im[h - k].negate();
+            final BigDecimal eRe = re[k].add(re[h - k]);
+            final BigDecimal eIm = aIm.add(bIm);
+            final BigDecimal dRe = re[k].subtract(re[h - k]);
+            final BigDecimal dIm = aIm.subtract(bIm);
+            final BigDecimal wr = realTwiddles.decCos()[k];
+            final BigDecimal wi = realTwiddles.decSin()[k];
+            final BigDecimal oRe = dRe.multiply(wr).subtract(dIm.multiply(wi));
+            final BigDecimal oIm = dRe.multiply(wi).add(dIm.multiply(wr));
+            decPackedRe[k] = eRe.subtract(oIm, mctx);
+            decPackedIm[k] = eIm.add(oRe, mctx);
+        }
+        halfPlan.transform(decPackedRe, decPackedIm, true);
+        for (int k = 0; k < h; k++) {
+            x[2 * k] = decPackedRe[k];
+            x[2 * k + 1] = decPackedIm[k];
+        }
+    }
+
+    private void prepareReal() {
+        if (packedRe != null || decPackedRe != null) return;
+        final boolean packable = length % 2 == 0;
+        final int size = packable ? length >>> 1 : length;
+        if (packable) {
+            halfPlan = new FFTPlan(size, mctx);
+            realTwiddles = FFTEngine.twiddles(length, mctx);
+        }
+        if (mctx == null) {
+            packedRe = new double[size];
+            packedIm = new double[size];
+        } else {
+            decPackedRe = new BigDecimal[size];
+            decPackedIm = new BigDecimal[size];
+        }
+    }
+
+    private void requireDouble() {
+        if (mctx != null) throw new IllegalStateException("This plan operates on BigDecimal values");
+    }
+
+    private void requireDecimal() {
+        if (mctx == null) throw new IllegalStateException("This plan operates on double values");
+    }
+
+    private static void checkLength(int actual, int expected) {
+        if (actual != expected) {
+            throw new IllegalArgumentException("Expected an array of length " + expected + " but got " + actual);
+        }
+    }
+}
@@ -23,38 +23,33 @@
  */
 package tungsten.types.transforms;
 
-import tungsten.types.Numeric;
 import tungsten.types.numerics.ComplexType;
-import tungsten.types.numerics.RealType;
-import tungsten.types.numerics.impl.ComplexPolarImpl;
 import tungsten.types.numerics.impl.ComplexRectImpl;
-import tungsten.types.numerics.impl.Pi;
 import tungsten.types.numerics.impl.RealImpl;
-import tungsten.types.util.MathUtils;
 
 import java.math.BigDecimal;
 import java.math.MathContext;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
-import java.util.concurrent.ForkJoinPool;
-import java.util.concurrent.RecursiveTask;
 import java.util.function.Function;
-import java.util.logging.Level;
-import java.util.logging.Logger;
 
 /**
- * An implementation of FFT which uses recursion and the Fork/Join framework
- * first introduced in Java&nbsp;7.  It requires the following of the input:
- * <ul>
- * <li>The input must have an even number of elements.</li>
- * <li>The input elements must already be instances of {@link ComplexType}.</li>
- * </ul>
- * This work is based heavily on an FFT implementation provided by Princeton.
+ * An implementation of FFT which adapts a {@code List} of complex values
+ * to the in-place, iterative {@link FFTEngine}.  The input is unpacked into
+ * arrays of real and imaginary components, transformed, and repacked.
+ * If the {@link MathContext} of this transform has no more precision than
+ * {@link MathContext#DECIMAL64} and all the input values lie within the range
+ * of a {@code double}, the transform is computed using {@code double} arithmetic;
+ * otherwise, it is computed using {@link BigDecimal} arithmetic.
+ * <br>
+ * The input may be of any length; no zero-padding is performed, so the result
+ * is always the exact DFT of the given values.
+ * The original version of this class was based heavily on an FFT implementation provided by Princeton.
  *
  * @author Robert Poole, <a href="mailto:tarquin@alum.mit.edu">MIT alumni e-mail</a> or
  *   <a href="mailto:Tarquin.AZ@gmail.com">Gmail</a>
  * @see <a href="https://introcs.cs.princeton.edu/java/97data/FFT.java.html">Princeton's FFT implementation</a>
+ * @see FFTEngine
  */
 public class FastFourierTransform implements Function<List<ComplexType>, List<ComplexType>> {
     private final MathContext mctx;
@@ -77,112 +72,59 @@ public class FastFourierTransform implements Function<List<ComplexType>, List<Co
      */
     @Override
     public List<ComplexType> apply(List<ComplexType> t) {
-        final int targetSize = (int) MathUtils.smallestPowerOf2GTE(t.size());
-        if (targetSize > t.size()) {
-            Logger.getLogger(FastFourierTransform.class.getName()).log(Level.WARNING,
-                    "Input list of values length {0} is not a power of 2. Padding with zeros.", t.size());
-            // pad with zeroes
-            ArrayList<ComplexType> padded = new ArrayList<>(t);
-            padded.addAll(Collections.nCopies(targetSize - t.size(), new ComplexRectImpl(new RealImpl(BigDecimal.ZERO, mctx))));
-            t = padded;
-            Logger.getLogger(FastFourierTransform.class.getName()).log(Level.INFO,
-                    "Padded input to {0} samples.", targetSize);
+        final int n = t.size();
+        BigDecimal[] re = new BigDecimal[n];
+        BigDecimal[] im = new BigDecimal[n];
+        boolean fitsInDouble = admitsDoubles(mctx);
+        for (int k = 0; k < n; k++) {
+            ComplexType z = t.get(k);
+            re[k] = z.real().asBigDecimal();
+            im[k] = z.imaginary().asBigDecimal();
+            fitsInDouble = fitsInDouble && fitsInDouble(re[k]) && fitsInDouble(im[k]);
         }
-        ForkJoinPool commonPool = ForkJoinPool.commonPool();
-        FFTRecursiveTask task = new FFTRecursiveTask(t);
-        return commonPool.invoke(task);
-    }
-    
-    private class FFTRecursiveTask extends RecursiveTask<List<ComplexType>> {
-        private final List<ComplexType> source;
-        
-        private FFTRecursiveTask(List<ComplexType> source) {
-            this.source = source;
-        }
-
-        @Override
-        protected List<ComplexType> compute() {
-            int length = source.size();
-            if (length == 1) {
-                // singletonList is still slightly more performant than List.of
-                // so leaving this with Collections.singletonList() since this is performance critical
-                // see https://dzone.com/articles/singleton-list-showdown-collectionssingletonlist-v
-                return Collections.singletonList(source.get(0));
-            } else if (length == 2) {
-                // this should be slightly more efficient
-                // subList() gives a view of the incoming list and avoids one level of recursion
-                return combine(source.subList(0, 1), source.subList(1, 2));
-            } else if (length % 2 != 0) {
-                throw new IllegalStateException("Fourier transform requires an even-length List");
+        if (fitsInDouble) {
+            double[] dre = new double[n];
+            double[] dim = new double[n];
+            for (int k = 0; k < n; k++) {
+                dre[k] = re[k].doubleValue();
+                dim[k] = im[k].doubleValue();
             }
-            FFTRecursiveTask[] tasks = createSubtasks();
-
-            // invokeAll() is convenient (especially since it has a handy overloaded version
-            // that takes 2 args for tasks where you split the workload for recursion)
-            // but it makes little sense to do the equivalent of fork(); join(); and then
-            // call join() later to extract the result!
-//            ForkJoinTask.invokeAll(tasks[0], tasks[1]);
-
-            // joins should be performed innermost-first, so forking in reverse order
-            tasks[1].fork();  tasks[0].fork();
-
-            return combine(tasks[0].join(), tasks[1].join());
-        }
-        
-        private FFTRecursiveTask[] createSubtasks() {
-            SplitTuple split = splitList(source);
-            List<ComplexType> q = split.evenElements();  // even
-            List<ComplexType> r = split.oddElements();  // odd
-            return new FFTRecursiveTask[] { new FFTRecursiveTask(q), new FFTRecursiveTask(r) };
+            FFTEngine.transform(dre, dim, false);
+            for (int k = 0; k < n; k++) {
+                re[k] = BigDecimal.valueOf(dre[k]);
+                im[k] = BigDecimal.valueOf(dim[k]);
+            }
+        } else {
+            FFTEngine.transform(re, im, mctx, false);
         }
-    }
-    
-    private List<ComplexType> combine(List<ComplexType> q, List<ComplexType> r) {
-        assert q.size() == r.size();
-        final RealType one = new RealImpl(BigDecimal.ONE, mctx, true);
-        final RealType negtwo = new RealImpl("-2", mctx);  // defaults to exact = true
-        RealType negtwopiovern = (RealType) Pi.getInstance(mctx).multiply(negtwo)
-                .divide(new RealImpl(BigDecimal.valueOf(2L * q.size())));
-        List<ComplexType> result = new ArrayList<>(q.size() * 2);
-        
-        for (int i = 0; i < q.size(); i++) {
-            RealType kth = (RealType) negtwopiovern.multiply(new RealImpl(BigDecimal.valueOf(i), mctx, true));
-            ComplexType wk = new ComplexPolarImpl(one, kth);
-            Numeric wkRprod = wk.multiply(r.get(i));
-            result.set(i, (ComplexType) q.get(i).add(wkRprod));
-            result.set(i + q.size(), (ComplexType) q.get(i).subtract(wkRprod));
+        List<ComplexType> result = new ArrayList<>(n);
+        for (int k = 0; k < n; k++) {
+            result.add(new ComplexRectImpl(new RealImpl(re[k].round(mctx), mctx, false),
+                    new RealImpl(im[k].round(mctx), mctx, false), false));
         }
         return result;
     }
-    
-    private SplitTuple splitList(List<ComplexType> source) {
-        List<ComplexType> evenElements;
-        List<ComplexType> oddElements;
-        final int n = source.size() / 2;
-        evenElements = new ArrayList<>(n);
-        oddElements  = new ArrayList<>(n);
-        
-        for (int i = 0; i < source.size(); i++) {
-            switch (i % 2) {
-                case 0:
-                    evenElements.add(source.get(i));
-                    break;
-                case 1:
-                    oddElements.add(source.get(i));
-                    break;
-            }
-        }
-        assert evenElements.size() == oddElements.size();
-        return new SplitTuple(evenElements, oddElements);
+
+    /**
+     * Determine whether a transform computed using the given {@link MathContext}
+     * may be computed with {@code double} arithmetic.
+     * @param mctx the {@link MathContext} of the transform
+     * @return true if {@code mctx} has finite precision no greater than that of {@link MathContext#DECIMAL64}
+     */
+    static boolean admitsDoubles(MathContext mctx) {
+        return mctx.getPrecision() > 0 && mctx.getPrecision() <= MathContext.DECIMAL64.getPrecision();
     }
 
-    private record SplitTuple(List<ComplexType> evenElements, List<ComplexType> oddElements) {
-        @Override
-        public boolean equals(Object o) {
-            if (this == o) return true;
-            if (o == null || getClass() != o.getClass()) return false;
-            SplitTuple that = (SplitTuple) o;
-            return evenElements.equals(that.evenElements) && oddElements.equals(that.oddElements);
-        }
+    /**
+     * Determine whether a value can be converted to a {@code double}
+     * without underflow or overflow.  Intermediate sums in the transform
+     * can grow by a factor of N, so values near the limits are excluded.
+     * @param value the value to test
+     * @return true if the value is zero or comfortably within the normal range of {@code double}
+     */
+    static boolean fitsInDouble(BigDecimal value) {
+        if (value.signum() == 0) return true;
+        final double magnitude = Math.abs(value.doubleValue());
+        return magnitude >= 0x1.0p-960 && magnitude <= 0x1.0p960;
     }
 }
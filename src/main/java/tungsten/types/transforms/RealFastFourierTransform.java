@@ -0,0 +1,153 @@
+/*
+ * The MIT License
+ *
+ * Copyright © 2026 Robert Poole <Tarquin.AZ@gmail.com>.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tungsten.types.transforms;
+
+import tungsten.types.numerics.ComplexType;
+import tungsten.types.numerics.RealType;
+import tungsten.types.numerics.impl.ComplexRectImpl;
+import tungsten.types.numerics.impl.RealImpl;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * A Fast Fourier Transform of real-valued data.  Since the DFT of N real values
+ * is Hermitian, only the N/2&nbsp;+&nbsp;1 non-redundant complex values (rounding
+ * N/2 down) are returned; the remainder of the spectrum is given by
+ * X<sub>N&minus;k</sub>&nbsp;=&nbsp;X&#x0305;<sub>k</sub>.  This avoids promoting
+ * the input to complex values, and the transform itself is computed by an
+ * {@link FFTPlan} with roughly half the work of a complex FFT of the same length.
+ * <br>
+ * As with {@link FastFourierTransform}, {@code double} arithmetic is used
+ * when the {@link MathContext} and the input values permit it.
+ *
+ * @author Robert Poole, <a href="mailto:tarquin@alum.mit.edu">MIT alumni e-mail</a>
+ *   or <a href="mailto:Tarquin.AZ@gmail.com">Gmail</a>
+ * @since 1.5
+ * @see FFTPlan#realTransform(double[], double[], double[])
+ */
+public class RealFastFourierTransform implements Function<List<RealType>, List<ComplexType>> {
+    private final MathContext mctx;
+
+    /**
+     * Construct a new instance of {@code RealFastFourierTransform} using
+     * the given {@code MathContext} for all internal operations.
+     * @param mctx the {@code MathContext} governing all internal mathematical operations
+     */
+    public RealFastFourierTransform(MathContext mctx) {
+        this.mctx = mctx;
+    }
+
+    /**
+     * Compute the FFT of the given real values.
+     * @param t the function argument, a list of N real data values
+     * @return the first N/2&nbsp;+&nbsp;1 complex values of the transform of the argument
+     * @throws IllegalArgumentException if {@code t} is empty
+     */
+    @Override
+    public List<ComplexType> apply(List<RealType> t) {
+        final int n = t.size();
+        if (n == 0) throw new IllegalArgumentException("Cannot transform an empty List");
+        BigDecimal[] x = new BigDecimal[n];
+        boolean fitsInDouble = FastFourierTransform.admitsDoubles(mctx);
+        for (int k = 0; k < n; k++) {
+            x[k] = t.get(k).asBigDecimal();
+            fitsInDouble = fitsInDouble && FastFourierTransform.fitsInDouble(x[k]);
+        }
+        final int half = n / 2 + 1;
+        BigDecimal[] re = new BigDecimal[half];
+        BigDecimal[] im = new BigDecimal[half];
+        if (fitsInDouble) {
+            double[] dx = new double[n];
+            for (int k = 0; k < n; k++) dx[k] = x[k].doubleValue();
+            double[] dre = new double[half];
+            double[] dim = new double[half];
+            new FFTPlan(n).realTransform(dx, dre, dim);
+            for (int k = 0; k < half; k++) {
+                re[k] = BigDecimal.valueOf(dre[k]);
+                im[k] = BigDecimal.valueOf(dim[k]);
+            }
+        } else {
+            new FFTPlan(n, mctx).realTransform(x, re, im);
+        }
+        List<ComplexType> result = new ArrayList<>(half);
+        for (int k = 0; k < half; k++) {
+            result.add(new ComplexRectImpl(new RealImpl(re[k].round(mctx), mctx, false),
+                    new RealImpl(im[k].round(mctx), mctx, false), false));
+        }
+        return result;
+    }
+
+    /**
+     * Compute the inverse of this transform, recovering N real values
+     * from the N/2&nbsp;+&nbsp;1 non-redundant values of their spectrum.
+     * The result is normalized, i.e., scaled by 1/N.
+     * @param spectrum the first N/2&nbsp;+&nbsp;1 values of a Hermitian spectrum,
+     *                 e.g. the result of {@link #apply(List)}
+     * @param length   the number of real values N, which cannot be inferred
+     *                 from the size of {@code spectrum} alone
+     * @return the N real values whose transform is {@code spectrum}
+     * @throws IllegalArgumentException if {@code spectrum} does not contain N/2&nbsp;+&nbsp;1 values
+     */
+    public List<RealType> inverse(List<ComplexType> spectrum, int length) {
+        final int half = length / 2 + 1;
+        if (length <= 0 || spectrum.size() != half) {
+            throw new IllegalArgumentException("A spectrum of " + spectrum.size() +
+                    " values does not correspond to " + length + " real values");
+        }
+        BigDecimal[] re = new BigDecimal[half];
+        BigDecimal[] im = new BigDecimal[half];
+        boolean fitsInDouble = FastFourierTransform.admitsDoubles(mctx);
+        for (int k = 0; k < half; k++) {
+            ComplexType z = spectrum.get(k);
+            re[k] = z.real().asBigDecimal();
+            im[k] = z.imaginary().asBigDecimal();
+            fitsInDouble = fitsInDouble && FastFourierTransform.fitsInDouble(re[k]) &&
+                    FastFourierTransform.fitsInDouble(im[k]);
+        }
+        BigDecimal[] x = new BigDecimal[length];
+        if (fitsInDouble) {
+            double[] dre = new double[half];
+            double[] dim = new double[half];
+            for (int k = 0; k < half; k++) {
+                dre[k] = re[k].doubleValue();
+                dim[k] = im[k].doubleValue();
+            }
+            double[] dx = new double[length];
+            new FFTPlan(length).inverseRealTransform(dre, dim, dx);
+            for (int k = 0; k < length; k++) x[k] = BigDecimal.valueOf(dx[k]);
+        } else {
+            new FFTPlan(length, mctx).inverseRealTransform(re, im, x);
+        }
+        final BigDecimal scale = BigDecimal.valueOf(length);
+        List<RealType> result = new ArrayList<>(length);
+        for (int k = 0; k < length; k++) {
+            result.add(new RealImpl(x[k].divide(scale, mctx), mctx, false));
+        }
+        return result;
+    }
+}
@@ -29,8 +29,12 @@
  * but could conceivably be applied to a 2- or N-dimensional structure, an existing
  * structure such as a {@link tungsten.types.Vector} or {@link tungsten.types.Matrix},
  * or a completely bespoke type.<br>
- * Currently, this package only contains one transform, a concurrent and recursive
- * implementation of the {@link tungsten.types.transforms.FastFourierTransform Fast Fourier Transform}.
+ * Currently, this package contains the
+ * {@link tungsten.types.transforms.FastFourierTransform Fast Fourier Transform} and its
+ * counterpart for real-valued data, {@link tungsten.types.transforms.RealFastFourierTransform},
+ * both of which are computed by an in-place, iterative {@link tungsten.types.transforms.FFTEngine engine}
+ * operating on arrays of {@code double} or {@code BigDecimal} values.  Repeated transforms
+ * of the same length may be computed with a reusable {@link tungsten.types.transforms.FFTPlan}.
  * The {@code tungsten.types.transforms.util} package contains utility classes
  * relevant to computing transforms; currently, this package only contains
  * {@link tungsten.types.transforms.util.FFTUtils}.
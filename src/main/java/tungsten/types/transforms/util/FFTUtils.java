@@ -29,11 +29,13 @@ import tungsten.types.numerics.impl.ComplexPolarImpl;
 import tungsten.types.numerics.impl.ComplexRectImpl;
 import tungsten.types.numerics.impl.RealImpl;
 import tungsten.types.transforms.FastFourierTransform;
+import tungsten.types.transforms.RealFastFourierTransform;
 
 import java.math.BigDecimal;
 import java.math.MathContext;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.concurrent.*;
 import java.util.logging.Level;
@@ -52,6 +54,24 @@ import java.util.stream.Collectors;
 public final class FFTUtils {
     private FFTUtils() {} // to prevent instantiation
 
+    /**
+     * The executor shared by all FFT operations that run concurrently with
+     * the calling thread.  It is created on first use, and its threads are
+     * daemon threads so that it never prevents the JVM from exiting.
+     */
+    private static final class SharedExecutorHolder {
+        private static final ExecutorService EXECUTOR = Executors.newFixedThreadPool(
+                Math.max(2, Runtime.getRuntime().availableProcessors()), runnable -> {
+                    Thread thread = new Thread(runnable, "tungsten-fft");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    static ExecutorService sharedExecutor() {
+        return SharedExecutorHolder.EXECUTOR;
+    }
+
     /**
      * Compute the inverse FFT for the given complex-valued source.
      * @param source a list of complex values, e.g. from the previous application of an FFT
@@ -67,6 +87,21 @@ public final class FFTUtils {
         return intermediate.stream().map(ComplexType::conjugate).map(z -> (ComplexType) z.multiply(scale)).collect(Collectors.toList());
     }
 
+    /**
+     * Compute the inverse FFT of the non-redundant half of the spectrum of real-valued data.
+     * This is the counterpart of {@link RealFastFourierTransform}, and is
+     * correspondingly cheaper than {@link #inverseFFT(List, MathContext)}.
+     * @param halfSpectrum the first N/2&nbsp;+&nbsp;1 complex values of the spectrum
+     * @param length       the number of real values N to recover
+     * @param ctx          the {@code MathContext} to use
+     * @return the N real values whose FFT is described by {@code halfSpectrum}
+     * @throws IllegalArgumentException if the size of {@code halfSpectrum} does not agree with {@code length}
+     * @since 1.5
+     */
+    public static List<RealType> inverseRealFFT(List<ComplexType> halfSpectrum, int length, MathContext ctx) {
+        return new RealFastFourierTransform(ctx).inverse(halfSpectrum, length);
+    }
+
     /**
      * Compute the circular convolution of two lists of complex values.
      * @param x   the first list of complex values
@@ -82,16 +117,14 @@ public final class FFTUtils {
             throw new IllegalArgumentException("Dimensions of Lists must agree");
         }
         final FastFourierTransform fft = new FastFourierTransform(ctx);
-        final ExecutorService executor = Executors.newFixedThreadPool(2);
+        // transform x on the shared executor while this thread transforms y
         Callable<List<ComplexType>> xfft = () -> fft.apply(x);
-        Callable<List<ComplexType>> yfft = () -> fft.apply(y);
-        Future<List<ComplexType>> xresult = executor.submit(xfft);
-        Future<List<ComplexType>> yresult = executor.submit(yfft);
+        Future<List<ComplexType>> xresult = sharedExecutor().submit(xfft);
+        List<ComplexType> yTrans = fft.apply(y);
         // element-wise multiply the result
         List<ComplexType> aggregate = new ArrayList<>(N);  // we know exactly how many elements this will be
         try {
             List<ComplexType> xTrans = xresult.get();
-            List<ComplexType> yTrans = yresult.get();
             for (int idx = 0; idx < N; idx++) {
                 aggregate.add((ComplexType) xTrans.get(idx).multiply(yTrans.get(idx)));
             }
@@ -106,36 +139,72 @@ public final class FFTUtils {
             if (xresult.isCancelled()) {
                 Logger.getLogger(FFTUtils.class.getName()).log(Level.INFO, "FFT of arg x was canceled before completion.");
             }
-            if (yresult.isCancelled()) {
-                Logger.getLogger(FFTUtils.class.getName()).log(Level.INFO, "FFT of arg y was canceled before completion.");
-            }
             throw new IllegalStateException("An FFT calculation was canceled or failed during execution", ex);
-        } finally {
-            executor.shutdownNow();
         }
     }
 
     /**
      * Compute the linear convolution of two lists of complex values.
+     * Both lists are padded with zeros only to the length of the result,
+     * |x|&nbsp;+&nbsp;|y|&nbsp;&minus;&nbsp;1, since {@link FastFourierTransform}
+     * accepts input of any length.
      * @param x   the first list of complex values
      * @param y   the second list of complex values
      * @param ctx the {@code MathContext} to use in calculations
-     * @return the linear convolution of {@code x} and {@code y}
-     * @throws IllegalArgumentException if {@code x} and {@code y} have different lengths
+     * @return the linear convolution of {@code x} and {@code y}, containing
+     *   {@code x.size() + y.size() - 1} elements
+     * @throws IllegalArgumentException if either {@code x} or {@code y} is empty
      */
     public static List<ComplexType> linearConvolution(List<ComplexType> x, List<ComplexType> y, MathContext ctx) {
+        if (x.isEmpty() || y.isEmpty()) {
+            throw new IllegalArgumentException("Cannot convolve an empty List");
+        }
+        final int length = x.size() + y.size() - 1;
         final ComplexType zero = new ComplexRectImpl(new RealImpl(BigDecimal.ZERO, ctx));
-        List<ComplexType> xExt = new ArrayList<>(x.size() * 2);
-        List<ComplexType> yExt = new ArrayList<>(y.size() * 2);
+        List<ComplexType> xExt = new ArrayList<>(length);
+        List<ComplexType> yExt = new ArrayList<>(length);
         // copy the contents of x, then pad with zero
         xExt.addAll(x);
-        xExt.addAll(Collections.nCopies(x.size(), zero));
+        xExt.addAll(Collections.nCopies(length - x.size(), zero));
         // and do the same for y
         yExt.addAll(y);
-        yExt.addAll(Collections.nCopies(y.size(), zero));
+        yExt.addAll(Collections.nCopies(length - y.size(), zero));
         return circularConvolution(xExt, yExt, ctx);
     }
 
+    /**
+     * Convolve a signal, supplied as a sequence of blocks, with a fixed kernel
+     * without holding the whole signal in memory.  The blocks of the result
+     * are computed lazily using the overlap-add method; the last block holds
+     * the final |kernel|&nbsp;&minus;&nbsp;1 values of the convolution.
+     * @param kernel the convolution kernel, e.g. the impulse response of a filter
+     * @param blocks an iterator over successive blocks of the signal
+     * @param ctx    the {@code MathContext} to use in calculations
+     * @return an iterator over successive blocks of the convolution
+     * @see OverlapAddConvolver
+     * @since 1.5
+     */
+    public static Iterator<List<ComplexType>> streamingConvolution(List<ComplexType> kernel,
+                                                                  Iterator<List<ComplexType>> blocks, MathContext ctx) {
+        return new OverlapAddConvolver(kernel, ctx).convolve(blocks);
+    }
+
+    /**
+     * Convolve a signal, supplied as a stream of blocks, with a fixed kernel
+     * without holding the whole signal in memory.  The blocks of the result
+     * are published as they are computed using the overlap-add method.
+     * @param kernel the convolution kernel, e.g. the impulse response of a filter
+     * @param blocks a publisher of successive blocks of the signal
+     * @param ctx    the {@code MathContext} to use in calculations
+     * @return a publisher of successive blocks of the convolution
+     * @see OverlapAddConvolver
+     * @since 1.5
+     */
+    public static Flow.Publisher<List<ComplexType>> streamingConvolution(List<ComplexType> kernel,
+                                                                        Flow.Publisher<List<ComplexType>> blocks, MathContext ctx) {
+        return new OverlapAddConvolver(kernel, ctx).convolve(blocks);
+    }
+
     /**
      * Given a {@code List<ComplexType>}, extract the real components into
      * a new {@code List<RealType>} with ordering preserved.
@@ -0,0 +1,365 @@
+package tungsten.types.transforms.util;
+/*
+ * The MIT License
+ *
+ * Copyright © 2026 Robert Poole <Tarquin.AZ@gmail.com>.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+import tungsten.types.numerics.ComplexType;
+import tungsten.types.numerics.impl.ComplexRectImpl;
+import tungsten.types.numerics.impl.RealImpl;
+import tungsten.types.transforms.FFTEngine;
+import tungsten.types.transforms.FFTPlan;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * A streaming convolver which applies a fixed kernel to a signal that arrives
+ * as a sequence of blocks, using the overlap-add method.  Each block is
+ * zero-padded, transformed, multiplied by the precomputed spectrum of the kernel,
+ * and transformed back; the last K&nbsp;&minus;&nbsp;1 values of each result
+ * (for a kernel of K values) overlap the next block, and are carried forward
+ * and added to it.  Thus, only one block of the signal need be held in memory
+ * at a time, and a single {@link FFTPlan} is reused for every block.
+ * <br>
+ * For every block of samples passed to {@link #process(List)}, a block of output
+ * of the same size is returned; those outputs are final, since convolution
+ * is causal.  Once the input is exhausted, {@link #flush()} returns the remaining
+ * K&nbsp;&minus;&nbsp;1 values of the full linear convolution.
+ * <br>
+ * If the {@link MathContext} has no more precision than {@link MathContext#DECIMAL64},
+ * all arithmetic is performed using {@code double} values; otherwise, it is
+ * performed using {@link BigDecimal}.  Instances of this class are stateful and
+ * not safe for use by multiple threads concurrently.
+ *
+ * @author Robert Poole, <a href="mailto:tarquin@alum.mit.edu">MIT alumni e-mail</a>
+ *   or <a href="mailto:Tarquin.AZ@gmail.com">Gmail</a>
+ * @since 1.5
+ * @see <a href="https://en.wikipedia.org/wiki/Overlap%E2%80%93add_method">the Wikipedia article on the overlap-add method</a>
+ */
+public final class OverlapAddConvolver {
+    private static final int MINIMUM_FFT_LENGTH = 64;
+    private final MathContext mctx;
+    private final int kernelLength;
+    private final int blockSize;
+    private final FFTPlan plan;
+    private final boolean useDoubles;
+    private double[] kernelRe, kernelIm, workRe, workIm, tailRe, tailIm;
+    private BigDecimal[] decKernelRe, decKernelIm, decWorkRe, decWorkIm, decTailRe, decTailIm;
+
+    /**
+     * Construct a convolver for the given kernel, with a block size
+     * chosen to make efficient use of the FFT.
+     * @param kernel the convolution kernel, e.g. the impulse response of a filter
+     * @param mctx   the {@link MathContext} to use in calculations
+     */
+    public OverlapAddConvolver(List<ComplexType> kernel, MathContext mctx) {
+        this(kernel, FFTEngine.nextSmoothLength(Math.max(MINIMUM_FFT_LENGTH, 4 * kernel.size())) - kernel.size() + 1, mctx);
+    }
+
+    /**
+     * Construct a convolver for the given kernel and block size.
+     * Blocks of input larger than {@code blockSize} are accepted,
+     * but are processed in pieces of at most {@code blockSize} values.
+     * @param kernel    the convolution kernel, e.g. the impulse response of a filter
+     * @param blockSize the largest number of samples to convolve with a single FFT
+     * @param mctx      the {@link MathContext} to use in calculations
+     * @throws IllegalArgumentException if {@code kernel} is empty or {@code blockSize} is not positive
+     */
+    public OverlapAddConvolver(List<ComplexType> kernel, int blockSize, MathContext mctx) {
+        if (kernel.isEmpty()) throw new IllegalArgumentException("Convolution kernel must not be empty");
+        if (blockSize <= 0) throw new IllegalArgumentException("Block size must be positive");
+        this.mctx = mctx;
+        this.kernelLength = kernel.size();
+        this.blockSize = blockSize;
+        final int fftLength = FFTEngine.nextSmoothLength(blockSize + kernelLength - 1);
+        this.useDoubles = mctx.getPrecision() > 0 && mctx.getPrecision() <= MathContext.DECIMAL64.getPrecision();
+        if (useDoubles) {
+            plan = new FFTPlan(fftLength);
+            kernelRe = new double[fftLength];
+            kernelIm = new double[fftLength];
+            for (int k = 0; k < kernelLength; k++) {
+                kernelRe[k] = toDouble(kernel.get(k).real().asBigDecimal());
+                kernelIm[k] = toDouble(kernel.get(k).imaginary().asBigDecimal());
+            }
+            plan.transform(kernelRe, kernelIm, false);
+            // fold the 1/L normalization of the inverse transform into the kernel spectrum
+            for (int k = 0; k < fftLength; k++) {
+                kernelRe[k] /= fftLength;
+                kernelIm[k] /= fftLength;
+            }
+            workRe = new double[fftLength];
+            workIm = new double[fftLength];
+            tailRe = new double[kernelLength - 1];
+            tailIm = new double[kernelLength - 1];
+        } else {
+            plan = new FFTPlan(fftLength, mctx);
+            decKernelRe = new BigDecimal[fftLength];
+            decKernelIm = new BigDecimal[fftLength];
+            Arrays.fill(decKernelRe, BigDecimal.ZERO);
+            Arrays.fill(decKernelIm, BigDecimal.ZERO);
+            for (int k = 0; k < kernelLength; k++) {
+                decKernelRe[k] = kernel.get(k).real().asBigDecimal();
+                decKernelIm[k] = kernel.get(k).imaginary().asBigDecimal();
+            }
+            plan.transform(decKernelRe, decKernelIm, false);
+            final BigDecimal scale = BigDecimal.valueOf(fftLength);
+            for (int k = 0; k < fftLength; k++) {
+                decKernelRe[k] = decKernelRe[k].divide(scale, mctx);
+                decKernelIm[k] = decKernelIm[k].divide(scale, mctx);
+            }
+            decWorkRe = new BigDecimal[fftLength];
+            decWorkIm = new BigDecimal[fftLength];
+            decTailRe = new BigDecimal[kernelLength - 1];
+            decTailIm = new BigDecimal[kernelLength - 1];
+        }
+        reset();
+    }
+
+    /**
+     * Obtain the largest number of samples convolved with a single FFT.
+     * @return the block size
+     */
+    public int getBlockSize() {
+        return blockSize;
+    }
+
+    /**
+     * Discard any output carried over from previously processed blocks,
+     * so that this convolver may be applied to a new signal.
+     */
+    public void reset() {
+        if (useDoubles) {
+            Arrays.fill(tailRe, 0.0);
+            Arrays.fill(tailIm, 0.0);
+        } else {
+            Arrays.fill(decTailRe, BigDecimal.ZERO);
+            Arrays.fill(decTailIm, BigDecimal.ZERO);
+        }
+    }
+
+    /**
+     * Convolve the next block of the signal with the kernel.
+     * @param block the next samples of the signal
+     * @return the corresponding samples of the convolution, of the same number as in {@code block}
+     */
+    public List<ComplexType> process(List<ComplexType> block) {
+        List<ComplexType> result = new ArrayList<>(block.size());
+        for (int start = 0; start < block.size(); start += blockSize) {
+            final List<ComplexType> piece = block.subList(start, Math.min(block.size(), start + blockSize));
+            if (useDoubles) {
+                processDoubles(piece, result);
+            } else {
+                processDecimals(piece, result);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Obtain the final K&nbsp;&minus;&nbsp;1 values of the convolution once the
+     * signal has ended, and reset this convolver.
+     * @return the remaining values of the convolution, which may be empty
+     */
+    public List<ComplexType> flush() {
+        List<ComplexType> result = new ArrayList<>(kernelLength - 1);
+        for (int k = 0; k < kernelLength - 1; k++) {
+            result.add(useDoubles ? toComplex(tailRe[k], tailIm[k]) : toComplex(decTailRe[k], decTailIm[k]));
+        }
+        reset();
+        return result;
+    }
+
+    private void processDoubles(List<ComplexType> piece, List<ComplexType> result) {
+        final int n = piece.size();
+        for (int k = 0; k < n; k++) {
+            workRe[k] = toDouble(piece.get(k).real().asBigDecimal());
+            workIm[k] = toDouble(piece.get(k).imaginary().asBigDecimal());
+        }
+        Arrays.fill(workRe, n, workRe.length, 0.0);
+        Arrays.fill(workIm, n, workIm.length, 0.0);
+        plan.transform(workRe, workIm, false);
+        for (int k = 0; k < workRe.length; k++) {
+            final double re = workRe[k] * kernelRe[k] - workIm[k] * kernelIm[k];
+            final double im = workRe[k] * kernelIm[k] + workIm[k] * kernelRe[k];
+            workRe[k] = re;
+            workIm[k] = im;
+        }
+        plan.transform(workRe, workIm, true);
+        final int overlap = tailRe.length;
+        for (int k = 0; k < n; k++) {
+            final boolean carried = k < overlap;
+            result.add(toComplex(workRe[k] + (carried ? tailRe[k] : 0.0), workIm[k] + (carried ? tailIm[k] : 0.0)));
+        }
+        // the tail is updated in ascending order, so each carried value is read before it is overwritten
+        for (int k = 0; k < overlap; k++) {
+            final boolean carried = k + n < overlap;
+            tailRe[k] = workRe[k + n] + (carried ? tailRe[k + n] : 0.0);
+            tailIm[k] = workIm[k + n] + (carried ? tailIm[k + n] : 0.0);
+        }
+    }
+
+    private void processDecimals(List<ComplexType> piece, List<ComplexType> result) {
+        final int n = piece.size();
+        for (int k = 0; k < n; k++) {
+            decWorkRe[k] = piece.get(k).real().asBigDecimal();
+            decWorkIm[k] = piece.get(k).imaginary().asBigDecimal();
+        }
+        Arrays.fill(decWorkRe, n, decWorkRe.length, BigDecimal.ZERO);
+        Arrays.fill(decWorkIm, n, decWorkIm.length, BigDecimal.ZERO);
+        plan.transform(decWorkRe, decWorkIm, false);
+        for (int k = 0; k < decWorkRe.length; k++) {
+            final BigDecimal re = decWorkRe[k].multiply(decKernelRe[k]).subtract(decWorkIm[k].multiply(decKernelIm[k]), mctx);
+            final BigDecimal im = decWorkRe[k].multiply(decKernelIm[k]).add(decWorkIm[k].multiply(decKernelRe[k]), mctx);
+            decWorkRe[k] = re;
+            decWorkIm[k] = im;
+        }
+        plan.transform(decWorkRe, decWorkIm, true);
+        final int overlap = decTailRe.length;
+        for (int k = 0; k < n; k++) {
+            final boolean carried = k < overlap;
+            result.add(toComplex(carried ? decWorkRe[k].add(decTailRe[k], mctx) : decWorkRe[k],
+                    carried ? decWorkIm[k].add(decTailIm[k], mctx) : decWorkIm[k]));
+        }
+        for (int k = 0; k < overlap; k++) {
+            final boolean carried = k + n < overlap;
+            decTailRe[k] = carried ? decWorkRe[k + n].add(decTailRe[k + n], mctx) : decWorkRe[k + n];
+            decTailIm[k] = carried ? decWorkIm[k + n].add(decTailIm[k + n], mctx) : decWorkIm[k + n];
+        }
+    }
+
+    private static double toDouble(BigDecimal value) {
+        final double result = value.doubleValue();
+        if (Double.isInfinite(result)) {
+            throw new ArithmeticException("Value " + value + " exceeds the range of double");
+        }
+        return result;
+    }
+
+    private ComplexType toComplex(double re, double im) {
+        return toComplex(BigDecimal.valueOf(re), BigDecimal.valueOf(im));
+    }
+
+    private ComplexType toComplex(BigDecimal re, BigDecimal im) {
+        return new ComplexRectImpl(new RealImpl(re.round(mctx), mctx, false),
+                new RealImpl(im.round(mctx), mctx, false), false);
+    }
+
+    /**
+     * Lazily convolve a signal supplied as a sequence of blocks.  Each block of
+     * output is computed only when requested, and after the last block of input
+     * has been consumed, one final block containing the result of {@link #flush()}
+     * is produced (unless the kernel consists of a single value).
+     * @param blocks an iterator over the blocks of the signal
+     * @return an iterator over the blocks of the convolution
+     */
+    public Iterator<List<ComplexType>> convolve(Iterator<List<ComplexType>> blocks) {
+        reset();
+        return new Iterator<>() {
+            private boolean flushed = kernelLength == 1;
+
+            @Override
+            public boolean hasNext() {
+                return blocks.hasNext() || !flushed;
+            }
+
+            @Override
+            public List<ComplexType> next() {
+                if (blocks.hasNext()) return process(blocks.next());
+                if (flushed) throw new NoSuchElementException("No more blocks");
+                flushed = true;
+                return flush();
+            }
+        };
+    }
+
+    /**
+     * Convolve a signal supplied as a stream of blocks by a {@link Flow.Publisher}.
+     * The returned publisher subscribes to {@code blocks} when it receives its first
+     * subscriber, requests one block at a time, and publishes the blocks of the
+     * convolution as they are computed, followed by the result of {@link #flush()}
+     * once {@code blocks} completes.  Subscribers are serviced by the executor
+     * shared by {@link FFTUtils}.
+     * @param blocks a publisher of the blocks of the signal
+     * @return a publisher of the blocks of the convolution
+     */
+    public Flow.Publisher<List<ComplexType>> convolve(Flow.Publisher<List<ComplexType>> blocks) {
+        reset();
+        return new ConvolvingProcessor(blocks);
+    }
+
+    private final class ConvolvingProcessor extends SubmissionPublisher<List<ComplexType>>
+            implements Flow.Processor<List<ComplexType>, List<ComplexType>> {
+        private final Flow.Publisher<List<ComplexType>> upstream;
+        private final AtomicBoolean subscribed = new AtomicBoolean();
+        private Flow.Subscription subscription;
+
+        private ConvolvingProcessor(Flow.Publisher<List<ComplexType>> upstream) {
+            super(FFTUtils.sharedExecutor(), Flow.defaultBufferSize());
+            this.upstream = upstream;
+        }
+
+        @Override
+        public void subscribe(Flow.Subscriber<? super List<ComplexType>> subscriber) {
+            super.subscribe(subscriber);
+            // items published before anyone subscribes would be dropped, so connect lazily
+            if (subscribed.compareAndSet(false, true)) upstream.subscribe(this);
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            subscription.request(1L);
+        }
+
+        @Override
+        public void onNext(List<ComplexType> item) {
+            try {
+                submit(process(item));
+            } catch (RuntimeException e) {
+                subscription.cancel();
+                closeExceptionally(e);
+                return;
+            }
+            subscription.request(1L);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            closeExceptionally(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            if (kernelLength > 1) submit(flush());
+            close();
+        }
+    }
+}
@@ -23,38 +23,62 @@ package tungsten.types.util;
  * THE SOFTWARE.
  */
 
-import tungsten.types.Numeric;
-import tungsten.types.numerics.IntegerType;
 import tungsten.types.numerics.RationalType;
-import tungsten.types.numerics.impl.IntegerImpl;
 import tungsten.types.numerics.impl.RationalImpl;
 
 import java.math.BigInteger;
 import java.math.MathContext;
-import java.util.Arrays;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
 /**
  * A utility class for obtaining and working with Bernoulli numbers.
- * The base constructor takes a single integer argument that determines
- * how many numbers will be precomputed.  All additional values beyond
- * the precomputed Bernoulli numbers will be dynamically computed using
- * the <a href="https://proofwiki.org/wiki/Definition:Bernoulli_Numbers/Recurrence_Relation">recurrence relation</a>
- * for the Bernoulli numbers.
+ * All instances share a single process-wide table of exact values, which grows
+ * on demand and is never recomputed for indices it already covers; an instance
+ * merely supplies the {@link MathContext} attached to the values it returns.
+ * Reads of the table do not lock, while growing it is serialized.
+ * <br>
+ * The table is computed from the tangent numbers T<sub>k</sub>, the
+ * coefficients of tan(x)&nbsp;=&nbsp;&sum;&nbsp;T<sub>k</sub>x<sup>2k&minus;1</sup>/(2k&nbsp;&minus;&nbsp;1)!,
+ * using the algorithm of Brent and Harvey, which requires O(n<sup>2</sup>) operations
+ * on integers and no rational arithmetic at all.  Then
+ * B<sub>2k</sub>&nbsp;=&nbsp;(&minus;1)<sup>k&minus;1</sup>2k&thinsp;T<sub>k</sub>/(2<sup>2k</sup>(2<sup>2k</sup>&nbsp;&minus;&nbsp;1)).
+ * When the table must grow, its capacity at least doubles, so that the total
+ * work remains proportional to that of computing the largest table directly.
  * @author Robert Poole, <a href="mailto:tarquin@alum.mit.edu">MIT alumni e-mail</a>
  *   or <a href="mailto:Tarquin.AZ@gmail.com">Gmail</a>
  * @see <a href="https://en.wikipedia.org/wiki/Bernoulli_number#Efficient_computation_of_Bernoulli_numbers">algorithms
  *   for efficiently caclculating the Bernoulli numbers</a> (with an example written in Julia)
+ * @see <a href="https://arxiv.org/abs/1108.0286">&ldquo;Fast computation of Bernoulli, Tangent
+ *   and Secant numbers&rdquo;</a> by Richard P. Brent and David Harvey
  */
 public class BernoulliNumbers {
-    private final RationalType[] B;
+    /**
+     * The exact values of B<sub>0</sub>, B<sub>2</sub>, B<sub>4</sub>, &hellip;, B<sub>2K</sub>, in lowest terms.
+     * @param numerators   the numerators, indexed by k
+     * @param denominators the (positive) denominators, indexed by k
+     */
+    private record Table(BigInteger[] numerators, BigInteger[] denominators) {
+        int capacity() {
+            return numerators.length;
+        }
+    }
+
+    /**
+     * The smallest number of even-indexed values computed when the table grows.
+     */
+    private static final int MIN_CAPACITY = 32;
+    private static volatile Table table = new Table(new BigInteger[0], new BigInteger[0]);
+    private static final Lock growthLock = new ReentrantLock();
+
     private MathContext mctx = MathContext.UNLIMITED;
-    private final LRUCache<Long, RationalType> cache;
 
     /**
      * Initialize this class with the first N&nbsp;+&nbsp;1 Bernoulli
-     * numbers, B<sub>0</sub> through B<sub>N</sub> inclusive.
+     * numbers, B<sub>0</sub> through B<sub>N</sub> inclusive.  If the
+     * shared table already covers these, nothing is computed.
      * @param N the index of the highest Bernoulli number to generate
      */
     public BernoulliNumbers(int N) {
@@ -64,12 +88,7 @@ public class BernoulliNumbers {
         if (N < 2) {
             throw new IllegalArgumentException("N must be \u2265 2");
         }
-        B = new RationalType[N + 1];
-        B[0] = new RationalImpl(BigInteger.ONE, BigInteger.ONE);
-        B[1] = new RationalImpl(BigInteger.ONE.negate(), BigInteger.TWO);
-        precalculate(N);
-        // and preallocate a sensible cache, say 2/3 of N
-        cache = new LRUCache<>(2 * N / 3);
+        tableFor(N / 2);
     }
 
     /**
@@ -84,82 +103,86 @@ public class BernoulliNumbers {
     }
 
     /**
-     * Sets the {@link MathContext} of all the Bernoulli values stored
-     * in this object, and of all future Bernoulli numbers generated
-     * by it.
+     * Sets the {@link MathContext} of all Bernoulli numbers subsequently
+     * obtained from this object.
      * @param mctx the desired {@code MathContext}
      */
     public void setMathContext(MathContext mctx) {
         this.mctx = mctx;
-        for (RationalType Bk : B) OptionalOperations.setMathContext(Bk, mctx);
-        if (!cache.isEmpty()) {
-            for (RationalType Bk : cache.values()) OptionalOperations.setMathContext(Bk, mctx);
-        }
     }
 
-    private void precalculate(int n) {
-        for (int m = 2; m <= n; m++) {
-            for (long k = 0L; k <= m; k++) {
-                for (long v = 0L; v <= k; v++) {
-                    // binomial(k,v) * v^(m) / (k+1)
-                    IntegerType vm = new IntegerImpl(pow(v, m));
-                    RationalType term = new RationalImpl((IntegerType) MathUtils.nChooseK(k, v).multiply(vm),
-                            new IntegerImpl(BigInteger.valueOf(k + 1L)));
-                    if (B[m] == null) B[m] = term;
-                    else if (v % 2L == 0L) {
-                        B[m] = (RationalType) B[m].add(term);
-                    } else {
-                        B[m] = (RationalType) B[m].subtract(term);
-                    }
-                }
-            }
+    /**
+     * Obtain a table containing at least B<sub>0</sub> through B<sub>2k</sub>, growing the shared table if necessary.
+     * @param k half the index of the highest Bernoulli number required
+     * @return a table containing B<sub>2k</sub>
+     */
+    private static Table tableFor(int k) {
+        Table current = table;
+        if (k < current.capacity()) return current;
+        growthLock.lock();
+        try {
+            current = table;
+            if (k < current.capacity()) return current;
+            final int capacity = Math.max(k + 1, Math.max(MIN_CAPACITY, 2 * current.capacity()));
+            current = compute(capacity);
+            table = current;
+            return current;
+        } finally {
+            growthLock.unlock();
         }
     }
 
     /**
-     * {@link Math#pow(double, double)} only deals with double values, and we want to
-     * quickly exponentiate longs.
-     * @param base     the value to exponentiate
-     * @param exponent the exponent, a non-negative integer value
-     * @return the result of calculating base<sup>exponent</sup>
+     * Compute B<sub>0</sub>, B<sub>2</sub>, &hellip;, B<sub>2(n&minus;1)</sub> from the tangent numbers
+     * T<sub>1</sub>&nbsp;&hellip;&nbsp;T<sub>n&minus;1</sub>.
+     * @param n the number of even-indexed Bernoulli numbers to compute
+     * @return the table of exact values
      */
-    private BigInteger pow(long base, int exponent) {
-        if (exponent < 0) {
-            throw new IllegalArgumentException("Cannot handle negative exponent for long");
+    private static Table compute(int n) {
+        final int m = n - 1;  // the number of tangent numbers required
+        final BigInteger[] T = new BigInteger[m + 1];
+        if (m >= 1) T[1] = BigInteger.ONE;
+        for (int k = 2; k <= m; k++) {
+            T[k] = T[k - 1].multiply(BigInteger.valueOf(k - 1));
         }
-        if (exponent == 0 || base == 1L) return BigInteger.ONE;
-        if (base == 0L) return BigInteger.ZERO;
-        if (exponent == 1) return BigInteger.valueOf(base);
-        // since exponent is currently an int in precalculate(), no need for fancy long power logic here
-        return BigInteger.valueOf(base).pow(exponent);
+        for (int k = 2; k <= m; k++) {
+            for (int j = k; j <= m; j++) {
+                T[j] = T[j - 1].multiply(BigInteger.valueOf(j - k)).add(T[j].multiply(BigInteger.valueOf(j - k + 2)));
+            }
+        }
+        final BigInteger[] numerators = new BigInteger[n];
+        final BigInteger[] denominators = new BigInteger[n];
+        numerators[0] = BigInteger.ONE;
+        denominators[0] = BigInteger.ONE;
+        for (int k = 1; k <= m; k++) {
+            // B₂ₖ = (-1)ᵏ⁻¹·2k·Tₖ/(4ᵏ(4ᵏ - 1))
+            BigInteger num = T[k].multiply(BigInteger.valueOf(2L * k));
+            final BigInteger fourK = BigInteger.ONE.shiftLeft(2 * k);
+            BigInteger denom = fourK.multiply(fourK.subtract(BigInteger.ONE));
+            final BigInteger gcd = num.gcd(denom);
+            num = num.divide(gcd);
+            denominators[k] = denom.divide(gcd);
+            numerators[k] = k % 2 == 0 ? num.negate() : num;
+        }
+        return new Table(numerators, denominators);
     }
 
     /**
-     * If B<sub>n</sub> is precalculated, return that value.
-     * Otherwise, calculate B<sub>n</sub> using the recurrence relationship with prior B<sub>k</sub> values.
+     * Obtain the n<sup>th</sup> Bernoulli number.  If B<sub>n</sub> lies beyond the shared
+     * table, the table is first extended.
      * @param n the index of the Bernoulli number to obtain
      * @return the n<sup>th</sup> Bernoulli number
-     * @see <a href="https://proofwiki.org/wiki/Definition:Bernoulli_Numbers/Recurrence_Relation">the recurrence relationship</a>
-     *   for computing B<sub>k</sub>
      */
     public RationalType getB(long n) {
-        if (n < (long) B.length) {
-            return B[(int) n];
-        }
-        // aside from B₁, all odd-numbered Bernoulli numbers are zero; B₁ is covered above
+        if (n < 0L) throw new IllegalArgumentException("Bernoulli numbers are undefined for negative indices");
+        if (n == 1L) return new RationalImpl(BigInteger.ONE.negate(), BigInteger.TWO, mctx);
+        // aside from B₁, all odd-numbered Bernoulli numbers are zero
         if (n % 2L == 1L) {
             return new RationalImpl(0L, 1L, mctx);
         }
-        // if it's in the cache, we're done
-        if (cache.containsKey(n)) return cache.get(n);
-        // otherwise, use the recurrence relationship
-        final RationalType coeff = new RationalImpl(-1L, n + 1L, mctx);
-        RationalType calculated = (RationalType) LongStream.range(0L, n) // .parallel() will not work here due to recursive getB(k) call
-                .mapToObj(k -> MathUtils.nChooseK(n + 1L, k).multiply(getB(k)))
-                .reduce(Numeric::add).map(coeff::multiply)
-                .orElseThrow(() -> new IllegalStateException("Error computing B" + UnicodeTextEffects.numericSubscript((int) n)));
-        cache.put(n, calculated); // slower than the array, but more efficient since we only store non-zero values
-        return calculated;
+        final int k = Math.toIntExact(n / 2L);
+        final Table current = tableFor(k);
+        return new RationalImpl(current.numerators()[k], current.denominators()[k], mctx);
     }
 
     /**
@@ -169,8 +192,6 @@ public class BernoulliNumbers {
     public Stream<RationalType> stream() {
         // the use of LongStream.range() is a kludge -- in any event, getB(k) will probably misbehave
         // long before k gets anywhere close to Long.MAX_VALUE
-        // not using rangeClosed() because getB(n) calculates n + 1
-        return Stream.concat(Arrays.stream(B),
-                LongStream.range(B.length, Long.MAX_VALUE).mapToObj(this::getB));
+        return LongStream.range(0L, Long.MAX_VALUE).mapToObj(this::getB);
     }
 }
@@ -0,0 +1,569 @@
+package tungsten.types.util;
+/*
+ * The MIT License
+ *
+ * Copyright © 2026 Robert Poole <Tarquin.AZ@gmail.com>.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * An evaluator for series of hypergeometric type using binary splitting.
+ * Such a series has the form
+ * S&nbsp;=&nbsp;&sum;<sub>k</sub>&nbsp;(a(k)/b(k))&nbsp;&prod;<sub>j&le;k</sub>&nbsp;p(j)/q(j),
+ * where a, b, p, and q are integer-valued functions of the term index.
+ * For a range of terms [n<sub>1</sub>,&nbsp;n<sub>2</sub>), the evaluator computes
+ * the four integers P&nbsp;=&nbsp;&prod;&nbsp;p(j), Q&nbsp;=&nbsp;&prod;&nbsp;q(j),
+ * B&nbsp;=&nbsp;&prod;&nbsp;b(j), and T, where the partial sum
+ * over that range is T/(BQ), by splitting the range in half recursively
+ * and combining the halves as
+ * <pre>
+ *     P = P<sub>l</sub>P<sub>r</sub>,  Q = Q<sub>l</sub>Q<sub>r</sub>,  B = B<sub>l</sub>B<sub>r</sub>,
+ *     T = B<sub>r</sub>Q<sub>r</sub>T<sub>l</sub> + B<sub>l</sub>P<sub>l</sub>T<sub>r</sub>
+ * </pre>
+ * All arithmetic is exact integer arithmetic on operands of balanced size, which
+ * lets {@link BigInteger}'s sub-quadratic multiplication do the heavy lifting;
+ * only one division is performed at the end.  Because a {@link Sum} over
+ * [0,&nbsp;N) can be {@link Sum#merge(Sum) merged} with a sum over [N,&nbsp;M),
+ * a computation can be extended to more terms without restarting.
+ * <br>
+ * This class also provides evaluators for a few constants which
+ * are used throughout this library: &#x212f;, &pi;, &#x1D6FE;, ln&nbsp;2,
+ * &zeta;(3), and (though not computed by a series) &#x03D5;.
+ *
+ * @author Robert Poole, <a href="mailto:tarquin@alum.mit.edu">MIT alumni e-mail</a>
+ *   or <a href="mailto:Tarquin.AZ@gmail.com">Gmail</a>
+ * @since 1.5
+ * @see <a href="http://numbers.computation.free.fr/Constants/Algorithms/splitting.html">a
+ *   description of binary splitting by Xavier Gourdon and Pascal Sebah</a>
+ */
+public final class BinarySplitting {
+    /**
+     * Ranges of terms at least this long are split into subtasks
+     * which may be evaluated concurrently.
+     */
+    private static final long PARALLEL_THRESHOLD = 1024L;
+    /**
+     * The number of additional digits to which the final division is computed.
+     */
+    private static final int GUARD_DIGITS = 8;
+
+    private BinarySplitting() {
+        // static methods only
+    }
+
+    /**
+     * A series of hypergeometric type, defined by four integer-valued functions
+     * of the term index k.  The k<sup>th</sup> term of the series is
+     * (a(k)/b(k))&nbsp;&prod;<sub>j&le;k</sub>&nbsp;p(j)/q(j), where the
+     * product runs from the first term of the series.
+     */
+    public interface Series {
+        /**
+         * The numerator of the rational factor specific to term k.
+         * @param k the term index
+         * @return a(k)
+         */
+        BigInteger a(long k);
+
+        /**
+         * The denominator of the rational factor specific to term k.
+         * @param k the term index
+         * @return b(k), which is 1 by default
+         */
+        default BigInteger b(long k) {
+            return BigInteger.ONE;
+        }
+
+        /**
+         * The numerator of the ratio of the cumulative product at term k to that at term k&nbsp;&minus;&nbsp;1.
+         * @param k the term index
+         * @return p(k)
+         */
+        BigInteger p(long k);
+
+        /**
+         * The denominator of the ratio of the cumulative product at term k to that at term k&nbsp;&minus;&nbsp;1.
+         * @param k the term index
+         * @return q(k)
+         */
+        BigInteger q(long k);
+    }
+
+    /**
+     * The result of binary splitting over a range of terms.
+     * @param p the product of p(j) over the range
+     * @param q the product of q(j) over the range
+     * @param b the product of b(j) over the range
+     * @param t the numerator of the partial sum, which is T/(BQ)
+     */
+    public record Sum(BigInteger p, BigInteger q, BigInteger b, BigInteger t) {
+        /**
+         * Combine this sum with the sum over the range of terms immediately following it.
+         * @param right the sum over the following range of terms
+         * @return the sum over both ranges
+         */
+        public Sum merge(Sum right) {
+            return new Sum(p.multiply(right.p), q.multiply(right.q), b.multiply(right.b),
+                    right.b.multiply(right.q).multiply(t).add(b.multiply(p).multiply(right.t)));
+        }
+
+        /**
+         * Compute the value of this sum, T/(BQ), as a decimal.
+         * @param mctx the {@link MathContext} governing the division
+         * @return the value of this sum
+         */
+        public BigDecimal value(MathContext mctx) {
+            return new BigDecimal(t).divide(new BigDecimal(b.multiply(q)), mctx);
+        }
+    }
+
+    /**
+     * Evaluate a range of terms of a series by binary splitting.
+     * Large ranges are evaluated concurrently using the common {@link ForkJoinPool}.
+     * @param series the series
+     * @param from   the index of the first term, inclusive
+     * @param to     the index of the last term, exclusive
+     * @return the sum over the range of terms
+     * @throws IllegalArgumentException if the range is empty
+     */
+    public static Sum evaluate(Series series, long from, long to) {
+        if (to <= from) throw new IllegalArgumentException("Cannot evaluate an empty range of terms");
+        if (to - from < PARALLEL_THRESHOLD) return split(series, from, to);
+        return ForkJoinPool.commonPool().invoke(new SplitTask(series, from, to));
+    }
+
+    /**
+     * Evaluate the sum of a range of terms of a series.
+     * @param series the series
+     * @param from   the index of the first term, inclusive
+     * @param to     the index of the last term, exclusive
+     * @param mctx   the {@link MathContext} governing the result
+     * @return the sum of terms {@code from} through {@code to - 1}
+     */
+    public static BigDecimal sum(Series series, long from, long to, MathContext mctx) {
+        return evaluate(series, from, to).value(mctx);
+    }
+
+    private static Sum split(Series series, long from, long to) {
+        if (to - from == 1L) {
+            final BigInteger p = series.p(from);
+            return new Sum(p, series.q(from), series.b(from), series.a(from).multiply(p));
+        }
+        final long mid = (from + to) >>> 1;
+        return split(series, from, mid).merge(split(series, mid, to));
+    }
+
+    private static class SplitTask extends RecursiveTask<Sum> {
+        private final Series series;
+        private final long from, to;
+
+        SplitTask(Series series, long from, long to) {
+            this.series = series;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Sum compute() {
+            if (to - from < PARALLEL_THRESHOLD) return split(series, from, to);
+            final long mid = (from + to) >>> 1;
+            SplitTask right = new SplitTask(series, mid, to);
+            right.fork();
+            Sum left = new SplitTask(series, from, mid).compute();
+            return left.merge(right.join());
+        }
+    }
+
+    /**
+     * An indexed, thread-safe store of partial sums of a series, each covering
+     * the terms from 0 up to some count.  A request for more terms than any
+     * stored partial sum extends the longest shorter one by evaluating only
+     * the missing range and {@link Sum#merge(Sum) merging} it, so a computation
+     * at higher precision picks up where an earlier one left off.
+     * <br>
+     * No locks are held while terms are evaluated, so requests for different
+     * term counts proceed concurrently.  Two simultaneous requests for the
+     * same count may both compute it; the first result stored wins.
+     */
+    public static final class PartialSums {
+        private final Series series;
+        private final ConcurrentSkipListMap<Long, Sum> sums = new ConcurrentSkipListMap<>();
+
+        /**
+         * Construct an empty store for the given series.
+         * @param series the series whose partial sums are to be kept
+         */
+        public PartialSums(Series series) {
+            this.series = series;
+        }
+
+        /**
+         * Obtain the sum of the first {@code terms} terms of the series,
+         * evaluating and storing it if necessary.
+         * @param terms the number of terms, starting at index 0
+         * @return the sum over terms 0 through {@code terms - 1}
+         * @throws IllegalArgumentException if {@code terms} is not positive
+         */
+        public Sum upTo(long terms) {
+            if (terms <= 0L) throw new IllegalArgumentException("Number of terms must be positive");
+            final Sum cached = sums.get(terms);
+            if (cached != null) return cached;
+            final Map.Entry<Long, Sum> floor = sums.floorEntry(terms);
+            final Sum result = floor == null ? evaluate(series, 0L, terms) :
+                    floor.getValue().merge(evaluate(series, floor.getKey(), terms));
+            final Sum prior = sums.putIfAbsent(terms, result);
+            return prior == null ? result : prior;
+        }
+
+        /**
+         * Obtain the largest number of terms for which a partial sum is stored.
+         * @return the number of terms, or 0 if this store is empty
+         */
+        public long maxTerms() {
+            final Map.Entry<Long, Sum> last = sums.lastEntry();
+            return last == null ? 0L : last.getKey();
+        }
+    }
+
+    /**
+     * Compute the number of terms of a series needed for a given precision,
+     * given the number of decimal digits gained per term.
+     * @param mctx          the {@link MathContext} of the result
+     * @param digitsPerTerm the (asymptotic) rate of convergence of the series
+     * @return the number of terms to evaluate
+     */
+    private static long termsFor(MathContext mctx, double digitsPerTerm) {
+        return (long) Math.ceil((mctx.getPrecision() + GUARD_DIGITS) / digitsPerTerm) + 2L;
+    }
+
+    private static MathContext guarded(MathContext mctx) {
+        return new MathContext(mctx.getPrecision() + GUARD_DIGITS, mctx.getRoundingMode());
+    }
+
+    /**
+     * The series &#x212f;&nbsp;=&nbsp;&sum;<sub>k&ge;0</sub>&nbsp;1/k!
+     */
+    private static final Series EULER = new Series() {
+        @Override
+        public BigInteger a(long k) {
+            return BigInteger.ONE;
+        }
+
+        @Override
+        public BigInteger p(long k) {
+            return BigInteger.ONE;
+        }
+
+        @Override
+        public BigInteger q(long k) {
+            return k == 0L ? BigInteger.ONE : BigInteger.valueOf(k);
+        }
+    };
+
+    /**
+     * Compute &#x212f;, the base of the natural logarithm.
+     * @param mctx the {@link MathContext} of the result
+     * @return &#x212f; to the precision of {@code mctx}
+     */
+    public static BigDecimal e(MathContext mctx) {
+        // find N such that N! exceeds 10^(precision + guard digits)
+        final double target = mctx.getPrecision() + GUARD_DIGITS;
+        double log10Factorial = 0.0;
+        long terms = 1L;
+        while (log10Factorial <= target) {
+            log10Factorial += Math.log10(++terms);
+        }
+        return sum(EULER, 0L, terms + 1L, guarded(mctx)).round(mctx);
+    }
+
+    private static final BigInteger CHUDNOVSKY_A = BigInteger.valueOf(13591409L);
+    private static final BigInteger CHUDNOVSKY_B = BigInteger.valueOf(545140134L);
+    /**
+     * 640320<sup>3</sup>/24
+     */
+    private static final BigInteger CHUDNOVSKY_C3_24 = BigInteger.valueOf(640320L).pow(3).divide(BigInteger.valueOf(24L));
+
+    /**
+     * The Chudnovsky series, for which
+     * &pi;&nbsp;=&nbsp;426880&radic;10005&nbsp;/&nbsp;&sum;<sub>k&ge;0</sub>&nbsp;(&minus;1)<sup>k</sup>(6k)!(A&nbsp;+&nbsp;Bk)&nbsp;/&nbsp;((3k)!(k!)<sup>3</sup>640320<sup>3k</sup>).
+     */
+    public static final Series CHUDNOVSKY = new Series() {
+        @Override
+        public BigInteger a(long k) {
+            return CHUDNOVSKY_A.add(CHUDNOVSKY_B.multiply(BigInteger.valueOf(k)));
+        }
+
+        @Override
+        public BigInteger p(long k) {
+            if (k == 0L) return BigInteger.ONE;
+            return BigInteger.valueOf(6L * k - 5L).multiply(BigInteger.valueOf(2L * k - 1L))
+                    .multiply(BigInteger.valueOf(6L * k - 1L)).negate();
+        }
+
+        @Override
+        public BigInteger q(long k) {
+            if (k == 0L) return BigInteger.ONE;
+            final BigInteger kk = BigInteger.valueOf(k);
+            return kk.multiply(kk).multiply(kk).multiply(CHUDNOVSKY_C3_24);
+        }
+    };
+
+    /**
+     * The number of decimal digits gained per term of {@link #CHUDNOVSKY}.
+     */
+    public static final double CHUDNOVSKY_DIGITS_PER_TERM = Math.log10(151931373056000.0);
+
+    /**
+     * Compute &pi; from a binary splitting {@link Sum} of the {@link #CHUDNOVSKY} series.
+     * @param sum  the sum of a sufficient number of terms of the Chudnovsky series, starting at 0
+     * @param mctx the {@link MathContext} of the result
+     * @return &pi; to the precision of {@code mctx}
+     */
+    public static BigDecimal chudnovskyPi(Sum sum, MathContext mctx) {
+        final MathContext compCtx = guarded(mctx);
+        // 𝜋 = 426880·√10005·BQ/T
+        final BigDecimal numerator = ElementaryFunctions.sqrt(BigDecimal.valueOf(10005L), compCtx)
+                .multiply(new BigDecimal(sum.q().multiply(sum.b()).multiply(BigInteger.valueOf(426880L))));
+        return numerator.divide(new BigDecimal(sum.t()), compCtx).round(mctx);
+    }
+
+    private static final BigDecimal HALF = BigDecimal.valueOf(5L, 1);
+
+    /**
+     * Compute the Golden Ratio &#x03D5;&nbsp;=&nbsp;(1&nbsp;+&nbsp;&radic;5)/2.
+     * This is not a series, but it benefits from the same division-free square root
+     * used for &pi;, {@link ElementaryFunctions#sqrt(BigDecimal, MathContext)}.
+     * @param mctx the {@link MathContext} of the result
+     * @return &#x03D5; to the precision of {@code mctx}
+     */
+    public static BigDecimal phi(MathContext mctx) {
+        return BigDecimal.ONE.add(ElementaryFunctions.sqrt(BigDecimal.valueOf(5L), guarded(mctx))).multiply(HALF).round(mctx);
+    }
+
+    /**
+     * Compute the number of terms of the {@link #CHUDNOVSKY} series required for a given precision.
+     * @param mctx the {@link MathContext} of the result
+     * @return the number of terms
+     */
+    public static long chudnovskyTerms(MathContext mctx) {
+        return termsFor(mctx, CHUDNOVSKY_DIGITS_PER_TERM);
+    }
+
+    /**
+     * Compute &pi; using the Chudnovsky series.
+     * @param mctx the {@link MathContext} of the result
+     * @return &pi; to the precision of {@code mctx}
+     */
+    public static BigDecimal pi(MathContext mctx) {
+        return chudnovskyPi(evaluate(CHUDNOVSKY, 0L, chudnovskyTerms(mctx)), mctx);
+    }
+
+    /**
+     * Compute atanh(u/v)&nbsp;=&nbsp;&sum;<sub>j&ge;0</sub>&nbsp;(u/v)<sup>2j+1</sup>/(2j&nbsp;+&nbsp;1)
+     * for integers 0&nbsp;&le;&nbsp;u&nbsp;&lt;&nbsp;v.
+     * @param u    the numerator of the argument
+     * @param v    the denominator of the argument
+     * @param mctx the {@link MathContext} of the result
+     * @return atanh(u/v)
+     */
+    private static BigDecimal atanh(BigInteger u, BigInteger v, MathContext mctx) {
+        if (u.signum() == 0) return BigDecimal.ZERO;
+        final BigInteger u2 = u.multiply(u);
+        final BigInteger v2 = v.multiply(v);
+        Series series = new Series() {
+            @Override
+            public BigInteger a(long k) {
+                return BigInteger.ONE;
+            }
+
+            @Override
+            public BigInteger b(long k) {
+                return BigInteger.valueOf(2L * k + 1L);
+            }
+
+            @Override
+            public BigInteger p(long k) {
+                return k == 0L ? u : u2;
+            }
+
+            @Override
+            public BigInteger q(long k) {
+                return k == 0L ? v : v2;
+            }
+        };
+        final double digitsPerTerm = 2.0 * (Math.log10(v.doubleValue()) - Math.log10(u.doubleValue()));
+        return sum(series, 0L, termsFor(mctx, digitsPerTerm), mctx);
+    }
+
+    /**
+     * Compute atan(u/v) for integers 0&nbsp;&le;&nbsp;u&nbsp;&lt;&nbsp;v using Euler's series
+     * atan(x)&nbsp;=&nbsp;(x/(1&nbsp;+&nbsp;x<sup>2</sup>))&nbsp;&sum;<sub>k&ge;0</sub>&nbsp;&prod;<sub>j=1</sub><sup>k</sup>&nbsp;2jx<sup>2</sup>/((2j&nbsp;+&nbsp;1)(1&nbsp;+&nbsp;x<sup>2</sup>)),
+     * all of whose terms are positive.
+     * @param u    the numerator of the argument
+     * @param v    the denominator of the argument
+     * @param mctx the {@link MathContext} of the result
+     * @return atan(u/v)
+     * @throws IllegalArgumentException if u/v does not lie in [0,&nbsp;1)
+     */
+    public static BigDecimal atan(BigInteger u, BigInteger v, MathContext mctx) {
+        if (u.signum() < 0 || u.compareTo(v) >= 0) {
+            throw new IllegalArgumentException("Argument " + u + "/" + v + " is outside the range [0, 1)");
+        }
+        if (u.signum() == 0) return BigDecimal.ZERO;
+        final BigInteger u2 = u.multiply(u);
+        final BigInteger w = u2.add(v.multiply(v));
+        Series series = new Series() {
+            @Override
+            public BigInteger a(long k) {
+                return BigInteger.ONE;
+            }
+
+            @Override
+            public BigInteger p(long k) {
+                return k == 0L ? u.multiply(v) : BigInteger.valueOf(2L * k).multiply(u2);
+            }
+
+            @Override
+            public BigInteger q(long k) {
+                return k == 0L ? w : BigInteger.valueOf(2L * k + 1L).multiply(w);
+            }
+        };
+        final double digitsPerTerm = 2.0 * (Math.log10(v.doubleValue()) - Math.log10(u.doubleValue()))
+                + Math.log10(1.0 + u.doubleValue() / v.doubleValue() * u.doubleValue() / v.doubleValue());
+        return sum(series, 0L, termsFor(mctx, digitsPerTerm), guarded(mctx)).round(mctx);
+    }
+
+    /**
+     * Compute ln&nbsp;2 using the Machin-like formula
+     * ln&nbsp;2&nbsp;=&nbsp;18&nbsp;acoth(26)&nbsp;&minus;&nbsp;2&nbsp;acoth(4801)&nbsp;+&nbsp;8&nbsp;acoth(8749).
+     * @param mctx the {@link MathContext} of the result
+     * @return ln&nbsp;2 to the precision of {@code mctx}
+     */
+    public static BigDecimal ln2(MathContext mctx) {
+        final MathContext compCtx = guarded(mctx);
+        return atanh(BigInteger.ONE, BigInteger.valueOf(26L), compCtx).multiply(BigDecimal.valueOf(18L))
+                .subtract(atanh(BigInteger.ONE, BigInteger.valueOf(4801L), compCtx).multiply(BigDecimal.valueOf(2L)))
+                .add(atanh(BigInteger.ONE, BigInteger.valueOf(8749L), compCtx).multiply(BigDecimal.valueOf(8L)))
+                .round(mctx);
+    }
+
+    /**
+     * Compute the natural logarithm of a positive integer n.  With
+     * 2<sup>m</sup>&nbsp;&le;&nbsp;n&nbsp;&lt;&nbsp;2<sup>m+1</sup>,
+     * ln&nbsp;n&nbsp;=&nbsp;m&nbsp;ln&nbsp;2&nbsp;+&nbsp;2&nbsp;atanh((n&nbsp;&minus;&nbsp;2<sup>m</sup>)/(n&nbsp;+&nbsp;2<sup>m</sup>)),
+     * where the argument of atanh is at most 1/3.
+     * @param n    a positive integer
+     * @param mctx the {@link MathContext} of the result
+     * @return ln&nbsp;n
+     * @throws ArithmeticException if n is not positive
+     */
+    public static BigDecimal ln(BigInteger n, MathContext mctx) {
+        if (n.signum() <= 0) throw new ArithmeticException("ln(n) is undefined for n \u2264 0");
+        final int m = n.bitLength() - 1;
+        final MathContext compCtx = new MathContext(mctx.getPrecision() + GUARD_DIGITS +
+                (int) Math.ceil(Math.log10(m + 1)), mctx.getRoundingMode());
+        final BigInteger powerOf2 = BigInteger.ONE.shiftLeft(m);
+        BigDecimal result = atanh(n.subtract(powerOf2), n.add(powerOf2), compCtx).multiply(BigDecimal.valueOf(2L));
+        if (m > 0) result = result.add(ln2(compCtx).multiply(BigDecimal.valueOf(m)));
+        return result.round(mctx);
+    }
+
+    /**
+     * Compute the Euler-Mascheroni constant &#x1D6FE; using Sweeney's series
+     * &#x1D6FE;&nbsp;=&nbsp;&sum;<sub>k&ge;1</sub>&nbsp;(&minus;1)<sup>k&minus;1</sup>n<sup>k</sup>/(k&sdot;k!)&nbsp;&minus;&nbsp;ln&nbsp;n&nbsp;&minus;&nbsp;O(&#x212f;<sup>&minus;n</sup>/n).
+     * Since binary splitting sums the alternating series exactly, the cancellation
+     * between its terms (which grow as large as &#x212f;<sup>n</sup>) costs no precision.
+     * @param mctx the {@link MathContext} of the result
+     * @return &#x1D6FE; to the precision of {@code mctx}
+     */
+    public static BigDecimal eulerGamma(MathContext mctx) {
+        final MathContext compCtx = guarded(mctx);
+        // choose n so that e^-n < 10^-(precision + guard digits)
+        final long n = (long) Math.ceil(compCtx.getPrecision() * Math.log(10.0)) + 1L;
+        final BigInteger bigN = BigInteger.valueOf(n);
+        final BigInteger negN = bigN.negate();
+        // the terms peak near k = n; beyond 𝛼n, where 𝛼(ln 𝛼 - 1) = 1 (i.e., 𝛼 ≈ 3.5911), they are negligible
+        final long terms = (long) Math.ceil(3.5911 * n) + 1L;
+        Series series = new Series() {
+            @Override
+            public BigInteger a(long k) {
+                return BigInteger.ONE;
+            }
+
+            @Override
+            public BigInteger b(long k) {
+                return BigInteger.valueOf(k);
+            }
+
+            @Override
+            public BigInteger p(long k) {
+                return k == 1L ? bigN : negN;
+            }
+
+            @Override
+            public BigInteger q(long k) {
+                return BigInteger.valueOf(k);
+            }
+        };
+        return sum(series, 1L, terms + 1L, compCtx).subtract(ln(bigN, compCtx)).round(mctx);
+    }
+
+    /**
+     * Compute Ap&eacute;ry's constant &zeta;(3) using the series
+     * &zeta;(3)&nbsp;=&nbsp;(5/2)&nbsp;&sum;<sub>k&ge;1</sub>&nbsp;(&minus;1)<sup>k&minus;1</sup>/(k<sup>3</sup>C(2k,&nbsp;k)).
+     * @param mctx the {@link MathContext} of the result
+     * @return &zeta;(3) to the precision of {@code mctx}
+     */
+    public static BigDecimal zeta3(MathContext mctx) {
+        Series series = new Series() {
+            @Override
+            public BigInteger a(long k) {
+                return BigInteger.ONE;
+            }
+
+            @Override
+            public BigInteger b(long k) {
+                return BigInteger.valueOf(k).pow(3);
+            }
+
+            @Override
+            public BigInteger p(long k) {
+                // C(2k, k)/C(2k - 2, k - 1) = 2(2k - 1)/k
+                return k == 1L ? BigInteger.ONE : BigInteger.valueOf(-k);
+            }
+
+            @Override
+            public BigInteger q(long k) {
+                return BigInteger.valueOf(2L * (2L * k - 1L));
+            }
+        };
+        final MathContext compCtx = guarded(mctx);
+        return sum(series, 1L, termsFor(mctx, Math.log10(4.0)) + 1L, compCtx)
+                .multiply(BigDecimal.valueOf(25L, 1)).round(mctx);
+    }
+}
@@ -0,0 +1,126 @@
+package tungsten.types.util;
+
+/*
+ * The MIT License
+ *
+ * Copyright © 2026 Robert Poole <Tarquin.AZ@gmail.com>.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Mediates access to the optional persistent {@link ConstantStore} used
+ * by the factory methods of expensive constants.  By default, no store is
+ * configured and every constant is computed on demand.  Setting the system
+ * property {@value #CACHE_DIRECTORY} to a directory path enables a
+ * {@link DirectoryConstantStore} rooted there; alternatively, any store
+ * may be installed programmatically with {@link #setStore(ConstantStore)}.
+ * <br>
+ * Storage failures are never fatal; they are logged and the constant
+ * is simply computed.
+ *
+ * @author Robert Poole, <a href="mailto:tarquin@alum.mit.edu">MIT alumni e-mail</a>
+ *   or <a href="mailto:Tarquin.AZ@gmail.com">Gmail</a>
+ * @since 1.5
+ */
+public final class ConstantCache {
+    /**
+     * The system property naming a directory in which computed constants
+     * are persisted between runs.
+     */
+    public static final String CACHE_DIRECTORY = "tungsten.types.util.ConstantCache.directory";
+
+    private static volatile ConstantStore store = initialStore();
+
+    private ConstantCache() {
+        // static methods only
+    }
+
+    private static ConstantStore initialStore() {
+        final String dirName = System.getProperty(CACHE_DIRECTORY);
+        if (dirName == null || dirName.isBlank()) return null;
+        try {
+            return new DirectoryConstantStore(Path.of(dirName));
+        } catch (IOException | RuntimeException e) {
+            Logger.getLogger(ConstantCache.class.getName()).log(Level.WARNING,
+                    "Unable to use " + dirName + " as a constant cache; constants will not be persisted.", e);
+            return null;
+        }
+    }
+
+    /**
+     * Obtain the currently configured store.
+     * @return the store, or {@code null} if none is configured
+     */
+    public static ConstantStore getStore() {
+        return store;
+    }
+
+    /**
+     * Install a store to be consulted by constant factory methods.
+     * Constants already instantiated are unaffected.
+     * @param constantStore the store to use, or {@code null} to disable persistence
+     */
+    public static void setStore(ConstantStore constantStore) {
+        store = constantStore;
+    }
+
+    /**
+     * Obtain the value of a constant, consulting the configured store
+     * first.  If the store cannot supply the value, it is computed and
+     * then offered to the store.
+     * @param name        the name of the constant, typically the one given by its
+     *                    {@link tungsten.types.annotations.Constant} annotation
+     * @param mctx        the desired precision and rounding mode
+     * @param calculation the function that computes the constant
+     * @return the value of the constant rounded according to {@code mctx}
+     */
+    public static BigDecimal obtain(String name, MathContext mctx, Function<MathContext, BigDecimal> calculation) {
+        final ConstantStore current = store;
+        if (current == null || mctx.getPrecision() == 0) return calculation.apply(mctx);
+        final Logger logger = Logger.getLogger(ConstantCache.class.getName());
+        try {
+            Optional<BigDecimal> stored = current.load(name, mctx);
+            if (stored.isPresent()) {
+                logger.log(Level.FINE, "Loaded {0} at precision {1} from {2}.",
+                        new Object[] {name, mctx.getPrecision(), current});
+                return stored.get();
+            }
+        } catch (IOException | UncheckedIOException e) {
+            logger.log(Level.WARNING, "Unable to load " + name + " from " + current + ".", e);
+        }
+        final BigDecimal value = calculation.apply(mctx);
+        try {
+            current.save(name, value, mctx);
+        } catch (IOException | UncheckedIOException e) {
+            logger.log(Level.WARNING, "Unable to save " + name + " to " + current + ".", e);
+        }
+        return value;
+    }
+}
@@ -0,0 +1,105 @@
+package tungsten.types.util;
+
+/*
+ * The MIT License
+ *
+ * Copyright © 2026 Robert Poole <Tarquin.AZ@gmail.com>.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.Optional;
+
+/**
+ * A persistent store for the values of mathematical constants, keyed
+ * by constant name.  Implementations hold each constant at some precision,
+ * and are expected to serve any request for equal or lower precision
+ * by rounding the stored value, provided the rounding can be shown to
+ * agree with a correctly-rounded result.
+ * <br>
+ * Stores are consulted by {@link ConstantCache} on behalf of the
+ * {@link tungsten.types.annotations.ConstantFactory} methods of
+ * expensive constants such as &pi; and &#x212f;.  Implementations
+ * must be safe for concurrent use.
+ *
+ * @author Robert Poole, <a href="mailto:tarquin@alum.mit.edu">MIT alumni e-mail</a>
+ *   or <a href="mailto:Tarquin.AZ@gmail.com">Gmail</a>
+ * @since 1.5
+ * @see DirectoryConstantStore
+ */
+public interface ConstantStore {
+    /**
+     * Obtain the value of a constant at the given precision, if this
+     * store holds the constant to at least that precision.
+     * @param name the name of the constant, e.g. {@code "pi"}
+     * @param mctx the desired precision and rounding mode
+     * @return the value rounded according to {@code mctx}, or an empty
+     *   {@code Optional} if this store cannot supply it
+     * @throws IOException if the underlying storage could not be read
+     */
+    Optional<BigDecimal> load(String name, MathContext mctx) throws IOException;
+
+    /**
+     * Record the value of a constant computed at the given precision.
+     * Implementations may ignore values of lower precision than
+     * the one already stored.
+     * @param name  the name of the constant, e.g. {@code "pi"}
+     * @param value the value of the constant, correctly rounded according to {@code mctx}
+     * @param mctx  the {@code MathContext} used to compute {@code value}
+     * @throws IOException if the underlying storage could not be written
+     */
+    void save(String name, BigDecimal value, MathContext mctx) throws IOException;
+
+    /**
+     * Round a stored value to a lower precision, but only if the result is
+     * guaranteed to be the same as rounding the exact value.  A stored value
+     * is assumed to lie within one ulp of the exact value; if that interval
+     * straddles a rounding boundary at the requested precision (i.e., the
+     * discarded digits are too close to zero, one half, or one), the
+     * correctly-rounded result cannot be determined from the stored digits.
+     * @param stored     the stored value
+     * @param storedCtx  the {@code MathContext} with which {@code stored} was computed
+     * @param mctx       the requested precision and rounding mode
+     * @return the value rounded according to {@code mctx}, or an empty {@code Optional}
+     *   if the stored value is insufficient to determine it
+     */
+    static Optional<BigDecimal> roundFrom(BigDecimal stored, MathContext storedCtx, MathContext mctx) {
+        if (mctx.getPrecision() == 0 || storedCtx.getPrecision() == 0) return Optional.empty();
+        if (mctx.getPrecision() > storedCtx.getPrecision()) return Optional.empty();
+        if (mctx.getPrecision() == storedCtx.getPrecision()) {
+            return mctx.getRoundingMode() == storedCtx.getRoundingMode() ? Optional.of(stored) : Optional.empty();
+        }
+        final BigDecimal truncated = stored.round(new MathContext(mctx.getPrecision(), RoundingMode.DOWN));
+        final BigDecimal ulp = truncated.ulp();
+        // the discarded fraction of a target ulp, and the uncertainty in that fraction
+        final BigDecimal fraction = stored.subtract(truncated).abs().divide(ulp);
+        final BigDecimal epsilon = stored.ulp().divide(ulp);
+        final BigDecimal half = BigDecimal.valueOf(5L, 1);
+        if (fraction.compareTo(epsilon) <= 0 ||
+                fraction.compareTo(BigDecimal.ONE.subtract(epsilon)) >= 0 ||
+                fraction.subtract(half).abs().compareTo(epsilon) <= 0) {
+            return Optional.empty();
+        }
+        return Optional.of(stored.round(mctx));
+    }
+}
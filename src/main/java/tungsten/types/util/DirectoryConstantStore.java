@@ -0,0 +1,174 @@
+package tungsten.types.util;
+
+/*
+ * The MIT License
+ *
+ * Copyright © 2026 Robert Poole <Tarquin.AZ@gmail.com>.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * A {@link ConstantStore} backed by a directory of compact binary files,
+ * one per constant.  Each file holds the highest-precision value computed
+ * so far, stored as the two's complement bytes of its unscaled value
+ * together with its scale and the {@link MathContext} used to compute it.
+ * This costs roughly 0.42 bytes per decimal digit.
+ * <br>
+ * Files are read through a memory-mapped buffer, and written to a temporary
+ * file which then atomically replaces the previous one, so that several
+ * processes may safely share a directory.  Lower precisions are served by
+ * rounding the stored value, subject to the checks in
+ * {@link ConstantStore#roundFrom(BigDecimal, MathContext, MathContext)}.
+ *
+ * @author Robert Poole, <a href="mailto:tarquin@alum.mit.edu">MIT alumni e-mail</a>
+ *   or <a href="mailto:Tarquin.AZ@gmail.com">Gmail</a>
+ * @since 1.5
+ */
+public final class DirectoryConstantStore implements ConstantStore {
+    private static final int MAGIC = 0x54574353;  // "TWCS"
+    private static final short VERSION = 1;
+    private static final int HEADER_SIZE = Integer.BYTES + Short.BYTES + Byte.BYTES + 3 * Integer.BYTES;
+    private static final String SUFFIX = ".digits";
+    private static final Pattern VALID_NAME = Pattern.compile("[A-Za-z0-9_\\-]+");
+
+    private final Path directory;
+
+    /**
+     * Construct a store rooted at the given directory, creating
+     * the directory if it does not already exist.
+     * @param directory the directory in which to keep constant files
+     * @throws IOException if the directory could not be created
+     */
+    public DirectoryConstantStore(Path directory) throws IOException {
+        this.directory = Files.createDirectories(Objects.requireNonNull(directory));
+    }
+
+    /**
+     * Obtain the directory backing this store.
+     * @return the directory
+     */
+    public Path getDirectory() {
+        return directory;
+    }
+
+    private Path fileFor(String name) {
+        if (!VALID_NAME.matcher(name).matches()) {
+            throw new IllegalArgumentException("Invalid constant name for storage: " + name);
+        }
+        return directory.resolve(name + SUFFIX);
+    }
+
+    /**
+     * A constant value as read from storage.
+     * @param value the stored value
+     * @param mctx  the {@code MathContext} with which the value was computed
+     */
+    record Entry(BigDecimal value, MathContext mctx) {}
+
+    Optional<Entry> read(String name) throws IOException {
+        final Path file = fileFor(name);
+        if (!Files.isRegularFile(file)) return Optional.empty();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            final long size = channel.size();
+            if (size < HEADER_SIZE || size > Integer.MAX_VALUE) {
+                throw new IOException("Constant file " + file + " has invalid size " + size);
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0L, size);
+            if (buffer.getInt() != MAGIC || buffer.getShort() != VERSION) {
+                throw new IOException("Constant file " + file + " is not in a recognized format");
+            }
+            final RoundingMode mode = RoundingMode.valueOf(buffer.get());
+            final int precision = buffer.getInt();
+            final int scale = buffer.getInt();
+            final int length = buffer.getInt();
+            if (length <= 0 || length != buffer.remaining()) {
+                throw new IOException("Constant file " + file + " is truncated or corrupt");
+            }
+            byte[] unscaled = new byte[length];
+            buffer.get(unscaled);
+            return Optional.of(new Entry(new BigDecimal(new BigInteger(unscaled), scale),
+                    new MathContext(precision, mode)));
+        } catch (IllegalArgumentException e) {
+            throw new IOException("Constant file " + file + " contains an invalid rounding mode", e);
+        }
+    }
+
+    @Override
+    public Optional<BigDecimal> load(String name, MathContext mctx) throws IOException {
+        Optional<Entry> entry = read(name);
+        if (entry.isEmpty()) return Optional.empty();
+        return ConstantStore.roundFrom(entry.get().value(), entry.get().mctx(), mctx);
+    }
+
+    @Override
+    public void save(String name, BigDecimal value, MathContext mctx) throws IOException {
+        if (mctx.getPrecision() == 0) {
+            throw new IllegalArgumentException("Cannot store a constant computed with unlimited precision");
+        }
+        final Path file = fileFor(name);
+        try {
+            Optional<Entry> existing = read(name);
+            if (existing.isPresent() && existing.get().mctx().getPrecision() >= mctx.getPrecision()) return;
+        } catch (IOException e) {
+            // an unreadable file will be replaced below
+        }
+        final byte[] unscaled = value.unscaledValue().toByteArray();
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE + unscaled.length);
+        buffer.putInt(MAGIC).putShort(VERSION).put((byte) mctx.getRoundingMode().ordinal())
+                .putInt(mctx.getPrecision()).putInt(value.scale()).putInt(unscaled.length).put(unscaled);
+        buffer.flip();
+        final Path temp = Files.createTempFile(directory, name, ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                while (buffer.hasRemaining()) channel.write(buffer);
+                channel.force(false);
+            }
+            try {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "DirectoryConstantStore[" + directory + "]";
+    }
+}
@@ -0,0 +1,947 @@
+package tungsten.types.util;
+
+/*
+ * The MIT License
+ *
+ * Copyright © 2026 Robert Poole <Tarquin.AZ@gmail.com>.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+import tungsten.types.numerics.RationalType;
+import tungsten.types.numerics.impl.Pi;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Shared {@link BigDecimal} kernels for the elementary functions.
+ * These methods perform no type dispatch and allocate no {@link tungsten.types.Numeric}
+ * wrappers; they are the common back end for {@link tungsten.types.numerics.impl.Euler#exp(tungsten.types.numerics.RealType)},
+ * {@link MathUtils#ln(tungsten.types.numerics.RealType, MathContext)} and
+ * {@link MathUtils#generalizedExponent(tungsten.types.numerics.RealType, tungsten.types.Numeric, MathContext)}.
+ * <br>
+ * The exponential reduces its argument as x&nbsp;=&nbsp;k&nbsp;ln&nbsp;2&nbsp;+&nbsp;r with |r|&nbsp;&le;&nbsp;ln&nbsp;2/2,
+ * then halves r repeatedly so that a short Taylor series suffices, recovering
+ * &#x212f;<sup>r</sup> by repeated squaring.  The series and the squarings are
+ * carried out in binary fixed point, where rescaling is a shift rather than
+ * a decimal rounding.  The logarithm is computed by
+ * Halley's iteration on the exponential, starting from a {@code double}
+ * estimate and tripling the working precision with each step.
+ * The constants ln&nbsp;2 and ln&nbsp;10 are computed by {@link BinarySplitting}
+ * and cached per {@link MathContext}.
+ * <br>
+ * The circular functions reduce their argument in a single step as
+ * x&nbsp;=&nbsp;q&pi;/2&nbsp;+&nbsp;r with |r|&nbsp;&le;&nbsp;&pi;/4, using the cached value
+ * of {@link Pi &pi;} at whatever precision the cancellation in that subtraction
+ * demands.  The result for r then follows from 1&nbsp;&minus;&nbsp;cos(r/2<sup>s</sup>),
+ * computed by a short Taylor series and doubled s times with
+ * 1&nbsp;&minus;&nbsp;cos(2t)&nbsp;=&nbsp;2v(2&nbsp;&minus;&nbsp;v), where v&nbsp;=&nbsp;1&nbsp;&minus;&nbsp;cos(t).
+ * Working with v rather than cos(t) avoids cancellation, and
+ * sin(r)&nbsp;=&nbsp;&plusmn;&radic;(v(2&nbsp;&minus;&nbsp;v)) follows without any.
+ * <br>
+ * The arctangent folds its argument into (&minus;1/3,&nbsp;1/2] using
+ * atan(x)&nbsp;=&nbsp;&pi;/2&nbsp;&minus;&nbsp;atan(1/x) and
+ * atan(x)&nbsp;=&nbsp;&pi;/4&nbsp;+&nbsp;atan((x&nbsp;&minus;&nbsp;1)/(x&nbsp;+&nbsp;1)).  Fractions with short
+ * denominators are then summed exactly by {@link BinarySplitting}; other arguments are halved
+ * a few more times before a Taylor series whose terms are each obtained from the last.
+ * <br>
+ * Square roots and n<sup>th</sup> roots are computed by Newton's iteration for the inverse root,
+ * which needs no divisions, starting from a {@code double} estimate and doubling
+ * the working precision with each step.  A final correction at full precision
+ * then recovers the root itself from an inverse root known to only half the digits.
+ * <br>
+ * The Gamma function of a real argument is computed by Spouge's approximation, whose
+ * coefficients depend only on the precision and are therefore cached per {@link MathContext}.
+ * Its logarithm is computed by Stirling's series, after shifting the argument upward far enough
+ * that the series converges to the required precision; the coefficients
+ * B<sub>2k</sub>/(2k(2k&nbsp;&minus;&nbsp;1)) are likewise cached.
+ *
+ * @author Robert Poole, <a href="mailto:tarquin@alum.mit.edu">MIT alumni e-mail</a>
+ *   or <a href="mailto:Tarquin.AZ@gmail.com">Gmail</a>
+ * @since 1.5
+ */
+public final class ElementaryFunctions {
+    /**
+     * The number of additional digits carried by intermediate results.
+     */
+    private static final int GUARD_DIGITS = 10;
+    /**
+     * Internal uses of cached constants round their precision up to a multiple
+     * of this value, so that nearby working precisions share cache entries.
+     */
+    private static final int PRECISION_QUANTUM = 32;
+    /**
+     * The largest magnitude of argument accepted by {@link #exp(BigDecimal, MathContext)};
+     * beyond this, the scale of the result cannot be represented by a {@link BigDecimal}.
+     */
+    private static final double MAX_EXP_ARGUMENT = 6.9e8;
+    /**
+     * Fractions whose denominators are at most this many bits long are handled
+     * by binary splitting in {@link #atan(BigDecimal, MathContext)}.
+     */
+    private static final int RATIONAL_ATAN_BITS = 64;
+    /**
+     * Square roots to at least this many digits are computed by {@link #sqrt(BigDecimal, MathContext)}
+     * itself, rather than by {@link BigDecimal#sqrt(MathContext)}.
+     */
+    private static final int SQRT_NEWTON_DIGITS = 100;
+    private static final double LN2 = Math.log(2.0);
+    private static final double LN10 = Math.log(10.0);
+    private static final double LOG10_2 = Math.log10(2.0);
+    private static final BigDecimal TWO = BigDecimal.valueOf(2L);
+    private static final BigDecimal HALF = BigDecimal.valueOf(5L, 1);
+    private static final BigDecimal QUARTER = BigDecimal.valueOf(25L, 2);
+
+    private static final Map<MathContext, BigDecimal> ln2Cache = new ConcurrentHashMap<>();
+    private static final Map<MathContext, BigDecimal> ln10Cache = new ConcurrentHashMap<>();
+    private static final Map<MathContext, SpougeCoefficients> spougeCache = new ConcurrentHashMap<>();
+    private static final Map<MathContext, BigDecimal[]> stirlingCache = new ConcurrentHashMap<>();
+
+    private ElementaryFunctions() {
+        // static methods only
+    }
+
+    /**
+     * Obtain ln&nbsp;2, computing it only once for any given {@link MathContext}.
+     * @param mctx the {@link MathContext} of the result
+     * @return ln&nbsp;2 to the precision of {@code mctx}
+     */
+    public static BigDecimal ln2(MathContext mctx) {
+        requireFinitePrecision(mctx);
+        return ln2Cache.computeIfAbsent(mctx, BinarySplitting::ln2);
+    }
+
+    /**
+     * Obtain ln&nbsp;10, computing it only once for any given {@link MathContext}.
+     * @param mctx the {@link MathContext} of the result
+     * @return ln&nbsp;10 to the precision of {@code mctx}
+     */
+    public static BigDecimal ln10(MathContext mctx) {
+        requireFinitePrecision(mctx);
+        return ln10Cache.computeIfAbsent(mctx, ctx -> BinarySplitting.ln(BigInteger.TEN, ctx));
+    }
+
+    private static BigDecimal cachedLn2(int digits) {
+        return ln2(quantized(digits)).round(new MathContext(digits, RoundingMode.HALF_EVEN));
+    }
+
+    private static BigDecimal cachedLn10(int digits) {
+        return ln10(quantized(digits)).round(new MathContext(digits, RoundingMode.HALF_EVEN));
+    }
+
+    private static MathContext quantized(int digits) {
+        return new MathContext((digits + PRECISION_QUANTUM - 1) / PRECISION_QUANTUM * PRECISION_QUANTUM,
+                RoundingMode.HALF_EVEN);
+    }
+
+    private static void requireFinitePrecision(MathContext mctx) {
+        if (mctx.getPrecision() == 0) {
+            throw new ArithmeticException("Transcendental functions cannot be computed with unlimited precision");
+        }
+    }
+
+    /**
+     * The decimal exponent of a nonzero value, i.e., the power of 10 of its leading digit.
+     * @param x a nonzero value
+     * @return &lfloor;log<sub>10</sub>|x|&rfloor;
+     */
+    private static int exponentOf(BigDecimal x) {
+        return x.precision() - x.scale() - 1;
+    }
+
+    /**
+     * Compute &#x212f;<sup>x</sup>.
+     * @param x    the exponent
+     * @param mctx the {@link MathContext} of the result
+     * @return &#x212f;<sup>x</sup> to the precision of {@code mctx}
+     * @throws ArithmeticException if the result is too large or too small to be represented
+     */
+    public static BigDecimal exp(BigDecimal x, MathContext mctx) {
+        requireFinitePrecision(mctx);
+        if (x.signum() == 0) return BigDecimal.ONE;
+        final int precision = mctx.getPrecision();
+        if (exponentOf(x) < -precision - 1) {
+            // e^x = 1 + x + O(x²), and x² is below the resolution of the result
+            return BigDecimal.ONE.add(x, mctx);
+        }
+        final double xd = x.doubleValue();
+        if (Math.abs(xd) > MAX_EXP_ARGUMENT) {
+            throw new ArithmeticException("exp(" + x + ") is out of range");
+        }
+        final int k = (int) Math.round(xd / LN2);
+        // halving the reduced argument s times lets the series converge quickly,
+        // at the cost of about s bits lost while squaring
+        final int targetBits = (int) Math.ceil((precision + GUARD_DIGITS) / LOG10_2);
+        final int halvings = (int) Math.sqrt(targetBits);
+        final int bits = targetBits + halvings + 32;
+        final MathContext compCtx = new MathContext((int) Math.ceil(bits * LOG10_2) + 2, RoundingMode.HALF_EVEN);
+        BigDecimal r = x;
+        if (k != 0) {
+            final int kDigits = (int) Math.ceil(Math.log10(Math.abs((double) k) + 1.0));
+            final BigDecimal ln2 = cachedLn2(compCtx.getPrecision() + kDigits);
+            r = x.subtract(ln2.multiply(BigDecimal.valueOf(k)), compCtx);
+        }
+        // r/2^s as a fixed-point value with the given number of fractional bits
+        final BigInteger fixedR = r.multiply(new BigDecimal(BigInteger.ONE.shiftLeft(bits - halvings)))
+                .setScale(0, RoundingMode.HALF_EVEN).toBigInteger();
+        final BigInteger one = BigInteger.ONE.shiftLeft(bits);
+        // Taylor series for e^r - 1, which avoids cancellation while squaring
+        BigInteger term = fixedR;
+        BigInteger expm1 = fixedR;
+        for (long n = 2L; term.signum() != 0; n++) {
+            term = term.multiply(fixedR).shiftRight(bits).divide(BigInteger.valueOf(n));
+            expm1 = expm1.add(term);
+        }
+        final BigInteger twoOne = one.shiftLeft(1);
+        for (int j = 0; j < halvings; j++) {
+            // (1 + u)² - 1 = u(2 + u)
+            expm1 = expm1.multiply(expm1.add(twoOne)).shiftRight(bits);
+        }
+        // convert from fixed point: V/2^b = V·5^b/10^b
+        BigDecimal result = new BigDecimal(one.add(expm1).multiply(BigInteger.valueOf(5L).pow(bits)), bits)
+                .round(compCtx);
+        if (k != 0) result = result.multiply(TWO.pow(k, compCtx), compCtx);
+        return result.round(mctx);
+    }
+
+    /**
+     * Compute the natural logarithm ln(x).
+     * @param x    a positive value
+     * @param mctx the {@link MathContext} of the result
+     * @return ln(x) to the precision of {@code mctx}
+     * @throws ArithmeticException if {@code x} is not positive
+     */
+    public static BigDecimal ln(BigDecimal x, MathContext mctx) {
+        requireFinitePrecision(mctx);
+        if (x.signum() <= 0) throw new ArithmeticException("ln(x) is undefined for x \u2264 0");
+        if (x.compareTo(BigDecimal.ONE) == 0) return BigDecimal.ZERO;
+        final int precision = mctx.getPrecision();
+        // write x = m × 10^E, except near 1 where that would cause cancellation
+        int decExponent = 0;
+        BigDecimal m = x;
+        int extraDigits = 0;
+        if (x.compareTo(HALF) > 0 && x.compareTo(TWO) < 0) {
+            // ln(x) ≈ x - 1, so its leading digit lies this far below that of x
+            extraDigits = Math.max(0, -exponentOf(x.subtract(BigDecimal.ONE)));
+        } else {
+            decExponent = exponentOf(x);
+            m = x.movePointLeft(decExponent);
+        }
+        final int target = precision + GUARD_DIGITS + extraDigits;
+        // Halley's method on f(y) = e^y - m, which triples the number of correct digits per step
+        BigDecimal y = new BigDecimal(Math.log1p(m.subtract(BigDecimal.ONE).doubleValue()));
+        int accurate = 14 + extraDigits;
+        while (accurate < target) {
+            accurate = Math.min(3 * accurate, target);
+            final MathContext stepCtx = new MathContext(accurate + 4, RoundingMode.HALF_EVEN);
+            final BigDecimal ey = exp(y, stepCtx);
+            y = y.add(TWO.multiply(m.subtract(ey, stepCtx)).divide(m.add(ey, stepCtx), stepCtx), stepCtx);
+        }
+        if (decExponent != 0) {
+            final int eDigits = (int) Math.ceil(Math.log10(Math.abs((double) decExponent) + 1.0));
+            final MathContext compCtx = new MathContext(target + eDigits, RoundingMode.HALF_EVEN);
+            y = y.add(cachedLn10(compCtx.getPrecision()).multiply(BigDecimal.valueOf(decExponent)), compCtx);
+        }
+        return y.round(mctx);
+    }
+
+    /**
+     * Compute b<sup>y</sup>&nbsp;=&nbsp;&#x212f;<sup>y&nbsp;ln&nbsp;b</sup> for positive b and arbitrary real y.
+     * @param base     the base b, which must be positive
+     * @param exponent the exponent y
+     * @param mctx     the {@link MathContext} of the result
+     * @return b<sup>y</sup> to the precision of {@code mctx}
+     * @throws ArithmeticException if {@code base} is not positive, or the result is out of range
+     */
+    public static BigDecimal pow(BigDecimal base, BigDecimal exponent, MathContext mctx) {
+        requireFinitePrecision(mctx);
+        if (exponent.signum() == 0 || base.compareTo(BigDecimal.ONE) == 0) return BigDecimal.ONE;
+        final MathContext compCtx = powContext(base, exponent.doubleValue(), mctx);
+        return exp(ln(base, compCtx).multiply(exponent, compCtx), mctx);
+    }
+
+    /**
+     * Compute b<sup>u/v</sup>&nbsp;=&nbsp;&#x212f;<sup>u&nbsp;ln(b)/v</sup> for positive b and
+     * a rational exponent u/v.  The exponent is never rounded to a decimal value.
+     * @param base        the base b, which must be positive
+     * @param numerator   the numerator u of the exponent
+     * @param denominator the denominator v of the exponent, which must be positive
+     * @param mctx        the {@link MathContext} of the result
+     * @return b<sup>u/v</sup> to the precision of {@code mctx}
+     * @throws ArithmeticException if {@code base} is not positive, or the result is out of range
+     */
+    public static BigDecimal pow(BigDecimal base, BigInteger numerator, BigInteger denominator, MathContext mctx) {
+        requireFinitePrecision(mctx);
+        if (denominator.signum() <= 0) throw new ArithmeticException("Denominator of exponent must be positive");
+        if (numerator.signum() == 0 || base.compareTo(BigDecimal.ONE) == 0) return BigDecimal.ONE;
+        final MathContext compCtx = powContext(base, numerator.doubleValue() / denominator.doubleValue(), mctx);
+        final BigDecimal product = ln(base, compCtx).multiply(new BigDecimal(numerator));
+        return exp(product.divide(new BigDecimal(denominator), compCtx), mctx);
+    }
+
+    /**
+     * Determine the working precision for y&nbsp;ln(b).  The absolute error in that
+     * product becomes the relative error of b<sup>y</sup>, so the logarithm needs as
+     * many extra digits as the product has integer digits.
+     */
+    private static MathContext powContext(BigDecimal base, double exponent, MathContext mctx) {
+        if (base.signum() <= 0) throw new ArithmeticException("pow() requires a positive base");
+        final int baseExponent = exponentOf(base);
+        final double lnEstimate = baseExponent * LN10 + Math.log(base.movePointLeft(baseExponent).doubleValue());
+        final double magnitude = Math.abs(exponent * lnEstimate);
+        if (magnitude > MAX_EXP_ARGUMENT) {
+            throw new ArithmeticException("Result of exponentiation is out of range");
+        }
+        final int integerDigits = (int) Math.ceil(Math.log10(magnitude + 1.0));
+        return new MathContext(mctx.getPrecision() + GUARD_DIGITS + integerDigits, RoundingMode.HALF_EVEN);
+    }
+
+    /**
+     * The sine and cosine of a reduced argument, as fixed-point values.
+     * @param quadrant the quadrant q, in the range [0,&nbsp;3], of the original argument
+     * @param sin      sin(r) scaled by 2<sup>bits</sup>
+     * @param cos      cos(r) scaled by 2<sup>bits</sup>
+     * @param bits     the number of fractional bits
+     */
+    private record Reduced(int quadrant, BigInteger sin, BigInteger cos, int bits) {
+        BigDecimal sinValue(MathContext mctx) {
+            return switch (quadrant) {
+                case 0 -> toDecimal(sin, bits, mctx);
+                case 1 -> toDecimal(cos, bits, mctx);
+                case 2 -> toDecimal(sin.negate(), bits, mctx);
+                default -> toDecimal(cos.negate(), bits, mctx);
+            };
+        }
+
+        BigDecimal cosValue(MathContext mctx) {
+            return switch (quadrant) {
+                case 0 -> toDecimal(cos, bits, mctx);
+                case 1 -> toDecimal(sin.negate(), bits, mctx);
+                case 2 -> toDecimal(cos.negate(), bits, mctx);
+                default -> toDecimal(sin, bits, mctx);
+            };
+        }
+
+        BigDecimal tanValue(MathContext mctx) {
+            final BigInteger num = (quadrant & 1) == 0 ? sin : cos.negate();
+            final BigInteger denom = (quadrant & 1) == 0 ? cos : sin;
+            if (denom.signum() == 0) throw new ArithmeticException("tan(x) is undefined at a pole");
+            return new BigDecimal(num).divide(new BigDecimal(denom), mctx);
+        }
+    }
+
+    private static BigDecimal toDecimal(BigInteger fixed, int bits, MathContext mctx) {
+        // V/2^b = V·5^b/10^b
+        return new BigDecimal(fixed.multiply(BigInteger.valueOf(5L).pow(bits)), bits).round(mctx);
+    }
+
+    private static BigDecimal cachedPi(int digits) {
+        return Pi.getInstance(quantized(digits)).asBigDecimal().round(new MathContext(digits, RoundingMode.HALF_EVEN));
+    }
+
+    /**
+     * Reduce x to r&nbsp;=&nbsp;x&nbsp;&minus;&nbsp;q&pi;/2 and compute sin(r) and cos(r).
+     * @param x         the argument
+     * @param precision the number of significant digits required of the final result
+     * @return the quadrant and the fixed-point sine and cosine of the reduced argument
+     */
+    private static Reduced reduce(BigDecimal x, int precision) {
+        final int digits = precision + GUARD_DIGITS;
+        final int intDigits = Math.max(0, exponentOf(x) + 1);
+        BigInteger q = BigInteger.ZERO;
+        BigDecimal r = x;
+        if (x.abs().compareTo(QUARTER_PI_ESTIMATE) > 0) {
+            // the subtraction cancels the leading digits of x, and possibly more when x is near qπ/2,
+            // so retry with extra digits until r is known to the required relative precision
+            int extra = 0;
+            for (int attempt = 0; attempt < 4; attempt++) {
+                final MathContext redCtx = new MathContext(digits + intDigits + extra, RoundingMode.HALF_EVEN);
+                final BigDecimal halfPi = cachedPi(redCtx.getPrecision() + intDigits).multiply(HALF);
+                q = x.divide(halfPi, new MathContext(intDigits + 3, RoundingMode.HALF_EVEN))
+                        .setScale(0, RoundingMode.HALF_EVEN).toBigIntegerExact();
+                r = x.subtract(halfPi.multiply(new BigDecimal(q)), redCtx);
+                final int lost = r.signum() == 0 ? digits : -exponentOf(r);
+                if (lost <= extra) break;
+                extra = lost + 2;
+            }
+        }
+        final int quadrant = q.and(BigInteger.valueOf(3L)).intValue();
+        if (r.signum() == 0) {
+            return new Reduced(quadrant, BigInteger.ZERO, BigInteger.ONE, 0);
+        }
+        // v = 1 - cos(t) is about t²/2, so small arguments need proportionally more bits
+        final int smallBits = Math.max(0, (int) Math.ceil(-exponentOf(r) / LOG10_2));
+        final int targetBits = (int) Math.ceil(digits / LOG10_2);
+        final int halvings = (int) Math.sqrt(targetBits / 12.0);
+        final int bits = targetBits + 2 * (halvings + smallBits) + 32;
+        final BigInteger one = BigInteger.ONE.shiftLeft(bits);
+        // t = r/2^s in fixed point
+        final BigInteger t = r.multiply(new BigDecimal(BigInteger.ONE.shiftLeft(bits - halvings)))
+                .setScale(0, RoundingMode.HALF_EVEN).toBigInteger();
+        final BigInteger tSquared = t.multiply(t).shiftRight(bits);
+        // Taylor series for 1 - cos(t) = t²/2! - t⁴/4! + ...
+        BigInteger term = tSquared.shiftRight(1);
+        BigInteger v = term;
+        for (long n = 2L; term.signum() != 0; n++) {
+            term = term.multiply(tSquared).shiftRight(bits).divide(BigInteger.valueOf((2L * n - 1L) * 2L * n));
+            v = (n & 1L) == 0L ? v.subtract(term) : v.add(term);
+        }
+        final BigInteger twoOne = one.shiftLeft(1);
+        for (int j = 0; j < halvings; j++) {
+            // 1 - cos(2t) = 2v(2 - v)
+            v = v.multiply(twoOne.subtract(v)).shiftRight(bits - 1);
+        }
+        final BigInteger cos = one.subtract(v);
+        // sin²(r) = 1 - cos²(r) = v(2 - v)
+        BigInteger sin = sqrt(v.multiply(twoOne.subtract(v)));
+        if (r.signum() < 0) sin = sin.negate();
+        return new Reduced(quadrant, sin, cos, bits);
+    }
+
+    /**
+     * Compute an approximate integer square root by recursion on the leading half of the bits,
+     * followed by a single Newton step at full precision.  This is considerably faster than
+     * {@link BigInteger#sqrt()} for large values, which performs every Newton step at full precision.
+     * @param n a non-negative integer
+     * @return &lfloor;&radic;n&rfloor;, or a value at most a few units greater
+     */
+    private static BigInteger sqrt(BigInteger n) {
+        if (n.bitLength() <= 2048) return n.sqrt();
+        final int shift = n.bitLength() / 4 * 2;
+        final BigInteger estimate = sqrt(n.shiftRight(shift)).shiftLeft(shift / 2);
+        return estimate.add(n.divide(estimate)).shiftRight(1);
+    }
+
+    /**
+     * An overestimate of &pi;/4; arguments no larger than this in magnitude need no reduction.
+     */
+    private static final BigDecimal QUARTER_PI_ESTIMATE = new BigDecimal("0.7853981633974483");
+
+    /**
+     * Compute sin(x).
+     * @param x    the argument, in radians
+     * @param mctx the {@link MathContext} of the result
+     * @return sin(x) to the precision of {@code mctx}
+     */
+    public static BigDecimal sin(BigDecimal x, MathContext mctx) {
+        requireFinitePrecision(mctx);
+        if (x.signum() == 0) return BigDecimal.ZERO;
+        if (exponentOf(x) < -(mctx.getPrecision() + 1) / 2 - 1) {
+            // sin(x) = x - x³/6 + ..., and x³ is below the resolution of the result
+            return x.round(mctx);
+        }
+        return reduce(x, mctx.getPrecision()).sinValue(mctx);
+    }
+
+    /**
+     * Compute cos(x).
+     * @param x    the argument, in radians
+     * @param mctx the {@link MathContext} of the result
+     * @return cos(x) to the precision of {@code mctx}
+     */
+    public static BigDecimal cos(BigDecimal x, MathContext mctx) {
+        requireFinitePrecision(mctx);
+        if (x.signum() == 0) return BigDecimal.ONE;
+        return reduce(x, mctx.getPrecision()).cosValue(mctx);
+    }
+
+    /**
+     * Compute tan(x).
+     * @param x    the argument, in radians
+     * @param mctx the {@link MathContext} of the result
+     * @return tan(x) to the precision of {@code mctx}
+     * @throws ArithmeticException if the reduced argument falls exactly on a pole
+     */
+    public static BigDecimal tan(BigDecimal x, MathContext mctx) {
+        requireFinitePrecision(mctx);
+        if (x.signum() == 0) return BigDecimal.ZERO;
+        return reduce(x, mctx.getPrecision()).tanValue(mctx);
+    }
+
+    /**
+     * Compute sin(x) and cos(x) together, sharing the argument reduction.
+     * @param x    the argument, in radians
+     * @param mctx the {@link MathContext} of the results
+     * @return a two-element array containing sin(x) and cos(x), in that order
+     */
+    public static BigDecimal[] sinCos(BigDecimal x, MathContext mctx) {
+        requireFinitePrecision(mctx);
+        if (x.signum() == 0) return new BigDecimal[] {BigDecimal.ZERO, BigDecimal.ONE};
+        final Reduced reduced = reduce(x, mctx.getPrecision());
+        return new BigDecimal[] {reduced.sinValue(mctx), reduced.cosValue(mctx)};
+    }
+
+    /**
+     * Compute sinh(y) and cosh(y) together from a single exponential.
+     * @param y    the argument
+     * @param mctx the {@link MathContext} of the results
+     * @return a two-element array containing sinh(y) and cosh(y), in that order
+     */
+    public static BigDecimal[] sinhCosh(BigDecimal y, MathContext mctx) {
+        requireFinitePrecision(mctx);
+        if (y.signum() == 0) return new BigDecimal[] {BigDecimal.ZERO, BigDecimal.ONE};
+        // (e^y - e^-y)/2 cancels about as many leading digits as y has leading zeros
+        final int extraDigits = Math.max(0, -exponentOf(y));
+        final MathContext compCtx = new MathContext(mctx.getPrecision() + GUARD_DIGITS + extraDigits, RoundingMode.HALF_EVEN);
+        final BigDecimal ey = exp(y, compCtx);
+        final BigDecimal eNegY = BigDecimal.ONE.divide(ey, compCtx);
+        return new BigDecimal[] {ey.subtract(eNegY).multiply(HALF).round(mctx), ey.add(eNegY).multiply(HALF).round(mctx)};
+    }
+
+    /**
+     * Compute atan(x).  Arguments greater than 1 are folded with
+     * atan(x)&nbsp;=&nbsp;&pi;/2&nbsp;&minus;&nbsp;atan(1/x), and arguments greater than 1/2 are
+     * shifted with atan(x)&nbsp;=&nbsp;&pi;/4&nbsp;+&nbsp;atan((x&nbsp;&minus;&nbsp;1)/(x&nbsp;+&nbsp;1)).
+     * If the resulting argument is a fraction with a short denominator, Euler's series
+     * is evaluated by {@link BinarySplitting#atan(BigInteger, BigInteger, MathContext) binary splitting};
+     * otherwise, the argument is halved repeatedly with
+     * atan(t)&nbsp;=&nbsp;2&nbsp;atan(t/(1&nbsp;+&nbsp;&radic;(1&nbsp;+&nbsp;t<sup>2</sup>)))
+     * and the Taylor series is summed in binary fixed point.
+     * @param x    the argument
+     * @param mctx the {@link MathContext} of the result
+     * @return atan(x) to the precision of {@code mctx}, in the range (&minus;&pi;/2,&nbsp;&pi;/2)
+     */
+    public static BigDecimal atan(BigDecimal x, MathContext mctx) {
+        requireFinitePrecision(mctx);
+        if (x.signum() == 0) return BigDecimal.ZERO;
+        if (x.signum() < 0) return atan(x.negate(), mctx).negate();
+        if (exponentOf(x) < -(mctx.getPrecision() + 1) / 2 - 1) {
+            // atan(x) = x - x³/3 + ..., and x³ is below the resolution of the result
+            return x.round(mctx);
+        }
+        // the argument as a fraction in lowest terms
+        final BigInteger num = x.scale() > 0 ? x.unscaledValue() : x.toBigIntegerExact();
+        final BigInteger denom = x.scale() > 0 ? BigInteger.TEN.pow(x.scale()) : BigInteger.ONE;
+        return atan(num, denom, mctx);
+    }
+
+    /**
+     * Compute atan(p/q) for positive integers p and q, folding the argument into (&minus;1/3,&nbsp;1/2]
+     * as described for {@link #atan(BigDecimal, MathContext)}.
+     * @param p    the numerator of the argument
+     * @param q    the denominator of the argument
+     * @param mctx the {@link MathContext} of the result
+     * @return atan(p/q)
+     */
+    private static BigDecimal atan(BigInteger p, BigInteger q, MathContext mctx) {
+        final int digits = mctx.getPrecision() + GUARD_DIGITS;
+        final BigInteger gcd = p.gcd(q);
+        BigInteger num = p.divide(gcd);
+        BigInteger denom = q.divide(gcd);
+        final int comparison = num.compareTo(denom);
+        if (comparison == 0) return cachedPi(digits).multiply(QUARTER).round(mctx);
+        final boolean reciprocal = comparison > 0;
+        if (reciprocal) {
+            final BigInteger temp = num;
+            num = denom;
+            denom = temp;
+        }
+        final boolean shifted = num.shiftLeft(1).compareTo(denom) > 0;
+        if (shifted) {
+            // (x - 1)/(x + 1) is negative, with magnitude (q - p)/(q + p) < 1/3
+            final BigInteger temp = denom.subtract(num);
+            denom = denom.add(num);
+            num = temp;
+        }
+        final MathContext compCtx = new MathContext(digits, RoundingMode.HALF_EVEN);
+        BigDecimal result;
+        if (denom.bitLength() <= RATIONAL_ATAN_BITS) {
+            result = BinarySplitting.atan(num, denom, compCtx);
+        } else {
+            result = atanFixedPoint(new BigDecimal(num).divide(new BigDecimal(denom), compCtx), digits);
+        }
+        if (shifted) result = cachedPi(digits).multiply(QUARTER).subtract(result);
+        if (reciprocal) result = cachedPi(digits).multiply(HALF).subtract(result);
+        return result.round(mctx);
+    }
+
+    /**
+     * Compute atan(t) for 0&nbsp;&lt;&nbsp;t&nbsp;&lt;&nbsp;1 by argument halving and a fixed-point Taylor series.
+     * @param t      the argument
+     * @param digits the number of significant digits required
+     * @return atan(t), with at least {@code digits} correct digits
+     */
+    private static BigDecimal atanFixedPoint(BigDecimal t, int digits) {
+        // atan(t) is about t, so small arguments need proportionally more bits
+        final int smallBits = Math.max(0, (int) Math.ceil(-exponentOf(t) / LOG10_2));
+        final int targetBits = (int) Math.ceil(digits / LOG10_2);
+        // each halving costs a square root and a division, each worth several series terms
+        final int halvings = (int) Math.sqrt(targetBits / 12.0);
+        final int bits = targetBits + smallBits + halvings + 32;
+        final BigInteger one = BigInteger.ONE.shiftLeft(bits);
+        final BigInteger oneSquared = one.shiftLeft(bits);
+        BigInteger y = t.multiply(new BigDecimal(one)).setScale(0, RoundingMode.HALF_EVEN).toBigInteger();
+        for (int j = 0; j < halvings; j++) {
+            // y ← y/(1 + √(1 + y²))
+            y = y.shiftLeft(bits).divide(one.add(sqrt(oneSquared.add(y.multiply(y)))));
+        }
+        // incremental Taylor series atan(y) = y - y³/3 + y⁵/5 - ...
+        final BigInteger ySquared = y.multiply(y).shiftRight(bits);
+        BigInteger power = y;
+        BigInteger sum = y;
+        for (long k = 1L; ; k++) {
+            power = power.multiply(ySquared).shiftRight(bits);
+            final BigInteger term = power.divide(BigInteger.valueOf(2L * k + 1L));
+            if (term.signum() == 0) break;
+            sum = (k & 1L) == 0L ? sum.add(term) : sum.subtract(term);
+        }
+        // undo the halvings by scaling with 2^s
+        return toDecimal(sum, bits - halvings, new MathContext(digits, RoundingMode.HALF_EVEN));
+    }
+
+    /**
+     * Compute the angle between the positive x-axis and the vector &#x27E8;x,&nbsp;y&#x27E9;.
+     * @param y    the y-coordinate
+     * @param x    the x-coordinate
+     * @param mctx the {@link MathContext} of the result
+     * @return atan2(y,&nbsp;x), in the range (&minus;&pi;,&nbsp;&pi;]
+     * @throws ArithmeticException if both x and y are zero
+     */
+    public static BigDecimal atan2(BigDecimal y, BigDecimal x, MathContext mctx) {
+        requireFinitePrecision(mctx);
+        if (x.signum() == 0) {
+            if (y.signum() == 0) throw new ArithmeticException("atan2 is undefined for x = y = 0");
+            final BigDecimal halfPi = cachedPi(mctx.getPrecision() + GUARD_DIGITS).multiply(HALF);
+            return (y.signum() > 0 ? halfPi : halfPi.negate()).round(mctx);
+        }
+        if (y.signum() == 0) {
+            return x.signum() > 0 ? BigDecimal.ZERO : cachedPi(mctx.getPrecision() + GUARD_DIGITS).round(mctx);
+        }
+        final int digits = mctx.getPrecision() + GUARD_DIGITS;
+        final MathContext compCtx = new MathContext(digits, RoundingMode.HALF_EVEN);
+        final BigDecimal angle;
+        final int scaleDiff = x.scale() - y.scale();
+        if (y.unscaledValue().bitLength() <= RATIONAL_ATAN_BITS && x.unscaledValue().bitLength() <= RATIONAL_ATAN_BITS
+                && Math.abs(scaleDiff) <= 2 * RATIONAL_ATAN_BITS) {
+            // keep y/x as an exact fraction, so that it may qualify for binary splitting
+            final BigInteger power = BigInteger.TEN.pow(Math.abs(scaleDiff));
+            final BigInteger num = y.unscaledValue().abs().multiply(scaleDiff > 0 ? power : BigInteger.ONE);
+            final BigInteger denom = x.unscaledValue().abs().multiply(scaleDiff < 0 ? power : BigInteger.ONE);
+            final BigDecimal magnitude = atan(num, denom, compCtx);
+            angle = y.signum() == x.signum() ? magnitude : magnitude.negate();
+        } else {
+            angle = atan(y.divide(x, compCtx), compCtx);
+        }
+        if (x.signum() > 0) return angle.round(mctx);
+        // the angle lies in the second or third quadrant
+        final BigDecimal pi = cachedPi(digits);
+        return (y.signum() > 0 ? angle.add(pi) : angle.subtract(pi)).round(mctx);
+    }
+
+    /**
+     * Compute the schedule of working precisions for a Newton iteration which
+     * doubles the number of correct digits with each step.
+     * @param target     the number of digits required of the final step
+     * @param seedDigits the number of digits correct in the initial estimate
+     * @return the working precision of each step, in ascending order
+     */
+    private static int[] precisionSchedule(int target, int seedDigits) {
+        final int[] steps = new int[Integer.SIZE];
+        int count = 0;
+        for (int p = target; p > seedDigits; p = (p + 1) / 2 + 1) {
+            steps[count++] = p;
+        }
+        final int[] schedule = new int[count];
+        for (int j = 0; j < count; j++) schedule[j] = steps[count - 1 - j];
+        return schedule;
+    }
+
+    /**
+     * Compute &radic;a.  Below {@link #SQRT_NEWTON_DIGITS} digits, this delegates to
+     * {@link BigDecimal#sqrt(MathContext)}.  Otherwise, the argument is scaled by an even
+     * power of 10 into [1,&nbsp;100) and the inverse square root y is computed to half
+     * the required precision by Newton's iteration
+     * y&nbsp;&larr;&nbsp;y&nbsp;+&nbsp;y(1&nbsp;&minus;&nbsp;ay<sup>2</sup>)/2,
+     * starting from a {@code double} estimate and doubling the working precision with
+     * each step.  The iteration involves only multiplications.  The final result is
+     * x&nbsp;+&nbsp;y(a&nbsp;&minus;&nbsp;x<sup>2</sup>)/2 with x&nbsp;=&nbsp;ay, in which only the
+     * residual a&nbsp;&minus;&nbsp;x<sup>2</sup> is computed at full precision.
+     * @param a    a non-negative value
+     * @param mctx the {@link MathContext} of the result
+     * @return &radic;a to the precision of {@code mctx}
+     * @throws ArithmeticException if {@code a} is negative
+     */
+    public static BigDecimal sqrt(BigDecimal a, MathContext mctx) {
+        if (a.signum() < 0) throw new ArithmeticException("Cannot compute a real square root of " + a);
+        if (a.signum() == 0 || mctx.getPrecision() < SQRT_NEWTON_DIGITS) return a.sqrt(mctx);
+        final int k = Math.floorDiv(exponentOf(a), 2);
+        final BigDecimal m = a.movePointLeft(2 * k);  // 1 ≤ m < 100
+        final int target = mctx.getPrecision() + GUARD_DIGITS;
+        final int half = target / 2 + GUARD_DIGITS;
+        BigDecimal y = new BigDecimal(1.0 / Math.sqrt(m.round(MathContext.DECIMAL64).doubleValue()));
+        for (int precision : precisionSchedule(half, 15)) {
+            final MathContext stepCtx = new MathContext(precision + 2, RoundingMode.HALF_EVEN);
+            final BigDecimal error = BigDecimal.ONE.subtract(m.round(stepCtx).multiply(y.multiply(y, stepCtx), stepCtx));
+            y = y.add(y.multiply(error, stepCtx).multiply(HALF), stepCtx);
+        }
+        final MathContext halfCtx = new MathContext(half, RoundingMode.HALF_EVEN);
+        final MathContext fullCtx = new MathContext(target, RoundingMode.HALF_EVEN);
+        final BigDecimal x = m.round(halfCtx).multiply(y, halfCtx);
+        // x² is exact, so the residual is accurate even though it cancels about half of the digits of a
+        final BigDecimal residual = m.round(fullCtx).subtract(x.multiply(x));
+        final BigDecimal root = x.add(y.multiply(residual, halfCtx).multiply(HALF), fullCtx);
+        return root.movePointRight(k).round(mctx);
+    }
+
+    /**
+     * Compute the n<sup>th</sup> root of a, the principal solution of x<sup>n</sup>&nbsp;=&nbsp;a.
+     * The argument is scaled by a power of 10<sup>n</sup> into [1,&nbsp;10<sup>n</sup>), and the
+     * inverse root of the scaled value is estimated from its logarithm in {@code double} precision.
+     * As for {@link #sqrt(BigDecimal, MathContext) square roots}, the inverse root y is refined
+     * to half the required precision by the division-free iteration
+     * y&nbsp;&larr;&nbsp;y&nbsp;+&nbsp;y(1&nbsp;&minus;&nbsp;ay<sup>n</sup>)/n, with the working precision
+     * doubling on each step.  The result is then
+     * x&nbsp;+&nbsp;y<sup>n&minus;1</sup>(a&nbsp;&minus;&nbsp;x<sup>n</sup>)/n with x&nbsp;=&nbsp;ay<sup>n&minus;1</sup>,
+     * a final Newton step for x<sup>n</sup>&nbsp;=&nbsp;a in which only the residual is computed
+     * at full precision.<br>
+     * If {@code mctx} has unlimited precision, only an exact root can be returned.
+     * @param a    the argument, which may be negative if {@code n} is odd
+     * @param n    the degree of the root
+     * @param mctx the {@link MathContext} of the result
+     * @return a<sup>1/n</sup> to the precision of {@code mctx}
+     * @throws IllegalArgumentException if {@code n} is not positive
+     * @throws ArithmeticException if {@code n} is even and {@code a} is negative, or
+     *   if {@code mctx} has unlimited precision and the root is not exactly representable
+     */
+    public static BigDecimal nthRoot(BigDecimal a, int n, MathContext mctx) {
+        if (n < 1) throw new IllegalArgumentException("Degree of root must be positive");
+        if (n == 1 || a.signum() == 0) return a.round(mctx);
+        if (a.signum() < 0) {
+            if (n % 2 == 0) throw new ArithmeticException("Cannot compute a real-valued " + n + "th root of " + a);
+            return nthRoot(a.negate(), n, mctx).negate();
+        }
+        if (mctx.getPrecision() == 0) return exactRoot(a, n);
+        if (n == 2) return sqrt(a, mctx);
+        final int exponent = exponentOf(a);
+        final int k = Math.floorDiv(exponent, n);
+        final BigDecimal m = a.movePointLeft(n * k);  // 1 ≤ m < 10ⁿ
+        // log₁₀ m, computed so that neither m nor its root need fit in a double
+        final double logM = (exponent - n * k) + Math.log10(a.movePointLeft(exponent).round(MathContext.DECIMAL64).doubleValue());
+        final int target = mctx.getPrecision() + GUARD_DIGITS;
+        final int half = target / 2 + GUARD_DIGITS;
+        final BigDecimal degree = BigDecimal.valueOf(n);
+        BigDecimal y = new BigDecimal(Math.pow(10.0, -logM / n));
+        for (int precision : precisionSchedule(half, 14)) {
+            final MathContext stepCtx = new MathContext(precision + 2, RoundingMode.HALF_EVEN);
+            final BigDecimal error = BigDecimal.ONE.subtract(m.round(stepCtx).multiply(y.pow(n, stepCtx), stepCtx));
+            y = y.add(y.multiply(error, stepCtx).divide(degree, stepCtx), stepCtx);
+        }
+        final MathContext halfCtx = new MathContext(half, RoundingMode.HALF_EVEN);
+        final MathContext fullCtx = new MathContext(target, RoundingMode.HALF_EVEN);
+        final BigDecimal yPower = y.pow(n - 1, halfCtx);
+        final BigDecimal x = m.round(halfCtx).multiply(yPower, halfCtx);
+        final BigDecimal residual = m.round(fullCtx).subtract(x.pow(n, fullCtx));
+        final BigDecimal root = x.add(yPower.multiply(residual, halfCtx).divide(degree, halfCtx), fullCtx);
+        return root.movePointRight(k).round(mctx);
+    }
+
+    /**
+     * Compute the n<sup>th</sup> root of a positive value, provided that the root
+     * has a finite decimal representation.  Writing a&nbsp;=&nbsp;u&times;10<sup>&minus;s</sup>
+     * with s a multiple of n, the root exists exactly if and only if the integer u
+     * is a perfect n<sup>th</sup> power.
+     * @param a a positive value
+     * @param n the degree of the root, at least 2
+     * @return the exact root
+     * @throws ArithmeticException if the root is not exact
+     */
+    private static BigDecimal exactRoot(BigDecimal a, int n) {
+        final BigDecimal stripped = a.stripTrailingZeros();
+        final int pad = Math.floorMod(-stripped.scale(), n);
+        final BigInteger u = stripped.unscaledValue().multiply(BigInteger.TEN.pow(pad));
+        final BigInteger r;
+        if (n == 2) {
+            r = u.sqrt();
+        } else {
+            // an estimate with a few digits to spare rounds to the integer root, if there is one
+            final MathContext estCtx = new MathContext((int) (u.bitLength() * 0.30103 / n) + GUARD_DIGITS);
+            r = nthRoot(new BigDecimal(u), n, estCtx).setScale(0, RoundingMode.HALF_EVEN).toBigIntegerExact();
+        }
+        if (!r.pow(n).equals(u)) {
+            throw new ArithmeticException("The " + n + "th root of " + a +
+                    " is not exact and cannot be computed with unlimited precision");
+        }
+        return new BigDecimal(r, (stripped.scale() + pad) / n);
+    }
+
+    /**
+     * Compute &#x1D6AA;(x) for real x using
+     * <a href="https://en.wikipedia.org/wiki/Spouge%27s_approximation">Spouge's approximation</a>
+     * &#x1D6AA;(z&nbsp;+&nbsp;1)&nbsp;=&nbsp;(z&nbsp;+&nbsp;a)<sup>z+1/2</sup>&#x212f;<sup>&minus;(z+a)</sup>(c<sub>0</sub>&nbsp;+&nbsp;&sum;<sub>k=1</sub><sup>a&minus;1</sup>c<sub>k</sub>/(z&nbsp;+&nbsp;k)),
+     * whose relative error is bounded by a<sup>&minus;1/2</sup>(2&pi;)<sup>&minus;(a+1/2)</sup>
+     * for all z with a positive real part.  Unlike the Lanczos approximation, a suitable
+     * a can be chosen for any precision.  Arguments less than 1/2 are reflected with
+     * &#x1D6AA;(x)&#x1D6AA;(1&nbsp;&minus;&nbsp;x)&nbsp;=&nbsp;&pi;/sin(&pi;x).
+     * @param x    the argument, which must not be zero or a negative integer
+     * @param mctx the {@link MathContext} of the result
+     * @return &#x1D6AA;(x) to the precision of {@code mctx}
+     * @throws ArithmeticException if x is a pole of &#x1D6AA;, or if the result is too large to be represented
+     */
+    public static BigDecimal gamma(BigDecimal x, MathContext mctx) {
+        requireFinitePrecision(mctx);
+        if (x.signum() <= 0 && x.stripTrailingZeros().scale() <= 0) {
+            throw new ArithmeticException("\uD835\uDEAA(x) has a pole at x = " + x);
+        }
+        final int precision = mctx.getPrecision() + GUARD_DIGITS;
+        if (x.compareTo(HALF) < 0) {
+            // πx must be known to absolute precision, so carry the integer digits of x as well
+            final int digits = precision + Math.max(0, exponentOf(x) + 1);
+            final MathContext reflCtx = new MathContext(digits, RoundingMode.HALF_EVEN);
+            final BigDecimal pi = cachedPi(digits);
+            final BigDecimal sinPiX = sin(pi.multiply(x, reflCtx), reflCtx);
+            return pi.divide(sinPiX.multiply(gamma(BigDecimal.ONE.subtract(x), reflCtx), reflCtx), mctx);
+        }
+        final SpougeCoefficients spouge = spougeCoefficients(quantized(precision));
+        final MathContext workCtx = spouge.workCtx();
+        final BigDecimal z = x.subtract(BigDecimal.ONE);
+        BigDecimal sum = spouge.c()[0];
+        for (int k = 1; k < spouge.a(); k++) {
+            sum = sum.add(spouge.c()[k].divide(z.add(BigDecimal.valueOf(k)), workCtx), workCtx);
+        }
+        // (z + a)^(z + 1/2)·exp(−(z + a)) is computed as a single exponential, whose argument
+        // must carry as many extra digits as it has before the decimal point
+        final BigDecimal za = z.add(BigDecimal.valueOf(spouge.a()));
+        final int magnitude = Math.max(0, exponentOf(za));
+        final MathContext expCtx = new MathContext(precision + magnitude +
+                (int) Math.ceil(Math.log10((magnitude + 2) * LN10)) + 1, RoundingMode.HALF_EVEN);
+        final BigDecimal exponent = z.add(HALF).multiply(ln(za, expCtx), expCtx).subtract(za, expCtx);
+        return exp(exponent, expCtx).multiply(sum, mctx);
+    }
+
+    /**
+     * The parameter a and coefficients c<sub>k</sub> of Spouge's approximation for one precision.
+     * @param a       the number of coefficients
+     * @param c       the coefficients c<sub>0</sub> through c<sub>a&minus;1</sub>
+     * @param workCtx the precision to which the coefficients are known
+     */
+    private record SpougeCoefficients(int a, BigDecimal[] c, MathContext workCtx) {}
+
+    private static SpougeCoefficients spougeCoefficients(MathContext mctx) {
+        return spougeCache.computeIfAbsent(mctx, ctx -> {
+            final int digits = ctx.getPrecision();
+            final int a = (int) Math.ceil(digits * LN10 / Math.log(2.0 * Math.PI)) + 1;
+            // the coefficients alternate in sign and grow to about e^a, so that many digits cancel
+            final MathContext workCtx = new MathContext(digits + (int) Math.ceil(a / LN10) + GUARD_DIGITS,
+                    RoundingMode.HALF_EVEN);
+            final BigDecimal[] c = new BigDecimal[a];
+            c[0] = sqrt(cachedPi(workCtx.getPrecision()).multiply(TWO), workCtx);
+            // c_k = (−1)^(k−1)·(a − k)^(k − 1/2)·e^(a − k)/(k − 1)!
+            final BigDecimal e = exp(BigDecimal.ONE, workCtx);
+            BigDecimal ePower = exp(BigDecimal.valueOf(a - 1L), workCtx);
+            BigInteger factorial = BigInteger.ONE;
+            for (int k = 1; k < a; k++) {
+                if (k > 1) {
+                    factorial = factorial.multiply(BigInteger.valueOf(k - 1L));
+                    ePower = ePower.divide(e, workCtx);
+                }
+                final BigDecimal base = BigDecimal.valueOf(a - k);
+                BigDecimal term = new BigDecimal(BigInteger.valueOf(a - k).pow(k - 1))
+                        .multiply(sqrt(base, workCtx), workCtx).multiply(ePower, workCtx)
+                        .divide(new BigDecimal(factorial), workCtx);
+                c[k] = k % 2 == 0 ? term.negate() : term;
+            }
+            return new SpougeCoefficients(a, c, workCtx);
+        });
+    }
+
+    /**
+     * Compute ln&#x1D6AA;(x) for real x&nbsp;&gt;&nbsp;0 using Stirling's series
+     * ln&#x1D6AA;(z)&nbsp;=&nbsp;(z&nbsp;&minus;&nbsp;1/2)ln&nbsp;z&nbsp;&minus;&nbsp;z&nbsp;+&nbsp;ln(2&pi;)/2&nbsp;+&nbsp;&sum;<sub>k&ge;1</sub>B<sub>2k</sub>/(2k(2k&nbsp;&minus;&nbsp;1)z<sup>2k&minus;1</sup>).
+     * The series is asymptotic, and its smallest term is roughly &#x212f;<sup>&minus;2&pi;z</sup>,
+     * so arguments below {@link #stirlingMinimum(int)} are first shifted upward with
+     * ln&#x1D6AA;(x)&nbsp;=&nbsp;ln&#x1D6AA;(x&nbsp;+&nbsp;m)&nbsp;&minus;&nbsp;ln(x(x&nbsp;+&nbsp;1)&hellip;(x&nbsp;+&nbsp;m&nbsp;&minus;&nbsp;1)).
+     * The cost therefore depends on the precision rather than the magnitude of x.
+     * Note that the result is accurate in absolute rather than relative terms
+     * near the zeros of ln&#x1D6AA; at x&nbsp;=&nbsp;1 and x&nbsp;=&nbsp;2.
+     * @param x    the argument, which must be positive
+     * @param mctx the {@link MathContext} of the result
+     * @return ln&#x1D6AA;(x) to the precision of {@code mctx}
+     * @throws ArithmeticException if x is not positive
+     */
+    public static BigDecimal lnGamma(BigDecimal x, MathContext mctx) {
+        requireFinitePrecision(mctx);
+        if (x.signum() <= 0) throw new ArithmeticException("ln\uD835\uDEAA(x) is only defined here for x > 0");
+        if (x.compareTo(BigDecimal.ONE) == 0 || x.compareTo(TWO) == 0) return BigDecimal.ZERO;
+        final int precision = mctx.getPrecision() + GUARD_DIGITS;
+        final BigDecimal[] coefficients = stirlingCoefficients(quantized(precision));
+        final long minimum = stirlingMinimum(precision);
+        final long shift = x.compareTo(BigDecimal.valueOf(minimum)) < 0 ? minimum - x.longValue() : 0L;
+        final BigDecimal z = x.add(BigDecimal.valueOf(shift));
+        // (z − 1/2)·ln z has as many integer digits as z, plus a few for the logarithm
+        final int magnitude = Math.max(0, exponentOf(z));
+        final MathContext workCtx = new MathContext(precision + magnitude +
+                (int) Math.ceil(Math.log10((magnitude + 2) * LN10)) + 1, RoundingMode.HALF_EVEN);
+        final BigDecimal lnSqrt2Pi = ln(cachedPi(workCtx.getPrecision()).multiply(TWO), workCtx).multiply(HALF);
+        BigDecimal result = z.subtract(HALF).multiply(ln(z, workCtx), workCtx).subtract(z).add(lnSqrt2Pi, workCtx);
+        final BigDecimal tolerance = BigDecimal.ONE.movePointLeft(precision - exponentOf(result));
+        final BigDecimal zInverse = BigDecimal.ONE.divide(z, workCtx);
+        final BigDecimal zInverseSquared = zInverse.multiply(zInverse, workCtx);
+        BigDecimal power = zInverse;
+        for (BigDecimal coefficient : coefficients) {
+            final BigDecimal term = coefficient.multiply(power, workCtx);
+            result = result.add(term, workCtx);
+            if (term.abs().compareTo(tolerance) < 0) break;
+            power = power.multiply(zInverseSquared, workCtx);
+        }
+        if (shift > 0L) {
+            BigDecimal product = x;
+            for (long k = 1L; k < shift; k++) {
+                product = product.multiply(x.add(BigDecimal.valueOf(k)), workCtx);
+            }
+            result = result.subtract(ln(product, workCtx), workCtx);
+        }
+        return result.round(mctx);
+    }
+
+    /**
+     * The smallest argument z for which Stirling's series for ln&#x1D6AA;(z) can be summed to
+     * the given number of digits, chosen so that &#x212f;<sup>&minus;2&pi;z</sup>&nbsp;&lt;&nbsp;10<sup>&minus;digits</sup>.
+     * @param digits the number of significant digits required
+     * @return the minimum argument for Stirling's series
+     */
+    static long stirlingMinimum(int digits) {
+        return (long) Math.ceil(digits * LN10 / (2.0 * Math.PI)) + 1L;
+    }
+
+    /**
+     * Obtain the coefficients B<sub>2k</sub>/(2k(2k&nbsp;&minus;&nbsp;1)) of Stirling's series for
+     * k&nbsp;=&nbsp;1, 2, &hellip;  Enough are provided to sum the series for any argument
+     * no smaller than {@link #stirlingMinimum(int)}, whose terms decrease until k&nbsp;&asymp;&nbsp;&pi;z.
+     * @param mctx the {@link MathContext} of the coefficients
+     * @return the coefficients, of which element k&nbsp;&minus;&nbsp;1 belongs to z<sup>&minus;(2k&minus;1)</sup>
+     */
+    static BigDecimal[] stirlingCoefficients(MathContext mctx) {
+        return stirlingCache.computeIfAbsent(mctx, ctx -> {
+            final int count = (int) Math.ceil(Math.PI * stirlingMinimum(ctx.getPrecision())) + 1;
+            final BernoulliNumbers numbers = new BernoulliNumbers(2 * count);
+            final BigDecimal[] coefficients = new BigDecimal[count];
+            for (int k = 1; k <= count; k++) {
+                final RationalType b = numbers.getB(2L * k);
+                final BigInteger denominator = b.denominator().asBigInteger().multiply(BigInteger.valueOf(2L * k * (2L * k - 1L)));
+                coefficients[k - 1] = new BigDecimal(b.numerator().asBigInteger()).divide(new BigDecimal(denominator), ctx);
+            }
+            return coefficients;
+        });
+    }
+}
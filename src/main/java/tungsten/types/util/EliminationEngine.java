@@ -0,0 +1,385 @@
+package tungsten.types.util;
+/*
+ * The MIT License
+ *
+ * Copyright © 2026 Robert Poole <Tarquin.AZ@gmail.com>.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+import tungsten.types.Matrix;
+import tungsten.types.Numeric;
+import tungsten.types.exceptions.CoercionException;
+import tungsten.types.matrix.impl.BasicMatrix;
+import tungsten.types.numerics.IntegerType;
+import tungsten.types.numerics.NumericHierarchy;
+import tungsten.types.numerics.RationalType;
+import tungsten.types.numerics.RealType;
+import tungsten.types.numerics.impl.*;
+
+import java.lang.reflect.Array;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.Comparator;
+
+/**
+ * An engine for computing the determinant and inverse of a square {@link Matrix}
+ * by elimination rather than by cofactor expansion.  Cofactor expansion is
+ * O(n!) and is only practical for very small matrices; elimination is O(n<sup>3</sup>).
+ * <br>
+ * Matrices whose elements are all exact {@link IntegerType} or {@link RationalType}
+ * values are reduced using fraction-free (Bareiss) elimination over {@link BigInteger},
+ * so exact inputs always produce exact results.  Rational rows are first scaled
+ * by the least common multiple of their denominators so that every intermediate
+ * value remains integral.  All other matrices are reduced with Gaussian elimination
+ * using partial pivoting, which is the same factorization as the LU decomposition
+ * computed by {@link MathUtils#compactLUdecomposition(Matrix)}, but with row
+ * exchanges so that zero or tiny pivots are avoided.
+ *
+ * @author Robert Poole, <a href="mailto:tarquin@alum.mit.edu">MIT alumni e-mail</a>
+ *   or <a href="mailto:Tarquin.AZ@gmail.com">Gmail</a>
+ * @since 1.5
+ */
+public final class EliminationEngine {
+    /**
+     * The {@link String} representing the System property that governs
+     * the largest matrix dimension for which cofactor expansion is still used.
+     * Square matrices with more rows than this threshold have their
+     * determinant and inverse computed by elimination.  The default value is 4.
+     */
+    public static final String ELIMINATION_THRESHOLD = "tungsten.types.util.EliminationEngine.threshold";
+    private static final long THRESHOLD = Long.getLong(ELIMINATION_THRESHOLD, 4L);
+
+    private EliminationEngine() {
+        // to prevent instantiation
+    }
+
+    /**
+     * Determine whether a square matrix of the given dimension should
+     * be handled by this engine.
+     * @param dimension the number of rows (or columns) of a square matrix
+     * @return true if {@code dimension} exceeds the configured threshold
+     * @see #ELIMINATION_THRESHOLD
+     */
+    public static boolean useElimination(long dimension) {
+        return dimension > THRESHOLD;
+    }
+
+    /**
+     * Compute the determinant of a square matrix by elimination.
+     * @param A the matrix
+     * @return the determinant of {@code A}
+     * @param <T> the element type of {@code A}
+     */
+    public static <T extends Numeric> T determinant(Matrix<T> A) {
+        if (A.rows() != A.columns()) {
+            throw new ArithmeticException("Can only compute determinant for a square matrix");
+        }
+        final Class<T> clazz = (Class<T>) OptionalOperations.findTypeFor(A);
+        final MathContext mctx = A.valueAt(0L, 0L).getMathContext();
+        final int n = dimensionOf(A);
+        final BigInteger[] scales = new BigInteger[n];
+        final BigInteger[][] exact = exactRows(A, scales);
+        try {
+            if (exact != null) {
+                BigInteger det = bareissDeterminant(exact);
+                BigInteger denom = BigInteger.ONE;
+                for (BigInteger scale : scales) denom = denom.multiply(scale);
+                return (T) exactQuotient(det, denom, mctx).coerceTo(clazz);
+            }
+
+            final Numeric[][] M = workingRows(A, clazz);
+            Numeric det = One.getInstance(mctx);
+            for (int k = 0; k < n; k++) {
+                int pivot = findPivot(M, k);
+                if (Zero.isZero(M[pivot][k])) {
+                    return (T) ExactZero.getInstance(mctx).coerceTo(clazz);
+                }
+                if (pivot != k) {
+                    swap(M, k, pivot);
+                    det = det.negate();
+                }
+                det = det.multiply(M[k][k]);
+                for (int i = k + 1; i < n; i++) {
+                    if (Zero.isZero(M[i][k])) continue;
+                    final Numeric factor = M[i][k].divide(M[k][k]);
+                    for (int j = k + 1; j < n; j++) {
+                        M[i][j] = M[i][j].subtract(factor.multiply(M[k][j]));
+                    }
+                }
+            }
+            if (clazz == IntegerType.class) {
+                // inexact integer matrices are eliminated over the reals, so snap back to an integer
+                RealType intermediate = (RealType) det.coerceTo(RealType.class);
+                return (T) new IntegerImpl(intermediate.asBigDecimal().setScale(0, RoundingMode.HALF_EVEN).toBigIntegerExact(), false);
+            }
+            return (T) det.coerceTo(clazz);
+        } catch (CoercionException e) {
+            throw new ArithmeticException("While computing determinant: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Compute the inverse of a square matrix by Gauss-Jordan elimination.
+     * For exact integer or rational matrices, the elements of the result
+     * are exact {@link IntegerType} values if every element of the inverse
+     * is integral, and exact {@link RationalType} values otherwise.
+     * @param A the matrix to invert
+     * @return the inverse of {@code A}
+     * @param <T> the element type of {@code A}
+     * @throws ArithmeticException if {@code A} is singular
+     */
+    public static <T extends Numeric> Matrix<? extends Numeric> inverse(Matrix<T> A) {
+        if (A.rows() != A.columns()) {
+            throw new ArithmeticException("Cannot invert a non-square matrix");
+        }
+        final Class<T> clazz = (Class<T>) OptionalOperations.findTypeFor(A);
+        final MathContext mctx = A.valueAt(0L, 0L).getMathContext();
+        final int n = dimensionOf(A);
+        final BigInteger[] scales = new BigInteger[n];
+        final BigInteger[][] exact = exactRows(A, scales);
+        if (exact != null) return exactInverse(exact, scales, mctx);
+
+        final Class<? extends Numeric> workingType = workingTypeFor(clazz);
+        final Numeric[][] M = (Numeric[][]) Array.newInstance(workingType, n, 2 * n);
+        try {
+            final Numeric one = One.getInstance(mctx).coerceTo(workingType);
+            final Numeric zero = ExactZero.getInstance(mctx).coerceTo(workingType);
+            for (int i = 0; i < n; i++) {
+                for (int j = 0; j < n; j++) {
+                    M[i][j] = A.valueAt(i, j).coerceTo(workingType);
+                    M[i][n + j] = i == j ? one : zero;
+                }
+            }
+            for (int k = 0; k < n; k++) {
+                int pivot = findPivot(M, k);
+                if (Zero.isZero(M[pivot][k])) throw new ArithmeticException("Matrix is singular");
+                if (pivot != k) swap(M, k, pivot);
+                final Numeric scale = M[k][k].inverse();
+                for (int j = k; j < 2 * n; j++) {
+                    M[k][j] = M[k][j].multiply(scale).coerceTo(workingType);
+                }
+                for (int i = 0; i < n; i++) {
+                    if (i == k || Zero.isZero(M[i][k])) continue;
+                    final Numeric factor = M[i][k];
+                    for (int j = k; j < 2 * n; j++) {
+                        M[i][j] = M[i][j].subtract(factor.multiply(M[k][j])).coerceTo(workingType);
+                    }
+                }
+            }
+        } catch (CoercionException e) {
+            throw new ArithmeticException("While computing inverse: " + e.getMessage());
+        }
+        final Numeric[][] result = (Numeric[][]) Array.newInstance(workingType, n, n);
+        for (int i = 0; i < n; i++) {
+            System.arraycopy(M[i], n, result[i], 0, n);
+        }
+        return new BasicMatrix<>(result);
+    }
+
+    private static int dimensionOf(Matrix<? extends Numeric> A) {
+        if (A.rows() > (long) Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Matrix is too large for elimination");
+        }
+        return (int) A.rows();
+    }
+
+    /**
+     * Pick the working type for elimination over an inexact field.
+     * Integer and rational types are not closed under inexact division,
+     * so these are promoted to {@link RealType}.
+     */
+    private static Class<? extends Numeric> workingTypeFor(Class<? extends Numeric> clazz) {
+        NumericHierarchy htype = NumericHierarchy.forNumericType(clazz);
+        if (htype == NumericHierarchy.INTEGER || htype == NumericHierarchy.RATIONAL) return RealType.class;
+        return clazz;
+    }
+
+    private static Numeric[][] workingRows(Matrix<? extends Numeric> A, Class<? extends Numeric> clazz) throws CoercionException {
+        final Class<? extends Numeric> workingType = workingTypeFor(clazz);
+        final int n = dimensionOf(A);
+        Numeric[][] M = (Numeric[][]) Array.newInstance(workingType, n, n);
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                M[i][j] = A.valueAt(i, j).coerceTo(workingType);
+            }
+        }
+        return M;
+    }
+
+    /**
+     * Find the row at or below row {@code k} with the largest magnitude in column {@code k}.
+     */
+    private static int findPivot(Numeric[][] M, int k) {
+        final Comparator<Numeric> comparator = MathUtils.obtainGenericComparator();
+        int pivot = k;
+        Numeric best = M[k][k].magnitude();
+        for (int i = k + 1; i < M.length; i++) {
+            Numeric candidate = M[i][k].magnitude();
+            if (comparator.compare(candidate, best) > 0) {
+                best = candidate;
+                pivot = i;
+            }
+        }
+        return pivot;
+    }
+
+    private static <E> void swap(E[][] M, int row1, int row2) {
+        E[] temp = M[row1];
+        M[row1] = M[row2];
+        M[row2] = temp;
+    }
+
+    /**
+     * Convert the elements of {@code A} into integer rows, where each row has
+     * been multiplied by the least common multiple of its denominators.
+     * @param A      the source matrix
+     * @param scales filled with the multiplier used for each row
+     * @return the scaled integer rows, or {@code null} if any element of {@code A}
+     *   is inexact or is not an integer or rational value
+     */
+    private static BigInteger[][] exactRows(Matrix<? extends Numeric> A, BigInteger[] scales) {
+        final int n = scales.length;
+        BigInteger[][] result = new BigInteger[n][n];
+        BigInteger[] denominators = new BigInteger[n];
+        for (int i = 0; i < n; i++) {
+            BigInteger lcm = BigInteger.ONE;
+            for (int j = 0; j < n; j++) {
+                final Numeric element = A.valueAt(i, j);
+                if (!element.isExact()) return null;
+                if (element instanceof IntegerType integer) {
+                    result[i][j] = integer.asBigInteger();
+                    denominators[j] = BigInteger.ONE;
+                } else if (element instanceof RationalType rational) {
+                    result[i][j] = rational.numerator().asBigInteger();
+                    denominators[j] = rational.denominator().asBigInteger();
+                    lcm = lcm.divide(lcm.gcd(denominators[j])).multiply(denominators[j]);
+                } else if (element instanceof Zero) {
+                    result[i][j] = BigInteger.ZERO;
+                    denominators[j] = BigInteger.ONE;
+                } else if (element instanceof One) {
+                    result[i][j] = BigInteger.ONE;
+                    denominators[j] = BigInteger.ONE;
+                } else {
+                    return null;
+                }
+            }
+            if (!lcm.equals(BigInteger.ONE)) {
+                for (int j = 0; j < n; j++) {
+                    result[i][j] = result[i][j].multiply(lcm.divide(denominators[j]));
+                }
+            }
+            scales[i] = lcm;
+        }
+        return result;
+    }
+
+    /**
+     * Bareiss fraction-free elimination.  Every division performed here is exact.
+     * The contents of {@code M} are destroyed.
+     */
+    private static BigInteger bareissDeterminant(BigInteger[][] M) {
+        final int n = M.length;
+        BigInteger previous = BigInteger.ONE;
+        boolean negate = false;
+        for (int k = 0; k < n - 1; k++) {
+            if (M[k][k].signum() == 0) {
+                int pivot = k + 1;
+                while (pivot < n && M[pivot][k].signum() == 0) pivot++;
+                if (pivot == n) return BigInteger.ZERO;
+                swap(M, k, pivot);
+                negate = !negate;
+            }
+            for (int i = k + 1; i < n; i++) {
+                for (int j = k + 1; j < n; j++) {
+                    M[i][j] = M[k][k].multiply(M[i][j]).subtract(M[i][k].multiply(M[k][j])).divide(previous);
+                }
+            }
+            previous = M[k][k];
+        }
+        return negate ? M[n - 1][n - 1].negate() : M[n - 1][n - 1];
+    }
+
+    /**
+     * Fraction-free Gauss-Jordan elimination of [DA&nbsp;|&nbsp;I], where D is the
+     * diagonal matrix of row scales.  On completion, the left half is d&sdot;I and
+     * the right half is d&sdot;(DA)<sup>&minus;1</sup>, from which
+     * A<sup>&minus;1</sup>&nbsp;=&nbsp;(DA)<sup>&minus;1</sup>D follows directly.
+     */
+    private static Matrix<? extends Numeric> exactInverse(BigInteger[][] scaled, BigInteger[] scales, MathContext mctx) {
+        final int n = scaled.length;
+        BigInteger[][] M = new BigInteger[n][2 * n];
+        for (int i = 0; i < n; i++) {
+            System.arraycopy(scaled[i], 0, M[i], 0, n);
+            for (int j = n; j < 2 * n; j++) M[i][j] = j - n == i ? BigInteger.ONE : BigInteger.ZERO;
+        }
+        BigInteger previous = BigInteger.ONE;
+        for (int k = 0; k < n; k++) {
+            if (M[k][k].signum() == 0) {
+                int pivot = k + 1;
+                while (pivot < n && M[pivot][k].signum() == 0) pivot++;
+                if (pivot == n) throw new ArithmeticException("Matrix is singular");
+                swap(M, k, pivot);
+            }
+            for (int i = 0; i < n; i++) {
+                if (i == k) continue;
+                for (int j = k + 1; j < 2 * n; j++) {
+                    M[i][j] = M[k][k].multiply(M[i][j]).subtract(M[i][k].multiply(M[k][j])).divide(previous);
+                }
+                M[i][k] = BigInteger.ZERO;
+                if (i < k) M[i][i] = M[k][k];
+            }
+            previous = M[k][k];
+        }
+
+        final BigInteger d = previous;
+        boolean integral = true;
+        BigInteger[][] numerators = new BigInteger[n][n];
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                numerators[i][j] = M[i][n + j].multiply(scales[j]);
+                if (integral && numerators[i][j].mod(d.abs()).signum() != 0) integral = false;
+            }
+        }
+        if (integral) {
+            IntegerType[][] result = new IntegerType[n][n];
+            for (int i = 0; i < n; i++) {
+                for (int j = 0; j < n; j++) {
+                    result[i][j] = new IntegerImpl(numerators[i][j].divide(d));
+                }
+            }
+            return new BasicMatrix<>(result);
+        }
+        RationalType[][] result = new RationalType[n][n];
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                result[i][j] = new RationalImpl(numerators[i][j], d, mctx).reduce();
+            }
+        }
+        return new BasicMatrix<>(result);
+    }
+
+    private static Numeric exactQuotient(BigInteger numerator, BigInteger denominator, MathContext mctx) {
+        if (numerator.mod(denominator).signum() == 0) {
+            return new IntegerImpl(numerator.divide(denominator));
+        }
+        return new RationalImpl(numerator, denominator, mctx).reduce();
+    }
+}
@@ -51,8 +51,8 @@ import java.math.RoundingMode;
 import java.text.DecimalFormatSymbols;
 import java.util.*;
 import java.util.concurrent.*;
-import java.util.concurrent.locks.*;
 import java.util.function.Function;
+import java.util.function.IntUnaryOperator;
 import java.util.function.Supplier;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -94,6 +94,13 @@ public final class MathUtils {
      * and the default value is 250.
      */
     public static final String GAMMA_BLOCK_SIZE = "tungsten.types.numerics.MathUtils.Gamma.blockSize";
+    /**
+     * Selects the algorithm used to compute &#x1D6AA;(x) for real, non-integer arguments.
+     * The System property represented by this {@code String} may be set to {@code spouge}
+     * (the default) to use {@link ElementaryFunctions#gamma(BigDecimal, MathContext) Spouge's approximation},
+     * or to {@code weierstrass} to use the same infinite product as for complex arguments.
+     */
+    public static final String GAMMA_ALGORITHM = "tungsten.types.numerics.MathUtils.Gamma.algorithm";
     /**
      * The Gamma function &#x1D6AA;(z) can be approximated near zero much more quickly
      * than computing a series.  Any value |z|&nbsp;&lt;&nbsp;&epsilon; would be considered
@@ -106,11 +113,17 @@ public final class MathUtils {
      * with Re(z) &gt; some threshold value.  Below that threshold, an identity must be used
      * to accurately compute ln&#x1D6AA;(z).  If not specified, the default threshold is currently 7.
      * This {@code String} represents the governing System property, which is read once when this class
-     * is loaded.  The value provided must be a parseable integral value.
+     * is loaded.  The value provided must be a parseable integral value.  Higher precisions require
+     * a larger threshold, which is used instead if it exceeds this value.
      */
     public static final String LN_GAMMA_THRESHOLD_PROP = "tungsten.types.numerics.MathUtils.lnGamma.threshold";
 
-    private static final Map<Long, BigInteger> factorialCache = new HashMap<>();
+    /**
+     * Previously computed factorials, keyed by n.  Reads are lock-free, and
+     * {@link ConcurrentSkipListMap#lowerEntry(Object)} finds the nearest smaller
+     * cached value in O(log&nbsp;n) time.
+     */
+    private static final ConcurrentSkipListMap<Long, BigInteger> factorialCache = new ConcurrentSkipListMap<>();
 
     private MathUtils() {
         // to prevent instantiation
@@ -138,10 +151,13 @@ public final class MathUtils {
      * Compute n! &mdash; the factorial of integer value n.
      * Note that this implementation uses caching of previously
      * computed values both for short-circuit evaluation
-     * and for computing new values.  Caching for values
-     * of n&nbsp;&gt;&nbsp;{@link Long#MAX_VALUE} is not
-     * guaranteed.
-     * @param n a non-negative integer value
+     * and for computing new values.  A cache miss is resolved
+     * by multiplying the largest cached factorial below n by
+     * the product of the remaining factors, which is computed
+     * as a balanced product tree.  If most of the factors are
+     * missing, n! is instead assembled from its prime factorization.
+     * The cache may be read and extended concurrently without locking.
+     * @param n a non-negative integer value, no greater than {@link Long#MAX_VALUE}
      * @return the value of n!
      */
     public static IntegerType factorial(IntegerType n) {
@@ -154,116 +170,147 @@ public final class MathUtils {
                 }
             };
         }
-        BigInteger cacheForN = getCacheFor(n);
-        if (cacheForN != null) {
-            return new IntegerImpl(cacheForN) {
-                @Override
-                public MathContext getMathContext() {
-                    // we don't know if n is using the default getMathContext()
-                    // which computes precision based on number of digits, or if
-                    // n is using some custom MathContext, so compare with
-                    // n's precision
-                    if (this.numberOfDigits() > n.getMathContext().getPrecision()) {
-                        return super.getMathContext();
-                    }
-                    return n.getMathContext();
-                }
-            };
-        }
-
-        // beyond the base case, manage the cache
-        factLock.lock();
-        try {
-            Long m = findMaxKeyUnder(n);
-
-            BigInteger accum = m != null ? factorialCache.get(m) : BigInteger.ONE;
-            BigInteger intermediate = n.asBigInteger();
-            BigInteger bailout = m != null ? BigInteger.valueOf(m + 1L) : BigInteger.TWO;
-            while (intermediate.compareTo(bailout) >= 0) {
-                accum = accum.multiply(intermediate);
-                intermediate = intermediate.subtract(BigInteger.ONE);
+        final long key = n.asBigInteger().longValueExact();
+        BigInteger value = factorialCache.get(key);
+        if (value == null) {
+            // beyond the base case, extend the nearest smaller cached value
+            final Map.Entry<Long, BigInteger> floor = factorialCache.lowerEntry(key);
+            final long m = floor != null ? floor.getKey() : 1L;
+            if (key <= MAX_SIEVE && key - m > Math.max(PRODUCT_TREE_LEAF, key / 2L)) {
+                // most of the factors are missing, so factor n! into primes instead
+                final int nint = (int) key;
+                value = primeFactorProduct(nint, p -> legendre(nint, p));
+            } else {
+                final BigInteger partial = rangeProduct(BigInteger.valueOf(m + 1L), key - m);
+                value = floor != null ? floor.getValue().multiply(partial) : partial;
             }
-            cacheFact(n, accum);
-            return new IntegerImpl(accum) {
-                @Override
-                public MathContext getMathContext() {
-                    if (this.numberOfDigits() > n.getMathContext().getPrecision()) {
-                        return super.getMathContext();
-                    }
-                    return n.getMathContext();  // preserve MathContext
-                }
-            };
-        } finally {
-            factLock.unlock();
+            // if another thread got here first, its value is identical
+            factorialCache.putIfAbsent(key, value);
         }
+        return new IntegerImpl(value) {
+            @Override
+            public MathContext getMathContext() {
+                // we don't know if n is using the default getMathContext()
+                // which computes precision based on number of digits, or if
+                // n is using some custom MathContext, so compare with
+                // n's precision
+                if (this.numberOfDigits() > n.getMathContext().getPrecision()) {
+                    return super.getMathContext();
+                }
+                return n.getMathContext();  // preserve MathContext
+            }
+        };
     }
 
-    // I would rather use a ReentrantReadWriteLock here, but that seems to have
-    // major issues with deadlocks (writer waiting for reader, reader waiting
-    // for writer).  Tried using StampedLock, but that is difficult to get working
-    // right, and I ran into the same deadlock issues.
-    private static final Lock factLock = new ReentrantLock(true);
+    /**
+     * Ranges of at most this many factors are multiplied sequentially
+     * by {@link #rangeProduct(BigInteger, long)}.
+     */
+    private static final long PRODUCT_TREE_LEAF = 16L;
 
     /**
-     * If there's a cached factorial value, find the highest key that is less
-     * than n.
-     * @param n the upper bound of our search
-     * @return the highest cache key given the search parameter, or {@code null}
-     *   if no key is found
+     * Compute the product of {@code count} consecutive integers, starting with {@code start}.
+     * The range is split in half recursively, so that the final multiplications
+     * are between operands of similar size, where {@link BigInteger#multiply(BigInteger)}
+     * uses its subquadratic algorithms.
+     * @param start the first factor
+     * @param count the number of factors
+     * @return start&nbsp;&times;&nbsp;(start&nbsp;+&nbsp;1)&nbsp;&times;&nbsp;&hellip;&nbsp;&times;&nbsp;(start&nbsp;+&nbsp;count&nbsp;&minus;&nbsp;1),
+     *   or 1 if {@code count} is not positive
      */
-    private static Long findMaxKeyUnder(IntegerType n) {
-        try {
-            final long ncmp = n.asBigInteger().longValueExact();
-            return factorialCache.keySet().parallelStream().filter(x -> x < ncmp).max(Long::compareTo).orElse(null);
-        } catch (ArithmeticException e) {
-            Logger.getLogger(MathUtils.class.getName()).log(Level.FINER,
-                    "Attempt to find a max key < n outside Long range.", e);
-            // return the biggest key we can find since the given upper bound is too large for the cache
-            return factorialCache.keySet().parallelStream().max(Long::compareTo).orElse(null);
+    private static BigInteger rangeProduct(BigInteger start, long count) {
+        if (count <= PRODUCT_TREE_LEAF) {
+            BigInteger accum = BigInteger.ONE;
+            BigInteger factor = start;
+            for (long j = 0L; j < count; j++) {
+                accum = accum.multiply(factor);
+                factor = factor.add(BigInteger.ONE);
+            }
+            return accum;
         }
+        final long half = count / 2L;
+        return rangeProduct(start, half).multiply(rangeProduct(start.add(BigInteger.valueOf(half)), count - half));
     }
 
-    private static final BigInteger MAX_LONG = BigInteger.valueOf(Long.MAX_VALUE);
-
-    private static void cacheFact(BigInteger n, BigInteger value) {
-        // these bounds should prevent an ArithmeticException from being thrown
-        // if not, we want to fail fast to catch the problem
-        if (n.compareTo(BigInteger.TWO) >= 0 && n.compareTo(MAX_LONG) < 0) {
-            Long key = n.longValueExact();
+    /**
+     * Values of n up to this bound are factored into primes by
+     * {@link #primeFactorProduct(int, IntUnaryOperator)}.
+     */
+    private static final int MAX_SIEVE = 1 << 24;
 
-            if (!factorialCache.containsKey(key)) factorialCache.put(key, value);
+    /**
+     * Compute a product of prime powers &prod;<sub>p&le;n</sub>&nbsp;p<sup>e(p)</sup>, such as the
+     * factorization of n! or of a binomial coefficient given by Legendre's formula.
+     * Writing Q<sub>i</sub> for the product of the primes whose exponent has bit i set,
+     * the odd part of the result is &prod;<sub>i</sub>&nbsp;Q<sub>i</sub><sup>2<sup>i</sup></sup>, which is
+     * evaluated by repeated squaring from the most significant bit down.  Each Q<sub>i</sub>
+     * is a balanced product tree, and the power of 2 is applied last as a shift.
+     * @param n        the bound on the primes
+     * @param exponent the exponent e(p) of each prime p
+     * @return the product
+     */
+    private static BigInteger primeFactorProduct(int n, IntUnaryOperator exponent) {
+        final BitSet composite = new BitSet(n + 1);
+        final List<Integer> primes = new ArrayList<>();
+        final List<Integer> exponents = new ArrayList<>();
+        int maxExponent = 0;
+        for (int q = 4; q <= n; q += 2) composite.set(q);
+        for (int p = 3; p <= n; p = composite.nextClearBit(p + 1)) {
+            if ((long) p * p <= n) {
+                for (int q = p * p; q <= n; q += 2 * p) composite.set(q);
+            }
+            final int e = exponent.applyAsInt(p);
+            if (e > 0) {
+                primes.add(p);
+                exponents.add(e);
+                maxExponent = Math.max(maxExponent, e);
+            }
         }
+        BigInteger result = BigInteger.ONE;
+        for (int bit = Integer.SIZE - 1 - Integer.numberOfLeadingZeros(maxExponent); bit >= 0; bit--) {
+            final List<BigInteger> factors = new ArrayList<>();
+            for (int j = 0; j < primes.size(); j++) {
+                if ((exponents.get(j) & (1 << bit)) != 0) factors.add(BigInteger.valueOf(primes.get(j)));
+            }
+            result = result.multiply(result).multiply(treeProduct(factors, 0, factors.size()));
+        }
+        // the power of 2 is applied as a shift
+        return n >= 2 ? result.shiftLeft(exponent.applyAsInt(2)) : result;
     }
 
-    private static void cacheFact(IntegerType n, BigInteger value) {
-        cacheFact(n.asBigInteger(), value);
-    }
-
-    private static BigInteger getCacheFor(BigInteger n) {
-        try {
-            return factorialCache.get(n.longValueExact());
-        } catch (ArithmeticException e) {
-            Logger.getLogger(MathUtils.class.getName()).log(Level.FINER,
-                    "Attempt to access cache of factorial value for n outside Long range.", e);
-            return null; // this is the same as if we had a regular cache miss
-        }
+    private static BigInteger treeProduct(List<BigInteger> factors, int from, int to) {
+        if (to - from == 0) return BigInteger.ONE;
+        if (to - from == 1) return factors.get(from);
+        final int mid = (from + to) >>> 1;
+        return treeProduct(factors, from, mid).multiply(treeProduct(factors, mid, to));
     }
 
-    private static BigInteger getCacheFor(IntegerType n) {
-        return getCacheFor(n.asBigInteger());
+    /**
+     * Compute the exponent of the prime p in n!, &sum;<sub>i&ge;1</sub>&nbsp;&lfloor;n/p<sup>i</sup>&rfloor;.
+     * @param n a non-negative integer
+     * @param p a prime
+     * @return the multiplicity of p in n!
+     */
+    private static int legendre(int n, int p) {
+        int count = 0;
+        for (long power = p; power <= n; power *= p) count += (int) (n / power);
+        return count;
     }
 
     /**
      * Compute the gamma function, &#x1D6AA;(z) for any value z.
      * Note that this is a generalization of factorial; for an
      * integer value z, &#x1D6AA;(z)&nbsp;=&nbsp;(z&thinsp;&minus;&thinsp;1)!
-     * <br>Note also that this function converges very slowly for
-     * non-integer and non-half-integer values. Currently, given z with {@link MathContext#DECIMAL128}
-     * precision, we obtain about 6 digits of accuracy with the property {@link #GAMMA_TERM_SCALE} set to
-     * its default value.  This may be revisited in the future.
+     * <br>Real arguments are evaluated with Spouge's approximation, which is accurate to the full
+     * precision of z and whose coefficients are cached for each {@link MathContext}; see
+     * {@link #GAMMA_ALGORITHM}.  Complex arguments use Weierstrass' formula, which converges very slowly.
+     * Currently, given z with {@link MathContext#DECIMAL128} precision, we obtain about 6 digits of accuracy
+     * with the property {@link #GAMMA_TERM_SCALE} set to its default value.
      * <br>Since the implementation of Weierstrass' formula is written to be concurrent,
      * the user is encouraged to set {@link #GAMMA_TERM_SCALE} to be as large as tolerable,
-     * and to adjust {@link #GAMMA_BLOCK_SIZE} accordingly.
+     * and to adjust {@link #GAMMA_BLOCK_SIZE} accordingly.  The blocks are computed by a pool of
+     * threads shared by all callers and bounded by the number of available processors.
+     * If the calling thread is interrupted, any blocks not yet computed are cancelled.
      * <br>The <a href="https://en.wikipedia.org/wiki/Lanczos_approximation">Lanczos approximation</a>
      * was not chosen because it requires special handling (e.g., it only works for values &gt; 1&#x2044;2),
      * necessitating reflection around the imaginary axis using &#x1D6AA; identities.  Weierstrass
@@ -271,7 +318,7 @@ public final class MathUtils {
      * a reasonable amount of time.  Lanczos also requires choosing two special values (g and n) which are not
      * entirely arbitrary, and for which no combination can be generated that supports precision beyond
      * a given point, making it an <a href="https://mrob.com/pub/ries/lanczos-gamma.html">unsuitable algorithm</a>
-     * for arbitrary precision math.
+     * for arbitrary precision math.  Spouge's approximation has no such limit.
      * @param z the argument to this function
      * @return the value of &#x1D6AA;(z)
      * @see #GAMMA_TERM_SCALE
@@ -290,8 +337,10 @@ public final class MathUtils {
             };
         }
         // next, check if we're within some neighborhood of 0
+        final boolean useSpouge = !(z instanceof ComplexType) &&
+                !"weierstrass".equalsIgnoreCase(System.getProperty(GAMMA_ALGORITHM, "spouge"));
         final Comparator<Numeric> comp = obtainGenericComparator();
-        if (comp.compare(z.magnitude(), gammaNeighborhoodOfZero(z.getMathContext())) < 0 && !Zero.isZero(z)) {
+        if (!useSpouge && comp.compare(z.magnitude(), gammaNeighborhoodOfZero(z.getMathContext())) < 0 && !Zero.isZero(z)) {
             // compute an approximation and return it
             return gammaNearZero(z);
         }
@@ -348,6 +397,10 @@ public final class MathUtils {
             }
         }
 
+        if (useSpouge) {
+            final MathContext mctx = z.getMathContext();
+            return new RealImpl(ElementaryFunctions.gamma(Re(z).asBigDecimal(), mctx), mctx, false);
+        }
         // use Weierstrass and compute a valid result for all reals and complex values (no half-plane reflection required)
         final long iterLimit = z.getMathContext().getPrecision() * Long.getLong(GAMMA_TERM_SCALE, 2048L) + 7L;
         final MathContext compCtx = new MathContext(z.getMathContext().getPrecision() * 2, z.getMathContext().getRoundingMode());
@@ -360,26 +413,31 @@ public final class MathUtils {
         Numeric exponent = gamma.multiply(z).negate();
         Numeric coeff = exponent instanceof ComplexType ? e.exp((ComplexType) exponent).divide(z) :
                 e.exp((RealType) exponent).divide(z);  // exponent should be at least a real since gamma is a real
-        ExecutorService executor = Executors.newCachedThreadPool();
-        List<Future<Numeric>> segments = new LinkedList<>();
+        List<Future<Numeric>> segments = new ArrayList<>((int) (iterLimit / stepSize) + 1);
         for (long k = 1L; k < iterLimit; k += stepSize) {
             final long kk = k;
             Callable<Numeric> segment = () -> LongStream.range(kk, Math.min(kk + stepSize, iterLimit))
-                    .mapToObj(n -> weierstrassTerm(n, z, compCtx)).reduce(Numeric::multiply).orElseThrow();
-            segments.add(executor.submit(segment));
+                    .mapToObj(n -> {
+                        if (Thread.currentThread().isInterrupted()) throw new CancellationException();
+                        return weierstrassTerm(n, z, compCtx);
+                    }).reduce(Numeric::multiply).orElseThrow();
+            segments.add(GammaWorkers.pool.submit(segment));
         }
         // read the block results out sequentially and take the product
-        Numeric result = segments.stream().map(f -> {
-            try {
-                return f.get();
-            } catch (InterruptedException | ExecutionException ex) {
-                throw new IllegalStateException("Interrupted while computing \uD835\uDEAA(" + z + ")", ex);
+        Numeric result = One.getInstance(compCtx);
+        try {
+            for (Future<Numeric> segment : segments) {
+                result = result.multiply(segment.get());
             }
-        }).reduce(One.getInstance(compCtx), Numeric::multiply).multiply(coeff);
-        executor.shutdown();  // request a shutdown no matter what
-        if (!executor.isTerminated()) {
-            Logger.getLogger(MathUtils.class.getName()).warning("gamma() executor may not have terminated properly");
-        }
+        } catch (InterruptedException ie) {
+            segments.forEach(f -> f.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while computing \uD835\uDEAA(" + z + ")", ie);
+        } catch (ExecutionException ex) {
+            segments.forEach(f -> f.cancel(true));
+            throw new IllegalStateException("While computing \uD835\uDEAA(" + z + ")", ex.getCause());
+        }
+        result = result.multiply(coeff);
         if (result instanceof ComplexType) {
             return round((ComplexType) result, z.getMathContext());
         } else {
@@ -391,6 +449,20 @@ public final class MathUtils {
         }
     }
 
+    /**
+     * The worker threads which compute blocks of Weierstrass' product for &#x1D6AA;(z).
+     * The pool is shared by all callers and created on first use, and its threads
+     * are daemons so that an idle pool does not prevent the JVM from exiting.
+     */
+    private static final class GammaWorkers {
+        private static final ExecutorService pool = Executors.newFixedThreadPool(
+                Runtime.getRuntime().availableProcessors(), task -> {
+                    Thread worker = new Thread(task, "tungsten-gamma-worker");
+                    worker.setDaemon(true);
+                    return worker;
+                });
+    }
+
     private static Numeric weierstrassTerm(long n, Numeric z, MathContext ctx) {
         final Euler e = Euler.getInstance(ctx);
         final Numeric one = One.getInstance(ctx);
@@ -446,6 +518,12 @@ public final class MathUtils {
      * An application of Stirling's approximation to the ln&#x1D6AA;(z) function.
      * It works for all z where Re(z)&nbsp;&gt;&nbsp;0 and |Arg(z)|&nbsp;&lt;&nbsp;&pi;
      * and provides better approximations for z values with a larger magnitude.
+     * Arguments with a small real part are first shifted upward, far enough that
+     * the series can be summed to the requested precision, and the result is
+     * recovered with ln&#x1D6AA;(z)&nbsp;=&nbsp;ln&#x1D6AA;(z&nbsp;+&nbsp;m)&nbsp;&minus;&nbsp;&sum;<sub>k=0</sub><sup>m&minus;1</sup>ln(z&nbsp;+&nbsp;k).
+     * The coefficients of the series are cached for each {@link MathContext}, and real arguments
+     * are computed by {@link ElementaryFunctions#lnGamma(BigDecimal, MathContext)},
+     * so the cost depends on the precision rather than the magnitude of z.
      * Since &#x1D6AA;(z) grows so quickly, it is often advantageous to use the
      * natural log of Gamma, or ln&#x1D6AA;(z).
      * @param z any {@link Numeric} value
@@ -464,23 +542,20 @@ public final class MathUtils {
         if (Re(z).sign() != Sign.POSITIVE) {
             throw new IllegalArgumentException("Re(z) must be > 0");
         }
+        if (!(z instanceof ComplexType)) {
+            return new RealImpl(ElementaryFunctions.lnGamma(Re(z).asBigDecimal(), ctx), ctx, false);
+        }
         // if below threshold, compute using a bigger value and work backwards
-        final RealType threshold = new RealImpl(BigDecimal.valueOf(LN_GAMMA_THRESHOLD), ctx);
-        if (Re(z).compareTo(threshold) < 0) {
-            Numeric bigZ = z.add(threshold);
+        final long threshold = Math.max(LN_GAMMA_THRESHOLD, ElementaryFunctions.stirlingMinimum(ctx.getPrecision()));
+        if (Re(z).compareTo(new RealImpl(BigDecimal.valueOf(threshold), ctx)) < 0) {
+            final long shift = threshold - Re(z).asBigDecimal().longValue();
+            Numeric bigZ = z.add(new RealImpl(BigDecimal.valueOf(shift), ctx));
             Logger.getLogger(MathUtils.class.getName()).log(Level.INFO,
                     "ln\uD835\uDEAA({0}) argument is below threshold {1}; computing ln\uD835\uDEAA({2}) instead and working backwards.",
-                    new Object[] {z, LN_GAMMA_THRESHOLD, bigZ});
+                    new Object[] {z, threshold, bigZ});
             Numeric aggResult = lnGamma(bigZ);
-            for (long k = 1L; k <= LN_GAMMA_THRESHOLD; k++) {
-                // kval could easily be another type, but this should work well
-                IntegerType kval = new IntegerImpl(BigInteger.valueOf(k)) {
-                    @Override
-                    public MathContext getMathContext() {
-                        return ctx;
-                    }
-                };
-                Numeric diff = bigZ.subtract(kval);
+            for (long k = 0L; k < shift; k++) {
+                Numeric diff = z.add(new RealImpl(BigDecimal.valueOf(k), ctx));
                 aggResult = aggResult.subtract(diff instanceof ComplexType ? ln((ComplexType) diff) : ln(Re(diff)));
             }
             return aggResult;
@@ -488,42 +563,28 @@ public final class MathUtils {
         // set up needed values
         final RealType two = new RealImpl(decTWO, ctx);
         RealType twopi = (RealType) two.multiply(pi);
-        final int N = ctx.getPrecision() + 1;
-        BernoulliNumbers B = new BernoulliNumbers(N, ctx);
 
-        Numeric result = z.multiply(z instanceof ComplexType ? ln((ComplexType) z) : ln(Re(z))).subtract(z);
+        Numeric result = z.multiply(ln((ComplexType) z)).subtract(z);
         Numeric twopiOverZ = twopi.divide(z); // this will be RealType or ComplexType
         Numeric logArg = twopiOverZ instanceof ComplexType ? ln((ComplexType) twopiOverZ) : ln((RealType) twopiOverZ);
         result = result.add(logArg.divide(two));
 
-        // now append the sum for the remainder of the approximation
-        for (long n = 1L; n < (long) N; n++) {
-            result = result.add(lnGamma_term(z, n, B, ctx));
+        // now append the terms B₂ₙ/(2n(2n − 1)z²ⁿ⁻¹) of the remaining sum until they become negligible
+        final Comparator<Numeric> comp = obtainGenericComparator();
+        final RealType tolerance = (RealType) new RealImpl(BigDecimal.ONE.movePointLeft(ctx.getPrecision()), ctx)
+                .multiply(result.magnitude());
+        final Numeric zInverse = z.inverse();
+        final Numeric zInverseSquared = zInverse.multiply(zInverse);
+        Numeric power = zInverse;
+        for (BigDecimal coefficient : ElementaryFunctions.stirlingCoefficients(ctx)) {
+            Numeric term = power.multiply(new RealImpl(coefficient, ctx, false));
+            result = result.add(term);
+            if (comp.compare(term.magnitude(), tolerance) < 0) break;
+            power = power.multiply(zInverseSquared);
         }
         return result;
     }
 
-    /**
-     * Computes the terms of the sum for Stirling approximation of ln&#x1D6AA;(z).
-     * These terms are of the form B<sub>2n</sub>/(2n&sdot;(2n &minus; 1)&sdot;z<sup>2n&nbsp;&minus;&nbsp;1</sup>)
-     * and contribute to a finite sum.
-     * @param z   the argument to {@link #lnGamma(Numeric)}
-     * @param n   the ordinal value for which term to compute
-     * @param B   an instance of {@link BernoulliNumbers} initialized to a sufficient capacity
-     *            to quickly generate all the values needed for the entire sum
-     * @param ctx the {@code MathContext} to be used for this computation
-     * @return the n<sup>th</sup> term of the final sum in our Stirling approximation
-     */
-    private static Numeric lnGamma_term(Numeric z, long n, BernoulliNumbers B, MathContext ctx) {
-        final long twoN = n << 1L;
-        final RealType coeff = new RealImpl(BigDecimal.valueOf(twoN * (twoN - 1L)), ctx);
-
-        Numeric zToPower = z instanceof ComplexType ?
-                computeIntegerExponent((ComplexType) z, twoN - 1L, ctx) :
-                computeIntegerExponent(Re(z), twoN - 1L, ctx);
-        return B.getB(twoN).divide(zToPower.multiply(coeff));
-    }
-
     /**
      * Obtain the real part of {@code z}. For non-complex
      * arguments, this will coerce the value to {@link RealType}.
@@ -638,9 +699,12 @@ public final class MathUtils {
     /**
      * Computes the Riemann zeta function &#x1D701;(s), where s can be any
      * {@link Numeric} value (including {@link ComplexType}). The logic is
-     * optimized for certain specific arguments (e.g., even positive integers),
-     * and the main algorithm is globally convergent everywhere except
-     * where Re(s)&nbsp;=&nbsp;1.
+     * optimized for certain specific arguments (e.g., even positive integers).
+     * For Re(s)&nbsp;&gt;&nbsp;0, the engine is chosen automatically: Borwein's algorithm
+     * in general, or the Riemann&ndash;Siegel formula on the critical line when
+     * Im(s) is large enough for it to reach the requested precision.  Other
+     * arguments are computed with the Euler&ndash;Maclaurin formula, which is globally
+     * convergent but degrades as |Im(s)| grows.
      * @param s the argument to the zeta function
      * @return the calculated value of &#x1D701;(s)
      * @see <a href="https://en.wikipedia.org/wiki/Riemann_zeta_function">the Wikipedia article</a>
@@ -668,14 +732,15 @@ public final class MathUtils {
                     BernoulliNumbers bn = new BernoulliNumbers(n > 1000L ? 1024 : (int) (Math.abs(n) + 2L), s.getMathContext());
 
                     if (n <= 0L) {
+                        // 𝜁(−n) = (−1)ⁿB₍ₙ₊₁₎/(n + 1)
                         long posN = Math.abs(n);
-                        Numeric result = bn.getB(posN).divide(new IntegerImpl(BigInteger.valueOf(posN + 1L)));
+                        Numeric result = bn.getB(posN + 1L).divide(new IntegerImpl(BigInteger.valueOf(posN + 1L)));
                         if (posN % 2L == 1L) result = result.negate();
                         return result;
                     } else if (n % 2L == 0L) {
-                        // even positive integers
+                        // even positive integers: 𝜁(n) = (−1)^(n/2 + 1)·B₍ₙ₎(2𝜋)ⁿ/(2·n!)
                         RealType factor = (RealType) Pi.getInstance(s.getMathContext()).multiply(two);
-                        Numeric result = computeIntegerExponent(factor, 2L).multiply(bn.getB(n))
+                        Numeric result = computeIntegerExponent(factor, n).multiply(bn.getB(n))
                                 .divide(two.multiply(factorial(intArg)));
                         if ((n / 2L + 1L) % 2L == 1L) result = result.negate();
                         return result;
@@ -688,6 +753,9 @@ public final class MathUtils {
                 throw new ArithmeticException("While computing \uD835\uDF01(" + s + ") as an integer");
             }
         }
+        if (Re(s).sign() == Sign.POSITIVE) {
+            return RiemannZeta.zeta(s);
+        }
         // use the 1930-era Euler-Maclaurin algorithm to compute 𝜁(s)
         long n = Math.max(5L, s.getMathContext().getPrecision() / 3L); // was 10L; DECIMAL64 -> 5, DECIMAL128 -> 11
         long m = Math.max(7L, s.getMathContext().getPrecision() / 2L); // was 10L; DECIMAL64 -> 8, DECIMAL128 -> 17
@@ -704,6 +772,39 @@ public final class MathUtils {
         return zetaNterms(n, s).add(finalTerm);
     }
 
+    /**
+     * Computes the Riemann zeta function &#x1D701;(s) at {@code count} evenly spaced
+     * points s<sub>k</sub>&nbsp;=&nbsp;start&nbsp;+&nbsp;k&sdot;step, e.g., along the critical line.
+     * Points with Re(s)&nbsp;&gt;&nbsp;0 are evaluated together, sharing a single table of
+     * logarithms, as well as the cached coefficients of each engine; when the real part is the
+     * same for every point, the powers k<sup>&minus;&sigma;</sup> are shared as well.
+     * Any other points are computed individually by {@link #zeta(Numeric)}.
+     * @param start the first point
+     * @param step  the difference between successive points
+     * @param count the number of points
+     * @return the values &#x1D701;(s<sub>0</sub>), &#x1D701;(s<sub>1</sub>), &hellip;, in order
+     * @since 1.5
+     */
+    public static List<Numeric> zeta(Numeric start, Numeric step, int count) {
+        if (count < 0) throw new IllegalArgumentException("The number of points must be non-negative");
+        final MathContext ctx = start.getMathContext();
+        final List<Numeric> points = new ArrayList<>(count);
+        for (int k = 0; k < count; k++) {
+            final Numeric offset = step.multiply(new RealImpl(BigDecimal.valueOf(k), ctx));
+            points.add(offset instanceof ComplexType ? offset.add(start) : start.add(offset));
+        }
+        final List<Numeric> shared = points.stream()
+                .filter(s -> Re(s).sign() == Sign.POSITIVE && !s.isCoercibleTo(IntegerType.class)).toList();
+        final Iterator<Numeric> sharedValues = shared.isEmpty() ? Collections.emptyIterator() :
+                RiemannZeta.zeta(shared).iterator();
+        final List<Numeric> results = new ArrayList<>(count);
+        for (Numeric s : points) {
+            results.add(Re(s).sign() == Sign.POSITIVE && !s.isCoercibleTo(IntegerType.class) ?
+                    sharedValues.next() : zeta(s));
+        }
+        return results;
+    }
+
     private static Numeric zetaNterms(long n, Numeric s) {
         final Logger logger = Logger.getLogger(MathUtils.class.getName());
         final MathContext ctx = s.getMathContext();
@@ -902,18 +1003,25 @@ public final class MathUtils {
             if (k.isOdd()) result = result.negate();
             return result;
         }
-        // factorial() already checks for negative values, so we just need to check that k <= n
+        if (k.sign() == Sign.NEGATIVE) throw new IllegalArgumentException("k must be non-negative");
         if (k.compareTo(n) > 0) throw new IllegalArgumentException("k must be \u2264 n");
         if (Zero.isZero(k) || k.equals(n)) return new IntegerImpl(BigInteger.ONE);
         if (One.isUnity(k)) return n;
-        try {
-            return (IntegerType) factorial(n).divide(factorial(k).multiply(factorial((IntegerType) n.subtract(k)))).coerceTo(IntegerType.class);
-        } catch (CoercionException e) {
-            // the result should always be an integer, so this should never happen
-            Logger.getLogger(MathUtils.class.getName()).log(Level.SEVERE,
-                    "A non-integer result was generated by nChooseK", e);
-            throw new ArithmeticException("Received a non-integer result for n-choose-k");
+        // use the symmetry C(n, k) = C(n, n - k) to minimize the number of factors
+        final BigInteger nval = n.asBigInteger();
+        final BigInteger complement = nval.subtract(k.asBigInteger());
+        final long kmin = complement.min(k.asBigInteger()).longValueExact();
+        if (nval.compareTo(BigInteger.valueOf(MAX_SIEVE)) <= 0 && kmin > PRODUCT_TREE_LEAF) {
+            // Legendre's formula gives the multiplicity of each prime, so no division is needed
+            final int nint = nval.intValue();
+            final int kint = (int) kmin;
+            return new IntegerImpl(primeFactorProduct(nint,
+                    p -> legendre(nint, p) - legendre(kint, p) - legendre(nint - kint, p)));
         }
+        // C(n, k) = n(n - 1)…(n - k + 1)/k!, without computing n!
+        final BigInteger numerator = rangeProduct(nval.subtract(BigInteger.valueOf(kmin - 1L)), kmin);
+        final BigInteger denominator = rangeProduct(BigInteger.TWO, kmin - 1L);
+        return new IntegerImpl(numerator.divide(denominator));
     }
 
     /**
@@ -931,6 +1039,36 @@ public final class MathUtils {
         return nChooseK(N, K);
     }
 
+    /**
+     * Compute an approximation of the binomial coefficient to a given precision.
+     * For large n and k, the exact value has far more digits than are usually wanted,
+     * and it is much cheaper to compute
+     * ln&#x1D6AA;(n&nbsp;+&nbsp;1)&nbsp;&minus;&nbsp;ln&#x1D6AA;(k&nbsp;+&nbsp;1)&nbsp;&minus;&nbsp;ln&#x1D6AA;(n&nbsp;&minus;&nbsp;k&nbsp;+&nbsp;1)
+     * and exponentiate the result.  If min(k,&nbsp;n&nbsp;&minus;&nbsp;k) does not exceed the requested
+     * precision, or if n is negative, the exact value is computed and rounded instead.
+     * @param n    the size of the set from which we are choosing
+     * @param k    the number of elements we are choosing from the set at a time
+     * @param mctx the {@link MathContext} of the result
+     * @return the binomial coefficient, rounded to the precision of {@code mctx}
+     * @see ElementaryFunctions#lnGamma(BigDecimal, MathContext)
+     */
+    public static RealType nChooseK(IntegerType n, IntegerType k, MathContext mctx) {
+        if (n.sign() == Sign.NEGATIVE) return round(new RealImpl(nChooseK(n, k), mctx), mctx);
+        if (k.sign() == Sign.NEGATIVE) throw new IllegalArgumentException("k must be non-negative");
+        if (k.compareTo(n) > 0) throw new IllegalArgumentException("k must be \u2264 n");
+        final BigInteger nval = n.asBigInteger();
+        final BigInteger kmin = nval.subtract(k.asBigInteger()).min(k.asBigInteger());
+        if (kmin.compareTo(BigInteger.valueOf(mctx.getPrecision())) <= 0) {
+            return round(new RealImpl(nChooseK(n, k), mctx), mctx);
+        }
+        // the logarithms are as large as n·ln n, so they need that many more digits
+        final MathContext logCtx = new MathContext(mctx.getPrecision() + nval.toString().length() + 6, mctx.getRoundingMode());
+        final BigDecimal lnC = ElementaryFunctions.lnGamma(new BigDecimal(nval.add(BigInteger.ONE)), logCtx)
+                .subtract(ElementaryFunctions.lnGamma(new BigDecimal(kmin.add(BigInteger.ONE)), logCtx))
+                .subtract(ElementaryFunctions.lnGamma(new BigDecimal(nval.subtract(kmin).add(BigInteger.ONE)), logCtx));
+        return new RealImpl(ElementaryFunctions.exp(lnC, mctx), mctx, false);
+    }
+
     /**
      * Compute the generalized binomial coefficient, where {@code x} is a value
      * of any type and {@code k} is an integer.
@@ -941,6 +1079,7 @@ public final class MathUtils {
      *   on Mathematics Stack Exchange</a>
      */
     public static Numeric generalizedBinomialCoefficient(Numeric x, IntegerType k) {
+        if (x instanceof RealType realX) return generalizedBinomialCoefficient(realX, k);
         final MathContext ctx = inferMathContext(List.of(x, k));
         Numeric accum = x;
 
@@ -956,6 +1095,42 @@ public final class MathUtils {
         return accum.divide(factorial(k));
     }
 
+    /**
+     * Compute the generalized binomial coefficient for a real value {@code x}
+     * and an integer {@code k}.  When x&nbsp;&gt;&nbsp;k&nbsp;&minus;&nbsp;1 and k exceeds the precision
+     * of x, this is computed from ln&#x1D6AA;(x&nbsp;+&nbsp;1)&nbsp;&minus;&nbsp;ln&#x1D6AA;(k&nbsp;+&nbsp;1)&nbsp;&minus;&nbsp;ln&#x1D6AA;(x&nbsp;&minus;&nbsp;k&nbsp;+&nbsp;1),
+     * whose cost does not grow with k.  Otherwise, the falling factorial
+     * x(x&nbsp;&minus;&nbsp;1)&hellip;(x&nbsp;&minus;&nbsp;k&nbsp;+&nbsp;1) is accumulated directly and divided by k!
+     * @param x a real value
+     * @param k the number of elements &ldquo;chosen&rdquo; at a time
+     * @return the generalized binomial coefficient
+     * @see #generalizedBinomialCoefficient(Numeric, IntegerType)
+     */
+    public static RealType generalizedBinomialCoefficient(RealType x, IntegerType k) {
+        final MathContext ctx = x.getMathContext().getPrecision() == 0 ? MathContext.DECIMAL128 : x.getMathContext();
+        final long kval = k.asBigInteger().longValueExact();
+        if (kval < 0L) throw new IllegalArgumentException("k must be non-negative");
+        if (kval == 0L) return new RealImpl(BigDecimal.ONE, ctx);
+        final BigDecimal xval = x.asBigDecimal();
+        final BigDecimal kdec = BigDecimal.valueOf(kval);
+        // each rounded product contributes an error of up to 1/2 ulp
+        final MathContext compCtx = new MathContext(ctx.getPrecision() + Long.toString(kval).length() + 2, ctx.getRoundingMode());
+        if (kval > ctx.getPrecision() && xval.compareTo(kdec.subtract(BigDecimal.ONE)) > 0) {
+            final int magnitude = Math.max(0, xval.precision() - xval.scale());
+            final MathContext logCtx = new MathContext(compCtx.getPrecision() + magnitude + 4, ctx.getRoundingMode());
+            final BigDecimal lnC = ElementaryFunctions.lnGamma(xval.add(BigDecimal.ONE), logCtx)
+                    .subtract(ElementaryFunctions.lnGamma(kdec.add(BigDecimal.ONE), logCtx))
+                    .subtract(ElementaryFunctions.lnGamma(xval.subtract(kdec).add(BigDecimal.ONE), logCtx));
+            return new RealImpl(ElementaryFunctions.exp(lnC, ctx), ctx, false);
+        }
+        BigDecimal accum = xval;
+        for (long j = 1L; j < kval; j++) {
+            accum = accum.multiply(xval.subtract(BigDecimal.valueOf(j)), compCtx);
+        }
+        final BigDecimal kFactorial = new BigDecimal(factorial(k).asBigInteger());
+        return new RealImpl(accum.divide(kFactorial, ctx), ctx, false);
+    }
+
     /**
      * Round a value x to the given {@link MathContext}.
      * @param x   the real value to be rounded
@@ -1395,7 +1570,6 @@ public final class MathUtils {
     }
 
     private static final BigDecimal decTWO = BigDecimal.valueOf(2L);
-    private static final Range<RealType> newtonRange = new Range<>(new RealImpl(BigDecimal.ZERO), new RealImpl(decTWO), BoundType.EXCLUSIVE);
 
     /**
      * Compute the natural logarithm, ln(x).
@@ -1417,28 +1591,9 @@ public final class MathUtils {
             if (cmpZero == 0) return RealInfinity.getInstance(Sign.NEGATIVE, mctx);
             throw new ArithmeticException("ln(x) is undefined for x < 0");
         }
-        if (newtonRange.contains(x)) return lnNewton(x, mctx);
-
-        final int cmp10 = x.asBigDecimal().compareTo(BigDecimal.TEN);
-        if (cmp10 >= 0) {
-            final RealType ln10 = lnSeries(new RealImpl(BigDecimal.TEN), mctx);
-            if (cmp10 == 0) return ln10; // we have the exact solution already
-            // use the identity ln(a*10^n) = ln(a) + n*ln(10)
-            RealType mantissa = mantissa(x);
-            IntegerType exponent = exponent(x);
-            try {
-                // We are mainly coercing here out of an abundance of caution, so if something does break, we log it well.
-                return (RealType) ln(mantissa, mctx).add(ln10.multiply(exponent)).coerceTo(RealType.class);
-            } catch (CoercionException ex) {
-                Logger logger = Logger.getLogger(MathUtils.class.getName());
-                logger.log(Level.SEVERE, "While computing ln(a\u2009×\u200910\u207F) = ln(a) + n\u2009×\u2009ln(10).", ex);
-                logger.log(Level.INFO, "Attempted to decompose ln(x) for x\u2009=\u2009{0} with mantissa\u2009=\u2009{1} and exponent\u2009=\u2009{2}.",
-                        new Object[] {x, mantissa, exponent});
-                throw new IllegalStateException("Calculation of ln(a × 10\u207F) = ln(a) + n × ln(10) failed to generate a real value", ex);
-            }
-        }
-
-        return lnSeries(x, mctx);
+        final RealImpl result = new RealImpl(ElementaryFunctions.ln(x.asBigDecimal(), mctx), mctx, false);
+        result.setIrrational(true);
+        return result;
     }
 
     /**
@@ -1450,43 +1605,6 @@ public final class MathUtils {
         return ln(x, x.getMathContext());
     }
 
-    private static RealType lnNewton(RealType x, MathContext mctx) {
-        final Euler e = Euler.getInstance(mctx);
-        BigDecimal xval = x.asBigDecimal();
-        BigDecimal y0 = BigDecimal.ONE;
-        BigDecimal y1;
-        while (true) {
-            final BigDecimal expval = e.exp(new RealImpl(y0, false)).asBigDecimal();
-
-            BigDecimal num = xval.subtract(expval, mctx);
-            BigDecimal denom = xval.add(expval, mctx);
-            y1 = y0.add(decTWO.multiply(num.divide(denom, mctx), mctx), mctx);
-            if (y0.compareTo(y1) == 0) break;
-
-            y0 = y1;
-        }
-        final RealImpl result = new RealImpl(y0, mctx, false);
-        result.setIrrational(true);
-        return result;
-    }
-
-    private static RealType lnSeries(RealType x, MathContext mctx) {
-        final MathContext compctx = new MathContext(mctx.getPrecision() + 4, mctx.getRoundingMode());
-        BigDecimal xfrac = x.asBigDecimal().subtract(BigDecimal.ONE, compctx).divide(x.asBigDecimal(), compctx);
-        BigDecimal sum = BigDecimal.ZERO;
-        for (int n = 1; n < mctx.getPrecision() * 17; n++) {
-            sum = sum.add(computeNthTerm_ln(xfrac, n, compctx), compctx);
-        }
-        final RealImpl result = new RealImpl(sum.round(mctx), mctx, false);
-        result.setIrrational(true);
-        return result;
-    }
-
-    private static BigDecimal computeNthTerm_ln(BigDecimal frac, int n, MathContext mctx) {
-        BigDecimal ninv = BigDecimal.ONE.divide(BigDecimal.valueOf(n), mctx);
-        return ninv.multiply(frac.pow(n, mctx), mctx);
-    }
-
     /**
      * Compute the natural logarithm of a complex value.
      * @param z the value we want to calculate the natural logarithm of
@@ -1696,6 +1814,13 @@ public final class MathUtils {
         return new IntegerImpl(BigInteger.valueOf(exponent));  // the exponent should always be exact
     }
 
+    /**
+     * Rational exponents with denominators larger than this, applied to a positive base,
+     * are evaluated with {@link ElementaryFunctions#pow(BigDecimal, BigInteger, BigInteger, MathContext)}
+     * instead of by taking an n<sup>th</sup> root.
+     */
+    private static final BigInteger MAX_ROOT_DEGREE = BigInteger.valueOf(64L);
+
     /**
      * Compute the general case of x<sup>y</sup>, where x is a real number
      * and y is anything generally coercible to a real (i.e., integer,
@@ -1751,6 +1876,14 @@ public final class MathUtils {
                         throw new IllegalStateException("Failed type coercion after test for coercibility", ex);
                     }
                 }
+                if (base.sign() == Sign.POSITIVE) {
+                    final RationalType smallRational = asSmallRational((RealType) exponent, mctx);
+                    // an nth root is exact whenever the result is, e.g. 4^0.5
+                    if (smallRational != null) return generalizedExponent(base, smallRational, mctx);
+                    // b^y = e^(y ln b), computed directly rather than through a rational approximation of y
+                    final BigDecimal result = ElementaryFunctions.pow(base.asBigDecimal(), ((RealType) exponent).asBigDecimal(), mctx);
+                    return new RealImpl(result, mctx, false);
+                }
                 // approximate with a rational
                 try {
                     RationalType ratExponent = (RationalType) exponent.coerceTo(RationalType.class);
@@ -1763,8 +1896,14 @@ public final class MathUtils {
                     return e.exp(arg);
                 }
             case RATIONAL:
-                // use the identity b^(u/v) = vth root of b^u
                 RationalType ratexponent = (RationalType) exponent;
+                if (base.sign() == Sign.POSITIVE && ratexponent.denominator().asBigInteger().compareTo(MAX_ROOT_DEGREE) > 0) {
+                    // high-degree roots are much more cheaply obtained as e^(u ln(b)/v)
+                    final BigDecimal result = ElementaryFunctions.pow(base.asBigDecimal(),
+                            ratexponent.numerator().asBigInteger(), ratexponent.denominator().asBigInteger(), mctx);
+                    return new RealImpl(result, mctx, false);
+                }
+                // use the identity b^(u/v) = vth root of b^u
                 final long n_num = ratexponent.numerator().asBigInteger().longValueExact();
                 RealType intermediate = computeIntegerExponent(base, n_num, mctx);
                 return nthRoot(intermediate, ratexponent.denominator(), mctx);
@@ -1773,6 +1912,26 @@ public final class MathUtils {
         }
     }
 
+    /**
+     * Convert an exact real exponent into a rational, provided that it is
+     * no larger than {@link #MAX_ROOT_DEGREE} in magnitude and that its
+     * denominator in lowest terms is no larger than {@link #MAX_ROOT_DEGREE}.
+     * @param exponent the exponent to convert
+     * @param mctx     the {@link MathContext} to attach to the result
+     * @return the exponent as a rational, or {@code null} if {@code exponent} is
+     *   inexact or is not such a small rational
+     */
+    private static RationalType asSmallRational(RealType exponent, MathContext mctx) {
+        if (!exponent.isExact()) return null;
+        final BigDecimal y = exponent.asBigDecimal().stripTrailingZeros();
+        // a denominator of at most 64 in lowest terms divides 10^6
+        if (y.scale() <= 0 || y.scale() > 6 || y.abs().compareTo(new BigDecimal(MAX_ROOT_DEGREE)) > 0) return null;
+        final BigInteger denominator = BigInteger.TEN.pow(y.scale());
+        final BigInteger gcd = y.unscaledValue().gcd(denominator);
+        if (denominator.divide(gcd).compareTo(MAX_ROOT_DEGREE) > 0) return null;
+        return new RationalImpl(y.unscaledValue().divide(gcd), denominator.divide(gcd), mctx);
+    }
+
     /**
      * Method for raising a real-valued number to a complex-valued exponent.
      * This method is relatively efficient since it only needs to handle a very
@@ -1894,7 +2053,8 @@ public final class MathUtils {
     /**
      * Compute the n<sup>th</sup> root of a real value a.  The result is the principal
      * root of the equation x<sup>n</sup>&nbsp;=&nbsp;a.  The {@link MathContext}
-     * is explicitly supplied.
+     * is explicitly supplied.  Unless {@code a} is a {@link ContinuedFraction}, the root
+     * is computed by {@link ElementaryFunctions#nthRoot(BigDecimal, int, MathContext)}.
      * @param a the value for which we want to find a root
      * @param n the degree of the root
      * @param mctx the {@link MathContext} to use for this calculation
@@ -1920,36 +2080,33 @@ public final class MathUtils {
         if (n.isEven() && a.sign() == Sign.NEGATIVE) {
             throw new ArithmeticException("Cannot compute a real-valued " + n + "th root of " + a);
         }
-        if (n.asBigInteger().equals(BigInteger.TWO) && useBuiltInOperations()) {
-            return new RealImpl(A.sqrt(mctx), mctx, a.isExact());  // faster but sloppier
-        } else if (n.asBigInteger().equals(BigInteger.ONE)) {
+        if (n.asBigInteger().equals(BigInteger.ONE)) {
             return a;
         }
 
-        // sadly, we need to use int here because we're relying on
-        // BigDecimal.pow() for speed and efficiency
-        // on the other hand, if we are taking nth roots of values where n > Integer.MAX_VALUE,
+        // we rely on BigDecimal.pow(), which takes an int exponent;
+        // if we are taking nth roots of values where n > Integer.MAX_VALUE,
         // we might have other problems...
         final int nint = n.asBigInteger().intValueExact();
-        final BigDecimal ncalc = new BigDecimal(n.asBigInteger());
-        final BigDecimal nminus1 = ncalc.subtract(BigDecimal.ONE);
-        BigDecimal x0;
-        BigDecimal x1 = A.divide(ncalc, mctx); // initial estimate
-
-        do {
-            x0 = x1;
-            x1 = nminus1.multiply(x0, mctx).add(A.divide(x0.pow(nint - 1, mctx), mctx)).divide(ncalc, mctx);
-            BigDecimal delta = x0.subtract(x1, mctx).abs();
-            if (delta.compareTo(x0.ulp()) <= 0) break;  // to ensure we are not stuck in an infinite loop
-        } while (x0.compareTo(x1) != 0);
+        BigDecimal x1 = ElementaryFunctions.nthRoot(A, nint, mctx);
         x1 = x1.stripTrailingZeros();
         boolean irrational = classifyIfIrrational(x1, mctx);
+        if (!irrational && (long) nint * x1.precision() <= MAX_EXACT_ROOT_CHECK_DIGITS) {
+            // a root that happens to end in zeros looks short, so confirm that it is exact
+            irrational = x1.pow(nint).compareTo(A) != 0;
+        }
         final RealImpl result = new RealImpl(x1, a.isExact() && !irrational);
         result.setMathContext(mctx);
         result.setIrrational(irrational);
         return result;
     }
 
+    /**
+     * Roots for which the result, raised back to the n<sup>th</sup> power, would have
+     * at most this many digits are checked for exactness by {@link #nthRoot(RealType, IntegerType, MathContext)}.
+     */
+    private static final long MAX_EXACT_ROOT_CHECK_DIGITS = 1L << 16;
+
     private static boolean classifyIfIrrational(BigDecimal realval, MathContext mctx) {
         if (realval.scale() <= 0) return false;  // this is an integer
         IntegerType nonFractionPart = new IntegerImpl(realval.toBigInteger());
@@ -4082,128 +4239,129 @@ public final class MathUtils {
     /**
      * Multiply two matrices using the Strassen/Winograd algorithm.
      * This algorithm uses 7 multiplications instead of the usual 8
-     * at each stage of recursion.
+     * at each stage of recursion.  If both matrices hold only inexact
+     * values that fit within {@link MathContext#DECIMAL64}, and every
+     * product and sum of products stays within the normal range of
+     * a {@code double}, they are instead promoted to {@link DoubleMatrix}
+     * and multiplied using primitive arithmetic.
+     * Matrices of any compatible dimensions are accepted.
      *
      * @param lhs the left-hand matrix in the multiplication
      * @param rhs the right-hand matrix in the multiplication
      * @return the product of {@code lhs} and {@code rhs}
+     * @see StrassenWinogradMultiplier
      * @see <a href="https://en.wikipedia.org/wiki/Strassen_algorithm">the Wikipedia article on Strassen's algorithm</a>
      */
     public static Matrix<RealType> efficientMatrixMultiply(Matrix<RealType> lhs, Matrix<RealType> rhs) {
-        if (lhs.rows() == rhs.rows() && lhs.columns() == rhs.columns() && lhs.rows() == lhs.columns()) {
-            if (lhs.rows() == 1L) return new SingletonMatrix<>((RealType) lhs.valueAt(0L, 0L).multiply(rhs.valueAt(0L, 0L)));
-            // we have two square matrices of equal dimension
-            if (BigInteger.valueOf(lhs.rows()).bitCount() == 1) {
-                // rows and columns are powers of 2
-                if (lhs.rows() == 2L) {
-                    // we have 2×2 matrices
-                    // we could delegate to the normal multiply for the 2×2 case, but this actually would take longer
-                    return strassenWinograd2x2Multiply(lhs, rhs);
-                } else {
-                    // recursively drill down using the same relations as shown above for the scalar case
-                    ForkJoinPool pool = ForkJoinPool.commonPool();
-                    StrassenWinogradMultiplyTask multiplyTask = new StrassenWinogradMultiplyTask(lhs, rhs, computeStrassenThreshold(rhs.columns()));
-                    return pool.invoke(multiplyTask);
-                }
-            } else {
-                // matrices are square, but rows and columns are not a power of 2
-                final long resize = smallestPowerOf2GTE(lhs.rows());
-                final RealType zero = new RealImpl(BigDecimal.ZERO, lhs.valueAt(0L, 0L).getMathContext());
-                Matrix<RealType> left = new PaddedMatrix<>(lhs, resize, resize, zero);
-                Matrix<RealType> right = new PaddedMatrix<>(rhs, resize, resize, zero);
-                Matrix<RealType> result = efficientMatrixMultiply(left, right);
-                // pick off the extraneous zero columns/rows
-                return new SubMatrix<>(result, 0L, 0L, lhs.rows() - 1L, rhs.columns() - 1L);
+        if (lhs instanceof DoubleMatrix dlhs) return dlhs.multiply(rhs);
+        final double[] lhsRange = inexactDoubleRange(lhs);
+        final double[] rhsRange = lhsRange == null ? null : inexactDoubleRange(rhs);
+        if (rhsRange != null && lhsRange[0] * rhsRange[0] >= Double.MIN_NORMAL &&
+                lhsRange[1] * rhsRange[1] * (double) lhs.columns() <= Double.MAX_VALUE) {
+            // nothing is gained by multiplying BigDecimal values at this precision
+            return new DoubleMatrix(lhs).multiply(rhs);
+        }
+        return StrassenWinogradMultiplier.multiply(lhs, rhs);
+    }
+
+    /**
+     * Find the smallest non-zero and the largest magnitude among the elements
+     * of a matrix, provided that every element is an inexact real value which
+     * satisfies {@link #fitsInDecimal64(RealType)}.  Exact values are excluded
+     * since a {@link DoubleMatrix} can only hand back inexact results.
+     * @param M the matrix to scan
+     * @return a two-element array holding the smallest non-zero magnitude and the
+     *   largest magnitude, or {@code null} if {@code M} cannot be promoted
+     */
+    private static double[] inexactDoubleRange(Matrix<? extends Numeric> M) {
+        double min = Double.MAX_VALUE;
+        double max = 0d;
+        for (long row = 0L; row < M.rows(); row++) {
+            for (long column = 0L; column < M.columns(); column++) {
+                if (!(M.valueAt(row, column) instanceof RealType x) || x.isExact() || !fitsInDecimal64(x)) return null;
+                final double magnitude = Math.abs(x.asBigDecimal().doubleValue());
+                if (magnitude == 0d) continue;
+                min = Math.min(min, magnitude);
+                max = Math.max(max, magnitude);
             }
         }
-        // if the above conditions are not met, do it the old-fashioned way
-        return lhs.multiply(rhs);
+        return new double[] {min, max};
     }
 
-    private static long computeStrassenThreshold(long size) {
-        if (size <= 16L) return 0L;  // let the algorithm use the default base behavior
-        if (size < 256L) return 4L;
-        if (size < 1024L) return 8L;
-        return 16L;
+    /**
+     * Determine whether a real value can be represented as a {@code double}
+     * without losing any precision that its {@link MathContext} promises.
+     * This is the case when the precision of the value is no greater than
+     * that of {@link MathContext#DECIMAL64} and its magnitude lies within the
+     * normal range of a {@code double}.
+     * @param x the value to test
+     * @return true if {@code x} can be safely converted to a {@code double}
+     * @since 1.5
+     */
+    public static boolean fitsInDecimal64(RealType x) {
+        final int precision = x.getMathContext().getPrecision();
+        if (precision == 0 || precision > MathContext.DECIMAL64.getPrecision()) return false;
+        if (x.sign() == Sign.ZERO) return true;
+        final double magnitude = Math.abs(x.asBigDecimal().doubleValue());
+        return magnitude >= Double.MIN_NORMAL && magnitude <= Double.MAX_VALUE;
     }
 
-    private static class StrassenWinogradMultiplyTask extends RecursiveTask<Matrix<RealType>> {
-        Matrix<RealType> lhs, rhs;
-        long threshold = 0L;
-
-        private StrassenWinogradMultiplyTask(Matrix<RealType> lhs, Matrix<RealType> rhs) {
-            this.lhs = lhs;
-            this.rhs = rhs;
+    /**
+     * Determine whether every element of a matrix can be represented as
+     * a {@code double} without losing precision, and thus whether the matrix
+     * can be promoted to a {@link DoubleMatrix} for faster computation.
+     * @param M the matrix to test
+     * @return true if {@code M} is already a {@link DoubleMatrix}, or if all of its
+     *   elements are real values that satisfy {@link #fitsInDecimal64(RealType)}
+     * @since 1.5
+     */
+    public static boolean fitsInDecimal64(Matrix<? extends Numeric> M) {
+        if (M instanceof DoubleMatrix) return true;
+        for (long row = 0L; row < M.rows(); row++) {
+            for (long column = 0L; column < M.columns(); column++) {
+                if (!(M.valueAt(row, column) instanceof RealType x) || !fitsInDecimal64(x)) return false;
+            }
         }
+        return true;
+    }
 
-        private StrassenWinogradMultiplyTask(Matrix<RealType> lhs, Matrix<RealType> rhs, long threshold) {
-            this(lhs, rhs);
-            if (threshold < 0L || threshold > lhs.rows()) {
-                throw new IllegalArgumentException("threshold must be positive and < " + lhs.rows());
+    /**
+     * Compute the dot product of two vectors of {@code long} values exactly.
+     * The sum is accumulated in a pair of {@code long}s acting as a 128-bit
+     * register, and {@link BigInteger} arithmetic is used only if that overflows.
+     * @param a      the first vector
+     * @param aStart the index in {@code a} of the first element
+     * @param b      the second vector
+     * @param bStart the index in {@code b} of the first element
+     * @param length the number of elements in each vector
+     * @return the exact dot product
+     * @since 1.5
+     */
+    public static BigInteger exactDotProduct(long[] a, int aStart, long[] b, int bStart, int length) {
+        long high = 0L;
+        long low = 0L;
+        try {
+            for (int k = 0; k < length; k++) {
+                final long x = a[aStart + k];
+                final long y = b[bStart + k];
+                final long sum = low + x * y;
+                final long carry = Long.compareUnsigned(sum, low) < 0 ? 1L : 0L;
+                low = sum;
+                high = Math.addExact(Math.addExact(high, Math.multiplyHigh(x, y)), carry);
+            }
+        } catch (ArithmeticException overflow) {
+            BigInteger result = BigInteger.ZERO;
+            for (int k = 0; k < length; k++) {
+                result = result.add(BigInteger.valueOf(a[aStart + k]).multiply(BigInteger.valueOf(b[bStart + k])));
             }
-            this.threshold = threshold;
-        }
-
-        @Override
-        protected Matrix<RealType> compute() {
-            if (lhs.rows() == 2L) return strassenWinograd2x2Multiply(lhs, rhs);
-            else if (lhs.rows() <= threshold) return lhs.multiply(rhs);
-
-            final Matrix<RealType> a = new SubMatrix<>(lhs, 0L, 0L, lhs.rows()/2L - 1L, lhs.columns()/2L - 1L); // 0, 0
-            final Matrix<RealType> b = new SubMatrix<>(lhs, 0L, lhs.columns()/2L, lhs.rows()/2L - 1L, lhs.columns() - 1L); // 0, 1
-            final Matrix<RealType> c = new SubMatrix<>(lhs, lhs.rows()/2L, 0L, lhs.rows() - 1L, lhs.columns()/2L - 1L); // 1, 0
-            final Matrix<RealType> d = new SubMatrix<>(lhs, lhs.rows()/2L, lhs.columns()/2L, lhs.rows() - 1L, lhs.columns() - 1L); // 1, 1
-            final Matrix<RealType> A = new SubMatrix<>(rhs, 0L, 0L, rhs.rows()/2L - 1L, rhs.columns()/2L - 1L); // 0, 0
-            final Matrix<RealType> C = new SubMatrix<>(rhs, 0L, rhs.columns()/2L, rhs.rows()/2L - 1L, rhs.columns() - 1L); // 0, 1
-            final Matrix<RealType> B = new SubMatrix<>(rhs, rhs.rows()/2L, 0L, rhs.rows() - 1L, rhs.columns()/2L - 1L); // 1, 0
-            final Matrix<RealType> D = new SubMatrix<>(rhs, rhs.rows()/2L, rhs.columns()/2L, rhs.rows() - 1L, rhs.columns() - 1L); // 1, 1
-
-            // using the Winograd form
-            final StrassenWinogradMultiplyTask u = new StrassenWinogradMultiplyTask(c.subtract(a), C.subtract(D), threshold);
-            final StrassenWinogradMultiplyTask v = new StrassenWinogradMultiplyTask(c.add(d), C.subtract(A), threshold);
-            final StrassenWinogradMultiplyTask aAprod = new StrassenWinogradMultiplyTask(a, A, threshold);
-            final StrassenWinogradMultiplyTask wRHS = new StrassenWinogradMultiplyTask(c.add(d).subtract(a), A.add(D).subtract(C), threshold);
-            u.fork(); v.fork(); wRHS.fork(); aAprod.fork();
-            final Matrix<RealType> w = aAprod.join().add(wRHS.join());
-
-            final StrassenWinogradMultiplyTask bBprod = new StrassenWinogradMultiplyTask(b, B, threshold);
-            final StrassenWinogradMultiplyTask abcdDprod = new StrassenWinogradMultiplyTask(a.add(b).subtract(c).subtract(d), D, threshold);
-            final StrassenWinogradMultiplyTask dBCADprod = new StrassenWinogradMultiplyTask(d, B.add(C).subtract(A).subtract(D), threshold);
-            dBCADprod.fork();  abcdDprod.fork();  bBprod.fork();
-
-            Matrix<RealType>[][] result = new Matrix[2][2];
-            result[0][0] = aAprod.join().add(bBprod.join());
-            result[0][1] = w.add(v.join()).add(abcdDprod.join());
-            result[1][0] = w.add(u.join()).add(dBCADprod.join());
-            result[1][1] = w.add(u.join()).add(v.join());
-            return new AggregateMatrix<>(result);
-        }
-    }
-
-    private static Matrix<RealType> strassenWinograd2x2Multiply(Matrix<RealType> lhs, Matrix<RealType> rhs) {
-        final RealType a = lhs.valueAt(0L, 0L);
-        final RealType b = lhs.valueAt(0L, 1L);
-        final RealType c = lhs.valueAt(1L, 0L);
-        final RealType d = lhs.valueAt(1L, 1L);
-        final RealType A = rhs.valueAt(0L, 0L);
-        final RealType C = rhs.valueAt(0L, 1L);
-        final RealType B = rhs.valueAt(1L, 0L);
-        final RealType D = rhs.valueAt(1L, 1L);
-
-        // using the Winograd form
-        final RealType u = (RealType) c.subtract(a).multiply(C.subtract(D));
-        final RealType v = (RealType) c.add(d).multiply(C.subtract(A));
-        final RealType aA_product = (RealType) a.multiply(A);
-        final RealType w = (RealType) aA_product.add(c.add(d).subtract(a).multiply(A.add(D).subtract(C)));
-
-        RealType[][] result = new RealType[2][2];
-        result[0][0] = (RealType) aA_product.add(b.multiply(B));
-        result[0][1] = (RealType) w.add(v).add(a.add(b).subtract(c).subtract(d).multiply(D));
-        result[1][0] = (RealType) w.add(u).add(B.add(C).subtract(A).subtract(D).multiply(d)); // order not important for multiplying scalars
-        result[1][1] = (RealType) w.add(u).add(v);
-        return new BasicMatrix<>(result);
+            return result;
+        }
+        if (high == (low >> 63)) return BigInteger.valueOf(low);
+        return BigInteger.valueOf(high).shiftLeft(Long.SIZE).or(BigInteger.valueOf(low).and(LOW_WORD_MASK));
     }
 
+    private static final BigInteger LOW_WORD_MASK = BigInteger.ONE.shiftLeft(Long.SIZE).subtract(BigInteger.ONE);
+
     /**
      * Compute the smallest power of 2 that is greater than or
      * equal to a given value.
@@ -4354,53 +4512,22 @@ public final class MathUtils {
      * to {@link #arctan(Numeric)}.  Unfortunately, that method computes the
      * result of ln(z) using {@code z.argument()}, which results in an
      * infinite loop.<br>
-     * One solution is to compute arctan() using some kind of power series.
-     * We've already implemented a Maclaurin series (special case of Taylor
-     * series) for cos() and sin(), but Euler discovered a series for arctan()
-     * that converges faster.  That's what's implemented here, though only
-     * for real values.
+     * Real values are therefore handled directly by {@link ElementaryFunctions#atan(BigDecimal, MathContext)},
+     * which folds the argument into a small interval, then either evaluates
+     * Euler's series by binary splitting (for fractions with short denominators)
+     * or halves the argument further and sums a short Taylor series.
      * @param x a real value
      * @return the computed value of atan(x)
      */
     public static RealType arctan(RealType x) {
-        final MathContext compCtx = new MathContext(x.getMathContext().getPrecision() * 2,
-                x.getMathContext().getRoundingMode());
-        BigDecimal xsq = x.asBigDecimal().multiply(x.asBigDecimal(), compCtx);
-        BigDecimal coeff = x.asBigDecimal().divide(xsq.add(BigDecimal.ONE, compCtx), compCtx);
-        long nterms = compCtx.getPrecision() * 2L + 3L;
-        BigDecimal val = coeff.multiply(atanEulerSum(x, nterms), compCtx);
-        RealImpl result = new RealImpl(val.round(x.getMathContext()), x.getMathContext(), false);
-        result.setIrrational(x.isIrrational() || classifyIfIrrational(val, compCtx));
+        final MathContext mctx = x.getMathContext();
+        BigDecimal val = ElementaryFunctions.atan(x.asBigDecimal(), mctx);
+        RealImpl result = new RealImpl(val, mctx, false);
+        // atan(x) is transcendental for every algebraic x other than 0
+        result.setIrrational(x.sign() != Sign.ZERO);
         return result;
     }
 
-    private static BigDecimal atanEulerSum(RealType x, long terms) {
-        if (terms < 1L) throw new IllegalArgumentException("Requested number of terms is " + terms);
-        final MathContext sumCtx = new MathContext(x.getMathContext().getPrecision() * 2 + 2,
-                x.getMathContext().getRoundingMode());
-        return LongStream.range(0L, terms).parallel()
-                .mapToObj(n -> atanEulerProduct(x, n))
-                .reduce(BigDecimal.ZERO, BigDecimal::add).round(sumCtx);
-    }
-
-    private static BigDecimal atanEulerProduct(RealType x, long n) {
-        if (n < 0L) throw new IllegalArgumentException("Product undefined for n < 0");
-        if (n == 0L) return BigDecimal.ONE;  // the empty product
-        final MathContext prodCtx = new MathContext(x.getMathContext().getPrecision() * 2 + 4,
-                x.getMathContext().getRoundingMode());
-        BigDecimal accum = BigDecimal.ONE;
-        BigDecimal xsq = x.asBigDecimal().pow(2, prodCtx);
-        for (long k = 1L; k <= n; k++) {
-            BigDecimal kval = BigDecimal.valueOf(k);
-            BigDecimal twoKplus1 = BigDecimal.valueOf(2L * k + 1L);
-            BigDecimal numerator = decTWO.multiply(kval, prodCtx).multiply(xsq, prodCtx);
-            BigDecimal denominator = xsq.add(BigDecimal.ONE, prodCtx).multiply(twoKplus1, prodCtx);
-            accum = accum.multiply(numerator, prodCtx).divide(denominator, prodCtx);
-        }
-        return accum;
-    }
-
-
     /**
      * A version of arctan() that preserves quadrant information.
      * Given a point on the Cartesian plane (x,&nbsp;y) which forms
@@ -4415,21 +4542,27 @@ public final class MathUtils {
      *   the vector &#x27E8;x,&nbsp;y&#x27E9;
      */
     public static Numeric atan2(RealType y, RealType x) {
-        final RealType two  = new RealImpl(decTWO, y.getMathContext());
-        final Numeric term = x.multiply(x).add(y.multiply(y)).sqrt();
-        if (x.sign() == Sign.POSITIVE) {
-            return two.multiply(arctan(y.divide(term.add(x))));
-        }
-        if (x.sign() != Sign.POSITIVE && !Zero.isZero(y)) {
-            return two.multiply(arctan(term.subtract(x).divide(y)));
-        }
         if (x.sign() == Sign.NEGATIVE && Zero.isZero(y)) {
             // use the MathContext of the non-zero argument in this case
             return Pi.getInstance(x.getMathContext());
         }
-        // undefined otherwise, i.e., x = 0 and y = 0
-        throw new ArithmeticException(String.format("Could not calculate atan2 for y = %1$s, x = %2$s",
-                y, x));
+        if (Zero.isZero(x) && Zero.isZero(y)) {
+            // undefined for x = 0 and y = 0
+            throw new ArithmeticException(String.format("Could not calculate atan2 for y = %1$s, x = %2$s",
+                    y, x));
+        }
+        final MathContext mctx = y.getMathContext();
+        if (Zero.isZero(x) || y.asBigDecimal().abs().compareTo(x.asBigDecimal().abs()) == 0) {
+            // the axes and diagonals are exact multiples of 𝜋/4, so derive them from Pi itself
+            final Pi pi = Pi.getInstance(mctx);
+            final RealType four = new RealImpl(BigDecimal.valueOf(4L), mctx);
+            final long quarterTurns = Zero.isZero(x) ? 2L : (x.sign() == Sign.POSITIVE ? 1L : 3L);
+            final Numeric angle = pi.multiply(new RealImpl(BigDecimal.valueOf(quarterTurns), mctx)).divide(four);
+            return y.sign() == Sign.NEGATIVE ? angle.negate() : angle;
+        }
+        RealImpl result = new RealImpl(ElementaryFunctions.atan2(y.asBigDecimal(), x.asBigDecimal(), mctx), mctx, false);
+        result.setIrrational(!Zero.isZero(y));
+        return result;
     }
 
     /**
@@ -4443,6 +4576,14 @@ public final class MathUtils {
         if (z instanceof RealType && !acosRange.contains((RealType) z)) {
             throw new ArithmeticException("arccos input range is " + acosRange + " for real-valued input");
         }
+        if (z instanceof RealType x) {
+            // arccos(x) = atan2(√(1 - x²), x) for x in [-1, 1], and 1 - x² is computed exactly
+            final MathContext mctx = x.getMathContext();
+            final MathContext compCtx = new MathContext(mctx.getPrecision() + 4, mctx.getRoundingMode());
+            final BigDecimal xval = x.asBigDecimal();
+            final BigDecimal sine = BigDecimal.ONE.subtract(xval.multiply(xval)).sqrt(compCtx);
+            return atan2(new RealImpl(sine, mctx, false), x);
+        }
         // use the logarithmic form, which extends cleanly into the complex plane
         final ComplexType i = ImaginaryUnit.getInstance(z.getMathContext());
         final ComplexType negi = i.negate();
@@ -4466,112 +4607,6 @@ public final class MathUtils {
         }
     }
 
-    private static RealType computeTrigSum(RealType x, Function<Long, IntegerType> subTerm) {
-        final MathContext calcCtx = new MathContext(x.getMathContext().getPrecision() * 2, x.getMathContext().getRoundingMode());
-        Numeric accum = ExactZero.getInstance(calcCtx);
-        // we must compute at least 4 terms (polynomial order 7) to get an acceptable result within the input range
-        final int termLimit = Math.max(4, calculateOptimumNumTerms(x.getMathContext(), subTerm));
-        final RealType x_upscaled = new RealImpl(x.asBigDecimal(), calcCtx, x.isExact());
-        for (int i = 0; i < termLimit; i++) {
-            IntegerType subVal = subTerm.apply((long) i);
-            if (i % 2 == 0) {
-                accum = accum.add(computeIntegerExponent(x_upscaled, subVal).divide(factorial(subVal)));
-            } else {
-                accum = accum.subtract(computeIntegerExponent(x_upscaled, subVal).divide(factorial(subVal)));
-            }
-        }
-        try {
-            RealType raw = (RealType) accum.coerceTo(RealType.class);
-            return round(raw, x.getMathContext());
-        } catch (CoercionException e) {
-            throw new ArithmeticException("While coercing computed sum " + accum + ": " + e.getMessage());
-        }
-    }
-
-    private static class TrigTermCountKey {
-        private final MathContext mctx;
-        private final Function<Long, IntegerType> lambda;
-
-        public TrigTermCountKey(MathContext mctx, Function<Long, IntegerType> lambda) {
-            this.mctx = mctx;
-            this.lambda = lambda;
-        }
-
-        @Override
-        public boolean equals(Object o) {
-            if (this == o) return true;
-            if (o == null || getClass() != o.getClass()) return false;
-            TrigTermCountKey that = (TrigTermCountKey) o;
-            return mctx.equals(that.mctx) && lambda.equals(that.lambda);
-        }
-
-        @Override
-        public int hashCode() {
-            return Objects.hash(mctx, lambda);
-        }
-    }
-
-    private static final Map<TrigTermCountKey, Integer> optimumTermCounts = new ConcurrentHashMap<>();
-
-    /**
-     * Given a {@link MathContext} and a mapping function to map from integer indices to subterms
-     * within a power series expansion, determine the optimum number of terms to compute so that
-     * the error is kept below the resolution threshold determined by the {@link MathContext}.
-     * Note that this method computes a uniform estimate of the error, based on a Taylor expansion
-     * centered at zero within the interval (&minus;&pi;, &pi;].  In this case,
-     * the range r&nbsp;=&nbsp;&pi;, so the estimated error term is &lt;&thinsp;r<sup>N</sup>/N!
-     * where N is determined by the mapping function.
-     * @param ctx       the math context for computing error terms
-     * @param idxMapper the mapping function for summation indices
-     * @return the estimated number of terms required to minimize error
-     * @see <a href="https://en.wikipedia.org/wiki/Taylor's_theorem#Estimates">Wikipedia article on Taylor's Theorem,
-     *   section on estimates for the remainder</a>
-     */
-    private static int calculateOptimumNumTerms(MathContext ctx, Function<Long, IntegerType> idxMapper) {
-        final TrigTermCountKey key = new TrigTermCountKey(ctx, idxMapper);
-        if (optimumTermCounts.containsKey(key)) return optimumTermCounts.get(key);
-        Logger.getLogger(MathUtils.class.getName()).log(Level.INFO,
-                "Cache miss for MathContext {0}; calculating optimum number of power series terms.", ctx);
-        final MathContext calcContext = new MathContext(ctx.getPrecision() * 2, ctx.getRoundingMode());
-        final RealType realTwo = new RealImpl(decTWO, calcContext);
-        final RealType maxError = (RealType) computeIntegerExponent(TEN, 1 - ctx.getPrecision(), calcContext).divide(realTwo);
-        final Pi pi = Pi.getInstance(calcContext);
-        int k = 2;
-        do {
-            IntegerType kVal = idxMapper.apply((long) k);
-            Numeric error = computeIntegerExponent(pi, kVal).divide(factorial(kVal));
-            if (error instanceof RationalType) {
-                // if we got back a rational, it's because the exponent we calculated has no fractional digits left after rounding
-                Logger.getLogger(MathUtils.class.getName()).log(Level.WARNING,
-                        "Compute MathContext {0} does not provide sufficient resolution to represent \uD835\uDF0B^{1}.",
-                        new Object[] {calcContext, kVal});
-                error = new RealImpl((RationalType) error); // to avoid coerceTo() penalties
-            }
-            Logger.getLogger(MathUtils.class.getName()).log(Level.FINE, "k = {0} error = {1}", new Object[] { k, error });
-            if (((RealType) error).compareTo(maxError) < 0) {
-                Logger.getLogger(MathUtils.class.getName()).log(Level.INFO, "Recommend computing {0} power series terms for MathContext {1}.",
-                        new Object[] { k, ctx });
-                optimumTermCounts.put(key, k);
-                return k;
-            }
-        } while (++k < calcContext.getPrecision());
-        throw new ArithmeticException("Cannot determine optimum number of power series terms for keeping error < " + maxError);
-    }
-
-    private static RealType mapToInnerRange(RealType input, Range<RealType> internalRange) {
-        if (internalRange.contains(input)) return input;
-
-        final RealType period = (RealType) internalRange.getUpperBound().subtract(internalRange.getLowerBound());
-        RealType temp = input;
-        while (internalRange.isBelow(temp)) {
-            temp = (RealType) temp.add(period);
-        }
-        while (internalRange.isAbove(temp)) {
-            temp = (RealType) temp.subtract(period);
-        }
-        return temp;
-    }
-
     /**
      * The cosine function.
      * @param x a real value (e.g., an angle in radians)
@@ -4580,8 +4615,9 @@ public final class MathUtils {
     public static RealType cos(RealType x) {
         if (x instanceof Pi) return new RealImpl(BigDecimal.valueOf(-1L), x.getMathContext());
         if (x.asBigDecimal().compareTo(BigDecimal.ZERO) == 0) return new RealImpl(BigDecimal.ONE, x.getMathContext());
-        RealType inBounds = mapToInnerRange(x, RangeUtils.getAngularInstance(x.getMathContext()));
-        return computeTrigSum(inBounds, n -> new IntegerImpl(BigInteger.valueOf(2L * n)));
+        final MathContext ctx = x.getMathContext();
+        final BigDecimal result = ElementaryFunctions.cos(x.asBigDecimal(), ctx);
+        return new RealImpl(belowResolution(result, x, ctx, true) ? BigDecimal.ZERO : result, ctx, false);
     }
 
     /**
@@ -4593,8 +4629,53 @@ public final class MathUtils {
         if (x instanceof Pi || x.asBigDecimal().compareTo(BigDecimal.ZERO) == 0) {
             return new RealImpl(BigDecimal.ZERO, x.getMathContext());
         }
-        RealType inBounds = mapToInnerRange(x, RangeUtils.getAngularInstance(x.getMathContext()));
-        return computeTrigSum(inBounds, n -> new IntegerImpl(BigInteger.valueOf(2L * n + 1L)));
+        final MathContext ctx = x.getMathContext();
+        final BigDecimal result = ElementaryFunctions.sin(x.asBigDecimal(), ctx);
+        return new RealImpl(belowResolution(result, x, ctx, false) ? BigDecimal.ZERO : result, ctx, false);
+    }
+
+    /**
+     * Determine whether the sine or cosine of an argument is smaller than the resolution
+     * of the argument itself.  An argument such as 2&pi;, rounded to the precision of a
+     * {@link MathContext}, has a sine that is smaller than its last digit; such a result
+     * is indistinguishable from zero, and is treated as such.  The resolution is one unit
+     * in the last place of the argument when expressed with the full precision of
+     * {@code ctx}, regardless of how many digits the argument actually carries.
+     * An exact argument is taken at face value, and its result is only flushed to zero
+     * if the argument is a zero of the function rounded to the precision of {@code ctx}.
+     * @param result   the computed sine or cosine
+     * @param argument the argument
+     * @param ctx      the {@link MathContext} governing the argument
+     * @param cosine   true if {@code result} is a cosine, false if it is a sine
+     * @return true if {@code result} is smaller in magnitude than one ulp of {@code argument}
+     *   at the precision of {@code ctx}, and {@code argument} is either inexact or a rounded zero
+     */
+    private static boolean belowResolution(BigDecimal result, RealType argument, MathContext ctx, boolean cosine) {
+        final BigDecimal x = argument.asBigDecimal();
+        if (ctx.getPrecision() == 0 || x.signum() == 0) return false;
+        final int exponent = x.precision() - x.scale() - 1;
+        final BigDecimal resolution = BigDecimal.ONE.scaleByPowerOfTen(exponent + 1 - ctx.getPrecision());
+        if (result.abs().compareTo(resolution) >= 0) return false;
+        return !argument.isExact() || isRoundedZero(x, ctx, cosine);
+    }
+
+    /**
+     * Determine whether x is q&pi;/2 rounded to the precision of {@code ctx}
+     * for some non-zero integer q, which is even for a zero of sine and odd
+     * for a zero of cosine.
+     * @param x      the argument
+     * @param ctx    the {@link MathContext} to which the zero would have been rounded
+     * @param cosine true to test for a zero of cosine, false for a zero of sine
+     * @return true if x is a rounded zero of the given function
+     */
+    private static boolean isRoundedZero(BigDecimal x, MathContext ctx, boolean cosine) {
+        final int exponent = x.precision() - x.scale() - 1;
+        // enough digits of pi that q*pi/2 is correct through the last digit of ctx
+        final MathContext piCtx = new MathContext(Math.max(exponent, 0) + ctx.getPrecision() + 4, RoundingMode.HALF_EVEN);
+        final BigDecimal halfPi = Pi.getInstance(piCtx).asBigDecimal().divide(BigDecimal.valueOf(2L));
+        final BigInteger q = x.divide(halfPi, piCtx).setScale(0, RoundingMode.HALF_EVEN).toBigInteger();
+        if (q.signum() == 0 || q.testBit(0) != cosine) return false;
+        return halfPi.multiply(new BigDecimal(q)).round(ctx).compareTo(x) == 0;
     }
 
     /**
@@ -4616,23 +4697,21 @@ public final class MathUtils {
         }
         final Pi pi = Pi.getInstance(ctx);
         final RealType epsilon = computeIntegerExponent(TEN, 1 - ctx.getPrecision(), ctx);
-        // check for zero crossings before incurring the cost of computing
-        // an in-range argument or calculating the sin() and cos() power series
+        // check for zero crossings and poles before incurring the cost of computing
+        // the reduced argument and its sine and cosine
         RealType argOverPi = x.divide(pi).magnitude();
-        if (((RealType) argOverPi.subtract(argOverPi.floor())).compareTo(epsilon) < 0) {
+        RealType fraction = (RealType) argOverPi.subtract(argOverPi.floor());
+        if (fraction.compareTo(epsilon) < 0) {
             // tan(x) has zero crossings periodically at x=k𝜋 ∀ k ∈ ℤ
             return new RealImpl(BigDecimal.ZERO, ctx);
         }
-        Range<RealType> range = RangeUtils.getTangentInstance(ctx);
-        RealType inBounds = mapToInnerRange(x, range);
-        // check if we're within epsilon of the limits of our input range
-        // if so, tan(x) blows up to infinity
-        if (areEqualToWithin(inBounds, range.getLowerBound(), epsilon)) {
-            return RealInfinity.getInstance(Sign.NEGATIVE, ctx);
-        } else if (areEqualToWithin(inBounds, range.getUpperBound(), epsilon)) {
-            return RealInfinity.getInstance(Sign.POSITIVE, ctx);
+        // tan(x) blows up to infinity at x=(k + ½)𝜋 ∀ k ∈ ℤ
+        final RealType offset = new RealImpl(fraction.asBigDecimal().subtract(BigDecimal.valueOf(5L, 1)), ctx);
+        if (offset.magnitude().compareTo(epsilon) < 0) {
+            final boolean belowPole = offset.sign() != Sign.POSITIVE;
+            return RealInfinity.getInstance(belowPole ^ x.sign() == Sign.NEGATIVE ? Sign.POSITIVE : Sign.NEGATIVE, ctx);
         }
-        return (RealType) sin(inBounds).divide(cos(inBounds));
+        return new RealImpl(ElementaryFunctions.tan(x.asBigDecimal(), ctx), ctx, false);
     }
 
     /**
@@ -4669,11 +4748,16 @@ public final class MathUtils {
      */
     public static ComplexType cos(ComplexType z) {
         if (z.isCoercibleTo(RealType.class)) return new ComplexRectImpl(cos(z.real()));
-        final ComplexType i = ImaginaryUnit.getInstance(z.getMathContext());
-        final ComplexType iz = (ComplexType) i.multiply(z);
-        final Euler e = Euler.getInstance(z.getMathContext());
-        final RealType two = new RealImpl(decTWO, z.getMathContext());
-        return (ComplexType) e.exp(iz).add(e.exp(iz.negate())).divide(two);
+        // cos(x + iy) = cos(x)cosh(y) - i sin(x)sinh(y)
+        final MathContext ctx = z.getMathContext();
+        final MathContext compCtx = new MathContext(ctx.getPrecision() + 4, ctx.getRoundingMode());
+        final BigDecimal[] sinCos = ElementaryFunctions.sinCos(z.real().asBigDecimal(), compCtx);
+        for (int k = 0; k < sinCos.length; k++) {
+            if (belowResolution(sinCos[k], z.real(), ctx, k == 1)) sinCos[k] = BigDecimal.ZERO;
+        }
+        final BigDecimal[] sinhCosh = ElementaryFunctions.sinhCosh(z.imaginary().asBigDecimal(), compCtx);
+        return new ComplexRectImpl(new RealImpl(sinCos[1].multiply(sinhCosh[1], ctx), ctx, false),
+                new RealImpl(sinCos[0].multiply(sinhCosh[0], ctx).negate(), ctx, false), false);
     }
 
     /**
@@ -4683,11 +4767,16 @@ public final class MathUtils {
      */
     public static ComplexType sin(ComplexType z) {
         if (z.isCoercibleTo(RealType.class)) return new ComplexRectImpl(sin(z.real()));
-        final ComplexType i = ImaginaryUnit.getInstance(z.getMathContext());
-        final ComplexType iz = (ComplexType) i.multiply(z);
-        final Euler e = Euler.getInstance(z.getMathContext());
-        final RealType two = new RealImpl(decTWO, z.getMathContext());
-        return (ComplexType) e.exp(iz).subtract(e.exp(iz.negate())).divide(two.multiply(i));
+        // sin(x + iy) = sin(x)cosh(y) + i cos(x)sinh(y)
+        final MathContext ctx = z.getMathContext();
+        final MathContext compCtx = new MathContext(ctx.getPrecision() + 4, ctx.getRoundingMode());
+        final BigDecimal[] sinCos = ElementaryFunctions.sinCos(z.real().asBigDecimal(), compCtx);
+        for (int k = 0; k < sinCos.length; k++) {
+            if (belowResolution(sinCos[k], z.real(), ctx, k == 1)) sinCos[k] = BigDecimal.ZERO;
+        }
+        final BigDecimal[] sinhCosh = ElementaryFunctions.sinhCosh(z.imaginary().asBigDecimal(), compCtx);
+        return new ComplexRectImpl(new RealImpl(sinCos[0].multiply(sinhCosh[1], ctx), ctx, false),
+                new RealImpl(sinCos[1].multiply(sinhCosh[0], ctx), ctx, false), false);
     }
 
     /**
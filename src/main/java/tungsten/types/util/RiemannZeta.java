@@ -0,0 +1,469 @@
+package tungsten.types.util;
+
+/*
+ * The MIT License
+ *
+ * Copyright © 2026 Robert Poole <Tarquin.AZ@gmail.com>.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+import tungsten.types.Numeric;
+import tungsten.types.numerics.ComplexType;
+import tungsten.types.numerics.RationalType;
+import tungsten.types.numerics.impl.ComplexRectImpl;
+import tungsten.types.numerics.impl.Pi;
+import tungsten.types.numerics.impl.RealImpl;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Engines for the Riemann zeta function &#x1D701;(s) in the half-plane Re(s)&nbsp;&gt;&nbsp;0,
+ * used by {@link MathUtils#zeta(Numeric)}.
+ * <br>
+ * The general engine is <a href="https://www.cecm.sfu.ca/personal/pborwein/PAPERS/P155.pdf">Borwein's
+ * algorithm</a>, which accelerates the alternating series for the Dirichlet eta function with
+ * integer weights d<sub>k</sub>.  Its error decreases as (3&nbsp;+&nbsp;&radic;8)<sup>&minus;n</sup>
+ * but grows as &#x212f;<sup>&pi;|t|/2</sup>, so the number of terms needed rises linearly with
+ * both the precision and the imaginary part t of s.  The weights depend only on the number of terms
+ * and are cached as exact integers.
+ * <br>
+ * On the critical line, when |t| is large enough relative to the requested precision, the
+ * <a href="https://en.wikipedia.org/wiki/Riemann%E2%80%93Siegel_formula">Riemann&ndash;Siegel formula</a>
+ * is used instead.  It needs only &radic;(t/2&pi;) terms, plus the correction terms C<sub>0</sub>
+ * through C<sub>4</sub>, whose error is bounded by Gabcke as roughly t<sup>&minus;11/4</sup>/50.
+ * The corrections are computed from the Taylor series of
+ * &Psi;(p)&nbsp;=&nbsp;cos(2&pi;(p<sup>2</sup>&nbsp;&minus;&nbsp;p&nbsp;&minus;&nbsp;1/16))/cos(2&pi;p)
+ * about p&nbsp;=&nbsp;1/2, which is cached for each precision.
+ * <br>
+ * Points along a line may be evaluated together, sharing a single table of logarithms
+ * and, when the real part is common to all points, a single table of powers.
+ *
+ * @author Robert Poole, <a href="mailto:tarquin@alum.mit.edu">MIT alumni e-mail</a>
+ *   or <a href="mailto:Tarquin.AZ@gmail.com">Gmail</a>
+ * @since 1.5
+ */
+final class RiemannZeta {
+    /**
+     * The number of additional digits carried by intermediate results.
+     */
+    private static final int GUARD_DIGITS = 10;
+    private static final double LN10 = Math.log(10.0);
+    private static final double LN_BORWEIN_RATE = Math.log(3.0 + Math.sqrt(8.0));
+    /**
+     * Gabcke's bounds for the Riemann&ndash;Siegel remainder only hold for t&nbsp;&ge;&nbsp;200.
+     */
+    private static final double RIEMANN_SIEGEL_MIN_T = 200.0;
+    /**
+     * A conservative bound on log<sub>10</sub> of the constant in Gabcke's error bound
+     * for the Riemann&ndash;Siegel formula with corrections through C<sub>4</sub>.
+     */
+    private static final double LOG10_RIEMANN_SIEGEL_ERROR = -1.0;
+    /**
+     * Arguments with integer real parts up to this value have their powers computed exactly.
+     */
+    private static final int MAX_EXACT_POWER = 1000;
+    private static final BigDecimal HALF = BigDecimal.valueOf(5L, 1);
+    private static final BigDecimal TWO = BigDecimal.valueOf(2L);
+
+    private static final Map<Integer, BigInteger[]> borweinCache = new ConcurrentHashMap<>();
+    private static final Map<MathContext, BigDecimal[]> psiCache = new ConcurrentHashMap<>();
+
+    private RiemannZeta() {
+        // to prevent instantiation
+    }
+
+    /**
+     * How a single point is to be evaluated.
+     * @param sigma          the real part of s
+     * @param t              the imaginary part of s
+     * @param mctx           the {@link MathContext} of the result
+     * @param riemannSiegel  true if the Riemann&ndash;Siegel formula is to be used
+     * @param terms          the number of logarithms required, ln&nbsp;1 through ln&nbsp;terms
+     * @param workDigits     the working precision
+     */
+    private record Plan(BigDecimal sigma, BigDecimal t, MathContext mctx, boolean riemannSiegel, int terms, int workDigits) {}
+
+    /**
+     * Values shared by every point of a batch.
+     * @param workCtx the precision of the tables
+     * @param logs    ln&nbsp;k for k&nbsp;&ge;&nbsp;1, indexed by k
+     * @param sigma   the real part common to all points, or {@code null}
+     * @param powers  k<sup>&minus;&sigma;</sup> for the common &sigma;, indexed by k, or {@code null}
+     */
+    private record Tables(MathContext workCtx, BigDecimal[] logs, BigDecimal sigma, BigDecimal[] powers) {}
+
+    /**
+     * Compute &#x1D701;(s) for a single argument with Re(s)&nbsp;&gt;&nbsp;0.
+     * @param s the argument
+     * @return the value of &#x1D701;(s), which is complex if and only if s is
+     */
+    static Numeric zeta(Numeric s) {
+        return zeta(List.of(s)).get(0);
+    }
+
+    /**
+     * Compute &#x1D701;(s) for several arguments, all with Re(s)&nbsp;&gt;&nbsp;0, sharing
+     * tables between them.
+     * @param points the arguments
+     * @return the values of &#x1D701;, in the same order as {@code points}
+     */
+    static List<Numeric> zeta(List<? extends Numeric> points) {
+        final List<Plan> plans = new ArrayList<>(points.size());
+        int terms = 1;
+        int workDigits = 0;
+        BigDecimal commonSigma = null;
+        boolean sigmaShared = true;
+        for (Numeric s : points) {
+            final Plan plan = plan(s);
+            plans.add(plan);
+            terms = Math.max(terms, plan.terms());
+            workDigits = Math.max(workDigits, plan.workDigits());
+            if (commonSigma == null) commonSigma = plan.sigma();
+            else if (commonSigma.compareTo(plan.sigma()) != 0) sigmaShared = false;
+        }
+        final MathContext workCtx = new MathContext(workDigits, RoundingMode.HALF_EVEN);
+        final BigDecimal[] logs = new BigDecimal[terms + 1];
+        logs[1] = BigDecimal.ZERO;
+        for (int k = 2; k <= terms; k++) {
+            logs[k] = ElementaryFunctions.ln(BigDecimal.valueOf(k), workCtx);
+        }
+        BigDecimal[] powers = null;
+        // a single point gains nothing from the table of powers
+        if (sigmaShared && plans.size() > 1 && !isExactPower(commonSigma)) {
+            powers = new BigDecimal[terms + 1];
+            powers[1] = BigDecimal.ONE;
+            for (int k = 2; k <= terms; k++) {
+                powers[k] = ElementaryFunctions.exp(commonSigma.negate().multiply(logs[k], workCtx), workCtx);
+            }
+        }
+        final Tables tables = new Tables(workCtx, logs, sigmaShared ? commonSigma : null, powers);
+        final List<Numeric> results = new ArrayList<>(points.size());
+        for (int i = 0; i < points.size(); i++) {
+            final Plan plan = plans.get(i);
+            final BigDecimal[] value = plan.riemannSiegel() ? riemannSiegel(plan, tables) : borwein(plan, tables);
+            final MathContext mctx = plan.mctx();
+            if (points.get(i) instanceof ComplexType) {
+                results.add(new ComplexRectImpl(new RealImpl(value[0].round(mctx), mctx, false),
+                        new RealImpl(value[1].round(mctx), mctx, false), false));
+            } else {
+                results.add(new RealImpl(value[0].round(mctx), mctx, false));
+            }
+        }
+        return results;
+    }
+
+    private static Plan plan(Numeric s) {
+        final MathContext mctx = s.getMathContext().getPrecision() == 0 ? MathContext.DECIMAL128 : s.getMathContext();
+        final BigDecimal sigma = s instanceof RationalType r ?
+                new BigDecimal(r.numerator().asBigInteger()).divide(new BigDecimal(r.denominator().asBigInteger()), mctx) :
+                MathUtils.Re(s).asBigDecimal();
+        final BigDecimal t = MathUtils.Im(s).asBigDecimal();
+        if (sigma.signum() <= 0) throw new ArithmeticException("Re(s) must be positive");
+        final int digits = mctx.getPrecision();
+        final double absT = Math.abs(t.doubleValue());
+        // arguments of trigonometric functions are as large as t·ln n, which costs this many more digits
+        final int tDigits = t.signum() == 0 ? 0 : Math.max(0, t.precision() - t.scale()) + 2;
+        if (useRiemannSiegel(sigma, absT, digits)) {
+            final int terms = (int) Math.floor(Math.sqrt(absT / (2.0 * Math.PI))) + 1;
+            return new Plan(sigma, t, mctx, true, terms, digits + GUARD_DIGITS + tDigits + digitsOf(terms));
+        }
+        // 1/(1 − 2^(1−s)) magnifies both the truncation error and rounding errors near s = 1
+        final double scale = Math.pow(2.0, 1.0 - sigma.doubleValue());
+        final double angle = absT * Math.log(2.0);
+        final double divisor = Math.hypot(1.0 - scale * Math.cos(angle), scale * Math.sin(angle));
+        final double magnification = divisor > 0.0 ? Math.max(0.0, -Math.log10(divisor)) : digits;
+        final double lnError = (digits + magnification) * LN10 + Math.PI * absT / 2.0 + Math.log(3.0 * (1.0 + 2.0 * absT));
+        final int terms = Math.max(2, (int) Math.ceil(lnError / LN_BORWEIN_RATE));
+        return new Plan(sigma, t, mctx, false, terms,
+                digits + GUARD_DIGITS + tDigits + digitsOf(terms) + (int) Math.ceil(magnification));
+    }
+
+    /**
+     * Decide whether the Riemann&ndash;Siegel formula is accurate enough for a given argument.
+     * It is only used on the critical line, where it is needed most.
+     */
+    private static boolean useRiemannSiegel(BigDecimal sigma, double absT, int digits) {
+        if (sigma.compareTo(HALF) != 0 || absT < RIEMANN_SIEGEL_MIN_T) return false;
+        return LOG10_RIEMANN_SIEGEL_ERROR - 2.75 * Math.log10(absT) <= -digits;
+    }
+
+    private static boolean isExactPower(BigDecimal sigma) {
+        return sigma.signum() > 0 && sigma.stripTrailingZeros().scale() <= 0 && sigma.compareTo(BigDecimal.valueOf(MAX_EXACT_POWER)) <= 0;
+    }
+
+    private static int digitsOf(int n) {
+        return Integer.toString(n).length();
+    }
+
+    /**
+     * Evaluate &#x1D701;(s)&nbsp;=&nbsp;&sum;<sub>k=0</sub><sup>n&minus;1</sup>(&minus;1)<sup>k</sup>e<sub>k</sub>(k&nbsp;+&nbsp;1)<sup>&minus;s</sup>/(1&nbsp;&minus;&nbsp;2<sup>1&minus;s</sup>),
+     * where e<sub>k</sub>&nbsp;=&nbsp;(d<sub>n</sub>&nbsp;&minus;&nbsp;d<sub>k</sub>)/d<sub>n</sub>.
+     * The weights e<sub>k</sub> all lie in (0,&nbsp;1], so rounding errors are no larger than n ulps.
+     * @return the real and imaginary parts of &#x1D701;(s)
+     */
+    private static BigDecimal[] borwein(Plan plan, Tables tables) {
+        final MathContext workCtx = tables.workCtx();
+        final BigDecimal sigma = plan.sigma();
+        final BigDecimal t = plan.t();
+        final int n = plan.terms();
+        final BigInteger[] d = borweinCoefficients(n);
+        final BigDecimal dn = new BigDecimal(d[n]);
+        final boolean exact = t.signum() == 0 && isExactPower(sigma);
+        final boolean shared = tables.powers() != null && sigma.compareTo(tables.sigma()) == 0;
+        BigDecimal re = BigDecimal.ZERO;
+        BigDecimal im = BigDecimal.ZERO;
+        for (int k = 0; k < n; k++) {
+            final BigDecimal weight = new BigDecimal(d[n].subtract(d[k])).divide(dn, workCtx);
+            final int base = k + 1;
+            BigDecimal termRe;
+            BigDecimal termIm = BigDecimal.ZERO;
+            if (exact) {
+                termRe = weight.divide(BigDecimal.valueOf(base).pow(sigma.intValueExact()), workCtx);
+            } else {
+                final BigDecimal ln = tables.logs()[base];
+                final BigDecimal magnitude = shared ? tables.powers()[base] :
+                        ElementaryFunctions.exp(sigma.negate().multiply(ln, workCtx), workCtx);
+                termRe = weight.multiply(magnitude, workCtx);
+                if (t.signum() != 0) {
+                    // k^(−it) = cos(t ln k) − i·sin(t ln k)
+                    final BigDecimal[] sinCos = ElementaryFunctions.sinCos(t.multiply(ln, workCtx), workCtx);
+                    termIm = termRe.multiply(sinCos[0], workCtx).negate();
+                    termRe = termRe.multiply(sinCos[1], workCtx);
+                }
+            }
+            if (k % 2 == 0) {
+                re = re.add(termRe, workCtx);
+                im = im.add(termIm, workCtx);
+            } else {
+                re = re.subtract(termRe, workCtx);
+                im = im.subtract(termIm, workCtx);
+            }
+        }
+        // divide by 1 − 2^(1−s) = 1 − 2^(1−σ)·(cos(t ln 2) − i·sin(t ln 2))
+        final BigDecimal ln2 = ElementaryFunctions.ln2(workCtx);
+        final BigDecimal scale = ElementaryFunctions.exp(BigDecimal.ONE.subtract(sigma).multiply(ln2, workCtx), workCtx);
+        if (t.signum() == 0) {
+            return new BigDecimal[] {re.divide(BigDecimal.ONE.subtract(scale, workCtx), workCtx), BigDecimal.ZERO};
+        }
+        final BigDecimal[] sinCos = ElementaryFunctions.sinCos(t.multiply(ln2, workCtx), workCtx);
+        final BigDecimal divRe = BigDecimal.ONE.subtract(scale.multiply(sinCos[1], workCtx), workCtx);
+        final BigDecimal divIm = scale.multiply(sinCos[0], workCtx);
+        final BigDecimal norm = divRe.multiply(divRe, workCtx).add(divIm.multiply(divIm, workCtx), workCtx);
+        return new BigDecimal[] {
+                re.multiply(divRe, workCtx).add(im.multiply(divIm, workCtx), workCtx).divide(norm, workCtx),
+                im.multiply(divRe, workCtx).subtract(re.multiply(divIm, workCtx), workCtx).divide(norm, workCtx)
+        };
+    }
+
+    /**
+     * Obtain the weights d<sub>k</sub>&nbsp;=&nbsp;n&sum;<sub>i=0</sub><sup>k</sup>(n&nbsp;+&nbsp;i&nbsp;&minus;&nbsp;1)!4<sup>i</sup>/((n&nbsp;&minus;&nbsp;i)!(2i)!)
+     * of Borwein's algorithm, for k&nbsp;=&nbsp;0&nbsp;&hellip;&nbsp;n.  Each summand is an integer, and is
+     * obtained exactly from its predecessor.
+     * @param n the number of terms
+     * @return d<sub>0</sub> through d<sub>n</sub>
+     */
+    private static BigInteger[] borweinCoefficients(int n) {
+        return borweinCache.computeIfAbsent(n, m -> {
+            final BigInteger[] d = new BigInteger[m + 1];
+            BigInteger summand = BigInteger.ONE;
+            BigInteger sum = BigInteger.ONE;
+            d[0] = sum;
+            for (int i = 1; i <= m; i++) {
+                summand = summand.multiply(BigInteger.valueOf(4L * (m + i - 1L) * (m - i + 1L)))
+                        .divide(BigInteger.valueOf(2L * i * (2L * i - 1L)));
+                sum = sum.add(summand);
+                d[i] = sum;
+            }
+            return d;
+        });
+    }
+
+    /**
+     * Evaluate &#x1D701;(1/2&nbsp;+&nbsp;it)&nbsp;=&nbsp;&#x212f;<sup>&minus;i&theta;(t)</sup>Z(t) with the Riemann&ndash;Siegel formula
+     * Z(t)&nbsp;=&nbsp;2&sum;<sub>k=1</sub><sup>N</sup>k<sup>&minus;1/2</sup>cos(&theta;(t)&nbsp;&minus;&nbsp;t&nbsp;ln&nbsp;k)&nbsp;+&nbsp;R(t),
+     * where N&nbsp;=&nbsp;&lfloor;a&rfloor;, a&nbsp;=&nbsp;&radic;(t/2&pi;), and
+     * R(t)&nbsp;=&nbsp;(&minus;1)<sup>N&minus;1</sup>a<sup>&minus;1/2</sup>&sum;<sub>j=0</sub><sup>4</sup>C<sub>j</sub>(a&nbsp;&minus;&nbsp;N)a<sup>&minus;j</sup>.
+     * @return the real and imaginary parts of &#x1D701;(s)
+     */
+    private static BigDecimal[] riemannSiegel(Plan plan, Tables tables) {
+        final MathContext workCtx = tables.workCtx();
+        final boolean negative = plan.t().signum() < 0;
+        final BigDecimal t = plan.t().abs();
+        final BigDecimal pi = Pi.getInstance(workCtx).asBigDecimal().round(workCtx);
+        final BigDecimal twoPi = pi.multiply(TWO);
+        final BigDecimal theta = theta(t, pi, workCtx);
+        final BigDecimal a = ElementaryFunctions.sqrt(t.divide(twoPi, workCtx), workCtx);
+        final int N = a.intValue();
+        BigDecimal sum = BigDecimal.ZERO;
+        for (int k = 1; k <= N; k++) {
+            final BigDecimal phase = theta.subtract(t.multiply(tables.logs()[k], workCtx), workCtx);
+            sum = sum.add(ElementaryFunctions.cos(phase, workCtx)
+                    .divide(ElementaryFunctions.sqrt(BigDecimal.valueOf(k), workCtx), workCtx), workCtx);
+        }
+        final BigDecimal[] c = corrections(a.subtract(BigDecimal.valueOf(N)), pi, workCtx);
+        final BigDecimal aInverse = BigDecimal.ONE.divide(a, workCtx);
+        BigDecimal remainder = BigDecimal.ZERO;
+        for (int j = c.length - 1; j >= 0; j--) {
+            remainder = remainder.multiply(aInverse, workCtx).add(c[j], workCtx);
+        }
+        remainder = remainder.multiply(ElementaryFunctions.sqrt(aInverse, workCtx), workCtx);
+        if (N % 2 == 0) remainder = remainder.negate();
+        final BigDecimal z = sum.multiply(TWO).add(remainder, workCtx);
+        final BigDecimal[] sinCos = ElementaryFunctions.sinCos(theta, workCtx);
+        final BigDecimal im = z.multiply(sinCos[0], workCtx);
+        return new BigDecimal[] {z.multiply(sinCos[1], workCtx), negative ? im : im.negate()};
+    }
+
+    /**
+     * Compute the Riemann&ndash;Siegel theta function from its asymptotic expansion
+     * &theta;(t)&nbsp;=&nbsp;(t/2)ln(t/2&pi;)&nbsp;&minus;&nbsp;t/2&nbsp;&minus;&nbsp;&pi;/8&nbsp;+&nbsp;&sum;<sub>k&ge;1</sub>(1&nbsp;&minus;&nbsp;2<sup>1&minus;2k</sup>)|B<sub>2k</sub>|/(4k(2k&nbsp;&minus;&nbsp;1)t<sup>2k&minus;1</sup>),
+     * which for t&nbsp;&ge;&nbsp;200 can be summed far beyond any precision at which the
+     * Riemann&ndash;Siegel formula is used.
+     */
+    private static BigDecimal theta(BigDecimal t, BigDecimal pi, MathContext workCtx) {
+        final BigDecimal halfT = t.multiply(HALF);
+        BigDecimal theta = halfT.multiply(ElementaryFunctions.ln(t.divide(pi.multiply(TWO), workCtx), workCtx), workCtx)
+                .subtract(halfT).subtract(pi.divide(BigDecimal.valueOf(8L), workCtx), workCtx);
+        final BigDecimal tolerance = BigDecimal.ONE.movePointLeft(workCtx.getPrecision() - (theta.precision() - theta.scale()));
+        final BigDecimal tInverse = BigDecimal.ONE.divide(t, workCtx);
+        final BigDecimal tInverseSquared = tInverse.multiply(tInverse, workCtx);
+        final BernoulliNumbers numbers = new BernoulliNumbers(2);
+        BigDecimal power = tInverse;
+        for (long k = 1L; ; k++) {
+            final RationalType b = numbers.getB(2L * k);
+            final BigInteger twoPower = BigInteger.ONE.shiftLeft((int) (2L * k - 1L));
+            // (1 − 2^(1−2k))|B₂ₖ|/(4k(2k − 1)) = (2^(2k−1) − 1)|num|/(2^(2k−1)·den·4k(2k − 1))
+            final BigInteger num = twoPower.subtract(BigInteger.ONE).multiply(b.numerator().asBigInteger().abs());
+            final BigInteger den = twoPower.multiply(b.denominator().asBigInteger()).multiply(BigInteger.valueOf(4L * k * (2L * k - 1L)));
+            final BigDecimal term = new BigDecimal(num).multiply(power).divide(new BigDecimal(den), workCtx);
+            theta = theta.add(term, workCtx);
+            if (term.compareTo(tolerance) < 0) break;
+            power = power.multiply(tInverseSquared, workCtx);
+        }
+        return theta;
+    }
+
+    /**
+     * Compute the Riemann&ndash;Siegel corrections C<sub>0</sub>(p) through C<sub>4</sub>(p) from the derivatives of &Psi;:
+     * <ul>
+     *     <li>C<sub>0</sub>&nbsp;=&nbsp;&Psi;</li>
+     *     <li>C<sub>1</sub>&nbsp;=&nbsp;&minus;&Psi;<sup>(3)</sup>/(96&pi;<sup>2</sup>)</li>
+     *     <li>C<sub>2</sub>&nbsp;=&nbsp;&Psi;<sup>(2)</sup>/(64&pi;<sup>2</sup>)&nbsp;+&nbsp;&Psi;<sup>(6)</sup>/(18432&pi;<sup>4</sup>)</li>
+     *     <li>C<sub>3</sub>&nbsp;=&nbsp;&minus;&Psi;<sup>(1)</sup>/(64&pi;<sup>2</sup>)&nbsp;&minus;&nbsp;&Psi;<sup>(5)</sup>/(3840&pi;<sup>4</sup>)&nbsp;&minus;&nbsp;&Psi;<sup>(9)</sup>/(5308416&pi;<sup>6</sup>)</li>
+     *     <li>C<sub>4</sub>&nbsp;=&nbsp;&Psi;/(128&pi;<sup>2</sup>)&nbsp;+&nbsp;19&Psi;<sup>(4)</sup>/(24576&pi;<sup>4</sup>)&nbsp;+&nbsp;11&Psi;<sup>(8)</sup>/(5898240&pi;<sup>6</sup>)&nbsp;+&nbsp;&Psi;<sup>(12)</sup>/(2038431744&pi;<sup>8</sup>)</li>
+     * </ul>
+     */
+    private static BigDecimal[] corrections(BigDecimal p, BigDecimal pi, MathContext workCtx) {
+        final BigDecimal[] coefficients = psiCoefficients(workCtx);
+        final BigDecimal h = p.subtract(HALF);
+        final BigDecimal[] psi = new BigDecimal[13];
+        for (int r = 0; r <= 12; r++) {
+            psi[r] = psiDerivative(coefficients, r, h, workCtx);
+        }
+        final BigDecimal pi2 = pi.multiply(pi, workCtx);
+        final BigDecimal pi4 = pi2.multiply(pi2, workCtx);
+        final BigDecimal pi6 = pi4.multiply(pi2, workCtx);
+        final BigDecimal pi8 = pi4.multiply(pi4, workCtx);
+        return new BigDecimal[] {
+                psi[0],
+                psi[3].divide(pi2.multiply(BigDecimal.valueOf(96L)), workCtx).negate(),
+                psi[2].divide(pi2.multiply(BigDecimal.valueOf(64L)), workCtx)
+                        .add(psi[6].divide(pi4.multiply(BigDecimal.valueOf(18432L)), workCtx), workCtx),
+                psi[1].divide(pi2.multiply(BigDecimal.valueOf(64L)), workCtx)
+                        .add(psi[5].divide(pi4.multiply(BigDecimal.valueOf(3840L)), workCtx), workCtx)
+                        .add(psi[9].divide(pi6.multiply(BigDecimal.valueOf(5308416L)), workCtx), workCtx).negate(),
+                psi[0].divide(pi2.multiply(BigDecimal.valueOf(128L)), workCtx)
+                        .add(psi[4].multiply(BigDecimal.valueOf(19L)).divide(pi4.multiply(BigDecimal.valueOf(24576L)), workCtx), workCtx)
+                        .add(psi[8].multiply(BigDecimal.valueOf(11L)).divide(pi6.multiply(BigDecimal.valueOf(5898240L)), workCtx), workCtx)
+                        .add(psi[12].divide(pi8.multiply(BigDecimal.valueOf(2038431744L)), workCtx), workCtx)
+        };
+    }
+
+    /**
+     * Evaluate the r<sup>th</sup> derivative of &Psi;(1/2&nbsp;+&nbsp;h)&nbsp;=&nbsp;&sum;<sub>m</sub>A<sub>m</sub>h<sup>2m</sup>.
+     */
+    private static BigDecimal psiDerivative(BigDecimal[] coefficients, int r, BigDecimal h, MathContext workCtx) {
+        BigDecimal result = BigDecimal.ZERO;
+        for (int m = coefficients.length - 1; m >= 0 && 2 * m >= r; m--) {
+            // d^r/dh^r h^2m = (2m)!/(2m − r)!·h^(2m − r)
+            BigInteger falling = BigInteger.ONE;
+            for (int j = 0; j < r; j++) falling = falling.multiply(BigInteger.valueOf(2L * m - j));
+            final BigDecimal term = coefficients[m].multiply(new BigDecimal(falling), workCtx)
+                    .multiply(h.pow(2 * m - r, workCtx), workCtx);
+            result = result.add(term, workCtx);
+        }
+        return result;
+    }
+
+    /**
+     * Obtain the Taylor coefficients A<sub>m</sub> of the even function
+     * &Psi;(1/2&nbsp;+&nbsp;h)&nbsp;=&nbsp;&minus;cos(2&pi;h<sup>2</sup>&nbsp;&minus;&nbsp;5&pi;/8)/cos(2&pi;h)&nbsp;=&nbsp;&sum;<sub>m</sub>A<sub>m</sub>h<sup>2m</sup>.
+     * &Psi; is entire, so enough coefficients are computed for its twelfth derivative
+     * to converge for |h|&nbsp;&le;&nbsp;1/2.  Dividing the series, however, amplifies rounding
+     * errors by the coefficients of 1/cos(2&pi;h), which grow as 16<sup>m</sup>; the true
+     * coefficients decay by about 1.4 digits per step, so the division is carried out
+     * with roughly twice the digits required.
+     */
+    private static BigDecimal[] psiCoefficients(MathContext mctx) {
+        return psiCache.computeIfAbsent(mctx, ctx -> {
+            final int limit = 2 * ctx.getPrecision() + 4 * GUARD_DIGITS;
+            final MathContext seriesCtx = new MathContext(limit, RoundingMode.HALF_EVEN);
+            final BigDecimal pi = Pi.getInstance(seriesCtx).asBigDecimal().round(seriesCtx);
+            final BigDecimal twoPi = pi.multiply(TWO, seriesCtx);
+            final BigDecimal[] sinCos = ElementaryFunctions.sinCos(pi.multiply(BigDecimal.valueOf(5L)).divide(BigDecimal.valueOf(8L), seriesCtx), seriesCtx);
+            final BigDecimal tolerance = BigDecimal.ONE.movePointLeft(ctx.getPrecision());
+            final List<BigDecimal> numerator = new ArrayList<>();
+            final List<BigDecimal> denominator = new ArrayList<>();
+            final List<BigDecimal> quotient = new ArrayList<>();
+            BigDecimal numeratorScale = BigDecimal.ONE;  // (2π)^m/m!
+            BigDecimal denominatorScale = BigDecimal.ONE;  // (2π)^2m/(2m)!
+            for (int m = 0; m <= limit; m++) {
+                if (m > 0) {
+                    numeratorScale = numeratorScale.multiply(twoPi, seriesCtx).divide(BigDecimal.valueOf(m), seriesCtx);
+                    denominatorScale = denominatorScale.multiply(twoPi.multiply(twoPi, seriesCtx), seriesCtx)
+                            .divide(BigDecimal.valueOf((2L * m - 1L) * 2L * m), seriesCtx);
+                }
+                // cos(2πh² − 5π/8) = cos(2πh²)·cos(5π/8) + sin(2πh²)·sin(5π/8)
+                final BigDecimal trig = m % 2 == 0 ? sinCos[1] : sinCos[0];
+                final BigDecimal n = numeratorScale.multiply(trig, seriesCtx);
+                numerator.add((m / 2) % 2 == 0 ? n : n.negate());
+                denominator.add(m % 2 == 0 ? denominatorScale : denominatorScale.negate());
+                BigDecimal q = numerator.get(m);
+                for (int i = 1; i <= m; i++) {
+                    q = q.subtract(denominator.get(i).multiply(quotient.get(m - i), seriesCtx), seriesCtx);
+                }
+                quotient.add(q);
+                // the largest contribution to any derivative through the twelfth, at |h| = 1/2
+                final BigDecimal bound = q.abs().multiply(BigDecimal.valueOf(2L * m).pow(12))
+                        .divide(BigDecimal.valueOf(4L).pow(m), seriesCtx);
+                if (m > 12 && bound.compareTo(tolerance) < 0) break;
+            }
+            return quotient.stream().map(q -> q.negate().round(ctx)).toArray(BigDecimal[]::new);
+        });
+    }
+}
@@ -0,0 +1,624 @@
+package tungsten.types.util;
+/*
+ * The MIT License
+ *
+ * Copyright © 2026 Robert Poole <Tarquin.AZ@gmail.com>.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+import tungsten.types.Matrix;
+import tungsten.types.matrix.impl.BasicMatrix;
+import tungsten.types.numerics.RealType;
+import tungsten.types.numerics.impl.RealImpl;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Multiplication of real-valued matrices using the Winograd variant of Strassen's
+ * algorithm, which uses 7 multiplications instead of the usual 8 at each stage
+ * of recursion.
+ * <br>
+ * Unlike a recursion over {@link tungsten.types.matrix.impl.SubMatrix} views, this
+ * implementation unpacks both operands once into flat, row-major arrays of
+ * {@link BigDecimal} and addresses quadrants by offset and stride.  All
+ * temporaries needed at a given depth of recursion are allocated once and reused
+ * by every subproblem at that depth, and the result is a flat {@link BasicMatrix}.
+ * Matrices of any shape are supported: each dimension is split in half, rounding
+ * up, and elements that lie beyond the edge of an operand are treated as zero
+ * without ever being materialized.
+ * <br>
+ * Every intermediate sum and product is computed exactly, and only the final
+ * result is rounded.  This avoids the loss of accuracy to which Strassen's
+ * algorithm is otherwise prone when elements vary widely in magnitude, since
+ * the seven products are recombined with cancellation.
+ * <br>
+ * Recursion stops, and the classical algorithm takes over, once any dimension of
+ * a subproblem is at or below a crossover threshold.  Unless this is set with the
+ * {@link #STRASSEN_THRESHOLD} System property, the threshold is tuned the first time
+ * a given {@link MathContext} is used by measuring the relative cost of addition
+ * and multiplication of {@link BigDecimal} values at that precision.
+ *
+ * @author Robert Poole, <a href="mailto:tarquin@alum.mit.edu">MIT alumni e-mail</a>
+ *   or <a href="mailto:Tarquin.AZ@gmail.com">Gmail</a>
+ * @since 1.5
+ * @see <a href="https://en.wikipedia.org/wiki/Strassen_algorithm">the Wikipedia article on Strassen's algorithm</a>
+ */
+public final class StrassenWinogradMultiplier {
+    /**
+     * The {@link String} representing the System property that, if set, fixes
+     * the crossover dimension at or below which the classical algorithm is used.
+     * If not set, the crossover is tuned automatically for each {@link MathContext}.
+     */
+    public static final String STRASSEN_THRESHOLD = "tungsten.types.util.StrassenWinogradMultiplier.threshold";
+    private static final Integer CONFIGURED_THRESHOLD = Integer.getInteger(STRASSEN_THRESHOLD);
+    private static final int MINIMUM_THRESHOLD = 16;
+    private static final int MAXIMUM_THRESHOLD = 512;
+    /**
+     * The largest spread of scales within a block for which the classical
+     * kernel aligns all values to a common scale.
+     */
+    private static final int MAX_SCALE_SPREAD = 64;
+    private static final Map<TuningKey, Integer> tunedThresholds = new ConcurrentHashMap<>();
+
+    /**
+     * The crossover depends not only on the precision of the arithmetic, but on how
+     * many significant digits the elements actually carry, so both form the key
+     * for a tuned threshold.
+     */
+    private record TuningKey(MathContext mctx, int digits) {}
+
+    private final MathContext mctx;
+    private final int threshold;
+    /**
+     * Scratch space for each depth of recursion, allocated on first use.
+     */
+    private final List<Workspace> workspaces = new ArrayList<>();
+
+    private StrassenWinogradMultiplier(MathContext mctx, int threshold) {
+        this.mctx = mctx;
+        this.threshold = threshold;
+    }
+
+    /**
+     * Multiply two real-valued matrices.
+     * @param lhs the left-hand matrix in the multiplication
+     * @param rhs the right-hand matrix in the multiplication
+     * @return the product of {@code lhs} and {@code rhs}
+     * @throws ArithmeticException if the number of columns of {@code lhs} does not
+     *   equal the number of rows of {@code rhs}
+     */
+    public static Matrix<RealType> multiply(Matrix<RealType> lhs, Matrix<RealType> rhs) {
+        return multiply(lhs, rhs, 0);
+    }
+
+    /**
+     * Multiply two real-valued matrices with a given crossover threshold.
+     * @param lhs       the left-hand matrix in the multiplication
+     * @param rhs       the right-hand matrix in the multiplication
+     * @param threshold the largest dimension for which the classical algorithm is used,
+     *   or 0 to use the calibrated threshold
+     * @return the product of {@code lhs} and {@code rhs}
+     */
+    static Matrix<RealType> multiply(Matrix<RealType> lhs, Matrix<RealType> rhs, int threshold) {
+        if (lhs.columns() != rhs.rows()) {
+            throw new ArithmeticException("Multiplier must have the same number of rows as the multiplicand has columns");
+        }
+        if (lhs.rows() > Integer.MAX_VALUE || lhs.columns() > Integer.MAX_VALUE || rhs.columns() > Integer.MAX_VALUE ||
+                lhs.rows() * lhs.columns() > Integer.MAX_VALUE || rhs.rows() * rhs.columns() > Integer.MAX_VALUE ||
+                lhs.rows() * rhs.columns() > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Matrices are too large to multiply in memory");
+        }
+        final int m = (int) lhs.rows();
+        final int k = (int) lhs.columns();
+        final int n = (int) rhs.columns();
+        final MathContext mctx = lhs.valueAt(0L, 0L).getMathContext();
+        final BigDecimal[] left = new BigDecimal[m * k];
+        final BigDecimal[] right = new BigDecimal[k * n];
+        boolean exact = true;
+        boolean irrational = false;
+        int digits = 1;
+        try {
+            for (int i = 0; i < m; i++) {
+                for (int j = 0; j < k; j++) {
+                    final RealType value = lhs.valueAt(i, j);
+                    left[i * k + j] = value.asBigDecimal();
+                    digits = Math.max(digits, left[i * k + j].precision());
+                    exact &= value.isExact();
+                    irrational |= value.isIrrational();
+                }
+            }
+            for (int i = 0; i < k; i++) {
+                for (int j = 0; j < n; j++) {
+                    final RealType value = rhs.valueAt(i, j);
+                    right[i * n + j] = value.asBigDecimal();
+                    digits = Math.max(digits, right[i * n + j].precision());
+                    exact &= value.isExact();
+                    irrational |= value.isIrrational();
+                }
+            }
+        } catch (UnsupportedOperationException e) {
+            // at least one element (e.g., an infinity) has no BigDecimal representation
+            return lhs.multiply(rhs);
+        }
+
+        final BigDecimal[] product = new BigDecimal[m * n];
+        final StrassenWinogradMultiplier multiplier = new StrassenWinogradMultiplier(mctx,
+                threshold > 0 ? threshold : thresholdFor(mctx, digits));
+        multiplier.multiplyInParallel(new Block(product, 0, n, m, n),
+                new Block(left, 0, k, m, k), new Block(right, 0, n, k, n));
+
+        RealType[][] result = new RealType[m][n];
+        for (int i = 0; i < m; i++) {
+            for (int j = 0; j < n; j++) {
+                RealImpl value = new RealImpl(product[i * n + j], mctx, exact);
+                value.setIrrational(irrational);
+                result[i][j] = value;
+            }
+        }
+        return new BasicMatrix<>(result);
+    }
+
+    /**
+     * Obtain the crossover threshold for the given {@link MathContext} and
+     * number of significant digits.  The latter is rounded up to a power of 2
+     * so that only a handful of calibrations are ever performed.
+     * @param mctx   the {@link MathContext} of the matrices being multiplied
+     * @param digits the largest number of significant digits of any element
+     * @return the largest dimension for which the classical algorithm is used
+     */
+    static int thresholdFor(MathContext mctx, int digits) {
+        if (CONFIGURED_THRESHOLD != null) return Math.max(CONFIGURED_THRESHOLD, 1);
+        int bucket = Math.max(8, Integer.highestOneBit(digits - 1) << 1);
+        if (mctx.getPrecision() > 0) bucket = Math.min(bucket, mctx.getPrecision());
+        return tunedThresholds.computeIfAbsent(new TuningKey(mctx, bucket), StrassenWinogradMultiplier::calibrate);
+    }
+
+    /**
+     * One level of recursion on an n&times;n problem saves n<sup>3</sup>/8
+     * multiply-accumulate operations of the classical algorithm at the cost of
+     * the additions needed to form the operands and combine the products, which
+     * are proportional to (n/2)<sup>2</sup>.  Recursion is therefore worthwhile when
+     * n&nbsp;&gt;&nbsp;2&sdot;t<sub>add</sub>/t<sub>mac</sub>, where t<sub>add</sub> is the
+     * cost of all additions per element of a quadrant and t<sub>mac</sub> is the cost
+     * of one multiply-accumulate.  This method measures both by running the actual
+     * kernels on random values with the requisite number of digits.
+     */
+    private static int calibrate(TuningKey key) {
+        final int size = 32;
+        final MathContext mctx = key.mctx();
+        final int digits = key.digits();
+        final Random random = new Random(digits);
+        final BigDecimal[] x = new BigDecimal[4 * size * size];
+        final BigDecimal[] y = new BigDecimal[4 * size * size];
+        for (int i = 0; i < x.length; i++) {
+            x[i] = randomValue(random, digits);
+            y[i] = randomValue(random, digits);
+        }
+        final StrassenWinogradMultiplier multiplier = new StrassenWinogradMultiplier(mctx, size);
+        final Block X = new Block(x, 0, 2 * size, 2 * size, 2 * size);
+        final Block Y = new Block(y, 0, 2 * size, 2 * size, 2 * size);
+        final Block Xq = X.quadrant(0, 0, size, size);
+        final Block Yq = Y.quadrant(0, 0, size, size);
+        final Workspace workspace = new Workspace(size, size, size);
+        final Block[] lhs = new Block[7];
+        final Block[] rhs = new Block[7];
+        for (Block product : workspace.products) {
+            // stand-ins for the recursive products, so that combine() has realistic inputs
+            System.arraycopy(x, 0, product.data, 0, size * size);
+        }
+        long macTime = Long.MAX_VALUE;
+        long addTime = Long.MAX_VALUE;
+        for (int trial = 0; trial < 3; trial++) {
+            long start = System.nanoTime();
+            multiplier.classical(workspace.products[0], Xq, Yq, false);
+            macTime = Math.min(macTime, System.nanoTime() - start);
+            start = System.nanoTime();
+            for (int i = 0; i < 7; i++) {
+                multiplier.prepareOperand(i, X, Y, size, size, size, lhs, rhs, workspace.left, workspace.right);
+            }
+            multiplier.combine(new Block(new BigDecimal[4 * size * size], 0, 2 * size, 2 * size, 2 * size),
+                    workspace.products, size, size, false);
+            addTime = Math.min(addTime, System.nanoTime() - start);
+        }
+        final double ratio = ((double) addTime / (size * size)) / ((double) macTime / (size * size * size));
+        final int result = Math.max(MINIMUM_THRESHOLD, Math.min(MAXIMUM_THRESHOLD, (int) Math.ceil(2d * ratio)));
+        Logger.getLogger(StrassenWinogradMultiplier.class.getName()).log(Level.FINE,
+                "Strassen-Winograd crossover for {0} with {1} digits tuned to {2}.",
+                new Object[] {mctx, digits, result});
+        return result;
+    }
+
+    private static BigDecimal randomValue(Random random, int digits) {
+        StringBuilder buf = new StringBuilder(digits + 2);
+        if (random.nextBoolean()) buf.append('-');
+        buf.append(random.nextInt(9) + 1);
+        for (int i = 1; i < digits; i++) buf.append(random.nextInt(10));
+        return new BigDecimal(buf.toString()).movePointLeft(random.nextInt(digits));
+    }
+
+    /**
+     * A rectangular region of a flat, row-major array.  The logical dimensions
+     * may extend beyond the region actually backed by the array (the valid region),
+     * in which case the missing elements are treated as zero when read and
+     * are never written.
+     */
+    private static final class Block {
+        private final BigDecimal[] data;
+        private final int offset, stride;
+        private final int rows, columns;
+        private final int validRows, validColumns;
+
+        private Block(BigDecimal[] data, int offset, int stride, int rows, int columns) {
+            this(data, offset, stride, rows, columns, rows, columns);
+        }
+
+        private Block(BigDecimal[] data, int offset, int stride, int rows, int columns, int validRows, int validColumns) {
+            this.data = data;
+            this.offset = offset;
+            this.stride = stride;
+            this.rows = rows;
+            this.columns = columns;
+            this.validRows = validRows;
+            this.validColumns = validColumns;
+        }
+
+        private Block quadrant(int rowStart, int columnStart, int rows, int columns) {
+            final int valRows = Math.max(0, Math.min(validRows - rowStart, rows));
+            final int valColumns = Math.max(0, Math.min(validColumns - columnStart, columns));
+            final int start = valRows == 0 || valColumns == 0 ? offset : offset + rowStart * stride + columnStart;
+            return new Block(data, start, stride, rows, columns, valRows, valColumns);
+        }
+
+        private BigDecimal get(int row, int column) {
+            if (row >= validRows || column >= validColumns) return BigDecimal.ZERO;
+            return data[offset + row * stride + column];
+        }
+
+        private void set(int row, int column, BigDecimal value) {
+            data[offset + row * stride + column] = value;
+        }
+    }
+
+    /**
+     * The temporaries required at one depth of recursion: two operand sums
+     * and the seven products.
+     */
+    private static final class Workspace {
+        private final Block left, right;
+        private final Block[] products = new Block[7];
+
+        private Workspace(int m, int k, int n) {
+            left = new Block(new BigDecimal[m * k], 0, k, m, k);
+            right = new Block(new BigDecimal[k * n], 0, n, k, n);
+            for (int i = 0; i < products.length; i++) {
+                products[i] = new Block(new BigDecimal[m * n], 0, n, m, n);
+            }
+        }
+    }
+
+    private Workspace workspaceFor(int depth, int m, int k, int n) {
+        // every subproblem at a given depth has the same logical dimensions
+        if (depth == workspaces.size()) workspaces.add(new Workspace(m, k, n));
+        return workspaces.get(depth);
+    }
+
+    private boolean useClassical(Block A, Block B) {
+        return A.rows <= threshold || A.columns <= threshold || B.columns <= threshold;
+    }
+
+    /**
+     * The top level of recursion, where the seven products are computed
+     * in parallel.  Each parallel task uses its own {@link StrassenWinogradMultiplier}
+     * and therefore its own scratch space.
+     */
+    private void multiplyInParallel(Block C, Block A, Block B) {
+        if (useClassical(A, B)) {
+            classical(C, A, B, true);
+            return;
+        }
+        final int m1 = (A.rows + 1) / 2;
+        final int k1 = (A.columns + 1) / 2;
+        final int n1 = (B.columns + 1) / 2;
+        final Block[] lhs = new Block[7];
+        final Block[] rhs = new Block[7];
+        final Block[] products = new Block[7];
+        for (int i = 0; i < 7; i++) products[i] = new Block(new BigDecimal[m1 * n1], 0, n1, m1, n1);
+        prepareOperands(A, B, m1, k1, n1, lhs, rhs, () -> new Block(new BigDecimal[m1 * k1], 0, k1, m1, k1),
+                () -> new Block(new BigDecimal[k1 * n1], 0, n1, k1, n1));
+        List<RecursiveAction> tasks = new ArrayList<>(7);
+        for (int i = 0; i < 7; i++) {
+            final int index = i;
+            tasks.add(new RecursiveAction() {
+                @Override
+                protected void compute() {
+                    new StrassenWinogradMultiplier(mctx, threshold).multiply(products[index], lhs[index], rhs[index], 0);
+                }
+            });
+        }
+        ForkJoinTask.invokeAll(tasks);
+        combine(C, products, m1, n1, true);
+    }
+
+    private void multiply(Block C, Block A, Block B, int depth) {
+        if (useClassical(A, B)) {
+            classical(C, A, B, false);
+            return;
+        }
+        final int m1 = (A.rows + 1) / 2;
+        final int k1 = (A.columns + 1) / 2;
+        final int n1 = (B.columns + 1) / 2;
+        final Workspace workspace = workspaceFor(depth, m1, k1, n1);
+        final Block[] lhs = new Block[7];
+        final Block[] rhs = new Block[7];
+        // the seven products must be computed one after another, since their operands share scratch space
+        for (int i = 0; i < 7; i++) {
+            prepareOperand(i, A, B, m1, k1, n1, lhs, rhs, workspace.left, workspace.right);
+            multiply(workspace.products[i], lhs[i], rhs[i], depth + 1);
+        }
+        combine(C, workspace.products, m1, n1, false);
+    }
+
+    private void prepareOperands(Block A, Block B, int m1, int k1, int n1, Block[] lhs, Block[] rhs,
+                                 Supplier<Block> leftScratch, Supplier<Block> rightScratch) {
+        // the first two products are of plain quadrants and need no scratch space
+        for (int i = 0; i < 7; i++) {
+            prepareOperand(i, A, B, m1, k1, n1, lhs, rhs, i < 2 ? null : leftScratch.get(), i < 2 ? null : rightScratch.get());
+        }
+    }
+
+    /**
+     * Set up the operands for one of the seven products.  Writing the
+     * multiplicand as [[a,&nbsp;b], [c,&nbsp;d]] and the multiplier as
+     * [[A,&nbsp;C], [B,&nbsp;D]], the products are:
+     * <ol start="0">
+     *     <li>aA</li>
+     *     <li>bB</li>
+     *     <li>(a&nbsp;+&nbsp;b&nbsp;&minus;&nbsp;c&nbsp;&minus;&nbsp;d)D</li>
+     *     <li>d(B&nbsp;+&nbsp;C&nbsp;&minus;&nbsp;A&nbsp;&minus;&nbsp;D)</li>
+     *     <li>(c&nbsp;+&nbsp;d)(C&nbsp;&minus;&nbsp;A)</li>
+     *     <li>(c&nbsp;&minus;&nbsp;a)(C&nbsp;&minus;&nbsp;D)</li>
+     *     <li>(c&nbsp;+&nbsp;d&nbsp;&minus;&nbsp;a)(A&nbsp;+&nbsp;D&nbsp;&minus;&nbsp;C)</li>
+     * </ol>
+     * Operands which are simple quadrants are used in place; sums are
+     * written into the supplied scratch blocks.
+     */
+    private void prepareOperand(int index, Block X, Block Y, int m1, int k1, int n1, Block[] lhs, Block[] rhs,
+                                Block leftScratch, Block rightScratch) {
+        final Block a = X.quadrant(0, 0, m1, k1);
+        final Block b = X.quadrant(0, k1, m1, k1);
+        final Block c = X.quadrant(m1, 0, m1, k1);
+        final Block d = X.quadrant(m1, k1, m1, k1);
+        final Block A = Y.quadrant(0, 0, k1, n1);
+        final Block C = Y.quadrant(0, n1, k1, n1);
+        final Block B = Y.quadrant(k1, 0, k1, n1);
+        final Block D = Y.quadrant(k1, n1, k1, n1);
+        switch (index) {
+            case 0 -> {
+                lhs[0] = a;
+                rhs[0] = A;
+            }
+            case 1 -> {
+                lhs[1] = b;
+                rhs[1] = B;
+            }
+            case 2 -> {
+                combineInto(leftScratch, a, b, c, d, 1, 1, -1, -1);
+                lhs[2] = leftScratch;
+                rhs[2] = D;
+            }
+            case 3 -> {
+                lhs[3] = d;
+                combineInto(rightScratch, B, C, A, D, 1, 1, -1, -1);
+                rhs[3] = rightScratch;
+            }
+            case 4 -> {
+                combineInto(leftScratch, c, d, a, a, 1, 1, 0, 0);
+                combineInto(rightScratch, C, A, A, A, 1, -1, 0, 0);
+                lhs[4] = leftScratch;
+                rhs[4] = rightScratch;
+            }
+            case 5 -> {
+                combineInto(leftScratch, c, a, a, a, 1, -1, 0, 0);
+                combineInto(rightScratch, C, D, D, D, 1, -1, 0, 0);
+                lhs[5] = leftScratch;
+                rhs[5] = rightScratch;
+            }
+            case 6 -> {
+                combineInto(leftScratch, c, d, a, a, 1, 1, -1, 0);
+                combineInto(rightScratch, A, D, C, C, 1, 1, -1, 0);
+                lhs[6] = leftScratch;
+                rhs[6] = rightScratch;
+            }
+            default -> throw new IllegalArgumentException("There are only 7 products");
+        }
+    }
+
+    /**
+     * Compute a signed sum of up to four blocks into {@code target}.
+     * Each sign must be &minus;1, 0, or 1.  The sum is exact, since the
+     * additions are cheap and a handful of extra digits costs little in
+     * the multiplications that follow.
+     */
+    private void combineInto(Block target, Block w, Block x, Block y, Block z, int sw, int sx, int sy, int sz) {
+        for (int i = 0; i < target.rows; i++) {
+            for (int j = 0; j < target.columns; j++) {
+                BigDecimal sum = signed(w.get(i, j), sw);
+                if (sx != 0) sum = sum.add(signed(x.get(i, j), sx));
+                if (sy != 0) sum = sum.add(signed(y.get(i, j), sy));
+                if (sz != 0) sum = sum.add(signed(z.get(i, j), sz));
+                target.set(i, j, sum);
+            }
+        }
+    }
+
+    private static BigDecimal signed(BigDecimal value, int sign) {
+        return sign < 0 ? value.negate() : value;
+    }
+
+    /**
+     * Assemble the quadrants of the result from the seven products.
+     * With w&nbsp;=&nbsp;P<sub>0</sub>&nbsp;+&nbsp;P<sub>6</sub>:
+     * <ul>
+     *     <li>C<sub>00</sub>&nbsp;=&nbsp;P<sub>0</sub>&nbsp;+&nbsp;P<sub>1</sub></li>
+     *     <li>C<sub>01</sub>&nbsp;=&nbsp;w&nbsp;+&nbsp;P<sub>4</sub>&nbsp;+&nbsp;P<sub>2</sub></li>
+     *     <li>C<sub>10</sub>&nbsp;=&nbsp;w&nbsp;+&nbsp;P<sub>5</sub>&nbsp;+&nbsp;P<sub>3</sub></li>
+     *     <li>C<sub>11</sub>&nbsp;=&nbsp;w&nbsp;+&nbsp;P<sub>5</sub>&nbsp;+&nbsp;P<sub>4</sub></li>
+     * </ul>
+     * Only the valid region of {@code C} is written.
+     * @param round true if this is the final result, which must be rounded
+     */
+    private void combine(Block C, Block[] P, int m1, int n1, boolean round) {
+        final Block c00 = C.quadrant(0, 0, m1, n1);
+        final Block c01 = C.quadrant(0, n1, m1, n1);
+        final Block c10 = C.quadrant(m1, 0, m1, n1);
+        final Block c11 = C.quadrant(m1, n1, m1, n1);
+        for (int i = 0; i < m1; i++) {
+            for (int j = 0; j < n1; j++) {
+                final BigDecimal w = P[0].get(i, j).add(P[6].get(i, j));
+                if (i < c00.validRows && j < c00.validColumns) {
+                    c00.set(i, j, finish(P[0].get(i, j).add(P[1].get(i, j)), round));
+                }
+                if (i < c01.validRows && j < c01.validColumns) {
+                    c01.set(i, j, finish(w.add(P[4].get(i, j)).add(P[2].get(i, j)), round));
+                }
+                if (i < c10.validRows && j < c10.validColumns) {
+                    c10.set(i, j, finish(w.add(P[5].get(i, j)).add(P[3].get(i, j)), round));
+                }
+                if (i < c11.validRows && j < c11.validColumns) {
+                    c11.set(i, j, finish(w.add(P[5].get(i, j)).add(P[4].get(i, j)), round));
+                }
+            }
+        }
+    }
+
+    private BigDecimal finish(BigDecimal value, boolean round) {
+        return round ? value.round(mctx) : value;
+    }
+
+    /**
+     * The classical algorithm, used once a subproblem is small enough.
+     * Each dot product is accumulated exactly.  Both operands
+     * are first unpacked into unscaled {@link BigInteger} values sharing a common
+     * scale, with the columns of {@code B} in contiguous storage, and these are
+     * further reduced to {@code long}s if possible.
+     * @param round true if this is the final result, which must be rounded
+     */
+    private void classical(Block C, Block A, Block B, boolean round) {
+        final int rows = Math.min(C.validRows, A.validRows);
+        final int inner = Math.min(A.validColumns, B.validRows);
+        final int columns = Math.min(C.validColumns, B.validColumns);
+        final BigInteger[] left = new BigInteger[rows * inner];
+        final BigInteger[] right = new BigInteger[columns * inner];
+        final int leftScale = unscale(A, rows, inner, false, left);
+        final int rightScale = unscale(B, inner, columns, true, right);
+        if (leftScale == Integer.MIN_VALUE || rightScale == Integer.MIN_VALUE) {
+            classicalDecimal(C, A, B, round);
+            return;
+        }
+        final long[] compactLeft = compact(left);
+        final long[] compactRight = compactLeft == null ? null : compact(right);
+        for (int i = 0; i < C.validRows; i++) {
+            for (int j = 0; j < C.validColumns; j++) {
+                if (i >= rows || j >= columns) {
+                    C.set(i, j, BigDecimal.ZERO);
+                    continue;
+                }
+                final int aStart = i * inner;
+                final int bStart = j * inner;
+                BigInteger sum;
+                if (compactRight != null) {
+                    sum = MathUtils.exactDotProduct(compactLeft, aStart, compactRight, bStart, inner);
+                } else {
+                    sum = BigInteger.ZERO;
+                    for (int k = 0; k < inner; k++) {
+                        sum = sum.add(left[aStart + k].multiply(right[bStart + k]));
+                    }
+                }
+                C.set(i, j, finish(new BigDecimal(sum, leftScale + rightScale), round));
+            }
+        }
+    }
+
+    /**
+     * Copy a region of a block into unscaled values which share the largest
+     * scale found in that region.
+     * @param transpose if true, store the region by column rather than by row
+     * @return the common scale, or {@link Integer#MIN_VALUE} if the scales in
+     *   the region are too disparate for alignment to be worthwhile
+     */
+    private static int unscale(Block X, int rows, int columns, boolean transpose, BigInteger[] target) {
+        int scale = Integer.MIN_VALUE;
+        int minScale = Integer.MAX_VALUE;
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < columns; j++) {
+                final BigDecimal value = X.data[X.offset + i * X.stride + j];
+                scale = Math.max(scale, value.scale());
+                if (value.signum() != 0) minScale = Math.min(minScale, value.scale());
+            }
+        }
+        if (minScale != Integer.MAX_VALUE && scale - minScale > MAX_SCALE_SPREAD) return Integer.MIN_VALUE;
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < columns; j++) {
+                // increasing the scale never requires rounding
+                final BigInteger unscaled = X.data[X.offset + i * X.stride + j].setScale(scale).unscaledValue();
+                target[transpose ? j * rows + i : i * columns + j] = unscaled;
+            }
+        }
+        return scale == Integer.MIN_VALUE ? 0 : scale;
+    }
+
+    /**
+     * Convert unscaled values to {@code long}s.
+     * @return the converted values, or {@code null} if any value does not fit in a {@code long}
+     */
+    private static long[] compact(BigInteger[] values) {
+        long[] result = new long[values.length];
+        for (int i = 0; i < values.length; i++) {
+            if (values[i].bitLength() >= Long.SIZE) return null;
+            result[i] = values[i].longValue();
+        }
+        return result;
+    }
+
+    private void classicalDecimal(Block C, Block A, Block B, boolean round) {
+        final int inner = Math.min(A.validColumns, B.validRows);
+        for (int i = 0; i < C.validRows; i++) {
+            for (int j = 0; j < C.validColumns; j++) {
+                BigDecimal sum = BigDecimal.ZERO;
+                for (int k = 0; k < inner; k++) {
+                    sum = sum.add(A.get(i, k).multiply(B.get(k, j)));
+                }
+                C.set(i, j, finish(sum, round));
+            }
+        }
+    }
+}
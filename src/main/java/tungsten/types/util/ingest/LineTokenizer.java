@@ -0,0 +1,193 @@
+package tungsten.types.util.ingest;
+/*
+ * The MIT License
+ *
+ * Copyright © 2025 Robert Poole <Tarquin.AZ@gmail.com>.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+import java.util.Arrays;
+
+/**
+ * A hand-written, allocation-light tokenizer for a single line of text.
+ * Rather than producing a {@code String[]} the way {@link String#split(String)}
+ * does, this tokenizer records the start and end offsets of each token within
+ * the caller's {@code char[]}, so that numeric values can be parsed directly
+ * from the line buffer.  Two splitting modes are supported:
+ * <ul>
+ *     <li>whitespace delimited, where any run of whitespace separates tokens
+ *         (equivalent to splitting a stripped line on {@code \s+}), and</li>
+ *     <li>character delimited, where a single delimiter character separates
+ *         tokens and any whitespace surrounding a token is discarded
+ *         (equivalent to splitting on e.g. {@code \s*\|\s*}).</li>
+ * </ul>
+ * A leading byte order mark (U+FEFF) and leading whitespace are skipped.
+ * As with {@link String#split(String)}, trailing empty tokens are dropped.<br>
+ * Instances are reusable but not thread safe; each thread should use
+ * its own tokenizer.
+ *
+ * @author Robert Poole, <a href="mailto:tarquin@alum.mit.edu">MIT alumni e-mail</a>
+ *   or <a href="mailto:Tarquin.AZ@gmail.com">Gmail</a>
+ * @since 1.5
+ */
+public final class LineTokenizer {
+    private static final char WHITESPACE = '\u0000';
+    private static final char BOM = '\ufeff';
+
+    private final char delimiter;
+    private char[] line;
+    private int[] bounds = new int[64];
+    private int count;
+
+    private LineTokenizer(char delimiter) {
+        this.delimiter = delimiter;
+    }
+
+    /**
+     * Obtain a tokenizer which splits lines on runs of whitespace.
+     * @return a new whitespace-delimited tokenizer
+     */
+    public static LineTokenizer whitespaceDelimited() {
+        return new LineTokenizer(WHITESPACE);
+    }
+
+    /**
+     * Obtain a tokenizer which splits lines on the given delimiter,
+     * trimming any whitespace surrounding each token.
+     * @param delimiter the delimiter character, which may not be whitespace
+     * @return a new character-delimited tokenizer
+     */
+    public static LineTokenizer delimitedBy(char delimiter) {
+        if (delimiter == WHITESPACE || Character.isWhitespace(delimiter)) {
+            throw new IllegalArgumentException("Delimiter must not be whitespace; use whitespaceDelimited() instead");
+        }
+        return new LineTokenizer(delimiter);
+    }
+
+    /**
+     * Tokenize the characters of {@code chars} in the range [{@code from}, {@code to}).
+     * The results remain valid until the next call to this method, and refer
+     * directly to {@code chars}, which should not be modified in the interim.
+     * @param chars the buffer containing the line
+     * @param from  the index of the first character of the line
+     * @param to    the index just past the last character of the line
+     * @return the number of tokens found
+     */
+    public int tokenize(char[] chars, int from, int to) {
+        this.line = chars;
+        count = 0;
+        int pos = from;
+        if (pos < to && chars[pos] == BOM) pos++;
+        while (pos < to && Character.isWhitespace(chars[pos])) pos++;
+        if (delimiter == WHITESPACE) {
+            while (pos < to) {
+                final int start = pos;
+                while (pos < to && !Character.isWhitespace(chars[pos])) pos++;
+                record(start, pos);
+                while (pos < to && Character.isWhitespace(chars[pos])) pos++;
+            }
+        } else if (pos < to) {
+            while (true) {
+                final int start = pos;
+                while (pos < to && chars[pos] != delimiter) pos++;
+                int end = pos;
+                while (end > start && Character.isWhitespace(chars[end - 1])) end--;
+                record(start, end);
+                if (pos == to) break;
+                pos++;  // skip the delimiter
+                while (pos < to && Character.isWhitespace(chars[pos])) pos++;
+            }
+            // mimic String.split() by discarding trailing empty tokens
+            while (count > 0 && length(count - 1) == 0) count--;
+        }
+        return count;
+    }
+
+    /**
+     * Convenience method to tokenize an entire {@code String}.
+     * @param text the line of text to tokenize
+     * @return the number of tokens found
+     * @see #tokenize(char[], int, int)
+     */
+    public int tokenize(String text) {
+        final char[] chars = text.toCharArray();
+        return tokenize(chars, 0, chars.length);
+    }
+
+    private void record(int start, int end) {
+        if (2 * count + 2 > bounds.length) {
+            bounds = Arrays.copyOf(bounds, bounds.length * 2);
+        }
+        bounds[2 * count] = start;
+        bounds[2 * count + 1] = end;
+        count++;
+    }
+
+    /**
+     * Obtain the number of tokens found by the most recent call to {@link #tokenize(char[], int, int)}.
+     * @return the current token count
+     */
+    public int count() {
+        return count;
+    }
+
+    /**
+     * Obtain the buffer most recently tokenized.
+     * @return the backing character buffer
+     */
+    public char[] chars() {
+        return line;
+    }
+
+    /**
+     * Obtain the offset of the first character of a token.
+     * @param index the 0-based index of the token
+     * @return the offset of the token in {@link #chars()}
+     */
+    public int start(int index) {
+        checkIndex(index);
+        return bounds[2 * index];
+    }
+
+    /**
+     * Obtain the length of a token.
+     * @param index the 0-based index of the token
+     * @return the number of characters in the token
+     */
+    public int length(int index) {
+        checkIndex(index);
+        return bounds[2 * index + 1] - bounds[2 * index];
+    }
+
+    /**
+     * Obtain a token as a {@code String}.
+     * @param index the 0-based index of the token
+     * @return the token
+     */
+    public String token(int index) {
+        return new String(line, start(index), length(index));
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= count) {
+            throw new IndexOutOfBoundsException("Token index " + index + " is out of range [0, " + count + ")");
+        }
+    }
+}
@@ -0,0 +1,258 @@
+package tungsten.types.util.ingest;
+/*
+ * The MIT License
+ *
+ * Copyright © 2025 Robert Poole <Tarquin.AZ@gmail.com>.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+/**
+ * A reader for line-oriented numeric text, such as the formats consumed by
+ * the matrix and coordinate parsers in the subpackages of this package.
+ * Each non-comment line is handed to a {@link RowParser} as a tokenized row,
+ * and a blank line (empty or containing nothing but whitespace) terminates input.
+ * Lines may be terminated by a line feed, a carriage return, or a carriage return
+ * followed by a line feed, as with {@link BufferedReader#readLine()}.<br>
+ * For files, the content is memory-mapped and a single sequential pass locates
+ * the row boundaries.  The rows are then divided into contiguous blocks which are
+ * tokenized and parsed in parallel, each worker writing its results directly into
+ * a pre-sized array, so the order of rows is preserved.  Input which cannot be
+ * mapped (e.g., an {@link java.io.InputStream}) is parsed sequentially with the
+ * same tokenizer and row parser.
+ *
+ * @param <R> the type of object generated for each row
+ * @author Robert Poole, <a href="mailto:tarquin@alum.mit.edu">MIT alumni e-mail</a>
+ *   or <a href="mailto:Tarquin.AZ@gmail.com">Gmail</a>
+ * @since 1.5
+ */
+public final class RowBlockReader<R> {
+    /**
+     * Inputs with fewer rows than this are parsed on the calling thread.
+     */
+    private static final int PARALLEL_THRESHOLD = 64;
+    /**
+     * The minimum number of rows in a block handed to a worker.
+     */
+    private static final int MIN_BLOCK_SIZE = 16;
+
+    /**
+     * A parser for a single tokenized row of input.  Implementations
+     * must be thread safe, since rows may be parsed concurrently.
+     * @param <R> the type of object generated for each row
+     */
+    @FunctionalInterface
+    public interface RowParser<R> {
+        /**
+         * Generate an object from a row of tokens.
+         * @param tokens a tokenizer which has just tokenized the current row
+         * @return the object represented by the row
+         */
+        R parse(LineTokenizer tokens);
+    }
+
+    private final Supplier<LineTokenizer> tokenizerSupplier;
+    private final boolean skipComments;
+    private final RowParser<R> parser;
+
+    /**
+     * Construct a row reader.
+     * @param tokenizerSupplier a source of tokenizers, one of which will be obtained
+     *                          for each block of rows that is parsed
+     * @param skipComments      if true, lines whose first non-whitespace character
+     *                          is a pound sign (&ldquo;#&rdquo;) are ignored
+     * @param parser            the parser for individual rows
+     */
+    public RowBlockReader(Supplier<LineTokenizer> tokenizerSupplier, boolean skipComments, RowParser<R> parser) {
+        this.tokenizerSupplier = tokenizerSupplier;
+        this.skipComments = skipComments;
+        this.parser = parser;
+    }
+
+    /**
+     * Read and parse the rows of a file.  Files small enough to be mapped
+     * into memory in one piece (up to 2&nbsp;GiB) are parsed in parallel;
+     * larger files are streamed.
+     * @param file the file to read, assumed to be UTF-8 encoded
+     * @return a mutable list of parsed rows, in file order
+     * @throws IOException if the file cannot be read
+     */
+    public List<R> read(File file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            final long size = channel.size();
+            if (size <= (long) Integer.MAX_VALUE) {
+                // the mapping remains valid after the channel is closed
+                return read(channel.map(FileChannel.MapMode.READ_ONLY, 0L, size));
+            }
+        }
+        try (BufferedReader reader = Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8)) {
+            return read(reader);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Parse the rows of UTF-8 encoded text held in a buffer.  Only absolute
+     * reads are performed, so the position of {@code data} is unaffected;
+     * the text is taken to span the buffer from index 0 to its limit.
+     * @param data the buffer containing the text
+     * @return a mutable list of parsed rows, in input order
+     */
+    public List<R> read(ByteBuffer data) {
+        final int limit = data.limit();
+        int[] bounds = new int[256];
+        int rowCount = 0;
+        int pos = 0;
+        while (pos < limit) {
+            final int start = pos;
+            while (pos < limit && data.get(pos) != '\n' && data.get(pos) != '\r') pos++;
+            final int end = pos;
+            if (pos < limit) {
+                // consume the terminator, treating CR LF as a single terminator
+                if (data.get(pos++) == '\r' && pos < limit && data.get(pos) == '\n') pos++;
+            }
+            if (isBlank(data, start, end)) break;
+            if (skipComments && isComment(data, start, end)) continue;
+            if (2 * rowCount + 2 > bounds.length) bounds = Arrays.copyOf(bounds, bounds.length * 2);
+            bounds[2 * rowCount] = start;
+            bounds[2 * rowCount + 1] = end;
+            rowCount++;
+        }
+
+        @SuppressWarnings("unchecked")
+        final R[] rows = (R[]) new Object[rowCount];
+        final int[] rowBounds = bounds;
+        if (rowCount < PARALLEL_THRESHOLD) {
+            parseBlock(data, rowBounds, 0, rowCount, rows);
+        } else {
+            final int workers = Runtime.getRuntime().availableProcessors();
+            final int blockSize = Math.max(MIN_BLOCK_SIZE, (rowCount + 4 * workers - 1) / (4 * workers));
+            final int blockCount = (rowCount + blockSize - 1) / blockSize;
+            final int totalRows = rowCount;
+            IntStream.range(0, blockCount).parallel().forEach(block -> {
+                final int first = block * blockSize;
+                parseBlock(data, rowBounds, first, Math.min(first + blockSize, totalRows), rows);
+            });
+        }
+        return new ArrayList<>(Arrays.asList(rows));
+    }
+
+    /**
+     * Parse rows of text obtained from a {@link BufferedReader}.  Rows are read
+     * and parsed sequentially on the calling thread.
+     * @param reader the source of the text
+     * @return a mutable list of parsed rows, in input order
+     * @throws UncheckedIOException if an I/O error occurs while reading
+     */
+    public List<R> read(BufferedReader reader) {
+        final LineTokenizer tokenizer = tokenizerSupplier.get();
+        final List<R> rows = new ArrayList<>();
+        reader.lines().takeWhile(line -> !line.isBlank())
+                .map(String::toCharArray)
+                .filter(line -> !skipComments || !isComment(line))
+                .forEachOrdered(line -> {
+                    tokenizer.tokenize(line, 0, line.length);
+                    rows.add(parser.parse(tokenizer));
+                });
+        return rows;
+    }
+
+    /**
+     * Parse the rows with indices in the range [{@code first}, {@code last}),
+     * storing the results in {@code rows}.  The bytes of the block are copied
+     * out of the buffer in one bulk read, and pure ASCII rows (the common case
+     * for numeric data) are widened into a shared character buffer without decoding.
+     */
+    private void parseBlock(ByteBuffer data, int[] bounds, int first, int last, R[] rows) {
+        if (first >= last) return;
+        final LineTokenizer tokenizer = tokenizerSupplier.get();
+        final int base = bounds[2 * first];
+        final int span = bounds[2 * last - 1] - base;
+        final byte[] bytes = new byte[span];
+        data.get(base, bytes, 0, span);
+        final char[] chars = new char[span];
+        for (int row = first; row < last; row++) {
+            final int start = bounds[2 * row] - base;
+            final int end = bounds[2 * row + 1] - base;
+            boolean ascii = true;
+            for (int k = start; k < end; k++) {
+                final byte b = bytes[k];
+                if (b < 0) {
+                    ascii = false;
+                    break;
+                }
+                chars[k] = (char) b;
+            }
+            if (ascii) {
+                tokenizer.tokenize(chars, start, end);
+            } else {
+                final char[] decoded = new String(bytes, start, end - start, StandardCharsets.UTF_8).toCharArray();
+                tokenizer.tokenize(decoded, 0, decoded.length);
+            }
+            rows[row] = parser.parse(tokenizer);
+        }
+    }
+
+    private static boolean isBlank(ByteBuffer data, int start, int end) {
+        for (int k = start; k < end; k++) {
+            final byte b = data.get(k);
+            if (b < 0) {
+                // non-ASCII content, so let String decide what counts as whitespace
+                final byte[] bytes = new byte[end - start];
+                data.get(start, bytes, 0, bytes.length);
+                return new String(bytes, StandardCharsets.UTF_8).isBlank();
+            }
+            if (!Character.isWhitespace(b)) return false;
+        }
+        return true;
+    }
+
+    private static boolean isComment(ByteBuffer data, int start, int end) {
+        int k = start;
+        // skip a UTF-8 encoded byte order mark
+        if (end - k >= 3 && data.get(k) == (byte) 0xEF && data.get(k + 1) == (byte) 0xBB && data.get(k + 2) == (byte) 0xBF) {
+            k += 3;
+        }
+        while (k < end && data.get(k) >= 0 && Character.isWhitespace(data.get(k))) k++;
+        return k < end && data.get(k) == '#';
+    }
+
+    private static boolean isComment(char[] line) {
+        int k = 0;
+        if (k < line.length && line[k] == '\ufeff') k++;
+        while (k < line.length && Character.isWhitespace(line[k])) k++;
+        return k < line.length && line[k] == '#';
+    }
+}
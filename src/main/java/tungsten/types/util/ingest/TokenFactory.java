@@ -0,0 +1,185 @@
+package tungsten.types.util.ingest;
+/*
+ * The MIT License
+ *
+ * Copyright © 2025 Robert Poole <Tarquin.AZ@gmail.com>.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+import tungsten.types.Numeric;
+import tungsten.types.numerics.ComplexType;
+import tungsten.types.numerics.IntegerType;
+import tungsten.types.numerics.RationalType;
+import tungsten.types.numerics.RealType;
+import tungsten.types.numerics.impl.ComplexPolarImpl;
+import tungsten.types.numerics.impl.ComplexRectImpl;
+import tungsten.types.numerics.impl.IntegerImpl;
+import tungsten.types.numerics.impl.RationalImpl;
+import tungsten.types.numerics.impl.RealImpl;
+import tungsten.types.util.ClassTools;
+import tungsten.types.util.OptionalOperations;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.nio.CharBuffer;
+
+/**
+ * A factory which converts a single token of text into a {@link Numeric} value.
+ * Tokens are presented as a range within a {@code char[]} (typically the buffer
+ * of a {@link LineTokenizer}) so that plain decimal values can be parsed without
+ * creating an intermediate {@code String}.<br>
+ * Factories obtained from {@link #forType(Class, MathContext)} are resolved once
+ * for a given type and then reused for every token, avoiding the per-value
+ * constructor lookup performed by
+ * {@link OptionalOperations#dynamicInstantiate(Class, String)}.
+ *
+ * @param <T> the type of value produced by this factory
+ * @author Robert Poole, <a href="mailto:tarquin@alum.mit.edu">MIT alumni e-mail</a>
+ *   or <a href="mailto:Tarquin.AZ@gmail.com">Gmail</a>
+ * @since 1.5
+ */
+@FunctionalInterface
+public interface TokenFactory<T extends Numeric> {
+    /**
+     * Convert a token to a numeric value.
+     * @param chars  the buffer containing the token
+     * @param offset the offset of the first character of the token
+     * @param length the number of characters in the token
+     * @return the value represented by the token
+     * @throws NumberFormatException    if the token is not a valid numeric value
+     * @throws IllegalArgumentException if the token cannot be interpreted as the target type
+     */
+    T create(char[] chars, int offset, int length);
+
+    /**
+     * Convert a token to a numeric value.
+     * @param token the token
+     * @return the value represented by {@code token}
+     */
+    default T create(String token) {
+        return create(token.toCharArray(), 0, token.length());
+    }
+
+    /**
+     * Obtain a factory for the given {@link Numeric} subtype.  Integer, rational,
+     * real and complex types have dedicated factories; any other type falls back
+     * to its {@code String}-based constructor, which is looked up once and cached
+     * in the returned factory.  Except for integers, every generated value is
+     * assigned the given {@code MathContext}.
+     * @param type the interface type of the values to produce
+     * @param mctx the {@code MathContext} to assign to parsed values
+     * @return a factory for values of {@code type}
+     * @param <T> the type of values to produce
+     */
+    @SuppressWarnings("unchecked")
+    static <T extends Numeric> TokenFactory<T> forType(Class<T> type, MathContext mctx) {
+        if (!type.isInterface()) {
+            throw new IllegalArgumentException("Type argument must not be a concrete class");
+        }
+        if (IntegerType.class.isAssignableFrom(type)) {
+            return (chars, offset, length) -> {
+                if (length > 0 && length < 19 && isPlainInteger(chars, offset, length)) {
+                    return (T) new IntegerImpl(BigInteger.valueOf(Long.parseLong(CharBuffer.wrap(chars), offset, offset + length, 10)));
+                }
+                return (T) new IntegerImpl(new String(chars, offset, length));
+            };
+        } else if (RealType.class.isAssignableFrom(type)) {
+            return (chars, offset, length) -> {
+                if (isPlainDecimal(chars, offset, length)) {
+                    return (T) new RealImpl(new BigDecimal(chars, offset, length), mctx);
+                }
+                // grouping separators, Unicode minus signs and infinities all take the slow path
+                T value = OptionalOperations.dynamicInstantiate(type, new String(chars, offset, length));
+                OptionalOperations.setMathContext(value, mctx);
+                return value;
+            };
+        } else if (RationalType.class.isAssignableFrom(type)) {
+            return (chars, offset, length) -> (T) new RationalImpl(new String(chars, offset, length), mctx);
+        } else if (ComplexType.class.isAssignableFrom(type)) {
+            return (chars, offset, length) -> {
+                final String token = new String(chars, offset, length);
+                try {
+                    ComplexRectImpl value = new ComplexRectImpl(token);
+                    value.setMathContext(mctx);
+                    return (T) value;
+                } catch (Exception ex) {
+                    // check if it's formatted as a polar value
+                    return (T) new ComplexPolarImpl(token, mctx);
+                }
+            };
+        }
+        final Constructor<? extends T> constructor;
+        try {
+            constructor = ClassTools.reify(type).getConstructor(String.class);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalArgumentException("No String-based constructor for " + type.getTypeName(), e);
+        }
+        return (chars, offset, length) -> {
+            try {
+                T value = constructor.newInstance(new String(chars, offset, length));
+                OptionalOperations.setMathContext(value, mctx);
+                return value;
+            } catch (InstantiationException | IllegalAccessException | InvocationTargetException fatal) {
+                throw new IllegalStateException("Fatal error while using constructor for a Numeric subclass", fatal);
+            }
+        };
+    }
+
+    /**
+     * Determine whether a token consists solely of ASCII digits, optionally preceded
+     * by a sign, and can therefore be parsed without any sanitizing.
+     * @param chars  the buffer containing the token
+     * @param offset the offset of the token
+     * @param length the length of the token
+     * @return true if the token is a plain integer
+     */
+    private static boolean isPlainInteger(char[] chars, int offset, int length) {
+        int k = offset;
+        final int end = offset + length;
+        if (chars[k] == '-' || chars[k] == '+') k++;
+        if (k == end) return false;
+        for (; k < end; k++) {
+            if (chars[k] < '0' || chars[k] > '9') return false;
+        }
+        return true;
+    }
+
+    /**
+     * Determine whether a token contains only the ASCII characters that
+     * {@link BigDecimal} can parse directly, i.e., digits, signs, a decimal
+     * point and an exponent marker.
+     * @param chars  the buffer containing the token
+     * @param offset the offset of the token
+     * @param length the length of the token
+     * @return true if the token can be handed to {@link BigDecimal} as-is
+     */
+    private static boolean isPlainDecimal(char[] chars, int offset, int length) {
+        if (length == 0) return false;
+        final int end = offset + length;
+        for (int k = offset; k < end; k++) {
+            final char c = chars[k];
+            if ((c < '0' || c > '9') && c != '.' && c != '-' && c != '+' && c != 'e' && c != 'E') return false;
+        }
+        return true;
+    }
+}
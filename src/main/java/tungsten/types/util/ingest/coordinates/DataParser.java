@@ -30,15 +30,15 @@ import tungsten.types.functions.support.Coordinates;
 import tungsten.types.functions.support.Coordinates2D;
 import tungsten.types.functions.support.Coordinates3D;
 import tungsten.types.numerics.RealType;
-import tungsten.types.numerics.impl.RealImpl;
+import tungsten.types.util.ingest.LineTokenizer;
+import tungsten.types.util.ingest.RowBlockReader;
+import tungsten.types.util.ingest.TokenFactory;
 
 import java.io.*;
 import java.math.MathContext;
 import java.net.URISyntaxException;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
-import java.nio.file.Files;
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.logging.Level;
@@ -57,14 +57,16 @@ import java.util.logging.Logger;
  *         does not end in &ldquo;.data&rdquo; &mdash; note that file name extensions
  *         are not currently enforced, but may be in the future.</li>
  * </ul>
+ * Files are memory-mapped and parsed in parallel blocks of rows; see {@link RowBlockReader}.
  *
  * @author Robert Poole, <a href="mailto:tarquin@alum.mit.edu">MIT alumni e-mail</a>
  *   or <a href="mailto:Tarquin.AZ+Tungsten@gmail.com">Gmail</a>
  * @since 0.7
  */
 public class DataParser {
-    private final MathContext mctx;
     private final CurveType readDatumAs;
+    private final TokenFactory<RealType> factory;
+    private final RowBlockReader<Coordinates> rowReader;
 
     /**
      * Construct a parser for data in textual format.
@@ -72,8 +74,10 @@ public class DataParser {
      * @param readDatumAs the class of curve we are trying to parse
      */
     public DataParser(MathContext ctx, CurveType readDatumAs) {
-        this.mctx = ctx;
         this.readDatumAs = readDatumAs;
+        this.factory = TokenFactory.forType(RealType.class, ctx);
+        this.rowReader = new RowBlockReader<>(() -> LineTokenizer.delimitedBy('|'), true,
+                tokens -> fromArray(convert(tokens)));
     }
 
     /**
@@ -84,7 +88,7 @@ public class DataParser {
      */
     public List<Coordinates> read(InputStream input) {
         try (BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
-            return innerRead(reader);
+            return rowReader.read(reader);
         } catch (IOException e) {
             throw new IllegalStateException("While reading data from InputStream", e);
         }
@@ -106,8 +110,8 @@ public class DataParser {
             Logger.getLogger(DataParser.class.getName()).log(Level.WARNING,
                     "Unknown file extension for {0}.", file.getName());
         }
-        try (BufferedReader reader = Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8)) {
-            return innerRead(reader);
+        try {
+            return rowReader.read(file);
         } catch (SecurityException se) {
             Logger.getLogger(DataParser.class.getName()).log(Level.SEVERE,
                     "Unable to access {0} in file system.", file.getName());
@@ -142,19 +146,6 @@ public class DataParser {
         }
     }
 
-    private List<Coordinates> innerRead(BufferedReader reader) {
-        final String delimiter = "\\s*\\|\\s*";
-        List<Coordinates> result = new ArrayList<>();
-        reader.lines().takeWhile(line -> !line.isBlank())
-                .map(this::stripBOM)
-                .filter(line -> !line.startsWith("#")) // ignore comments
-                .map(line -> line.split(delimiter))
-                .map(this::convert)
-                .map(this::fromArray)
-                .forEachOrdered(result::add);
-        return result;
-    }
-
     private Coordinates fromArray(RealType[] values) {
         switch (readDatumAs) {
             case CURVE_2D:
@@ -176,22 +167,14 @@ public class DataParser {
         }
     }
 
-    private RealType[] convert(String[] tokens) {
-        RealType[] converted = new RealType[tokens.length];
-        final int lastToken = tokens.length - 1;
+    private RealType[] convert(LineTokenizer tokens) {
+        final char[] chars = tokens.chars();
+        RealType[] converted = new RealType[tokens.count()];
 
-        tokens[lastToken] = tokens[lastToken].stripTrailing(); // in case of trailing whitespace
-        for (int i = 0; i < tokens.length; i++) {
-            converted[i] = new RealImpl(tokens[i], mctx);
+        for (int i = 0; i < converted.length; i++) {
+            converted[i] = factory.create(chars, tokens.start(i), tokens.length(i));
         }
 
         return converted;
     }
-
-    private String stripBOM(String original) {
-        if (original.startsWith("\ufeff")) {
-            original = original.substring(1); // throw away the initial BOM character
-        }
-        return original.stripLeading();  // remove initial whitespace, if any
-    }
 }
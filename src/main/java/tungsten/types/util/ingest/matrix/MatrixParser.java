@@ -27,10 +27,10 @@ import tungsten.types.Matrix;
 import tungsten.types.Numeric;
 import tungsten.types.matrix.impl.BasicMatrix;
 import tungsten.types.numerics.ComplexType;
-import tungsten.types.numerics.IntegerType;
-import tungsten.types.numerics.impl.ComplexPolarImpl;
-import tungsten.types.numerics.impl.ComplexRectImpl;
-import tungsten.types.util.OptionalOperations;
+import tungsten.types.util.ingest.LineTokenizer;
+import tungsten.types.util.ingest.RowBlockReader;
+import tungsten.types.util.ingest.TokenFactory;
+import tungsten.types.vector.RowVector;
 import tungsten.types.vector.impl.ArrayRowVector;
 
 import java.io.*;
@@ -39,7 +39,7 @@ import java.math.MathContext;
 import java.net.URISyntaxException;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
-import java.nio.file.Files;
+import java.util.List;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -61,6 +61,10 @@ import java.util.logging.Logger;
  *         does not end in &ldquo;.matrix&rdquo; &mdash; note that file name extensions
  *         are not currently enforced, but may be in the future.</li>
  * </ul>
+ * Files are memory-mapped and their rows parsed in parallel blocks, while streams
+ * are parsed sequentially; in both cases, rows are split by a {@link LineTokenizer}
+ * rather than a regular expression, and values are generated by a {@link TokenFactory}
+ * which is resolved once per parser rather than reflectively for every element.
  *
  * @param <T> the {@link Numeric} subtype for the matrices generated by this parser
  * @author Robert Poole, <a href="mailto:tarquin@alum.mit.edu">MIT alumni e-mail</a>
@@ -69,7 +73,8 @@ import java.util.logging.Logger;
  */
 public class MatrixParser<T extends Numeric> {
     private final Class<T> matrixType;
-    private final MathContext mctx;
+    private final TokenFactory<T> factory;
+    private final RowBlockReader<RowVector<T>> rowReader;
 
     /**
      * Instantiate a matrix parser for a given {@code MathContext} and a given
@@ -81,8 +86,14 @@ public class MatrixParser<T extends Numeric> {
         if (!type.isInterface()) {
             throw new IllegalArgumentException("Type argument must not be a concrete class");
         }
-        this.mctx = mctx;
         this.matrixType = type;
+        this.factory = TokenFactory.forType(type, mctx);
+        if (ComplexType.class.isAssignableFrom(type)) {
+            // pipe delimited with optional whitespace
+            this.rowReader = new RowBlockReader<>(() -> LineTokenizer.delimitedBy('|'), false, this::convert);
+        } else {
+            this.rowReader = new RowBlockReader<>(LineTokenizer::whitespaceDelimited, false, this::convert);
+        }
     }
 
     /**
@@ -93,10 +104,7 @@ public class MatrixParser<T extends Numeric> {
      */
     public Matrix<T> read(InputStream input) {
         try (BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
-            if (ComplexType.class.isAssignableFrom(matrixType)) {
-                return cplxRead(reader);
-            }
-            return innerRead(reader);
+            return assemble(rowReader.read(reader));
         } catch (IOException e) {
             throw new IllegalStateException("While reading matrix from InputStream", e);
         }
@@ -118,11 +126,8 @@ public class MatrixParser<T extends Numeric> {
             Logger.getLogger(MatrixParser.class.getName()).log(Level.WARNING,
                     "Unknown file extension for {0}.", file.getName());
         }
-        try (BufferedReader reader = Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8)) {
-            if (ComplexType.class.isAssignableFrom(matrixType)) {
-                return cplxRead(reader);
-            }
-            return innerRead(reader);
+        try {
+            return assemble(rowReader.read(file));
         } catch (SecurityException se) {
             Logger.getLogger(MatrixParser.class.getName()).log(Level.SEVERE,
                     "Unable to access {0} in file system.", file.getName());
@@ -132,63 +137,34 @@ public class MatrixParser<T extends Numeric> {
         }
     }
 
-    private Matrix<T> innerRead(BufferedReader reader) {
-        final String delimiter = "\\s+";
-        BasicMatrix<T> result = new BasicMatrix<>();
-        reader.lines().takeWhile(line -> !line.isBlank())
-                .map(this::stripBOM)
-                .map(line -> line.split(delimiter))
-                .map(this::convert)
-                .map(ArrayRowVector::new)
-                .forEachOrdered(result::append);
-        return result;
-    }
-
-    private T[] convert(String[] tokens) {
-        final boolean notAnInteger = !IntegerType.class.isAssignableFrom(matrixType);
-        T[] converted = (T[]) Array.newInstance(matrixType, tokens.length);
-
-        for (int i = 0; i < tokens.length; i++) {
-            converted[i] = OptionalOperations.dynamicInstantiate(matrixType, tokens[i]);
-            if (notAnInteger) OptionalOperations.setMathContext(converted[i], mctx);
-        }
-
-        return converted;
-    }
-
-    private String stripBOM(String original) {
-        if (original.startsWith("\ufeff")) {
-            original = original.substring(1); // throw away the initial BOM character
+    /**
+     * Construct a matrix directly from its parsed rows, ensuring that
+     * all rows have the same number of columns.
+     * @param rows the parsed rows, which become the backing store of the matrix
+     * @return a matrix consisting of {@code rows}
+     */
+    private Matrix<T> assemble(List<RowVector<T>> rows) {
+        if (!rows.isEmpty()) {
+            final long columns = rows.get(0).columns();
+            for (int k = 1; k < rows.size(); k++) {
+                if (rows.get(k).columns() != columns) {
+                    throw new IllegalArgumentException("Expected a row vector with " + columns +
+                            " columns, but received one with " + rows.get(k).columns() + " instead (row " + k + ")");
+                }
+            }
         }
-        return original.stripLeading();  // remove initial whitespace, if any
-    }
-
-    private Matrix<T> cplxRead(BufferedReader reader) {
-        final String delimiter = "\\s*\\|\\s*"; // pipe delimited with optional whitespace
-        BasicMatrix<ComplexType> result = new BasicMatrix<>();
-        reader.lines().takeWhile(line -> !line.isBlank())
-                .map(this::stripBOM)
-                .map(line -> line.split(delimiter))
-                .map(this::convertCplx)
-                .map(ArrayRowVector::new)
-                .forEachOrdered(result::append);
-        return (Matrix<T>) result;  // we know T is ComplexType, or we wouldn't be here
+        return new BasicMatrix<>(rows);
     }
 
-    private ComplexType[] convertCplx(String[] tokens) {
-        ComplexType[] converted = new ComplexType[tokens.length];
+    private RowVector<T> convert(LineTokenizer tokens) {
+        final char[] chars = tokens.chars();
+        T[] converted = (T[]) Array.newInstance(matrixType, tokens.count());
 
-        for (int i = 0; i < tokens.length; i++) {
-            try {
-                converted[i] = new ComplexRectImpl(tokens[i]);
-            } catch (Exception ex) {
-                // check if it's formatted as a polar value
-                converted[i] = new ComplexPolarImpl(tokens[i]);
-            }
-            OptionalOperations.setMathContext(converted[i], mctx);
+        for (int i = 0; i < converted.length; i++) {
+            converted[i] = factory.create(chars, tokens.start(i), tokens.length(i));
         }
 
-        return converted;
+        return new ArrayRowVector<>(converted);
     }
 
     /**
@@ -22,6 +22,11 @@
  *     <li>{@link tungsten.types.util.CombiningIterator}, an {@link java.util.Iterator} designed to combine two
  *       iterations into one</li>
  *     <li>{@link tungsten.types.util.LRUCache}, a least-recently-used cache with configurable size</li>
+ *     <li>{@link tungsten.types.util.ElementaryFunctions}, argument-reduced {@link java.math.BigDecimal}
+ *       kernels for exp, ln, real powers, roots, the circular functions and the arctangent</li>
+ *     <li>{@link tungsten.types.util.ConstantCache}, which consults an optional persistent
+ *       {@link tungsten.types.util.ConstantStore} (such as a {@link tungsten.types.util.DirectoryConstantStore})
+ *       before computing expensive constants</li>
  *     <li>{@link tungsten.types.util.GosperTermIterator}, used for arithmetic operations on continued
  *       fractions by consuming two {@code Iterator<Long>} instances and returning a third</li>
  *     <li>{@link tungsten.types.util.RationalCFTermAdapter}, used for incorporating rational values in
@@ -30,6 +30,7 @@ import tungsten.types.functions.ArgMap;
 import tungsten.types.functions.ArgVector;
 import tungsten.types.functions.NumericFunction;
 import tungsten.types.functions.Term;
+import tungsten.types.functions.impl.CubicSpline;
 import tungsten.types.functions.impl.Polynomial;
 import tungsten.types.functions.support.Coordinates;
 import tungsten.types.functions.support.Coordinates2D;
@@ -41,6 +42,7 @@ import tungsten.types.util.ingest.coordinates.DataParser;
 
 import java.math.BigDecimal;
 import java.math.MathContext;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
@@ -181,6 +183,86 @@ public class DataFittingTest {
         assertEquals(slope2, linearTerm.coefficient(), "Slopes should match");
     }
 
+    @Test
+    public void incrementalSlidingWindow() {
+        final int windowSize = 6;
+        IncrementalCurveFitter incremental = new IncrementalCurveFitter("linear fit", windowSize);
+        incremental.addAll(anscombe1);
+        assertEquals(windowSize, incremental.size());
+        NumericFunction<RealType, RealType> windowed = incremental.fit();
+        List<Coordinates> recent = anscombe1.subList(anscombe1.size() - windowSize, anscombe1.size());
+        NumericFunction<RealType, RealType> batch = new CurveFitter(recent).fitToData("linear fit");
+        assertEquals(batch.toString(), windowed.toString(), "Sliding window should match a batch fit of the same data");
+
+        IncrementalCurveFitter unbounded = new CurveFitter(anscombe1).toIncremental("linear fit", 0);
+        anscombe1.subList(0, anscombe1.size() - windowSize).forEach(unbounded::remove);
+        assertEquals(batch.toString(), unbounded.fit().toString(), "Removal should exactly undo accumulation");
+    }
+
+    @Test
+    public void incrementalRejectionAndPrecisionRecovery() {
+        final MathContext ctx = MathContext.DECIMAL64;
+        IncrementalCurveFitter weighted = new IncrementalCurveFitter("weighted linear fit", 3);
+        for (int x = 0; x < 3; x++) {
+            weighted.add(new Coordinates2D(new RealImpl(BigDecimal.valueOf(x), ctx),
+                    new RealImpl(BigDecimal.valueOf(2L * x + 1L), ctx), new RealImpl("0.5", ctx)));
+        }
+        final String before = weighted.fit().toString();
+        // a datum without a standard deviation cannot be weighted, and must leave the fitter untouched
+        Coordinates2D unweighted = new Coordinates2D(new RealImpl("3", ctx), new RealImpl("7", ctx));
+        assertThrows(ArithmeticException.class, () -> weighted.add(unweighted));
+        assertEquals(3L, weighted.size());
+        assertEquals(before, weighted.fit().toString());
+        assertFalse(weighted.remove(unweighted), "A rejected datum must not be in the window");
+        for (int x = 3; x < 6; x++) {
+            weighted.add(new Coordinates2D(new RealImpl(BigDecimal.valueOf(x), ctx),
+                    new RealImpl(BigDecimal.valueOf(2L * x + 1L), ctx), new RealImpl("0.5", ctx)));
+        }
+        assertEquals(3L, weighted.size());
+
+        // once a low-precision datum slides out of the window, fits regain full precision
+        IncrementalCurveFitter fitter = new IncrementalCurveFitter("linear fit", 3);
+        final MathContext low = new MathContext(3);
+        fitter.add(new Coordinates2D(new RealImpl(BigDecimal.ZERO, low), new RealImpl(BigDecimal.ONE, low)));
+        for (int x = 1; x < 4; x++) {
+            fitter.add(new Coordinates2D(new RealImpl(BigDecimal.valueOf(x), ctx),
+                    new RealImpl(BigDecimal.valueOf(x).divide(BigDecimal.valueOf(3L), ctx), ctx)));
+        }
+        List<Coordinates> recent = new ArrayList<>();
+        for (int x = 1; x < 4; x++) {
+            recent.add(new Coordinates2D(new RealImpl(BigDecimal.valueOf(x), ctx),
+                    new RealImpl(BigDecimal.valueOf(x).divide(BigDecimal.valueOf(3L), ctx), ctx)));
+        }
+        assertEquals(new CurveFitter(recent).fitToData("linear fit").toString(), fitter.fit().toString(),
+                "Evicting the low-precision datum should restore the precision of the remaining data");
+    }
+
+    @Test
+    public void cubicSplineInterpolates() {
+        CurveFitter fitter = new CurveFitter(anscombe1);
+        NumericFunction<RealType, RealType> curve = fitter.fitToData("cubic splines");
+        assertInstanceOf(CubicSpline.class, curve);
+        CubicSpline spline = (CubicSpline) curve;
+        List<RealType> xvals = anscombe1.stream().map(c -> c.getOrdinate(0)).collect(Collectors.toList());
+        List<RealType> yvals = spline.evaluate(xvals);
+        for (int i = 0; i < xvals.size(); i++) {
+            assertTrue(MathUtils.areEqualToWithin(anscombe1.get(i).getValue(), yvals.get(i), EPSILON),
+                    "Spline should pass through every control point");
+            assertEquals(spline.apply(xvals.get(i)), yvals.get(i), "Batch and single evaluation should agree");
+        }
+        // a not-a-knot spline reproduces a cubic exactly
+        final MathContext ctx = MathContext.DECIMAL64;
+        List<Coordinates2D> cubic = new ArrayList<>();
+        for (int x = -3; x <= 4; x++) {
+            cubic.add(new Coordinates2D(new RealImpl(BigDecimal.valueOf(x), ctx),
+                    new RealImpl(BigDecimal.valueOf(2L * x * x * x - x + 5L), ctx)));
+        }
+        CubicSpline nak = new CubicSpline(cubic, CubicSpline.BoundaryCondition.NOT_A_KNOT);
+        RealType x = new RealImpl("1.5", ctx);
+        RealType expected = new RealImpl("10.25", ctx);
+        assertTrue(MathUtils.areEqualToWithin(expected, nak.apply(x), EPSILON));
+    }
+
     @Test
     public void andNowForTheSigmas() {
         List<Coordinates2D> reduced = CurveFitter.reduce(anscombe4, 0);
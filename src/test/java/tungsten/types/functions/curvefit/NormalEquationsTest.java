@@ -0,0 +1,194 @@
+/*
+ * The MIT License
+ *
+ * Copyright © 2026 Robert Poole <Tarquin.AZ@gmail.com>.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ */
+
+package tungsten.types.functions.curvefit;
+
+import org.junit.jupiter.api.Test;
+import tungsten.types.functions.NumericFunction;
+import tungsten.types.functions.Term;
+import tungsten.types.functions.impl.Polynomial;
+import tungsten.types.functions.support.Coordinates;
+import tungsten.types.functions.support.Coordinates2D;
+import tungsten.types.functions.support.Coordinates3D;
+import tungsten.types.numerics.RealType;
+import tungsten.types.numerics.impl.RealImpl;
+import tungsten.types.vector.ColumnVector;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.LinkedList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class NormalEquationsTest {
+    private static final MathContext CTX = MathContext.DECIMAL64;
+    private static final BigDecimal TOLERANCE = new BigDecimal("1E-14");
+
+    private static RealType real(String value) {
+        return new RealImpl(value, CTX);
+    }
+
+    private static void assertCoefficients(String[] expected, ColumnVector<RealType> actual) {
+        assertEquals(expected.length, actual.length());
+        for (int k = 0; k < expected.length; k++) {
+            final BigDecimal difference = new BigDecimal(expected[k]).subtract(actual.elementAt(k).asBigDecimal());
+            assertTrue(difference.abs().compareTo(TOLERANCE) <= 0,
+                    "Coefficient " + k + ": expected " + expected[k] + " but got " + actual.elementAt(k));
+        }
+    }
+
+    /**
+     * Find the coefficient of x<sup>i</sup>y<sup>j</sup> in a fitted polynomial.
+     */
+    private static BigDecimal coefficientOf(NumericFunction<RealType, RealType> fit, long xOrder, long yOrder) {
+        assertInstanceOf(Polynomial.class, fit);
+        for (Term<RealType, RealType> term : (Polynomial<RealType, RealType>) fit) {
+            if (term.order("x") == xOrder && term.order("y") == yOrder) return term.coefficient().asBigDecimal();
+        }
+        return BigDecimal.ZERO;
+    }
+
+    private static void assertClose(String expected, BigDecimal actual) {
+        assertTrue(new BigDecimal(expected).subtract(actual).abs().compareTo(TOLERANCE) <= 0,
+                "Expected " + expected + " but got " + actual);
+    }
+
+    @Test
+    public void polynomialFitsRecoverCoefficients() {
+        List<Coordinates2D> line = new LinkedList<>();
+        List<Coordinates2D> parabola = new LinkedList<>();
+        for (int x = -3; x <= 6; x++) {
+            final BigDecimal xval = BigDecimal.valueOf(x);
+            line.add(new Coordinates2D(new RealImpl(xval, CTX), new RealImpl(new BigDecimal("0.75").multiply(xval).add(new BigDecimal("2.5")), CTX)));
+            parabola.add(new Coordinates2D(new RealImpl(xval, CTX),
+                    new RealImpl(new BigDecimal("0.5").multiply(xval).multiply(xval).subtract(xval.multiply(BigDecimal.valueOf(2L))).add(BigDecimal.ONE), CTX)));
+        }
+        assertCoefficients(new String[] {"2.5", "0.75"}, RegressionHelper.polynomialLeastSquares(line, 1, false));
+        assertCoefficients(new String[] {"1", "-2", "0.5"}, RegressionHelper.polynomialLeastSquares(parabola, 2, false));
+
+        NumericFunction<RealType, RealType> linearFit = new CurveFitter(line).fitToData("linear fit");
+        assertClose("2.5", coefficientOf(linearFit, 0L, 0L));
+        assertClose("0.75", coefficientOf(linearFit, 1L, 0L));
+        NumericFunction<RealType, RealType> parabolicFit = new CurveFitter(parabola).fitToData("parabolic fit");
+        assertClose("1", coefficientOf(parabolicFit, 0L, 0L));
+        assertClose("-2", coefficientOf(parabolicFit, 1L, 0L));
+        assertClose("0.5", coefficientOf(parabolicFit, 2L, 0L));
+    }
+
+    @Test
+    public void weightedFitHonorsSigma() {
+        // weights 4, 1, 1 give y = 8/7 + 5x/7, where an unweighted fit gives y = 3/2 + x/2
+        List<Coordinates2D> data = List.of(
+                new Coordinates2D(real("0"), real("1"), real("0.5")),
+                new Coordinates2D(real("1"), real("3"), real("1")),
+                new Coordinates2D(real("2"), real("2"), real("1")));
+        final String a = "1.142857142857142857";
+        final String b = "0.714285714285714286";
+        assertCoefficients(new String[] {a, b}, RegressionHelper.polynomialLeastSquares(data, 1, true));
+        assertCoefficients(new String[] {"1.5", "0.5"}, RegressionHelper.polynomialLeastSquares(data, 1, false));
+        NumericFunction<RealType, RealType> fit = new CurveFitter(data).fitToData("weighted linear fit");
+        assertClose(a, coefficientOf(fit, 0L, 0L));
+        assertClose(b, coefficientOf(fit, 1L, 0L));
+    }
+
+    @Test
+    public void surfaceAndMultidimensionalFits() {
+        List<Coordinates3D> surface = new LinkedList<>();
+        List<Coordinates3D> plane = new LinkedList<>();
+        for (int x = -1; x <= 2; x++) {
+            for (int y = 0; y <= 2; y++) {
+                final BigDecimal xval = BigDecimal.valueOf(x);
+                final BigDecimal yval = BigDecimal.valueOf(y);
+                // z = 1 + 2x - 3y + xy/2
+                final BigDecimal z = BigDecimal.ONE.add(xval.multiply(BigDecimal.valueOf(2L))).subtract(yval.multiply(BigDecimal.valueOf(3L)))
+                        .add(xval.multiply(yval).multiply(new BigDecimal("0.5")));
+                surface.add(new Coordinates3D(new RealImpl(xval, CTX), new RealImpl(yval, CTX), new RealImpl(z, CTX)));
+                // w = 4 - x + 2y
+                final BigDecimal w = BigDecimal.valueOf(4L).subtract(xval).add(yval.multiply(BigDecimal.valueOf(2L)));
+                plane.add(new Coordinates3D(new RealImpl(xval, CTX), new RealImpl(yval, CTX), new RealImpl(w, CTX)));
+            }
+        }
+        assertCoefficients(new String[] {"1", "2", "-3", "0.5"}, RegressionHelper.surfaceLeastSquares(surface));
+        NumericFunction<RealType, RealType> fit = new CurveFitter(surface).fitToData("simple 3D fit");
+        assertClose("1", coefficientOf(fit, 0L, 0L));
+        assertClose("2", coefficientOf(fit, 1L, 0L));
+        assertClose("-3", coefficientOf(fit, 0L, 1L));
+        assertClose("0.5", coefficientOf(fit, 1L, 1L));
+        assertCoefficients(new String[] {"4", "-1", "2"}, RegressionHelper.multiLeastSquares(plane));
+    }
+
+    @Test
+    public void lowestPrecisionGovernsResult() {
+        List<Coordinates2D> data = new LinkedList<>();
+        for (int x = 0; x < 5; x++) {
+            data.add(new Coordinates2D(new RealImpl(BigDecimal.valueOf(x), CTX), new RealImpl(BigDecimal.valueOf(3L * x + 1L), CTX)));
+        }
+        assertEquals(CTX.getPrecision(), RegressionHelper.polynomialLeastSquares(data, 1, false).elementAt(0L).getMathContext().getPrecision());
+        data.add(new Coordinates2D(new RealImpl("5", MathContext.DECIMAL32), new RealImpl("16", MathContext.DECIMAL32)));
+        ColumnVector<RealType> beta = RegressionHelper.polynomialLeastSquares(data, 1, false);
+        assertEquals(MathContext.DECIMAL32.getPrecision(), beta.elementAt(0L).getMathContext().getPrecision());
+        assertCoefficients(new String[] {"1", "3"}, beta);
+    }
+
+    @Test
+    public void removalRestoresSums() {
+        NormalEquations system = new NormalEquations(2);
+        final BigDecimal[][] rows = {{BigDecimal.ONE, BigDecimal.ZERO}, {BigDecimal.ONE, BigDecimal.ONE}, {BigDecimal.ONE, BigDecimal.valueOf(2L)}};
+        final BigDecimal[] y = {BigDecimal.ONE, new BigDecimal("2.5"), new BigDecimal("4")};
+        for (int k = 0; k < rows.length; k++) system.accumulate(rows[k], y[k], null);
+        final ColumnVector<RealType> before = system.solve(CTX);
+        system.accumulate(new BigDecimal[] {BigDecimal.ONE, BigDecimal.TEN}, new BigDecimal("-7.125"), new BigDecimal("0.25"));
+        assertEquals(4L, system.count());
+        system.remove(new BigDecimal[] {BigDecimal.ONE, BigDecimal.TEN}, new BigDecimal("-7.125"), new BigDecimal("0.25"));
+        assertEquals(before, system.solve(CTX));
+        assertCoefficients(new String[] {"1", "1.5"}, before);
+        assertThrows(IllegalArgumentException.class, () -> system.accumulate(new BigDecimal[] {BigDecimal.ONE}, BigDecimal.ONE, null));
+        system.clear();
+        assertThrows(IllegalStateException.class, () -> system.remove(rows[0], y[0], null));
+        assertThrows(IllegalArgumentException.class, () -> new NormalEquations(0));
+    }
+
+    @Test
+    public void rankDeficientDataIsRejected() {
+        // every x is the same, so the slope is undetermined
+        List<Coordinates2D> vertical = List.of(
+                new Coordinates2D(real("2"), real("1")),
+                new Coordinates2D(real("2"), real("5")),
+                new Coordinates2D(real("2"), real("3")));
+        assertThrows(ArithmeticException.class, () -> RegressionHelper.polynomialLeastSquares(vertical, 1, false));
+        // too few observations for the number of coefficients
+        assertThrows(ArithmeticException.class, () -> RegressionHelper.polynomialLeastSquares(vertical.subList(0, 2), 2, false));
+        // points on the line y = x cannot separate the x, y and xy terms
+        List<Coordinates3D> diagonal = new LinkedList<>();
+        for (int t = 0; t < 6; t++) {
+            diagonal.add(new Coordinates3D(new RealImpl(BigDecimal.valueOf(t), CTX), new RealImpl(BigDecimal.valueOf(t), CTX),
+                    new RealImpl(BigDecimal.valueOf(t * t + 1L), CTX)));
+        }
+        assertThrows(ArithmeticException.class, () -> RegressionHelper.surfaceLeastSquares(diagonal));
+        List<Coordinates> collinear = List.copyOf(diagonal);
+        assertThrows(ArithmeticException.class, () -> RegressionHelper.multiLeastSquares(collinear));
+    }
+}
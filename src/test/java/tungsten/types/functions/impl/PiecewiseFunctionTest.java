@@ -0,0 +1,110 @@
+/*
+ * The MIT License
+ *
+ * Copyright © 2026 Robert Poole <Tarquin.AZ@gmail.com>.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ */
+
+package tungsten.types.functions.impl;
+
+import org.junit.jupiter.api.Test;
+import tungsten.types.Range;
+import tungsten.types.numerics.RealType;
+import tungsten.types.numerics.impl.RealImpl;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PiecewiseFunctionTest {
+    private final MathContext mctx = MathContext.DECIMAL64;
+    private final RealType zero = new RealImpl(BigDecimal.ZERO, mctx);
+    private final RealType one = new RealImpl(BigDecimal.ONE, mctx);
+
+    private RealType real(String value) {
+        return new RealImpl(value, mctx);
+    }
+
+    /**
+     * Build a sawtooth from contiguous half-open ranges [k, k + 1), each mapped to x &minus; k.
+     */
+    private PiecewiseFunction<RealType, RealType> sawtooth(int pieces) {
+        PiecewiseFunction<RealType, RealType> result = new PiecewiseFunction<>(RealType.class);
+        for (int k = 0; k < pieces; k++) {
+            RealType lower = new RealImpl(BigDecimal.valueOf(k), mctx);
+            Range<RealType> range = new Range<>(lower, Range.BoundType.INCLUSIVE,
+                    new RealImpl(BigDecimal.valueOf(k + 1L), mctx),
+                    k == pieces - 1 ? Range.BoundType.INCLUSIVE : Range.BoundType.EXCLUSIVE);
+            result.addFunctionForRange(range, new CubicSpline2D(zero, one, zero, zero, range));
+        }
+        return result;
+    }
+
+    @Test
+    void contiguousRangesAndLookup() {
+        PiecewiseFunction<RealType, RealType> saw = sawtooth(1000);
+        assertTrue(saw.checkAggregateBounds(), "Touching half-open ranges should pass the bounds check");
+        assertEquals(0, real("0.25").compareTo(saw.apply(real("517.25"))));
+        assertEquals(0, zero.compareTo(saw.apply(real("42"))), "Lower bounds are inclusive");
+        assertEquals(0, one.compareTo(saw.apply(real("1000"))), "The final upper bound is inclusive");
+        assertThrows(IllegalArgumentException.class, () -> saw.apply(real("1000.5")));
+    }
+
+    @Test
+    void batchEvaluationAndMemoization() {
+        PiecewiseFunction<RealType, RealType> saw = sawtooth(50);
+        saw.checkAggregateBounds();
+        List<RealType> args = new ArrayList<>();
+        for (int k = 0; k < 200; k++) args.add(new RealImpl(BigDecimal.valueOf(k, 2).multiply(BigDecimal.valueOf(25L)), mctx));
+        List<RealType> ascending = saw.evaluate(args);
+        Collections.reverse(args);
+        List<RealType> descending = saw.evaluate(args);
+        Collections.reverse(descending);
+        assertEquals(ascending, descending, "Results must not depend on argument order");
+        saw.enableMemoization(16);
+        Collections.reverse(args);
+        for (int k = 0; k < args.size(); k++) {
+            assertEquals(ascending.get(k), saw.apply(args.get(k)));
+            assertEquals(ascending.get(k), saw.apply(args.get(k)), "Memoized result should match");
+        }
+    }
+
+    @Test
+    void memoizationWithLazyTransitionZones() {
+        // the transition zones are computed on first evaluation, which clears the memo
+        RealPiecewiseFunction smoothed = new RealPiecewiseFunction("x", real("0.01"),
+                RealPiecewiseFunction.SmoothingType.LINEAR);
+        for (int k = 0; k < 3; k++) {
+            Range<RealType> range = new Range<>(new RealImpl(BigDecimal.valueOf(k), mctx), Range.BoundType.INCLUSIVE,
+                    new RealImpl(BigDecimal.valueOf(k + 1L), mctx), k == 2 ? Range.BoundType.INCLUSIVE : Range.BoundType.EXCLUSIVE);
+            smoothed.addFunctionForRange(range, new CubicSpline2D(zero, one, zero, zero, range));
+        }
+        assertTrue(smoothed.checkAggregateBounds());
+        smoothed.enableMemoization(16);
+        RealType first = smoothed.apply(real("1.5"));
+        assertEquals(0, real("0.5").compareTo(first));
+        assertEquals(first, smoothed.apply(real("1.5")), "Memoized result should match");
+    }
+}
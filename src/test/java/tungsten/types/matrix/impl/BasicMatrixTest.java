@@ -0,0 +1,184 @@
+/*
+ * The MIT License
+ *
+ * Copyright © 2026 Robert Poole <Tarquin.AZ@gmail.com>.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ */
+
+package tungsten.types.matrix.impl;
+
+import org.junit.jupiter.api.Test;
+import tungsten.types.Matrix;
+import tungsten.types.numerics.IntegerType;
+import tungsten.types.numerics.RealType;
+import tungsten.types.numerics.Sign;
+import tungsten.types.numerics.impl.IntegerImpl;
+import tungsten.types.numerics.impl.RealImpl;
+import tungsten.types.numerics.impl.RealInfinity;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BasicMatrixTest {
+    /**
+     * Shapes (m, k, n) of an m&times;k by k&times;n product: non-square, on both sides
+     * of the tile size, and large enough to be computed in parallel.
+     */
+    private static final int[][] SHAPES = {{1, 1, 1}, {3, 5, 2}, {1, 7, 1}, {7, 1, 6}, {31, 33, 17},
+            {33, 31, 65}, {32, 32, 32}, {40, 50, 37}, {65, 64, 33}};
+
+    private final Random random = new Random(20251017L);
+
+    private RealType[][] randomReals(int rows, int columns, int digits, MathContext mctx) {
+        RealType[][] result = new RealType[rows][columns];
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < columns; j++) {
+                BigInteger unscaled = new BigInteger(digits * 10 / 3, random);
+                if (random.nextBoolean()) unscaled = unscaled.negate();
+                // a few zeros, and a mix of scales within each row and column
+                if (random.nextInt(10) == 0) unscaled = BigInteger.ZERO;
+                result[i][j] = new RealImpl(new BigDecimal(unscaled, random.nextInt(6)), mctx);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * The product computed directly from its definition, with each dot product
+     * accumulated exactly and rounded once.
+     */
+    private static BigDecimal[][] naiveProduct(RealType[][] lhs, RealType[][] rhs, MathContext mctx) {
+        BigDecimal[][] result = new BigDecimal[lhs.length][rhs[0].length];
+        for (int i = 0; i < lhs.length; i++) {
+            for (int j = 0; j < rhs[0].length; j++) {
+                BigDecimal sum = BigDecimal.ZERO;
+                for (int k = 0; k < rhs.length; k++) {
+                    sum = sum.add(lhs[i][k].asBigDecimal().multiply(rhs[k][j].asBigDecimal()));
+                }
+                result[i][j] = sum.round(mctx);
+            }
+        }
+        return result;
+    }
+
+    private static void assertProduct(BigDecimal[][] expected, Matrix<RealType> actual) {
+        assertEquals(expected.length, actual.rows());
+        assertEquals(expected[0].length, actual.columns());
+        for (int i = 0; i < expected.length; i++) {
+            for (int j = 0; j < expected[0].length; j++) {
+                assertEquals(0, expected[i][j].compareTo(actual.valueAt(i, j).asBigDecimal()),
+                        "Element (" + i + ", " + j + ") of a " + expected.length + "\u00D7" + expected[0].length + " product");
+            }
+        }
+    }
+
+    @Test
+    public void realProductMatchesNaive() {
+        final MathContext mctx = MathContext.DECIMAL128;
+        for (int[] shape : SHAPES) {
+            // short values are accumulated in a long pair, long ones in BigInteger
+            for (int digits : new int[] {6, 30}) {
+                RealType[][] lhs = randomReals(shape[0], shape[1], digits, mctx);
+                RealType[][] rhs = randomReals(shape[1], shape[2], digits, mctx);
+                Matrix<RealType> product = new BasicMatrix<>(lhs).multiply(new BasicMatrix<>(rhs));
+                assertProduct(naiveProduct(lhs, rhs, mctx), product);
+                assertTrue(product.valueAt(0L, 0L).isExact());
+            }
+        }
+    }
+
+    @Test
+    public void disparateScalesMatchNaive() {
+        final MathContext mctx = MathContext.DECIMAL64;
+        RealType[][] lhs = randomReals(5, 33, 4, mctx);
+        RealType[][] rhs = randomReals(33, 3, 4, mctx);
+        // too wide a spread of scales to align, so the generic dot product is used
+        lhs[2][7] = new RealImpl(new BigDecimal("1.5E-80"), mctx);
+        rhs[4][1] = new RealImpl(new BigDecimal("2.5E+70"), mctx);
+        Matrix<RealType> product = new BasicMatrix<>(lhs).multiply(new BasicMatrix<>(rhs));
+        BigDecimal[][] expected = naiveProduct(lhs, rhs, mctx);
+        for (int i = 0; i < expected.length; i++) {
+            for (int j = 0; j < expected[0].length; j++) {
+                final BigDecimal actual = product.valueAt(i, j).asBigDecimal();
+                final BigDecimal tolerance = expected[i][j].abs().max(BigDecimal.ONE).movePointLeft(14);
+                assertTrue(expected[i][j].subtract(actual).abs().compareTo(tolerance) <= 0,
+                        "Element (" + i + ", " + j + "): expected " + expected[i][j] + " but got " + actual);
+            }
+        }
+    }
+
+    @Test
+    public void integerProductMatchesNaive() {
+        for (int[] shape : SHAPES) {
+            for (int bits : new int[] {20, 100}) {
+                IntegerType[][] lhs = new IntegerType[shape[0]][shape[1]];
+                IntegerType[][] rhs = new IntegerType[shape[1]][shape[2]];
+                for (IntegerType[] row : lhs) {
+                    for (int k = 0; k < row.length; k++) row[k] = new IntegerImpl(new BigInteger(bits, random).subtract(BigInteger.ONE.shiftLeft(bits - 1)));
+                }
+                for (IntegerType[] row : rhs) {
+                    for (int k = 0; k < row.length; k++) row[k] = new IntegerImpl(new BigInteger(bits, random).subtract(BigInteger.ONE.shiftLeft(bits - 1)));
+                }
+                Matrix<IntegerType> product = new BasicMatrix<>(lhs).multiply(new BasicMatrix<>(rhs));
+                for (int i = 0; i < shape[0]; i++) {
+                    for (int j = 0; j < shape[2]; j++) {
+                        BigInteger sum = BigInteger.ZERO;
+                        for (int k = 0; k < shape[1]; k++) sum = sum.add(lhs[i][k].asBigInteger().multiply(rhs[k][j].asBigInteger()));
+                        assertEquals(sum, product.valueAt(i, j).asBigInteger());
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void infiniteElement() {
+        final MathContext mctx = MathContext.DECIMAL64;
+        RealType[][] lhs = new RealType[3][2];
+        RealType[][] rhs = new RealType[2][2];
+        for (int i = 0; i < 3; i++) {
+            for (int j = 0; j < 2; j++) lhs[i][j] = new RealImpl(BigDecimal.valueOf(i + j + 1L), mctx);
+        }
+        for (int i = 0; i < 2; i++) {
+            for (int j = 0; j < 2; j++) rhs[i][j] = new RealImpl(BigDecimal.valueOf(2L * i + j + 1L), mctx);
+        }
+        lhs[1][0] = RealInfinity.getInstance(Sign.POSITIVE, mctx);
+        Matrix<RealType> product = new BasicMatrix<>(lhs).multiply(new BasicMatrix<>(rhs));
+        assertEquals(RealInfinity.getInstance(Sign.POSITIVE, mctx), product.valueAt(1L, 0L));
+        assertEquals(RealInfinity.getInstance(Sign.POSITIVE, mctx), product.valueAt(1L, 1L));
+        // rows without an infinity are unaffected: (1 2; 3 4) times (1 2; 3 4)
+        assertEquals(0, new BigDecimal("7").compareTo(product.valueAt(0L, 0L).asBigDecimal()));
+        assertEquals(0, new BigDecimal("10").compareTo(product.valueAt(0L, 1L).asBigDecimal()));
+        assertEquals(0, new BigDecimal("15").compareTo(product.valueAt(2L, 0L).asBigDecimal()));
+        assertEquals(0, new BigDecimal("22").compareTo(product.valueAt(2L, 1L).asBigDecimal()));
+    }
+
+    @Test
+    public void incompatibleShapes() {
+        RealType[][] lhs = randomReals(3, 4, 3, MathContext.DECIMAL64);
+        RealType[][] rhs = randomReals(3, 4, 3, MathContext.DECIMAL64);
+        assertThrows(ArithmeticException.class, () -> new BasicMatrix<>(lhs).multiply(new BasicMatrix<>(rhs)));
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * The MIT License
+ *
+ * Copyright © 2026 Robert Poole <Tarquin.AZ@gmail.com>.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ */
+
+package tungsten.types.matrix.impl;
+
+import org.junit.jupiter.api.Test;
+import tungsten.types.Matrix;
+import tungsten.types.functions.curvefit.RegressionHelper;
+import tungsten.types.functions.support.Coordinates2D;
+import tungsten.types.numerics.RealType;
+import tungsten.types.numerics.impl.RealImpl;
+import tungsten.types.util.MathUtils;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DoubleMatrixTest {
+    private static RealType inexact(String value) {
+        return new RealImpl(new BigDecimal(value), MathContext.DECIMAL64, false);
+    }
+
+    private static Matrix<RealType> square(RealType value) {
+        return new BasicMatrix<>(new RealType[][] {{value, value}, {value, value}});
+    }
+
+    @Test
+    public void inexactOperandsArePromoted() {
+        Matrix<RealType> product = MathUtils.efficientMatrixMultiply(square(inexact("1.5")), square(inexact("2")));
+        assertInstanceOf(DoubleMatrix.class, product);
+        assertEquals(0, new BigDecimal("6").compareTo(product.valueAt(1L, 1L).asBigDecimal()));
+    }
+
+    @Test
+    public void productsBeyondDoubleRangeAreNotPromoted() {
+        Matrix<RealType> product = MathUtils.efficientMatrixMultiply(square(inexact("1e200")), square(inexact("1e200")));
+        assertFalse(product instanceof DoubleMatrix);
+        assertEquals(0, new BigDecimal("2e400").compareTo(product.valueAt(0L, 0L).asBigDecimal()));
+
+        product = MathUtils.efficientMatrixMultiply(square(inexact("1e-200")), square(inexact("1e-200")));
+        assertEquals(0, new BigDecimal("2e-400").compareTo(product.valueAt(0L, 1L).asBigDecimal()));
+    }
+
+    @Test
+    public void exactOperandsStayExact() {
+        RealType three = new RealImpl("3", MathContext.DECIMAL64);
+        Matrix<RealType> product = MathUtils.efficientMatrixMultiply(square(three), square(three));
+        assertFalse(product instanceof DoubleMatrix);
+        assertTrue(product.valueAt(0L, 0L).isExact());
+        assertEquals(0, new BigDecimal("18").compareTo(product.valueAt(0L, 0L).asBigDecimal()));
+    }
+
+    @Test
+    public void designMatrixPromotion() {
+        RealType y = new RealImpl("1", MathContext.DECIMAL64);
+        List<Coordinates2D> data = List.of(new Coordinates2D(inexact("0.5"), y), new Coordinates2D(inexact("2"), y));
+        assertInstanceOf(DoubleMatrix.class, RegressionHelper.designMatrixFor(data, 2));
+
+        List<Coordinates2D> exact = List.of(new Coordinates2D(new RealImpl("0.5", MathContext.DECIMAL64), y),
+                new Coordinates2D(new RealImpl("2", MathContext.DECIMAL64), y));
+        Matrix<RealType> design = RegressionHelper.designMatrixFor(exact, 2);
+        assertFalse(design instanceof DoubleMatrix);
+        assertTrue(design.valueAt(1L, 2L).isExact());
+
+        List<Coordinates2D> huge = List.of(new Coordinates2D(inexact("1e100"), y), new Coordinates2D(inexact("2"), y));
+        design = RegressionHelper.designMatrixFor(huge, 2);
+        assertFalse(design instanceof DoubleMatrix);
+        assertEquals(0, new BigDecimal("1e200").compareTo(design.valueAt(0L, 2L).asBigDecimal()));
+    }
+}
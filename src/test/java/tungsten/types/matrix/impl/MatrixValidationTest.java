@@ -10,6 +10,7 @@ import tungsten.types.numerics.RealType;
 import tungsten.types.numerics.impl.IntegerImpl;
 import tungsten.types.numerics.impl.One;
 import tungsten.types.numerics.impl.Pi;
+import tungsten.types.numerics.impl.RationalImpl;
 import tungsten.types.numerics.impl.RealImpl;
 import tungsten.types.util.MathUtils;
 import tungsten.types.util.ingest.matrix.MatrixParser;
@@ -245,8 +246,6 @@ public class MatrixValidationTest {
         assertEquals(500L, fiveHundredB.rows());
         assertEquals(500L, fiveHundredB.columns());
         // Note: matrix dimensions are not a power of 2, but are close to one.
-        // this test will exercise PaddedMatrix code, as well as trimming off
-        // excess zeroes with SubMatrix.
 
         long start = System.currentTimeMillis();
         Matrix<RealType> result1 = fiveHundredA.multiply(fiveHundredB);
@@ -311,6 +310,33 @@ public class MatrixValidationTest {
                 "Matrix multiplication results must be within \uD835\uDF00 of each other");
     }
 
+    /**
+     * The Hilbert matrix is notoriously ill-conditioned, but its inverse has
+     * integer entries, so it makes a good check that elimination over exact
+     * rational values stays exact.
+     */
+    @Test
+    public void exactEliminationOfHilbertMatrix() {
+        final int n = 7;
+        RationalType[][] entries = new RationalType[n][n];
+        for (int j = 0; j < n; j++) {
+            for (int k = 0; k < n; k++) {
+                entries[j][k] = new RationalImpl(BigInteger.ONE, BigInteger.valueOf(j + k + 1L));
+            }
+        }
+        Matrix<RationalType> H = new BasicMatrix<>(entries);
+        RationalType expectedDet = new RationalImpl(BigInteger.ONE, new BigInteger("2067909047925770649600000"));
+        assertEquals(expectedDet, H.determinant());
+        assertEquals(expectedDet, new ColumnarMatrix<>(entries).determinant());
+
+        Matrix<? extends Numeric> Hinv = H.inverse();
+        RowVector<IntegerType> firstRow = new ArrayRowVector<>(new IntegerImpl("49"), new IntegerImpl("-1176"),
+                new IntegerImpl("8820"), new IntegerImpl("-29400"), new IntegerImpl("48510"),
+                new IntegerImpl("-38808"), new IntegerImpl("12012"));
+        assertEquals(firstRow, Hinv.getRow(0L));
+        assertTrue(IdentityMatrix.isIdentityMatrix(((Matrix<Numeric>) Hinv).multiply((Matrix<Numeric>) (Matrix<?>) H)));
+    }
+
     @Test
     public void matrixSquareRoot() {
         DiagonalMatrix<RealType> diagMtx = new DiagonalMatrix<>(new RealImpl("4", MathContext.DECIMAL64),
@@ -344,4 +370,19 @@ public class MatrixValidationTest {
         Matrix<RealType> expected = new BasicMatrix<>(rootSeed);
         assertTrue(MathUtils.areEqualToWithin(expected, (Matrix<RealType>) root2, epsilon));
     }
+
+    @Test
+    public void doubleMatrixAgreesWithWilson() {
+        DoubleMatrix D = new DoubleMatrix(W);
+        RealType epsilon = new RealImpl("0.000001", MathContext.DECIMAL64);
+        assertTrue(MathUtils.areEqualToWithin(new RealImpl(BigDecimal.ONE, MathContext.DECIMAL64), D.determinant(), epsilon),
+                "The determinant of Wilson's matrix should be 1");
+        DoubleMatrix Dinv = D.inverse();
+        long[] firstRow = {68L, -41L, -17L, 10L};
+        for (int k = 0; k < firstRow.length; k++) {
+            assertEquals((double) firstRow[k], Dinv.getDouble(0L, k), 1.0e-9);
+        }
+        DoubleMatrix factor = new DoubleMatrix(Z);
+        assertTrue(MathUtils.areEqualToWithin(D, factor.transpose().multiply(factor), epsilon));
+    }
 }
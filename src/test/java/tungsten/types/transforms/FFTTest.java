@@ -0,0 +1,238 @@
+/*
+ * The MIT License
+ *
+ * Copyright © 2026 Robert Poole <Tarquin.AZ@gmail.com>.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ */
+
+package tungsten.types.transforms;
+
+import org.junit.jupiter.api.Test;
+import tungsten.types.numerics.ComplexType;
+import tungsten.types.numerics.RealType;
+import tungsten.types.numerics.impl.ComplexRectImpl;
+import tungsten.types.numerics.impl.RealImpl;
+import tungsten.types.transforms.util.OverlapAddConvolver;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FFTTest {
+    /**
+     * Lengths covering radix-2, mixed-radix (2, 3, 5) and Bluestein (prime and
+     * composite non-smooth) transforms, including some above the sequential cutoff.
+     */
+    private static final int[] LENGTHS = {1, 2, 3, 4, 5, 6, 7, 8, 11, 12, 13, 30, 49, 64, 77, 97, 360, 1009, 2048, 3000, 2053};
+
+    private final Random random = new Random(20251016L);
+
+    private double[] randomArray(int n) {
+        double[] result = new double[n];
+        for (int k = 0; k < n; k++) result[k] = 2.0 * random.nextDouble() - 1.0;
+        return result;
+    }
+
+    /**
+     * The DFT computed directly from its definition, X<sub>k</sub> = &sum; x<sub>j</sub>&#x212f;<sup>&minus;2&pi;&#x2148;jk/N</sup>.
+     */
+    private static double[][] naiveDFT(double[] re, double[] im, boolean inverse) {
+        final int n = re.length;
+        final double sign = inverse ? 1.0 : -1.0;
+        double[][] result = new double[2][n];
+        for (int k = 0; k < n; k++) {
+            for (int j = 0; j < n; j++) {
+                final double angle = sign * 2.0 * Math.PI * ((long) j * k % n) / n;
+                result[0][k] += re[j] * Math.cos(angle) - im[j] * Math.sin(angle);
+                result[1][k] += re[j] * Math.sin(angle) + im[j] * Math.cos(angle);
+            }
+        }
+        return result;
+    }
+
+    @Test
+    public void forwardMatchesNaiveDFT() {
+        for (int n : LENGTHS) {
+            if (n > 400) continue;  // the naive DFT is quadratic
+            double[] re = randomArray(n);
+            double[] im = randomArray(n);
+            double[][] expected = naiveDFT(re, im, false);
+            FFTEngine.transform(re, im, false);
+            for (int k = 0; k < n; k++) {
+                assertEquals(expected[0][k], re[k], 1.0E-10, "Re X[" + k + "] for N = " + n);
+                assertEquals(expected[1][k], im[k], 1.0E-10, "Im X[" + k + "] for N = " + n);
+            }
+        }
+    }
+
+    @Test
+    public void inverseUndoesForward() {
+        for (int n : LENGTHS) {
+            final double[] re0 = randomArray(n);
+            final double[] im0 = randomArray(n);
+            double[] re = re0.clone();
+            double[] im = im0.clone();
+            FFTEngine.transform(re, im, false);
+            FFTEngine.transform(re, im, true);
+            for (int k = 0; k < n; k++) {
+                assertEquals(re0[k], re[k] / n, 1.0E-12, "N = " + n);
+                assertEquals(im0[k], im[k] / n, 1.0E-12, "N = " + n);
+            }
+        }
+    }
+
+    @Test
+    public void planInverseUndoesForward() {
+        for (int n : LENGTHS) {
+            final double[] re0 = randomArray(n);
+            final double[] im0 = randomArray(n);
+            double[] re = re0.clone();
+            double[] im = im0.clone();
+            FFTPlan plan = new FFTPlan(n);
+            plan.transform(re, im, false);
+            plan.transform(re, im, true);
+            for (int k = 0; k < n; k++) {
+                assertEquals(re0[k], re[k] / n, 1.0E-12, "N = " + n);
+                assertEquals(im0[k], im[k] / n, 1.0E-12, "N = " + n);
+            }
+        }
+    }
+
+    @Test
+    public void decimalRoundTripAndAgreement() {
+        final MathContext ctx = new MathContext(40);
+        for (int n : new int[] {7, 12, 13, 30, 77}) {
+            final double[] dre = randomArray(n);
+            final double[] dim = randomArray(n);
+            BigDecimal[] re = new BigDecimal[n];
+            BigDecimal[] im = new BigDecimal[n];
+            for (int k = 0; k < n; k++) {
+                re[k] = new BigDecimal(dre[k]);
+                im[k] = new BigDecimal(dim[k]);
+            }
+            final BigDecimal[] re0 = re.clone();
+            final BigDecimal[] im0 = im.clone();
+            FFTEngine.transform(re, im, ctx, false);
+            double[][] expected = naiveDFT(dre, dim, false);
+            for (int k = 0; k < n; k++) {
+                assertEquals(expected[0][k], re[k].doubleValue(), 1.0E-12, "N = " + n);
+                assertEquals(expected[1][k], im[k].doubleValue(), 1.0E-12, "N = " + n);
+            }
+            FFTEngine.transform(re, im, ctx, true);
+            final BigDecimal tolerance = new BigDecimal("1E-32");
+            final BigDecimal scale = BigDecimal.valueOf(n);
+            for (int k = 0; k < n; k++) {
+                assertTrue(re[k].divide(scale, ctx).subtract(re0[k]).abs().compareTo(tolerance) < 0, "N = " + n);
+                assertTrue(im[k].divide(scale, ctx).subtract(im0[k]).abs().compareTo(tolerance) < 0, "N = " + n);
+            }
+        }
+    }
+
+    @Test
+    public void listTransformMatchesNaiveDFT() {
+        final MathContext ctx = MathContext.DECIMAL64;
+        final int n = 13;
+        final double[] re = randomArray(n);
+        final double[] im = randomArray(n);
+        List<ComplexType> input = new ArrayList<>(n);
+        for (int k = 0; k < n; k++) {
+            input.add(new ComplexRectImpl(new RealImpl(BigDecimal.valueOf(re[k]), ctx), new RealImpl(BigDecimal.valueOf(im[k]), ctx)));
+        }
+        List<ComplexType> output = new FastFourierTransform(ctx).apply(input);
+        double[][] expected = naiveDFT(re, im, false);
+        assertEquals(n, output.size());
+        for (int k = 0; k < n; k++) {
+            assertEquals(expected[0][k], output.get(k).real().asBigDecimal().doubleValue(), 1.0E-12);
+            assertEquals(expected[1][k], output.get(k).imaginary().asBigDecimal().doubleValue(), 1.0E-12);
+        }
+    }
+
+    @Test
+    public void realTransformRoundTrip() {
+        for (int n : new int[] {1, 2, 9, 16, 26, 97, 360, 2053}) {
+            final double[] x = randomArray(n);
+            FFTPlan plan = new FFTPlan(n);
+            double[] re = new double[plan.halfLength()];
+            double[] im = new double[plan.halfLength()];
+            plan.realTransform(x, re, im);
+            // the real transform is the first half of the complex transform
+            double[] fullRe = x.clone();
+            double[] fullIm = new double[n];
+            plan.transform(fullRe, fullIm, false);
+            for (int k = 0; k < plan.halfLength(); k++) {
+                assertEquals(fullRe[k], re[k], 1.0E-10, "N = " + n);
+                assertEquals(fullIm[k], im[k], 1.0E-10, "N = " + n);
+            }
+            double[] y = new double[n];
+            plan.inverseRealTransform(re, im, y);
+            for (int k = 0; k < n; k++) assertEquals(x[k], y[k] / n, 1.0E-12, "N = " + n);
+        }
+        // the same through the List-based API at higher precision
+        final MathContext ctx = MathContext.DECIMAL128;
+        for (int n : new int[] {10, 11}) {
+            List<RealType> signal = new ArrayList<>(n);
+            for (int k = 0; k < n; k++) signal.add(new RealImpl(BigDecimal.valueOf(k * k - 3L * k), ctx));
+            RealFastFourierTransform rfft = new RealFastFourierTransform(ctx);
+            List<RealType> recovered = rfft.inverse(rfft.apply(signal), n);
+            for (int k = 0; k < n; k++) {
+                assertEquals(0, signal.get(k).asBigDecimal().compareTo(recovered.get(k).asBigDecimal().setScale(20, RoundingMode.HALF_EVEN)),
+                        "x[" + k + "] for N = " + n);
+            }
+        }
+    }
+
+    @Test
+    public void overlapAddMatchesDirectConvolution() {
+        final MathContext ctx = MathContext.DECIMAL64;
+        final double[] kernel = randomArray(9);
+        final double[] signal = randomArray(250);
+        double[] expected = new double[signal.length + kernel.length - 1];
+        for (int i = 0; i < signal.length; i++) {
+            for (int j = 0; j < kernel.length; j++) expected[i + j] += signal[i] * kernel[j];
+        }
+        List<ComplexType> kernelList = new ArrayList<>();
+        for (double v : kernel) kernelList.add(new ComplexRectImpl(new RealImpl(BigDecimal.valueOf(v), ctx)));
+        OverlapAddConvolver convolver = new OverlapAddConvolver(kernelList, 16, ctx);
+        List<ComplexType> output = new ArrayList<>();
+        // blocks of irregular size, some larger than the convolver's block size
+        int start = 0;
+        for (int size : new int[] {1, 15, 16, 40, 3, 100, 75}) {
+            List<ComplexType> block = new ArrayList<>();
+            for (int k = start; k < start + size; k++) block.add(new ComplexRectImpl(new RealImpl(BigDecimal.valueOf(signal[k]), ctx)));
+            List<ComplexType> processed = convolver.process(block);
+            assertEquals(size, processed.size());
+            output.addAll(processed);
+            start += size;
+        }
+        assertEquals(signal.length, start);
+        output.addAll(convolver.flush());
+        assertEquals(expected.length, output.size());
+        for (int k = 0; k < expected.length; k++) {
+            assertEquals(expected[k], output.get(k).real().asBigDecimal().doubleValue(), 1.0E-12, "y[" + k + "]");
+            assertEquals(0.0, output.get(k).imaginary().asBigDecimal().doubleValue(), 1.0E-12, "y[" + k + "]");
+        }
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * The MIT License
+ *
+ * Copyright © 2026 Robert Poole <Tarquin.AZ@gmail.com>.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ */
+
+package tungsten.types.util;
+
+import org.junit.jupiter.api.Test;
+import tungsten.types.numerics.RationalType;
+import tungsten.types.numerics.Sign;
+import tungsten.types.numerics.impl.RationalImpl;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BernoulliNumbersTest {
+    /**
+     * Compute B<sub>0</sub> through B<sub>n</sub> from the recurrence
+     * &sum;<sub>j=0</sub><sup>m</sup>&nbsp;C(m&nbsp;+&nbsp;1,&nbsp;j)&nbsp;B<sub>j</sub>&nbsp;=&nbsp;0,
+     * independently of the tangent-number algorithm.
+     * @param n the index of the last Bernoulli number
+     * @return a list of numerator/denominator pairs in lowest terms
+     */
+    private static List<BigInteger[]> reference(int n) {
+        final List<BigInteger[]> values = new ArrayList<>();
+        values.add(new BigInteger[] {BigInteger.ONE, BigInteger.ONE});
+        for (int m = 1; m <= n; m++) {
+            BigInteger num = BigInteger.ZERO;
+            BigInteger denom = BigInteger.ONE;
+            BigInteger binomial = BigInteger.ONE;  // C(m + 1, j)
+            for (int j = 0; j < m; j++) {
+                final BigInteger[] b = values.get(j);
+                num = num.multiply(b[1]).add(binomial.multiply(b[0]).multiply(denom));
+                denom = denom.multiply(b[1]);
+                final BigInteger gcd = num.gcd(denom);
+                if (gcd.signum() != 0) {
+                    num = num.divide(gcd);
+                    denom = denom.divide(gcd);
+                }
+                binomial = binomial.multiply(BigInteger.valueOf(m + 1 - j)).divide(BigInteger.valueOf(j + 1));
+            }
+            // B_m = -sum / (m + 1)
+            num = num.negate();
+            denom = denom.multiply(BigInteger.valueOf(m + 1));
+            final BigInteger gcd = num.gcd(denom);
+            if (num.signum() == 0) {
+                values.add(new BigInteger[] {BigInteger.ZERO, BigInteger.ONE});
+            } else {
+                values.add(new BigInteger[] {num.divide(gcd), denom.divide(gcd)});
+            }
+        }
+        return values;
+    }
+
+    private static void assertMatches(BigInteger[] expected, RationalType actual, int index) {
+        assertEquals(expected[0], actual.numerator().asBigInteger(), "Numerator of B" + index);
+        assertEquals(expected[1], actual.denominator().asBigInteger(), "Denominator of B" + index);
+    }
+
+    @Test
+    public void knownValues() {
+        BernoulliNumbers numbers = new BernoulliNumbers(30);
+        assertEquals(new RationalImpl("1/1"), numbers.getB(0L));
+        assertEquals(new RationalImpl("-1/2"), numbers.getB(1L));
+        assertEquals(new RationalImpl("1/6"), numbers.getB(2L));
+        assertEquals(new RationalImpl("-1/30"), numbers.getB(4L));
+        assertEquals(new RationalImpl("-691/2730"), numbers.getB(12L));
+        assertEquals(new RationalImpl("7/6"), numbers.getB(14L));
+        assertEquals(new RationalImpl("-174611/330"), numbers.getB(20L));
+        assertEquals(new RationalImpl("8615841276005/14322"), numbers.getB(30L));
+        assertEquals(new RationalImpl("-1215233140483755572040304994079820246041491/56786730"), numbers.getB(60L));
+        for (long n = 3L; n < 60L; n += 2L) {
+            assertEquals(0, numbers.getB(n).numerator().asBigInteger().signum(), "B" + n + " should be 0");
+        }
+        assertThrows(IllegalArgumentException.class, () -> numbers.getB(-2L));
+        assertThrows(IllegalArgumentException.class, () -> new BernoulliNumbers(1));
+    }
+
+    @Test
+    public void agreesWithRecurrence() {
+        final int N = 120;
+        final List<BigInteger[]> expected = reference(N);
+        BernoulliNumbers numbers = new BernoulliNumbers(N);
+        for (int n = 0; n <= N; n++) {
+            assertMatches(expected.get(n), numbers.getB(n), n);
+        }
+    }
+
+    @Test
+    public void valuesSurviveTableGrowth() {
+        final int N = 64;
+        final List<BigInteger[]> expected = reference(N);
+        BernoulliNumbers numbers = new BernoulliNumbers(N);
+        final List<RationalType> before = new ArrayList<>();
+        for (int n = 0; n <= N; n++) before.add(numbers.getB(n));
+        // force the shared table to grow well past what any other test requested,
+        // once through a new instance and once through an existing one
+        final RationalType b1000 = new BernoulliNumbers(1000).getB(1000L);
+        assertEquals(Sign.NEGATIVE, b1000.sign());
+        assertEquals(Sign.POSITIVE, numbers.getB(2402L).sign());
+        for (int n = 0; n <= N; n++) {
+            assertEquals(before.get(n), numbers.getB(n), "B" + n + " changed after growth");
+            assertMatches(expected.get(n), numbers.getB(n), n);
+        }
+        // the first values returned before the growth are unaffected as well
+        for (int n = 0; n <= N; n++) assertMatches(expected.get(n), before.get(n), n);
+        assertEquals(b1000, new BernoulliNumbers(2).getB(1000L));
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * The MIT License
+ *
+ * Copyright © 2026 Robert Poole <Tarquin.AZ@gmail.com>.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ */
+
+package tungsten.types.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Comparator;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ConstantStoreTest {
+    /**
+     * &pi; to 60 significant digits, correctly rounded.
+     */
+    private static final BigDecimal PI_60 = new BigDecimal("3.14159265358979323846264338327950288419716939937510582097494");
+    private static final MathContext CTX_60 = new MathContext(60, RoundingMode.HALF_EVEN);
+
+    private static void deleteRecursively(Path directory) throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Test
+    public void saveLoadRoundTrip() throws IOException {
+        final Path directory = Files.createTempDirectory("constants");
+        try {
+            DirectoryConstantStore store = new DirectoryConstantStore(directory);
+            assertTrue(store.load("pi", CTX_60).isEmpty());
+            store.save("pi", PI_60, CTX_60);
+            assertTrue(Files.isRegularFile(directory.resolve("pi.digits")));
+            assertEquals(Optional.of(PI_60), store.load("pi", CTX_60));
+            // a second store sharing the directory sees the same value
+            assertEquals(Optional.of(PI_60), new DirectoryConstantStore(directory).load("pi", CTX_60));
+            // lower precisions are rounded from the stored value, higher ones are unavailable
+            assertEquals(Optional.of(new BigDecimal("3.141592653589793238462643383280")),
+                    store.load("pi", new MathContext(31, RoundingMode.HALF_EVEN)));
+            assertEquals(Optional.of(new BigDecimal("3.14159")), store.load("pi", new MathContext(6, RoundingMode.DOWN)));
+            assertTrue(store.load("pi", new MathContext(61, RoundingMode.HALF_EVEN)).isEmpty());
+            // a value of lower precision does not replace the stored one
+            store.save("pi", new BigDecimal("3.142"), new MathContext(4, RoundingMode.HALF_EVEN));
+            assertEquals(Optional.of(PI_60), store.load("pi", CTX_60));
+            assertThrows(IllegalArgumentException.class, () -> store.load("../pi", CTX_60));
+            assertThrows(IllegalArgumentException.class, () -> store.save("e", BigDecimal.ONE, MathContext.UNLIMITED));
+        } finally {
+            deleteRecursively(directory);
+        }
+    }
+
+    @Test
+    public void roundingDownOnlyWhenDetermined() {
+        final MathContext stored = new MathContext(12, RoundingMode.HALF_EVEN);
+        final MathContext five = new MathContext(5, RoundingMode.HALF_EVEN);
+        assertEquals(Optional.of(new BigDecimal("1.2346")),
+                ConstantStore.roundFrom(new BigDecimal("1.23456789012"), stored, five));
+        // discarded digits within one stored ulp of a half-way point, zero, or one cannot be rounded reliably
+        assertTrue(ConstantStore.roundFrom(new BigDecimal("1.23455000000"), stored, five).isEmpty());
+        assertTrue(ConstantStore.roundFrom(new BigDecimal("1.23450000000"), stored, five).isEmpty());
+        assertTrue(ConstantStore.roundFrom(new BigDecimal("1.23459999999"), stored, five).isEmpty());
+        // digits just clear of the half-way point are fine
+        assertEquals(Optional.of(new BigDecimal("1.2346")),
+                ConstantStore.roundFrom(new BigDecimal("1.23455000002"), stored, five));
+        // equal precision requires the same rounding mode
+        assertEquals(Optional.of(PI_60), ConstantStore.roundFrom(PI_60, CTX_60, CTX_60));
+        assertTrue(ConstantStore.roundFrom(PI_60, CTX_60, new MathContext(60, RoundingMode.DOWN)).isEmpty());
+        assertTrue(ConstantStore.roundFrom(PI_60, CTX_60, MathContext.UNLIMITED).isEmpty());
+    }
+
+    @Test
+    public void corruptFilesFallBackToComputation() throws IOException {
+        final Path directory = Files.createTempDirectory("constants");
+        final ConstantStore previous = ConstantCache.getStore();
+        try {
+            DirectoryConstantStore store = new DirectoryConstantStore(directory);
+            ConstantCache.setStore(store);
+            final AtomicInteger computations = new AtomicInteger();
+            final MathContext ctx = new MathContext(30, RoundingMode.HALF_EVEN);
+            final BigDecimal expected = PI_60.round(ctx);
+
+            // garbage in place of a constant file
+            final Path file = directory.resolve("pi.digits");
+            Files.write(file, new byte[] {1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16, 17, 18, 19, 20});
+            assertThrows(IOException.class, () -> store.load("pi", ctx));
+            assertEquals(expected, ConstantCache.obtain("pi", ctx, mc -> {
+                computations.incrementAndGet();
+                return PI_60.round(mc);
+            }));
+            assertEquals(1, computations.get());
+            // the unreadable file was replaced by the computed value
+            assertEquals(Optional.of(expected), store.load("pi", ctx));
+
+            // a truncated file
+            store.save("pi", PI_60, CTX_60);
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+                channel.truncate(channel.size() - 3L);
+            }
+            assertThrows(IOException.class, () -> store.load("pi", ctx));
+            assertEquals(expected, ConstantCache.obtain("pi", ctx, mc -> {
+                computations.incrementAndGet();
+                return PI_60.round(mc);
+            }));
+            assertEquals(2, computations.get());
+
+            // an intact file is served without computation
+            store.save("pi", PI_60, CTX_60);
+            assertEquals(expected, ConstantCache.obtain("pi", ctx, mc -> {
+                computations.incrementAndGet();
+                return PI_60.round(mc);
+            }));
+            assertEquals(2, computations.get());
+        } finally {
+            ConstantCache.setStore(previous);
+            deleteRecursively(directory);
+        }
+    }
+}
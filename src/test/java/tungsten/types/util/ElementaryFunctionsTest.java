@@ -0,0 +1,179 @@
+/*
+ * The MIT License
+ *
+ * Copyright © 2026 Robert Poole <Tarquin.AZ@gmail.com>.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ */
+
+package tungsten.types.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ElementaryFunctionsTest {
+    private static final MathContext CTX_50 = new MathContext(50, RoundingMode.HALF_EVEN);
+
+    /**
+     * Assert that {@code actual} lies within the given number of units in the last place
+     * of {@code expected}, once the latter is rounded to {@code mctx}.
+     */
+    private static void assertClose(String expected, BigDecimal actual, MathContext mctx, int ulps) {
+        final BigDecimal reference = new BigDecimal(expected).round(mctx);
+        final BigDecimal tolerance = reference.ulp().multiply(BigDecimal.valueOf(ulps));
+        assertTrue(actual.precision() <= mctx.getPrecision(), "Result " + actual + " has too many digits");
+        assertTrue(reference.subtract(actual).abs().compareTo(tolerance) <= 0,
+                "Expected " + reference + " but got " + actual);
+    }
+
+    @Test
+    public void expKnownValues() {
+        assertEquals(BigDecimal.ONE, ElementaryFunctions.exp(BigDecimal.ZERO, CTX_50));
+        assertClose("2.7182818284590452353602874713526624977572470937000", ElementaryFunctions.exp(BigDecimal.ONE, CTX_50), CTX_50, 1);
+        assertClose("0.36787944117144232159552377016146086744581113103177", ElementaryFunctions.exp(BigDecimal.ONE.negate(), CTX_50), CTX_50, 1);
+        assertClose("26881171418161354484126255515800135873611118.773742", ElementaryFunctions.exp(BigDecimal.valueOf(100L), CTX_50), CTX_50, 1);
+        assertClose("1.1698459177061964685851625184541888630533196921741E-22", ElementaryFunctions.exp(new BigDecimal("-50.5"), CTX_50), CTX_50, 1);
+        // below the resolution of the result, e^x = 1 + x
+        assertClose("1.0000000000000000000100000000000000000000500000000", ElementaryFunctions.exp(new BigDecimal("1E-20"), CTX_50), CTX_50, 1);
+        for (double x : new double[] {-700.25, -3.5, 0.001, 0.693, 1.0E-9, 2.5, 42.0, 700.75}) {
+            final double actual = ElementaryFunctions.exp(new BigDecimal(x), MathContext.DECIMAL64).doubleValue();
+            assertEquals(Math.exp(x), actual, 4.0 * Math.ulp(Math.exp(x)), "exp(" + x + ")");
+        }
+    }
+
+    @Test
+    public void lnKnownValues() {
+        assertEquals(0, ElementaryFunctions.ln(BigDecimal.ONE, CTX_50).signum());
+        assertClose("0.69314718055994530941723212145817656807550013436026", ElementaryFunctions.ln2(CTX_50), CTX_50, 0);
+        assertClose("2.3025850929940456840179914546843642076011014886288", ElementaryFunctions.ln10(CTX_50), CTX_50, 0);
+        assertClose("0.69314718055994530941723212145817656807550013436026", ElementaryFunctions.ln(BigDecimal.valueOf(2L), CTX_50), CTX_50, 1);
+        assertClose("1.0986122886681096913952452369225257046474905578227", ElementaryFunctions.ln(BigDecimal.valueOf(3L), CTX_50), CTX_50, 1);
+        assertClose("9.4210613212918319765267839910714460489418336300805", ElementaryFunctions.ln(new BigDecimal("12345.678"), CTX_50), CTX_50, 1);
+        assertClose("-690.77552789821370520539743640530926228033044658863", ElementaryFunctions.ln(new BigDecimal("1E-300"), CTX_50), CTX_50, 1);
+        // arguments near 1 must not lose digits to cancellation
+        assertClose("9.9999999999999999999999999999950000000000000000000E-31",
+                ElementaryFunctions.ln(BigDecimal.ONE.add(new BigDecimal("1E-30")), CTX_50), CTX_50, 1);
+        assertClose("-0.0010005003335835335001429822540683449607552052504344", ElementaryFunctions.ln(new BigDecimal("0.999"), CTX_50), CTX_50, 1);
+        for (double x : new double[] {1.0E-300, 0.01, 0.5, 0.9999, 1.0001, 2.0, 10.0, 1.0E200}) {
+            final double actual = ElementaryFunctions.ln(new BigDecimal(x), MathContext.DECIMAL64).doubleValue();
+            assertEquals(Math.log(x), actual, 4.0 * Math.ulp(Math.log(x)), "ln(" + x + ")");
+        }
+    }
+
+    @Test
+    public void expAndLnAreInverses() {
+        final MathContext ctx = new MathContext(40, RoundingMode.HALF_EVEN);
+        final MathContext wide = new MathContext(60, RoundingMode.HALF_EVEN);
+        final Random random = new Random(20251019L);
+        for (int k = 0; k < 40; k++) {
+            final BigDecimal x = new BigDecimal(new BigInteger(100, random), 28).subtract(new BigDecimal("600"));
+            final BigDecimal roundTrip = ElementaryFunctions.ln(ElementaryFunctions.exp(x, wide), ctx);
+            assertClose(x.toPlainString(), roundTrip, ctx, 1);
+        }
+    }
+
+    @Test
+    public void powKnownValues() {
+        assertEquals(BigDecimal.ONE, ElementaryFunctions.pow(new BigDecimal("7.25"), BigDecimal.ZERO, CTX_50));
+        assertClose("1.4142135623730950488016887242096980785696718753769", ElementaryFunctions.pow(BigDecimal.valueOf(2L), new BigDecimal("0.5"), CTX_50), CTX_50, 1);
+        assertClose("0.0031622776601683793319988935444327185337195551393252", ElementaryFunctions.pow(BigDecimal.TEN, new BigDecimal("-2.5"), CTX_50), CTX_50, 1);
+        assertClose("12236949.759702305100288089036394856805833040755397", ElementaryFunctions.pow(new BigDecimal("1.5"), new BigDecimal("40.25"), CTX_50), CTX_50, 1);
+        // a rational exponent is never rounded to a decimal
+        assertClose("1.9129311827723891011991168395487602828624390503459",
+                ElementaryFunctions.pow(BigDecimal.valueOf(7L), BigInteger.ONE, BigInteger.valueOf(3L), CTX_50), CTX_50, 1);
+    }
+
+    @Test
+    public void domainErrors() {
+        assertThrows(ArithmeticException.class, () -> ElementaryFunctions.ln(BigDecimal.ZERO, CTX_50));
+        assertThrows(ArithmeticException.class, () -> ElementaryFunctions.ln(BigDecimal.ONE.negate(), CTX_50));
+        assertThrows(ArithmeticException.class, () -> ElementaryFunctions.pow(BigDecimal.valueOf(2L).negate(), new BigDecimal("0.5"), CTX_50));
+        assertThrows(ArithmeticException.class, () -> ElementaryFunctions.exp(new BigDecimal("1E12"), CTX_50));
+        assertThrows(ArithmeticException.class, () -> ElementaryFunctions.exp(BigDecimal.ONE, MathContext.UNLIMITED));
+    }
+
+    @Test
+    public void atanAcrossFolds() {
+        final String[][] cases = {
+                // no folding; short fractions are summed by binary splitting
+                {"0.2", "0.19739555984988075837004976519479029344758510378785"},
+                {"0.3333", "0.32172055409664819364140485420265847337367298927952"},
+                {"0.4999999", "0.46364752900080291621429889814324106947344369091545"},
+                {"0.5", "0.46364760900080611621425623146121440202853705428612"},
+                // shifted by pi/4
+                {"0.5000001", "0.46364768900080291621421356480990773458363035758213"},
+                {"0.75", "0.64350110879328438680280922871732263804151059111531"},
+                {"0.9999999", "0.78539811339744580961557751248654238796595903734378"},
+                {"1", "0.78539816339744830961566084581987572104929234984378"},
+                // reflected about pi/2, and shifted again where 1/x > 1/2
+                {"1.0000001", "0.78539821339744580961574417915320905413262570401044"},
+                {"2", "1.1071487177940905030170654601785370400700476454014"},
+                {"3", "1.2490457723982544258299170772810901230778294041299"},
+                {"10", "1.4711276743037345918528755717617308518553063771832"},
+                {"123456.789", "1.5707882267948230863776557597732664152322160975774"},
+                {"1E10", "1.5707963266948966192313216916400847754319180330209"},
+                {"1E-10", "9.9999999999999999999666666666666666666668666666667E-11"},
+                // a long fraction, summed in fixed point
+                {"0.333333333333333333333333333333333333333333", "0.32175055439664219340140461435866131902075499555766"}
+        };
+        for (String[] c : cases) {
+            final BigDecimal x = new BigDecimal(c[0]);
+            assertClose(c[1], ElementaryFunctions.atan(x, CTX_50), CTX_50, 1);
+            // atan is odd
+            assertClose("-" + c[1], ElementaryFunctions.atan(x.negate(), CTX_50), CTX_50, 1);
+        }
+        assertEquals(0, ElementaryFunctions.atan(BigDecimal.ZERO, CTX_50).signum());
+        // below the resolution of the result, atan(x) = x
+        assertEquals(new BigDecimal("1E-30"), ElementaryFunctions.atan(new BigDecimal("1E-30"), CTX_50));
+        for (double x : new double[] {-1.0E6, -1.5, -0.25, 1.0E-5, 0.49, 0.51, 0.99, 1.01, 1.99, 2.01, 1.0E6}) {
+            final double actual = ElementaryFunctions.atan(new BigDecimal(x), MathContext.DECIMAL64).doubleValue();
+            assertEquals(Math.atan(x), actual, 2.0 * Math.ulp(Math.atan(x)), "atan(" + x + ")");
+        }
+    }
+
+    @Test
+    public void atan2Quadrants() {
+        final String quarterPi = "0.78539816339744830961566084581987572104929234984378";
+        final String threeQuarterPi = "2.3561944901923449288469825374596271631478770495313";
+        final BigDecimal one = BigDecimal.ONE;
+        assertClose(quarterPi, ElementaryFunctions.atan2(one, one, CTX_50), CTX_50, 1);
+        assertClose(threeQuarterPi, ElementaryFunctions.atan2(one, one.negate(), CTX_50), CTX_50, 1);
+        assertClose("-" + threeQuarterPi, ElementaryFunctions.atan2(one.negate(), one.negate(), CTX_50), CTX_50, 1);
+        assertClose("-" + quarterPi, ElementaryFunctions.atan2(one.negate(), one, CTX_50), CTX_50, 1);
+        assertClose("1.5707963267948966192313216916397514420985846996876", ElementaryFunctions.atan2(one, BigDecimal.ZERO, CTX_50), CTX_50, 1);
+        assertClose("3.1415926535897932384626433832795028841971693993751", ElementaryFunctions.atan2(BigDecimal.ZERO, one.negate(), CTX_50), CTX_50, 1);
+        // an exact fraction with differing scales: atan(0.5/0.25) = atan(2)
+        assertClose("1.1071487177940905030170654601785370400700476454014",
+                ElementaryFunctions.atan2(new BigDecimal("0.5"), new BigDecimal("0.25"), CTX_50), CTX_50, 1);
+        for (double[] yx : new double[][] {{3.0, 4.0}, {-3.0, 4.0}, {3.0, -4.0}, {-3.0, -4.0}, {1.0E-8, -2.0}, {7.0E5, 1.0E-3}}) {
+            final double actual = ElementaryFunctions.atan2(new BigDecimal(yx[0]), new BigDecimal(yx[1]), MathContext.DECIMAL64).doubleValue();
+            final double expected = Math.atan2(yx[0], yx[1]);
+            assertEquals(expected, actual, 2.0 * Math.ulp(expected), "atan2(" + yx[0] + ", " + yx[1] + ")");
+        }
+        assertThrows(ArithmeticException.class, () -> ElementaryFunctions.atan2(BigDecimal.ZERO, BigDecimal.ZERO, CTX_50));
+    }
+}
@@ -28,6 +28,7 @@ import tungsten.types.Matrix;
 import tungsten.types.Numeric;
 import tungsten.types.exceptions.CoercionException;
 import tungsten.types.matrix.impl.BasicMatrix;
+import tungsten.types.numerics.ComplexType;
 import tungsten.types.numerics.IntegerType;
 import tungsten.types.numerics.RationalType;
 import tungsten.types.numerics.RealType;
@@ -36,6 +37,7 @@ import tungsten.types.numerics.impl.*;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.math.MathContext;
+import java.math.RoundingMode;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -60,6 +62,127 @@ public class MathUtilsTest {
         assertEquals(expected2, result);
     }
 
+    private static BigInteger naiveFactorial(long n) {
+        BigInteger accum = BigInteger.ONE;
+        for (long j = 2L; j <= n; j++) accum = accum.multiply(BigInteger.valueOf(j));
+        return accum;
+    }
+
+    private static BigInteger naiveBinomial(long n, long k) {
+        BigInteger accum = BigInteger.ONE;
+        // each partial product is itself a binomial coefficient, so the division is exact
+        for (long j = 0L; j < k; j++) {
+            accum = accum.multiply(BigInteger.valueOf(n - j)).divide(BigInteger.valueOf(j + 1L));
+        }
+        return accum;
+    }
+
+    @Test
+    public void factorialAcrossCacheStrategies() {
+        // the order of evaluation decides whether a value is assembled from primes
+        // (most factors missing from the cache) or extended from a smaller cached factorial
+        final long[] arguments = {0L, 1L, 2L, 16L, 17L, 18L, 33L, 34L, 35L, 70L, 200L, 201L, 399L, 401L, 1000L, 1999L, 2001L, 1500L, 5000L};
+        for (long n : arguments) {
+            assertEquals(naiveFactorial(n), MathUtils.factorial(new IntegerImpl(BigInteger.valueOf(n))).asBigInteger(),
+                    "Mismatch for " + n + "!");
+        }
+        // the cached values are unchanged
+        for (long n : arguments) {
+            assertEquals(naiveFactorial(n), MathUtils.factorial(new IntegerImpl(BigInteger.valueOf(n))).asBigInteger());
+        }
+        assertThrows(IllegalArgumentException.class, () -> MathUtils.factorial(new IntegerImpl("-1")));
+    }
+
+    @Test
+    public void binomialAcrossDispatchThresholds() {
+        // every coefficient of small rows, on both sides of k > 16
+        for (long n = 0L; n <= 40L; n++) {
+            for (long k = 0L; k <= n; k++) {
+                assertEquals(naiveBinomial(n, k), MathUtils.nChooseK(n, k).asBigInteger(), "Mismatch for C(" + n + ", " + k + ")");
+            }
+        }
+        // n on both sides of 2^24, with min(k, n - k) on both sides of 16
+        final long sieveLimit = 1L << 24;
+        for (long n : new long[] {sieveLimit - 1L, sieveLimit, sieveLimit + 1L}) {
+            for (long k : new long[] {15L, 16L, 17L, 18L, 40L}) {
+                final BigInteger expected = naiveBinomial(n, k);
+                assertEquals(expected, MathUtils.nChooseK(n, k).asBigInteger(), "Mismatch for C(" + n + ", " + k + ")");
+                assertEquals(expected, MathUtils.nChooseK(n, n - k).asBigInteger(), "Mismatch for C(" + n + ", " + (n - k) + ")");
+            }
+        }
+        assertEquals(naiveBinomial(1000L, 500L), MathUtils.nChooseK(1000L, 500L).asBigInteger());
+        // negative n
+        assertEquals(BigInteger.valueOf(-20L), MathUtils.nChooseK(new IntegerImpl("-4"), new IntegerImpl("3")).asBigInteger());
+        assertEquals(naiveBinomial(24L, 17L).negate(), MathUtils.nChooseK(new IntegerImpl("-8"), new IntegerImpl("17")).asBigInteger());
+    }
+
+    private static void assertWithinUlps(String expected, RealType actual, MathContext mctx, int ulps) {
+        final BigDecimal reference = new BigDecimal(expected).round(mctx);
+        final BigDecimal tolerance = reference.ulp().multiply(BigDecimal.valueOf(ulps));
+        assertTrue(reference.subtract(actual.asBigDecimal()).abs().compareTo(tolerance) <= 0,
+                "Expected " + reference + " but got " + actual);
+    }
+
+    @Test
+    public void lnGammaValues() {
+        final MathContext ctx = MathContext.DECIMAL128;
+        // lnGamma(1/2) = ln(sqrt(pi))
+        assertWithinUlps("0.57236494292470008707171367567652935582364740645766",
+                (RealType) MathUtils.lnGamma(new RealImpl("0.5", ctx)), ctx, 1);
+        assertEquals(0, ((RealType) MathUtils.lnGamma(new RealImpl("1", ctx))).asBigDecimal().signum());
+        assertEquals(0, ((RealType) MathUtils.lnGamma(new RealImpl("2", ctx))).asBigDecimal().signum());
+        assertWithinUlps("12.801827480081469611207717874566706164281149255663",
+                (RealType) MathUtils.lnGamma(new RealImpl("10", ctx)), ctx, 1);
+        assertWithinUlps("13.940625219403763633161237887971849479799452804847",
+                (RealType) MathUtils.lnGamma(new RealImpl("10.5", ctx)), ctx, 1);
+        // large arguments need no shift, and cost no more than small ones
+        assertWithinUlps("5908.6741758486774886838747340626248804970154682586",
+                (RealType) MathUtils.lnGamma(new RealImpl("1000.5", ctx)), ctx, 1);
+        assertWithinUlps("1051287.7089736568949008580182488374334283065176407",
+                (RealType) MathUtils.lnGamma(new RealImpl("100000", ctx)), ctx, 1);
+        // the kernel at a higher precision
+        final MathContext wide = new MathContext(50, RoundingMode.HALF_EVEN);
+        assertWithinUlps("0.57236494292470008707171367567652935582364740645766",
+                new RealImpl(ElementaryFunctions.lnGamma(new BigDecimal("0.5"), wide), wide), wide, 1);
+        assertWithinUlps("5908.6741758486774886838747340626248804970154682586",
+                new RealImpl(ElementaryFunctions.lnGamma(new BigDecimal("1000.5"), wide), wide), wide, 1);
+        assertThrows(ArithmeticException.class, () -> ElementaryFunctions.lnGamma(BigDecimal.ZERO, wide));
+        assertThrows(IllegalArgumentException.class, () -> MathUtils.lnGamma(new RealImpl("-2.5", ctx)));
+    }
+
+    @Test
+    public void approximateBinomialCoefficients() {
+        // min(k, n - k) within the precision is computed exactly and rounded
+        assertEquals(0, new BigDecimal("9880").compareTo(MathUtils.nChooseK(new IntegerImpl("40"), new IntegerImpl("37"), MathContext.DECIMAL64).asBigDecimal()));
+        assertWithinUlps("2.702882409454366E+299",
+                MathUtils.nChooseK(new IntegerImpl("1000"), new IntegerImpl("500"), MathContext.DECIMAL64), MathContext.DECIMAL64, 1);
+        final MathContext ctx = new MathContext(20, RoundingMode.HALF_EVEN);
+        assertWithinUlps("2.6692479368848907480E+8867",
+                MathUtils.nChooseK(new IntegerImpl("1000000"), new IntegerImpl("997000"), ctx), ctx, 1);
+        // negative n
+        assertEquals(0, new BigDecimal("-20").compareTo(MathUtils.nChooseK(new IntegerImpl("-4"), new IntegerImpl("3"), MathContext.DECIMAL64).asBigDecimal()));
+        assertThrows(IllegalArgumentException.class, () -> MathUtils.nChooseK(new IntegerImpl("5"), new IntegerImpl("6"), MathContext.DECIMAL64));
+    }
+
+    @Test
+    public void realGeneralizedBinomialCoefficient() {
+        final MathContext ctx = MathContext.DECIMAL128;
+        // negative and fractional upper arguments use the falling factorial
+        assertWithinUlps("-0.3125", MathUtils.generalizedBinomialCoefficient(new RealImpl("-0.5", ctx), new IntegerImpl("3")), ctx, 0);
+        assertWithinUlps("1.875", MathUtils.generalizedBinomialCoefficient(new RealImpl("2.5", ctx), new IntegerImpl("2")), ctx, 0);
+        assertWithinUlps("23.4609375", MathUtils.generalizedBinomialCoefficient(new RealImpl("-3.5", ctx), new IntegerImpl("4")), ctx, 0);
+        assertWithinUlps("39.97019739118163621574564281502262",
+                MathUtils.generalizedBinomialCoefficient(new RealImpl("-2.25", ctx), new IntegerImpl("20")), ctx, 1);
+        assertWithinUlps("1", MathUtils.generalizedBinomialCoefficient(new RealImpl("-2.25", ctx), new IntegerImpl("0")), ctx, 0);
+        // k beyond the precision, with x > k - 1, goes through lnGamma
+        assertWithinUlps("1.770239E+28",
+                MathUtils.generalizedBinomialCoefficient(new RealImpl("100.5", MathContext.DECIMAL32), new IntegerImpl("40")), MathContext.DECIMAL32, 1);
+        assertWithinUlps("6.730154683434050E+139",
+                MathUtils.generalizedBinomialCoefficient(new RealImpl("1000.5", MathContext.DECIMAL64), new IntegerImpl("100")), MathContext.DECIMAL64, 1);
+        assertThrows(IllegalArgumentException.class,
+                () -> MathUtils.generalizedBinomialCoefficient(new RealImpl("2.5", ctx), new IntegerImpl("-1")));
+    }
+
     @Test
     public void checkGammaFunction() {
         final MathContext roundingCtx = new MathContext(6);  // only checking 6 significant digits for now
@@ -83,6 +206,27 @@ public class MathUtilsTest {
         result = MathUtils.gamma(three);
 
         assertEquals(expectedResult2, result);
+
+        // real arguments are computed to full precision
+        RealType third = new RealImpl(BigDecimal.ONE.divide(BigDecimal.valueOf(3L), MathContext.DECIMAL128), MathContext.DECIMAL128);
+        RealType expectedResult3 = new RealImpl("2.678938534707747633655692940974678", MathContext.DECIMAL128);
+        result = MathUtils.gamma(third);
+        assertEquals(0, expectedResult3.compareTo((RealType) result), "\uD835\uDEAA(1/3) to 34 digits");
+    }
+
+    @Test
+    public void zetaSpecialValues() throws CoercionException {
+        final MathContext ctx = MathContext.DECIMAL128;
+        // 𝜁(−3) = 1/120 and 𝜁(4) = 𝜋⁴/90
+        RealType result = (RealType) MathUtils.zeta(new RealImpl("-3", ctx)).coerceTo(RealType.class);
+        assertEquals(0, new RealImpl(BigDecimal.ONE.divide(BigDecimal.valueOf(120L), ctx), ctx).compareTo(result));
+        RealType pi = Pi.getInstance(ctx);
+        RealType expected = (RealType) MathUtils.computeIntegerExponent(pi, 4L).divide(new RealImpl(BigDecimal.valueOf(90L), ctx));
+        result = (RealType) MathUtils.zeta(new RealImpl("4", ctx));
+        assertTrue(areEqualToWithin(expected, result, new RealImpl("1E-30", ctx)));
+        // Apéry's constant
+        result = (RealType) MathUtils.zeta(new RealImpl("3", ctx));
+        assertEquals(0, new RealImpl("1.202056903159594285399738161511450", ctx).compareTo(result));
     }
 
     @Test
@@ -167,4 +311,107 @@ public class MathUtilsTest {
         System.out.println(formatMatrixForDisplay(LU, null, (String) null));
         assertEquals(R, LU, "LU product should equal original matrix");
     }
+
+    @Test
+    public void realExponentsThatAreSmallRationals() {
+        final MathContext ctx = MathContext.DECIMAL64;
+        // an exact decimal exponent with a small denominator goes through an nth root, so exact results stay exact
+        RealType result = MathUtils.generalizedExponent(new RealImpl("4", ctx), new RealImpl("0.5", ctx), ctx);
+        assertEquals(0, new BigDecimal("2").compareTo(result.asBigDecimal()));
+        assertTrue(result.isExact());
+        result = MathUtils.generalizedExponent(new RealImpl("1.21", ctx), new RealImpl("-0.5", ctx), ctx);
+        assertEquals(new BigDecimal("0.9090909090909091"), result.asBigDecimal());
+        result = MathUtils.generalizedExponent(new RealImpl("27", ctx), new RealImpl("1.5", ctx), ctx);
+        assertEquals(0, new BigDecimal("140.2961154130791").compareTo(result.asBigDecimal()));
+        // an inexact exponent, or one whose denominator is large, still uses e^(y ln b)
+        result = MathUtils.generalizedExponent(new RealImpl("4", ctx), new RealImpl(new BigDecimal("0.5"), ctx, false), ctx);
+        assertFalse(result.isExact());
+        result = MathUtils.generalizedExponent(new RealImpl("2", ctx), new RealImpl("0.1", ctx), ctx);
+        assertEquals(new BigDecimal("1.071773462536293"), result.asBigDecimal());
+    }
+
+    @Test
+    public void sinCosAtIntegerArguments() {
+        final MathContext ctx = MathContext.DECIMAL128;
+        // integer arguments carry no fractional digits, but their sines and cosines are far from zero
+        assertEquals(new BigDecimal("0.8414709848078965066525023216302990"),
+                MathUtils.sin(new RealImpl("1", ctx)).asBigDecimal());
+        assertEquals(new BigDecimal("0.1411200080598672221007448028081103"),
+                MathUtils.sin(new RealImpl("3", ctx)).asBigDecimal());
+        assertEquals(new BigDecimal("-0.4161468365471423869975682295007622"),
+                MathUtils.cos(new RealImpl("2", ctx)).asBigDecimal());
+        final BigDecimal sin22 = MathUtils.sin(new RealImpl("22", ctx)).asBigDecimal();
+        assertEquals(Math.sin(22d), sin22.doubleValue(), 1.0E-17);
+        // 355/113 is very close to pi, so sin(355) is small but still representable
+        final BigDecimal sin355 = MathUtils.sin(new RealImpl("355", ctx)).asBigDecimal();
+        assertNotEquals(0, sin355.signum(), "sin(355) must not be flushed to zero");
+        assertEquals(Math.sin(355d), sin355.doubleValue(), 1.0E-20);
+        assertEquals(Math.cos(355d), MathUtils.cos(new RealImpl("355", ctx)).asBigDecimal().doubleValue(), 1.0E-15);
+        // an argument that is 2pi rounded to the working precision still yields zero
+        final RealType twoPi = (RealType) Pi.getInstance(ctx).multiply(new RealImpl("2", ctx));
+        assertEquals(0, MathUtils.sin(new RealImpl(twoPi.asBigDecimal().round(ctx), ctx)).asBigDecimal().signum());
+    }
+
+    @Test
+    public void sinCosAtLargeExactArguments() {
+        // exact arguments are reduced at face value, no matter how few fractional digits they carry
+        assertEquals(new BigDecimal("-0.8522008497671888"),
+                MathUtils.sin(new RealImpl("1e22", MathContext.DECIMAL64)).asBigDecimal());
+        assertEquals(new BigDecimal("-0.6861238363312347566436319972010971"),
+                MathUtils.sin(new RealImpl("1e34", MathContext.DECIMAL128)).asBigDecimal());
+        assertEquals(new BigDecimal("-0.8218988919070239214448025364432558"),
+                MathUtils.cos(new RealImpl("1e40", MathContext.DECIMAL128)).asBigDecimal());
+        // the argument is rounded to 1.570796326794896 on construction, which is not pi/2 rounded
+        final BigDecimal nearHalfPi = MathUtils.cos(new RealImpl("1.5707963267948965", MathContext.DECIMAL64)).asBigDecimal();
+        assertEquals(6.192313216916398E-16, nearHalfPi.doubleValue(), 1.0E-30);
+        // pi/2 rounded to 16 digits is a zero of cosine at this precision
+        assertEquals(0, MathUtils.cos(new RealImpl("1.570796326794897", MathContext.DECIMAL64)).asBigDecimal().signum());
+        // an inexact argument has no digits below its last place, so the cutoff still applies
+        final RealType inexact = new RealImpl(new BigDecimal("1e22"), MathContext.DECIMAL64, false);
+        assertEquals(0, MathUtils.sin(inexact).asBigDecimal().signum());
+    }
+
+    @Test
+    public void complexSinCosAtIntegerRealPart() {
+        final MathContext ctx = MathContext.DECIMAL128;
+        final ComplexType z = new ComplexRectImpl(new RealImpl("3", ctx), new RealImpl("0.5", ctx));
+        // sin(x + iy) = sin(x)cosh(y) + i cos(x)sinh(y)
+        final ComplexType sin = MathUtils.sin(z);
+        assertEquals(Math.sin(3d) * Math.cosh(0.5d), sin.real().asBigDecimal().doubleValue(), 1.0E-15);
+        assertEquals(Math.cos(3d) * Math.sinh(0.5d), sin.imaginary().asBigDecimal().doubleValue(), 1.0E-15);
+        // cos(x + iy) = cos(x)cosh(y) - i sin(x)sinh(y)
+        final ComplexType cos = MathUtils.cos(z);
+        assertEquals(Math.cos(3d) * Math.cosh(0.5d), cos.real().asBigDecimal().doubleValue(), 1.0E-15);
+        assertEquals(-Math.sin(3d) * Math.sinh(0.5d), cos.imaginary().asBigDecimal().doubleValue(), 1.0E-15);
+    }
+
+    @Test
+    public void sinCosKernelAgreesWithDouble() {
+        final MathContext ctx = MathContext.DECIMAL64;
+        for (int k = -200; k <= 200; k++) {
+            final BigDecimal x = BigDecimal.valueOf(k * 37L, 2);  // steps of 0.37 across [-74, 74]
+            final BigDecimal[] sinCos = ElementaryFunctions.sinCos(x, ctx);
+            assertEquals(Math.sin(x.doubleValue()), sinCos[0].doubleValue(), 1.0E-14, "sin(" + x + ")");
+            assertEquals(Math.cos(x.doubleValue()), sinCos[1].doubleValue(), 1.0E-14, "cos(" + x + ")");
+            assertEquals(sinCos[0], ElementaryFunctions.sin(x, ctx));
+            assertEquals(sinCos[1], ElementaryFunctions.cos(x, ctx));
+        }
+        final BigDecimal big = new BigDecimal("1000000.5");
+        assertEquals(Math.sin(1000000.5d), ElementaryFunctions.sin(big, ctx).doubleValue(), 1.0E-9);
+    }
+
+    @Test
+    public void nthRootWithUnlimitedPrecision() {
+        // values constructed without a MathContext default to MathContext.UNLIMITED
+        assertEquals(0, new BigDecimal("2").compareTo(MathUtils.nthRoot(new RealImpl("4"), new IntegerImpl("2")).asBigDecimal()));
+        assertEquals(0, new BigDecimal("0.5").compareTo(MathUtils.nthRoot(new RealImpl("0.25"), new IntegerImpl("2")).asBigDecimal()));
+        assertEquals(0, new BigDecimal("-3").compareTo(MathUtils.nthRoot(new RealImpl("-27"), new IntegerImpl("3")).asBigDecimal()));
+        assertEquals(0, new BigDecimal("0.2").compareTo(MathUtils.nthRoot(new RealImpl("0.008"), new IntegerImpl("3")).asBigDecimal()));
+        RealType root = MathUtils.nthRoot(new RealImpl("1024"), new IntegerImpl("10"));
+        assertEquals(0, new BigDecimal("2").compareTo(root.asBigDecimal()));
+        assertTrue(root.isExact());
+        // an irrational root cannot be represented with unlimited precision
+        assertThrows(ArithmeticException.class, () -> MathUtils.nthRoot(new RealImpl("2"), new IntegerImpl("2")));
+        assertThrows(ArithmeticException.class, () -> MathUtils.nthRoot(new RealImpl("0.8"), new IntegerImpl("3")));
+    }
 }
@@ -0,0 +1,142 @@
+/*
+ * The MIT License
+ *
+ * Copyright © 2026 Robert Poole <Tarquin.AZ@gmail.com>.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ */
+
+package tungsten.types.util;
+
+import org.junit.jupiter.api.Test;
+import tungsten.types.Matrix;
+import tungsten.types.matrix.impl.BasicMatrix;
+import tungsten.types.numerics.RealType;
+import tungsten.types.numerics.Sign;
+import tungsten.types.numerics.impl.RealImpl;
+import tungsten.types.numerics.impl.RealInfinity;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class StrassenWinogradMultiplierTest {
+    /**
+     * Shapes (m, k, n) of an m&times;k by k&times;n product, square and otherwise,
+     * with odd dimensions that leave ragged quadrants at every level of recursion.
+     */
+    private static final int[][] SHAPES = {{1, 1, 1}, {2, 2, 2}, {3, 3, 3}, {5, 7, 3}, {9, 4, 11},
+            {15, 16, 17}, {17, 16, 15}, {33, 31, 40}, {64, 64, 64}, {65, 65, 65}};
+    private static final int[] THRESHOLDS = {1, 2, 4, 7, 16, 64};
+
+    private final Random random = new Random(20251018L);
+
+    private RealType[][] randomReals(int rows, int columns, int digits, int maxScale, MathContext mctx) {
+        RealType[][] result = new RealType[rows][columns];
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < columns; j++) {
+                BigInteger unscaled = new BigInteger(digits * 10 / 3, random);
+                if (random.nextBoolean()) unscaled = unscaled.negate();
+                result[i][j] = new RealImpl(new BigDecimal(unscaled, random.nextInt(maxScale + 1)), mctx);
+            }
+        }
+        return result;
+    }
+
+    private static void assertMatchesNaive(RealType[][] lhs, RealType[][] rhs, MathContext mctx, Matrix<RealType> actual, String label) {
+        assertEquals(lhs.length, actual.rows(), label);
+        assertEquals(rhs[0].length, actual.columns(), label);
+        for (int i = 0; i < lhs.length; i++) {
+            for (int j = 0; j < rhs[0].length; j++) {
+                // the exact dot product, rounded once
+                BigDecimal sum = BigDecimal.ZERO;
+                for (int k = 0; k < rhs.length; k++) {
+                    sum = sum.add(lhs[i][k].asBigDecimal().multiply(rhs[k][j].asBigDecimal()));
+                }
+                final BigDecimal expected = sum.round(mctx);
+                assertEquals(0, expected.compareTo(actual.valueAt(i, j).asBigDecimal()),
+                        label + ", element (" + i + ", " + j + "): expected " + expected + " but got " + actual.valueAt(i, j));
+            }
+        }
+    }
+
+    @Test
+    public void productMatchesNaive() {
+        final MathContext mctx = MathContext.DECIMAL128;
+        for (int[] shape : SHAPES) {
+            for (int threshold : THRESHOLDS) {
+                RealType[][] lhs = randomReals(shape[0], shape[1], 8, 4, mctx);
+                RealType[][] rhs = randomReals(shape[1], shape[2], 8, 4, mctx);
+                Matrix<RealType> product = StrassenWinogradMultiplier.multiply(new BasicMatrix<>(lhs), new BasicMatrix<>(rhs), threshold);
+                assertMatchesNaive(lhs, rhs, mctx, product,
+                        shape[0] + "\u00D7" + shape[1] + " by " + shape[1] + "\u00D7" + shape[2] + " with threshold " + threshold);
+                assertTrue(product.valueAt(0L, 0L).isExact());
+            }
+        }
+    }
+
+    @Test
+    public void wideValuesAndScalesMatchNaive() {
+        final MathContext mctx = MathContext.DECIMAL64;
+        for (int threshold : new int[] {1, 3, 8}) {
+            // values too long for a 128-bit accumulator, and scales too disparate to align
+            RealType[][] lhs = randomReals(11, 9, 40, 80, mctx);
+            RealType[][] rhs = randomReals(9, 10, 40, 80, mctx);
+            Matrix<RealType> product = StrassenWinogradMultiplier.multiply(new BasicMatrix<>(lhs), new BasicMatrix<>(rhs), threshold);
+            assertMatchesNaive(lhs, rhs, mctx, product, "threshold " + threshold);
+        }
+        // the calibrated threshold gives the same result
+        RealType[][] lhs = randomReals(21, 20, 12, 3, mctx);
+        RealType[][] rhs = randomReals(20, 19, 12, 3, mctx);
+        assertMatchesNaive(lhs, rhs, mctx, StrassenWinogradMultiplier.multiply(new BasicMatrix<>(lhs), new BasicMatrix<>(rhs)), "calibrated");
+    }
+
+    @Test
+    public void infiniteElementFallsBack() {
+        final MathContext mctx = MathContext.DECIMAL128;
+        RealType[][] lhs = randomReals(5, 4, 3, 0, mctx);
+        RealType[][] rhs = randomReals(4, 6, 3, 0, mctx);
+        for (int i = 0; i < rhs.length; i++) {
+            for (int j = 0; j < rhs[0].length; j++) rhs[i][j] = new RealImpl(BigDecimal.valueOf(i + j + 1L), mctx);
+        }
+        lhs[3][0] = RealInfinity.getInstance(Sign.POSITIVE, mctx);
+        Matrix<RealType> product = StrassenWinogradMultiplier.multiply(new BasicMatrix<>(lhs), new BasicMatrix<>(rhs), 1);
+        for (int j = 0; j < rhs[0].length; j++) {
+            assertEquals(RealInfinity.getInstance(Sign.POSITIVE, mctx), product.valueAt(3L, j));
+        }
+        for (int i : new int[] {0, 1, 2, 4}) {
+            for (int j = 0; j < rhs[0].length; j++) {
+                BigDecimal sum = BigDecimal.ZERO;
+                for (int k = 0; k < rhs.length; k++) sum = sum.add(lhs[i][k].asBigDecimal().multiply(rhs[k][j].asBigDecimal()));
+                assertEquals(0, sum.compareTo(product.valueAt(i, j).asBigDecimal()));
+            }
+        }
+    }
+
+    @Test
+    public void incompatibleShapes() {
+        RealType[][] lhs = randomReals(3, 4, 3, 0, MathContext.DECIMAL64);
+        assertThrows(ArithmeticException.class,
+                () -> StrassenWinogradMultiplier.multiply(new BasicMatrix<>(lhs), new BasicMatrix<>(lhs)));
+    }
+}
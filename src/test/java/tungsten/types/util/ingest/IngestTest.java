@@ -0,0 +1,210 @@
+/*
+ * The MIT License
+ *
+ * Copyright © 2026 Robert Poole <Tarquin.AZ@gmail.com>.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ */
+
+package tungsten.types.util.ingest;
+
+import org.junit.jupiter.api.Test;
+import tungsten.types.Matrix;
+import tungsten.types.functions.curvefit.CurveType;
+import tungsten.types.functions.support.Coordinates;
+import tungsten.types.numerics.IntegerType;
+import tungsten.types.numerics.RealType;
+import tungsten.types.numerics.impl.RealImpl;
+import tungsten.types.numerics.impl.RealInfinity;
+import tungsten.types.util.ingest.coordinates.DataParser;
+import tungsten.types.util.ingest.matrix.MatrixParser;
+
+import java.io.*;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.net.URISyntaxException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class IngestTest {
+    private static List<String> tokensOf(LineTokenizer tokenizer, String line) {
+        final int count = tokenizer.tokenize(line);
+        List<String> tokens = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) tokens.add(tokenizer.token(i));
+        return tokens;
+    }
+
+    private static RowBlockReader<List<String>> stringRows(boolean skipComments) {
+        return new RowBlockReader<>(LineTokenizer::whitespaceDelimited, skipComments, tokens -> {
+            List<String> row = new ArrayList<>(tokens.count());
+            for (int i = 0; i < tokens.count(); i++) row.add(tokens.token(i));
+            return row;
+        });
+    }
+
+    private static List<List<String>> readBothWays(RowBlockReader<List<String>> reader, String text) {
+        final byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        List<List<String>> mapped = reader.read(ByteBuffer.wrap(bytes));
+        List<List<String>> streamed = reader.read(new BufferedReader(new StringReader(text)));
+        assertEquals(mapped, streamed, "Buffered and streamed input should parse identically");
+        return mapped;
+    }
+
+    private static File resource(String name) {
+        try {
+            return new File(IngestTest.class.getClassLoader().getResource(name).toURI());
+        } catch (URISyntaxException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Test
+    public void tokenizerSplitting() {
+        LineTokenizer ws = LineTokenizer.whitespaceDelimited();
+        assertEquals(List.of("1.5", "-2", "3E+4"), tokensOf(ws, "\ufeff  1.5\t -2   3E+4  "));
+        assertEquals(0, ws.tokenize("   \t"));
+
+        LineTokenizer pipe = LineTokenizer.delimitedBy('|');
+        assertEquals(List.of("1 + 2i", "3 - 4i"), tokensOf(pipe, " 1 + 2i |3 - 4i  "));
+        // as with String.split(), trailing empty tokens are dropped but interior ones are not
+        assertEquals(List.of("a", "b"), tokensOf(pipe, "a | b |  "));
+        assertEquals(List.of("a", "b"), tokensOf(pipe, "a|b||"));
+        assertEquals(List.of("a", "", "b"), tokensOf(pipe, "a | | b"));
+        assertEquals(List.of("", "a"), tokensOf(pipe, "| a"));
+        assertEquals(0, pipe.tokenize("|"));
+        assertThrows(IllegalArgumentException.class, () -> LineTokenizer.delimitedBy(' '));
+        assertThrows(IndexOutOfBoundsException.class, () -> pipe.token(0));
+    }
+
+    @Test
+    public void lineEndingsCommentsAndBlankLines() {
+        final String text = "\ufeff# header\r\n1 2\r\n  # indented comment\n3 4\r5 6\n   \t\n7 8\n";
+        assertEquals(List.of(List.of("1", "2"), List.of("3", "4"), List.of("5", "6")),
+                readBothWays(stringRows(true), text), "Input ends at the first blank line");
+        // without comment handling, the BOM-prefixed comment is an ordinary row
+        List<List<String>> rows = readBothWays(stringRows(false), text);
+        assertEquals(List.of("#", "header"), rows.get(0));
+        assertEquals(5, rows.size());
+        // a file without a trailing newline, and an empty file
+        assertEquals(List.of(List.of("9")), readBothWays(stringRows(true), "9"));
+        assertTrue(readBothWays(stringRows(true), "").isEmpty());
+    }
+
+    @Test
+    public void nonAsciiRowsAreDecoded() {
+        final MathContext ctx = MathContext.DECIMAL64;
+        final TokenFactory<RealType> factory = TokenFactory.forType(RealType.class, ctx);
+        RowBlockReader<List<RealType>> reader = new RowBlockReader<>(LineTokenizer::whitespaceDelimited, false, tokens -> {
+            List<RealType> row = new ArrayList<>();
+            for (int i = 0; i < tokens.count(); i++) row.add(factory.create(tokens.chars(), tokens.start(i), tokens.length(i)));
+            return row;
+        });
+        // U+2212 MINUS SIGN and U+221E INFINITY are multibyte in UTF-8
+        final byte[] bytes = "1.5 \u22122.25\n\u2212\u221E 4\n\u2003\n".getBytes(StandardCharsets.UTF_8);
+        List<List<RealType>> rows = reader.read(ByteBuffer.wrap(bytes));
+        assertEquals(2, rows.size(), "A line holding only Unicode whitespace is blank");
+        assertEquals(new RealImpl("-2.25", ctx), rows.get(0).get(1));
+        assertInstanceOf(RealInfinity.class, rows.get(1).get(0));
+        assertEquals(ctx, rows.get(0).get(0).getMathContext());
+    }
+
+    @Test
+    public void parallelBlocksPreserveOrder() {
+        StringBuilder text = new StringBuilder();
+        for (int row = 0; row < 5000; row++) {
+            if (row % 97 == 0) text.append("# comment ").append(row).append('\n');
+            text.append(row).append(' ').append(-row).append(row % 2 == 0 ? "\r\n" : "\n");
+        }
+        List<List<String>> rows = readBothWays(stringRows(true), text.toString());
+        assertEquals(5000, rows.size());
+        for (int row = 0; row < rows.size(); row++) {
+            assertEquals(List.of(String.valueOf(row), String.valueOf(-row)), rows.get(row));
+        }
+    }
+
+    @Test
+    public void integerFastPathBoundaries() {
+        final TokenFactory<IntegerType> factory = TokenFactory.forType(IntegerType.class, MathContext.UNLIMITED);
+        // 18 digits fit a long and take the fast path; 19 digits, or 18 digits and a sign, do not
+        for (String token : List.of("999999999999999999", "-99999999999999999", "+12345678901234567",
+                "1000000000000000000", "9223372036854775807", "-999999999999999999",
+                "9223372036854775808", "123456789012345678901234567890", "0", "-0", "+7")) {
+            assertEquals(new BigInteger(token), factory.create(token).asBigInteger(), token);
+        }
+        assertThrows(NumberFormatException.class, () -> factory.create("12a"));
+        assertThrows(NumberFormatException.class, () -> factory.create("-"));
+    }
+
+    @Test
+    public void matrixFixturesMatchReferenceParse() throws IOException {
+        final MathContext ctx = MathContext.DECIMAL64;
+        MatrixParser<RealType> parser = new MatrixParser<>(ctx, RealType.class);
+        for (String name : List.of("test1.matrix", "test2.matrix", "test_matrix_256_A.matrix", "test_matrix_500_A.matrix")) {
+            final File file = resource(name);
+            Matrix<RealType> mapped = parser.read(file);
+            Matrix<RealType> streamed = parser.read(new FileInputStream(file));
+            // the straightforward parse that the fast path replaces
+            List<String> lines = new ArrayList<>();
+            try (BufferedReader reader = new BufferedReader(new FileReader(file, StandardCharsets.UTF_8))) {
+                reader.lines().takeWhile(line -> !line.isBlank()).forEach(lines::add);
+            }
+            assertEquals(lines.size(), mapped.rows(), name);
+            for (int row = 0; row < lines.size(); row++) {
+                final String[] tokens = lines.get(row).replace("\ufeff", "").strip().split("\\s+");
+                assertEquals(tokens.length, mapped.columns(), name);
+                for (int column = 0; column < tokens.length; column++) {
+                    RealType expected = new RealImpl(tokens[column], ctx);
+                    assertEquals(expected, mapped.valueAt(row, column), name + " at " + row + ", " + column);
+                    assertEquals(ctx, mapped.valueAt(row, column).getMathContext());
+                    assertEquals(expected, streamed.valueAt(row, column));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void dataFixturesMatchReferenceParse() throws IOException {
+        final MathContext ctx = MathContext.DECIMAL32;
+        DataParser parser = new DataParser(ctx, CurveType.CURVE_2D);
+        for (int k = 1; k <= 4; k++) {
+            final File file = resource("anscombe" + k + ".data");
+            List<Coordinates> mapped = parser.read(file);
+            assertEquals(mapped.toString(), parser.read(new FileInputStream(file)).toString());
+            List<String> lines = new ArrayList<>();
+            try (BufferedReader reader = new BufferedReader(new FileReader(file, StandardCharsets.UTF_8))) {
+                reader.lines().takeWhile(line -> !line.isBlank())
+                        .map(line -> line.replace("\ufeff", "").strip())
+                        .filter(line -> !line.startsWith("#")).forEach(lines::add);
+            }
+            assertEquals(lines.size(), mapped.size());
+            for (int row = 0; row < lines.size(); row++) {
+                final String[] tokens = lines.get(row).split("\\s*\\|\\s*");
+                assertEquals(new RealImpl(tokens[0], ctx), mapped.get(row).getOrdinate(0));
+                assertEquals(new RealImpl(tokens[1], ctx), mapped.get(row).getValue());
+                assertEquals(0, new BigDecimal(tokens[1]).compareTo(mapped.get(row).getValue().asBigDecimal()));
+            }
+        }
+    }
+}